@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application;
+
+import reactor.core.publisher.Mono;
+
+public abstract class ReactiveUnitUseCase<IN> {
+
+    public abstract Mono<Void> execute(IN in);
+
+}
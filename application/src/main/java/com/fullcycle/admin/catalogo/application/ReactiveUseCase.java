@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application;
+
+import reactor.core.publisher.Mono;
+
+public abstract class ReactiveUseCase<IN, OUT> {
+
+    public abstract Mono<OUT> execute(IN in);
+
+}
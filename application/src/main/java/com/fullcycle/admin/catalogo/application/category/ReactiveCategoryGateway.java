@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalogo.application.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Non-blocking counterpart of {@link CategoryGateway}: same rules and errors, signalled through the returned
+ * publishers instead of thrown, and nothing happens until they are subscribed to. It lives next to the reactive use
+ * cases rather than in the domain, which stays free of Reactor.
+ */
+public interface ReactiveCategoryGateway {
+
+    Mono<Category> create(Category category);
+
+    Mono<Category> update(Category category);
+
+    Mono<Void> deleteById(CategoryID id);
+
+    /**
+     * Completes empty when there is no category with {@code id}.
+     */
+    Mono<Category> findById(CategoryID id);
+
+    /**
+     * Categories with the given IDs, in no particular order and once each. IDs with no category are left out.
+     */
+    Flux<Category> findAllByIds(Collection<CategoryID> ids);
+
+    Mono<Pagination<Category>> findAll(CategorySearchQuery query);
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import java.util.List;
+
+public record CreateCategoriesBatchCommand(
+        List<CreateCategoryCommand> items
+) {
+    public static CreateCategoriesBatchCommand with(final List<CreateCategoryCommand> items) {
+        return new CreateCategoriesBatchCommand(items);
+    }
+}
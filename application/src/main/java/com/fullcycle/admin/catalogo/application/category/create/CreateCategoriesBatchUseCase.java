@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.List;
+
+/**
+ * Creates many categories at once. The result has one entry per command, in the same order.
+ */
+public abstract class CreateCategoriesBatchUseCase
+        extends UseCase<CreateCategoriesBatchCommand, List<Either<Notification, CreateCategoryOutput>>> {
+}
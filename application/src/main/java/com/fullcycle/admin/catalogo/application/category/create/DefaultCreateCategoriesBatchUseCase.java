@@ -0,0 +1,72 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryBatchResult;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.List;
+import java.util.Objects;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+import static io.vavr.API.Try;
+
+public class DefaultCreateCategoriesBatchUseCase extends CreateCategoriesBatchUseCase {
+
+    // Below this, splitting the validation across cores costs more than it saves
+    static final int PARALLEL_VALIDATION_THRESHOLD = 1_000;
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultCreateCategoriesBatchUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public List<Either<Notification, CreateCategoryOutput>> execute(final CreateCategoriesBatchCommand command) {
+        final var items = command.items().size() >= PARALLEL_VALIDATION_THRESHOLD
+                ? command.items().parallelStream()
+                : command.items().stream();
+        final var validated = items.map(DefaultCreateCategoriesBatchUseCase::validate).toList();
+
+        final var valid = validated.stream()
+                .filter(Either::isRight)
+                .map(Either::get)
+                .toList();
+        if (valid.isEmpty()) {
+            return validated.stream().map(it -> it.map(CreateCategoryOutput::from)).toList();
+        }
+
+        // A failure other than rejected rows (the database being down) is every row's error
+        final var persisted = Try(() -> this.categoryGateway.createAll(valid))
+                .toEither()
+                .mapLeft(Notification::create);
+
+        return validated.stream()
+                .map(it -> it.flatMap(category -> persisted(category, persisted)))
+                .toList();
+    }
+
+    private static Either<Notification, Category> validate(final CreateCategoryCommand command) {
+        final var notification = Notification.create();
+        final var category = Category.newCategory(command.name(), command.description(), command.isActive());
+        category.validate(notification);
+
+        return notification.hasError() ? Left(notification) : Right(category);
+    }
+
+    private static Either<Notification, CreateCategoryOutput> persisted(
+            final Category category,
+            final Either<Notification, CategoryBatchResult> persisted
+    ) {
+        if (persisted.isLeft()) {
+            return Left(persisted.getLeft());
+        }
+        final var rejection = persisted.get().rejected().get(category.getId());
+        return rejection == null
+                ? Right(CreateCategoryOutput.from(category))
+                : Left(Notification.create(rejection));
+    }
+}
@@ -0,0 +1,36 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.category.ReactiveCategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+
+public class DefaultReactiveCreateCategoryUseCase extends ReactiveCreateCategoryUseCase {
+
+    private final ReactiveCategoryGateway categoryGateway;
+
+    public DefaultReactiveCreateCategoryUseCase(final ReactiveCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Mono<Either<Notification, CreateCategoryOutput>> execute(final CreateCategoryCommand command) {
+        final var notification = Notification.create();
+        final var category = Category.newCategory(command.name(), command.description(), command.isActive());
+        category.validate(notification);
+
+        return notification.hasError() ? Mono.just(Left(notification)) : createCategory(category);
+    }
+
+    private Mono<Either<Notification, CreateCategoryOutput>> createCategory(final Category category) {
+        return this.categoryGateway.create(category)
+                .<Either<Notification, CreateCategoryOutput>>map(created -> Right(CreateCategoryOutput.from(created)))
+                .onErrorResume(t -> Mono.just(Left(Notification.create(t))));
+    }
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.ReactiveUseCase;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class ReactiveCreateCategoryUseCase extends ReactiveUseCase<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> {
+}
@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalogo.application.category.delete;
+
+import com.fullcycle.admin.catalogo.application.category.ReactiveCategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class DefaultReactiveDeleteCategoryUseCase extends ReactiveDeleteCategoryUseCase {
+
+    private final ReactiveCategoryGateway categoryGateway;
+
+    public DefaultReactiveDeleteCategoryUseCase(final ReactiveCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Mono<Void> execute(final String id) {
+        return this.categoryGateway.deleteById(CategoryID.from(id));
+    }
+}
@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import java.util.List;
+
+/**
+ * @param items      found categories, in the order their IDs were first asked for.
+ * @param missingIds IDs with no category, in the order they were asked for.
+ */
+public record CategoriesByIdsOutput(
+        List<CategoryOutput> items,
+        List<String> missingIds
+) {
+    public static CategoriesByIdsOutput with(final List<CategoryOutput> items, final List<String> missingIds) {
+        return new CategoriesByIdsOutput(items, missingIds);
+    }
+}
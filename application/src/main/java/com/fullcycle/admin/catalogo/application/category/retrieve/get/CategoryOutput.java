@@ -12,8 +12,8 @@ public record CategoryOutput(
         boolean isActive,
         Instant createdAt,
         Instant updatedAt,
-        Instant deletedAt
-
+        Instant deletedAt,
+        long version
 ) {
     public static CategoryOutput from(
             final Category category
@@ -25,7 +25,8 @@ public record CategoryOutput(
                 category.isActive(),
                 category.getCreatedAt(),
                 category.getUpdatedAt(),
-                category.getDeletedAt()
+                category.getDeletedAt(),
+                category.getVersion()
         );
     }
 }
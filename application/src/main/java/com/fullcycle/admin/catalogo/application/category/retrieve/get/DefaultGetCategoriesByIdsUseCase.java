@@ -0,0 +1,44 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class DefaultGetCategoriesByIdsUseCase extends GetCategoriesByIdsUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultGetCategoriesByIdsUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CategoriesByIdsOutput execute(final List<String> ids) {
+        final var requestedIds = new LinkedHashSet<>(ids);
+        if (requestedIds.isEmpty()) {
+            return CategoriesByIdsOutput.with(List.of(), List.of());
+        }
+
+        final var found = this.categoryGateway.findAllByIds(requestedIds.stream().map(CategoryID::from).toList())
+                .stream()
+                .collect(Collectors.toMap(category -> category.getId().getValue(), Function.identity()));
+
+        final var items = new ArrayList<CategoryOutput>(found.size());
+        final var missingIds = new ArrayList<String>();
+        for (final var id : requestedIds) {
+            final var category = found.get(id);
+            if (category != null) {
+                items.add(CategoryOutput.from(category));
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return CategoriesByIdsOutput.with(items, missingIds);
+    }
+}
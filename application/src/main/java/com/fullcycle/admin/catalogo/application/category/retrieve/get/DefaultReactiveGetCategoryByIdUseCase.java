@@ -0,0 +1,30 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.category.ReactiveCategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class DefaultReactiveGetCategoryByIdUseCase extends ReactiveGetCategoryByIdUseCase {
+
+    private final ReactiveCategoryGateway categoryGateway;
+
+    public DefaultReactiveGetCategoryByIdUseCase(final ReactiveCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    private static DomainException notFound(final CategoryID id) {
+        return DomainException.with(new Error("Category with ID %s was not found".formatted(id.getValue())));
+    }
+
+    @Override
+    public Mono<CategoryOutput> execute(final String id) {
+        final var categoryID = CategoryID.from(id);
+        return this.categoryGateway.findById(categoryID)
+                .map(CategoryOutput::from)
+                .switchIfEmpty(Mono.error(() -> notFound(categoryID)));
+    }
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+import java.util.List;
+
+/**
+ * Resolves many category IDs with a single gateway call instead of one {@link GetCategoryByIdUseCase} per ID.
+ */
+public abstract class GetCategoriesByIdsUseCase extends UseCase<List<String>, CategoriesByIdsOutput> {
+}
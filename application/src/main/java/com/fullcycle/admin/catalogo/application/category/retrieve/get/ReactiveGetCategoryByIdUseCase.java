@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.ReactiveUseCase;
+
+public abstract class ReactiveGetCategoryByIdUseCase extends ReactiveUseCase<String, CategoryOutput> {
+}
@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.list;
+
+import com.fullcycle.admin.catalogo.application.category.ReactiveCategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class DefaultReactiveListCategoriesUseCase extends ReactiveListCategoriesUseCase {
+
+    private final ReactiveCategoryGateway categoryGateway;
+
+    public DefaultReactiveListCategoriesUseCase(final ReactiveCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Mono<Pagination<CategoryListOutput>> execute(final CategorySearchQuery categorySearchQuery) {
+        return this.categoryGateway.findAll(categorySearchQuery).map(page -> page.map(CategoryListOutput::from));
+    }
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.list;
+
+import com.fullcycle.admin.catalogo.application.ReactiveUseCase;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+
+public abstract class ReactiveListCategoriesUseCase extends ReactiveUseCase<CategorySearchQuery, Pagination<CategoryListOutput>> {
+}
@@ -0,0 +1,229 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.suggest;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryWriteListener;
+import com.fullcycle.admin.catalogo.domain.utils.SearchNormalizer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Category names sorted by their normalized form, for prefix lookups.
+ * <p>
+ * Each category is a single UTF-8 {@code byte[]} holding {@code normalized name, name, ID} separated by {@code \0},
+ * so the sort order of the entries is the order of the normalized names and there is one small object per name.
+ * Readers binary search an immutable snapshot without locks. Each write copies the snapshot, O(n), which is fine
+ * for the rate categories change; bulk loads go through {@link #load(Collection)}. Writes made while a load is in
+ * progress are replayed on top of it, so they are never lost.
+ */
+public class CategoryPrefixIndex implements CategoryWriteListener {
+
+    private static final byte SEPARATOR = 0;
+    private static final byte[][] EMPTY = new byte[0][];
+
+    private final Object writeLock = new Object();
+
+    private volatile byte[][] entries = EMPTY;
+    private volatile boolean ready;
+    private List<UnaryOperator<byte[][]>> pendingWhileLoading;
+
+    public List<CategorySuggestionOutput> search(final String prefix, final int limit) {
+        final var key = SearchNormalizer.normalize(prefix);
+        if (key == null || key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        final var current = this.entries;
+        final var keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        final var suggestions = new ArrayList<CategorySuggestionOutput>(Math.min(limit, 16));
+        for (var i = lowerBound(current, keyBytes); i < current.length && suggestions.size() < limit; i++) {
+            if (!startsWith(current[i], keyBytes)) {
+                break;
+            }
+            suggestions.add(decode(current[i]));
+        }
+        return suggestions;
+    }
+
+    @Override
+    public void onSaved(final Category category) {
+        final var entry = encode(category.getId().getValue(), category.getName());
+        final var idSuffix = idSuffix(category.getId().getValue());
+        apply(current -> with(without(current, idSuffix), entry));
+    }
+
+    @Override
+    public void onSavedAll(final Collection<Category> categories) {
+        final var added = categories.stream()
+                .map(category -> encode(category.getId().getValue(), category.getName()))
+                .sorted(Arrays::compareUnsigned)
+                .toArray(byte[][]::new);
+        final var ids = categories.stream()
+                .map(category -> category.getId().getValue())
+                .collect(Collectors.toSet());
+        apply(current -> merge(withoutIds(current, ids), added));
+    }
+
+    @Override
+    public void onDeleted(final CategoryID id) {
+        final var idSuffix = idSuffix(id.getValue());
+        apply(current -> without(current, idSuffix));
+    }
+
+    /**
+     * Marks the start of a bulk load: from now on writes are also kept aside to be replayed by {@link #load(Collection)}.
+     */
+    public void beginLoad() {
+        synchronized (this.writeLock) {
+            this.pendingWhileLoading = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Replaces the whole content with {@code categories}, read after {@link #beginLoad()}, plus every write since.
+     */
+    public void load(final Collection<CategorySuggestionOutput> categories) {
+        final var loaded = categories.stream()
+                .map(it -> encode(it.categoryID().getValue(), it.name()))
+                .sorted(Arrays::compareUnsigned)
+                .toArray(byte[][]::new);
+
+        synchronized (this.writeLock) {
+            var current = loaded;
+            if (this.pendingWhileLoading != null) {
+                for (final var write : this.pendingWhileLoading) {
+                    current = write.apply(current);
+                }
+                this.pendingWhileLoading = null;
+            }
+            this.entries = current;
+            this.ready = true;
+        }
+    }
+
+    public boolean isReady() {
+        return this.ready;
+    }
+
+    public int size() {
+        return this.entries.length;
+    }
+
+    private void apply(final UnaryOperator<byte[][]> write) {
+        synchronized (this.writeLock) {
+            if (this.pendingWhileLoading != null) {
+                this.pendingWhileLoading.add(write);
+            }
+            this.entries = write.apply(this.entries);
+        }
+    }
+
+    private static byte[] encode(final String id, final String name) {
+        final var entry = SearchNormalizer.normalize(name) + (char) SEPARATOR + name + (char) SEPARATOR + id;
+        return entry.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static CategorySuggestionOutput decode(final byte[] entry) {
+        final var nameStart = indexOf(entry, SEPARATOR, 0) + 1;
+        final var idStart = indexOf(entry, SEPARATOR, nameStart) + 1;
+        return new CategorySuggestionOutput(
+                CategoryID.from(new String(entry, idStart, entry.length - idStart, StandardCharsets.UTF_8)),
+                new String(entry, nameStart, idStart - 1 - nameStart, StandardCharsets.UTF_8)
+        );
+    }
+
+    private static byte[] idSuffix(final String id) {
+        return ((char) SEPARATOR + id).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int indexOf(final byte[] entry, final byte value, final int from) {
+        for (var i = from; i < entry.length; i++) {
+            if (entry[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean startsWith(final byte[] entry, final byte[] prefix) {
+        return entry.length >= prefix.length
+                && Arrays.equals(entry, 0, prefix.length, prefix, 0, prefix.length);
+    }
+
+    private static boolean endsWith(final byte[] entry, final byte[] suffix) {
+        return entry.length >= suffix.length
+                && Arrays.equals(entry, entry.length - suffix.length, entry.length, suffix, 0, suffix.length);
+    }
+
+    private static int lowerBound(final byte[][] entries, final byte[] target) {
+        var low = 0;
+        var high = entries.length;
+        while (low < high) {
+            final var mid = (low + high) >>> 1;
+            if (Arrays.compareUnsigned(entries[mid], target) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static byte[][] with(final byte[][] entries, final byte[] entry) {
+        final var at = lowerBound(entries, entry);
+        final var copy = new byte[entries.length + 1][];
+        System.arraycopy(entries, 0, copy, 0, at);
+        copy[at] = entry;
+        System.arraycopy(entries, at, copy, at + 1, entries.length - at);
+        return copy;
+    }
+
+    private static byte[][] withoutIds(final byte[][] entries, final Set<String> ids) {
+        return Arrays.stream(entries)
+                .filter(entry -> !ids.contains(idOf(entry)))
+                .toArray(byte[][]::new);
+    }
+
+    private static String idOf(final byte[] entry) {
+        var idStart = entry.length;
+        while (idStart > 0 && entry[idStart - 1] != SEPARATOR) {
+            idStart--;
+        }
+        return new String(entry, idStart, entry.length - idStart, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Merges two sorted arrays, O(n + m), instead of one copy per added entry.
+     */
+    private static byte[][] merge(final byte[][] entries, final byte[][] added) {
+        final var merged = new byte[entries.length + added.length][];
+        var i = 0;
+        var j = 0;
+        var k = 0;
+        while (i < entries.length && j < added.length) {
+            merged[k++] = Arrays.compareUnsigned(entries[i], added[j]) <= 0 ? entries[i++] : added[j++];
+        }
+        while (i < entries.length) merged[k++] = entries[i++];
+        while (j < added.length) merged[k++] = added[j++];
+        return merged;
+    }
+
+    private static byte[][] without(final byte[][] entries, final byte[] idSuffix) {
+        for (var i = 0; i < entries.length; i++) {
+            if (endsWith(entries[i], idSuffix)) {
+                final var copy = new byte[entries.length - 1][];
+                System.arraycopy(entries, 0, copy, 0, i);
+                System.arraycopy(entries, i + 1, copy, i, entries.length - i - 1);
+                return copy;
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.suggest;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+
+public record CategorySuggestionOutput(
+        CategoryID categoryID,
+        String name
+) {
+    public static CategorySuggestionOutput from(final Category category) {
+        return new CategorySuggestionOutput(category.getId(), category.getName());
+    }
+}
@@ -0,0 +1,42 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.suggest;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.CountStrategy;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchMode;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultSuggestCategoriesUseCase extends SuggestCategoriesUseCase {
+
+    private final CategoryPrefixIndex categoryPrefixIndex;
+    private final CategoryGateway categoryGateway;
+
+    public DefaultSuggestCategoriesUseCase(
+            final CategoryPrefixIndex categoryPrefixIndex,
+            final CategoryGateway categoryGateway
+    ) {
+        this.categoryPrefixIndex = Objects.requireNonNull(categoryPrefixIndex);
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public List<CategorySuggestionOutput> execute(final SuggestCategoriesQuery query) {
+        if (query.prefix() == null || query.prefix().isBlank() || query.limit() <= 0) {
+            return List.of();
+        }
+
+        if (this.categoryPrefixIndex.isReady()) {
+            return this.categoryPrefixIndex.search(query.prefix(), query.limit());
+        }
+
+        // Still loading: same answer straight from the database, without the count
+        final var searchQuery = new CategorySearchQuery(0, query.limit(), query.prefix(), "name", "asc")
+                .withMode(SearchMode.PREFIX)
+                .withCount(CountStrategy.NONE);
+        return this.categoryGateway.findAll(searchQuery).items().stream()
+                .map(CategorySuggestionOutput::from)
+                .toList();
+    }
+}
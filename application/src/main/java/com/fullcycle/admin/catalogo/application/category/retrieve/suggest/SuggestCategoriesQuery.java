@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.suggest;
+
+/**
+ * @param prefix what the user typed so far, matched against the start of category names ignoring case and accents.
+ * @param limit  how many suggestions at most.
+ */
+public record SuggestCategoriesQuery(String prefix, int limit) {
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.suggest;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+import java.util.List;
+
+public abstract class SuggestCategoriesUseCase extends UseCase<SuggestCategoriesQuery, List<CategorySuggestionOutput>> {
+}
@@ -0,0 +1,81 @@
+package com.fullcycle.admin.catalogo.application.category.update;
+
+import com.fullcycle.admin.catalogo.application.category.ReactiveCategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+import static com.fullcycle.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase.changedConcurrently;
+import static com.fullcycle.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase.isStaleChange;
+import static com.fullcycle.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase.merge;
+import static com.fullcycle.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase.notFound;
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+
+/**
+ * {@link DefaultUpdateCategoryUseCase} on a {@link ReactiveCategoryGateway}: the same merge of concurrent updates,
+ * with the waits between tries scheduled instead of slept.
+ */
+public class DefaultReactiveUpdateCategoryUseCase extends ReactiveUpdateCategoryUseCase {
+
+    private final ReactiveCategoryGateway categoryGateway;
+    private final UpdateRetryPolicy retryPolicy;
+
+    public DefaultReactiveUpdateCategoryUseCase(final ReactiveCategoryGateway categoryGateway) {
+        this(categoryGateway, UpdateRetryPolicy.defaults());
+    }
+
+    public DefaultReactiveUpdateCategoryUseCase(final ReactiveCategoryGateway categoryGateway, final UpdateRetryPolicy retryPolicy) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.retryPolicy = Objects.requireNonNull(retryPolicy);
+    }
+
+    @Override
+    public Mono<Either<Notification, UpdateCategoryOutput>> execute(final UpdateCategoryCommand command) {
+        final var id = CategoryID.from(command.id());
+        return find(id).flatMap(base -> isStaleChange(base, command)
+                ? Mono.<Either<Notification, UpdateCategoryOutput>>just(Left(changedConcurrently(id)))
+                : attempt(base, base, command, 1));
+    }
+
+    private Mono<Category> find(final CategoryID id) {
+        return this.categoryGateway.findById(id).switchIfEmpty(Mono.error(notFound(id)));
+    }
+
+    private Mono<Either<Notification, UpdateCategoryOutput>> attempt(
+            final Category base,
+            final Category current,
+            final UpdateCategoryCommand command,
+            final int attempt
+    ) {
+        final var id = base.getId();
+        final var merged = merge(base, current, command);
+        if (merged.isEmpty()) {
+            return Mono.just(Left(changedConcurrently(id)));
+        }
+
+        final var notification = Notification.create();
+        final var category = merged.get();
+        category.validate(notification);
+        if (notification.hasError()) {
+            return Mono.just(Left(notification));
+        }
+
+        return this.categoryGateway.update(category)
+                .<Either<Notification, UpdateCategoryOutput>>map(updated -> Right(UpdateCategoryOutput.from(updated)))
+                .onErrorResume(t -> !(t instanceof ConflictException), t -> Mono.just(Left(Notification.create(t))))
+                .onErrorResume(ConflictException.class, ex -> {
+                    if (!this.retryPolicy.canRetryAfter(attempt)) {
+                        return Mono.just(Left(changedConcurrently(id)));
+                    }
+                    return Mono.delay(this.retryPolicy.delayAfter(attempt))
+                            .then(find(id))
+                            .flatMap(reloaded -> attempt(base, reloaded, command, attempt + 1));
+                });
+    }
+}
@@ -3,47 +3,167 @@ package com.fullcycle.admin.catalogo.application.category.update;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import io.vavr.control.Either;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 import static io.vavr.API.Left;
-import static io.vavr.API.Try;
+import static io.vavr.API.Right;
 
+/**
+ * Updates a category without locking it.
+ * <p>
+ * The gateway only writes over the version that was read, so a concurrent update shows up as a
+ * {@link ConflictException} instead of being overwritten. The update is then retried on top of the current state as
+ * long as both sides changed different fields, or the same fields to the same values; a field changed to different
+ * values on both sides is reported back instead of picking a winner.
+ * <p>
+ * The merge base is the category at the version the command was edited from. Only the current version is stored, so
+ * a command edited from an older one has no base to merge against: it goes through only when it changes nothing, and
+ * is reported as a conflict otherwise, so the values it was edited from never overwrite a change made since.
+ */
 public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
 
     private final CategoryGateway categoryGateway;
+    private final UpdateRetryPolicy retryPolicy;
+
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder unresolvedConflicts = new LongAdder();
 
     public DefaultUpdateCategoryUseCase(final CategoryGateway categoryGateway) {
+        this(categoryGateway, UpdateRetryPolicy.defaults());
+    }
+
+    public DefaultUpdateCategoryUseCase(final CategoryGateway categoryGateway, final UpdateRetryPolicy retryPolicy) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.retryPolicy = Objects.requireNonNull(retryPolicy);
     }
 
-    private static Supplier<DomainException> notFound(final CategoryID id) {
+    static Supplier<DomainException> notFound(final CategoryID id) {
         return () -> DomainException.with(new Error("Category with ID %s was not found".formatted(id.getValue())));
     }
 
+    static Notification changedConcurrently(final CategoryID id) {
+        return Notification.create(new Error(
+                "Category with ID %s was changed concurrently, reload it and try again".formatted(id.getValue())));
+    }
+
     @Override
     public Either<Notification, UpdateCategoryOutput> execute(final UpdateCategoryCommand command) {
         final var id = CategoryID.from(command.id());
-        final var name = command.name();
-        final var description = command.description();
-        final var isActive = command.isActive();
+        final var base = this.categoryGateway.findById(id).orElseThrow(notFound(id));
+        if (isStaleChange(base, command)) {
+            this.conflicts.increment();
+            this.unresolvedConflicts.increment();
+            return Left(changedConcurrently(id));
+        }
+
+        var current = base;
+        for (var attempt = 1; ; attempt++) {
+            final var merged = merge(base, current, command);
+            if (merged.isEmpty()) {
+                this.unresolvedConflicts.increment();
+                return Left(changedConcurrently(id));
+            }
+
+            final var notification = Notification.create();
+            final var category = merged.get();
+            category.validate(notification);
+            if (notification.hasError()) {
+                return Left(notification);
+            }
+
+            try {
+                return Right(UpdateCategoryOutput.from(this.categoryGateway.update(category)));
+            } catch (final ConflictException ex) {
+                this.conflicts.increment();
+                if (!this.retryPolicy.canRetryAfter(attempt) || !pause(this.retryPolicy, attempt)) {
+                    this.unresolvedConflicts.increment();
+                    return Left(changedConcurrently(id));
+                }
+                this.retries.increment();
+                current = this.categoryGateway.findById(id).orElseThrow(notFound(id));
+            } catch (final Throwable t) {
+                return Left(Notification.create(t));
+            }
+        }
+    }
+
+    /**
+     * Whether {@code command} was edited from a version older than {@code current} and would change any field of it.
+     */
+    static boolean isStaleChange(final Category current, final UpdateCategoryCommand command) {
+        return current.getVersion() != command.version()
+                && (!Objects.equals(current.getName(), command.name())
+                || !Objects.equals(current.getDescription(), command.description())
+                || current.isActive() != command.isActive());
+    }
+
+    /**
+     * Applies the command on top of {@code current}, keeping the changes made since {@code base} was read.
+     *
+     * @return empty when the command and a concurrent update changed the same field to different values.
+     */
+    static Optional<Category> merge(
+            final Category base,
+            final Category current,
+            final UpdateCategoryCommand command
+    ) {
+        if (changedByBoth(base.getName(), current.getName(), command.name())
+                || changedByBoth(base.getDescription(), current.getDescription(), command.description())
+                || changedByBoth(base.isActive(), current.isActive(), command.isActive())) {
+            return Optional.empty();
+        }
+
+        return Optional.of(current.clone().update(
+                pick(base.getName(), current.getName(), command.name()),
+                pick(base.getDescription(), current.getDescription(), command.description()),
+                pick(base.isActive(), current.isActive(), command.isActive())
+        ));
+    }
+
+    private static boolean changedByBoth(final Object base, final Object theirs, final Object ours) {
+        return !Objects.equals(base, ours) && !Objects.equals(base, theirs) && !Objects.equals(ours, theirs);
+    }
 
-        final var notification = Notification.create();
-        final var oldCategory = this.categoryGateway.findById(id).orElseThrow(notFound(id));
+    private static <T> T pick(final T base, final T theirs, final T ours) {
+        return Objects.equals(base, ours) ? theirs : ours;
+    }
 
-        oldCategory.update(name, description, isActive).validate(notification);
+    private static boolean pause(final UpdateRetryPolicy policy, final int attempt) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(policy.delayAfter(attempt).toNanos());
+            return true;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Updates that found their version already taken, whether they were retried or not.
+     */
+    public long conflicts() {
+        return this.conflicts.sum();
+    }
 
-        return notification.hasError() ? Left(notification) : updateCategory(oldCategory);
+    public long retries() {
+        return this.retries.sum();
     }
 
-    private Either<Notification, UpdateCategoryOutput> updateCategory(final Category category) {
-        return Try(() -> this.categoryGateway.update(category))
-                .toEither()
-                .bimap(Notification::create, UpdateCategoryOutput::from);
+    /**
+     * Updates given up because of a concurrent change, either unmergeable or still conflicting after the last try.
+     */
+    public long unresolvedConflicts() {
+        return this.unresolvedConflicts.sum();
     }
 }
@@ -1,18 +1,23 @@
 package com.fullcycle.admin.catalogo.application.category.update;
 
+/**
+ * @param version the version of the category the values were edited from, as returned by the get use case.
+ */
 public record UpdateCategoryCommand(
         String id,
         String name,
         String description,
-        boolean isActive
+        boolean isActive,
+        long version
 ) {
     public static UpdateCategoryCommand with(
             final String id,
             final String name,
             final String description,
-            final boolean isActive
+            final boolean isActive,
+            final long version
     ) {
-        return new UpdateCategoryCommand(id, name, description, isActive);
+        return new UpdateCategoryCommand(id, name, description, isActive, version);
     }
 
 }
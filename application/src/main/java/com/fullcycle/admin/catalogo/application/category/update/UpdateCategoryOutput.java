@@ -4,11 +4,12 @@ import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 
 public record UpdateCategoryOutput(
-        CategoryID id
+        CategoryID id,
+        long version
 ) {
     public static UpdateCategoryOutput from(
             final Category category
     ) {
-        return new UpdateCategoryOutput(category.getId());
+        return new UpdateCategoryOutput(category.getId(), category.getVersion());
     }
 }
@@ -0,0 +1,53 @@
+package com.fullcycle.admin.catalogo.application.category.update;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * How often and how far apart an update is retried after losing a race against a concurrent update.
+ * <p>
+ * Waits grow exponentially from {@code baseDelay} up to {@code maxDelay} and each one is drawn at random below that
+ * ceiling ("full jitter"), so writers that collided once don't collide again in lockstep.
+ *
+ * @param maxAttempts how many times the update is tried in total, 1 disables retries.
+ */
+public record UpdateRetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay) {
+
+    public UpdateRetryPolicy {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("'maxAttempts' must be at least 1");
+        }
+        Objects.requireNonNull(baseDelay, "'baseDelay' should not be null");
+        Objects.requireNonNull(maxDelay, "'maxDelay' should not be null");
+    }
+
+    public static UpdateRetryPolicy with(final int maxAttempts, final Duration baseDelay, final Duration maxDelay) {
+        return new UpdateRetryPolicy(maxAttempts, baseDelay, maxDelay);
+    }
+
+    public static UpdateRetryPolicy defaults() {
+        return with(3, Duration.ofMillis(10), Duration.ofMillis(200));
+    }
+
+    public static UpdateRetryPolicy noRetries() {
+        return with(1, Duration.ZERO, Duration.ZERO);
+    }
+
+    public boolean canRetryAfter(final int attempt) {
+        return attempt < this.maxAttempts;
+    }
+
+    /**
+     * Random wait before the try that follows {@code attempt}, counted from 1.
+     */
+    public Duration delayAfter(final int attempt) {
+        final var maxNanos = this.maxDelay.toNanos();
+        var ceiling = this.baseDelay.toNanos();
+        for (var i = 1; i < attempt && ceiling < maxNanos; i++) {
+            ceiling *= 2;
+        }
+        ceiling = Math.min(ceiling, maxNanos);
+        return ceiling <= 0 ? Duration.ZERO : Duration.ofNanos(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+}
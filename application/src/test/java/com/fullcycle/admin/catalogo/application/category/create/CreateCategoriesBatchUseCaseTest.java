@@ -0,0 +1,138 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryBatchResult;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreateCategoriesBatchUseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @InjectMocks
+    private DefaultCreateCategoriesBatchUseCase useCase;
+
+    @Test
+    void givenValidAndInvalidCommands_whenCallsCreateBatch_shouldPersistOnlyValidOnesAndKeepOrder() {
+        //Given
+        final var command = CreateCategoriesBatchCommand.with(List.of(
+                CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+                CreateCategoryCommand.with(null, "Sem nome", true),
+                CreateCategoryCommand.with("Series", null, false)
+        ));
+
+        when(categoryGateway.createAll(anyList())).thenAnswer(invocation -> CategoryBatchResult.allCreated(invocation.getArgument(0)));
+
+        //When
+        final var actualOutput = useCase.execute(command);
+
+        //Then
+        Assertions.assertEquals(3, actualOutput.size());
+        Assertions.assertTrue(actualOutput.get(0).isRight());
+        Assertions.assertEquals("'name' should not be null", actualOutput.get(1).getLeft().firstError().message());
+        Assertions.assertTrue(actualOutput.get(2).isRight());
+
+        verify(categoryGateway, times(1)).createAll(argThat(categories -> categories.size() == 2
+                && categories.get(0).getName().equals("Filmes")
+                && categories.get(1).getName().equals("Series")));
+        verify(categoryGateway, never()).create(any());
+    }
+
+    @Test
+    void givenOnlyInvalidCommands_whenCallsCreateBatch_shouldNotCallGateway() {
+        //Given
+        final var command = CreateCategoriesBatchCommand.with(List.of(
+                CreateCategoryCommand.with(" ", null, true),
+                CreateCategoryCommand.with("Fi", null, true)
+        ));
+
+        //When
+        final var actualOutput = useCase.execute(command);
+
+        //Then
+        Assertions.assertEquals("'name' should not be empty", actualOutput.get(0).getLeft().firstError().message());
+        Assertions.assertEquals("'name' must be between 3 and 255 characters", actualOutput.get(1).getLeft().firstError().message());
+        verify(categoryGateway, never()).createAll(anyList());
+    }
+
+    @Test
+    void givenACategoryRejectedByGateway_whenCallsCreateBatch_shouldReturnItsCauseForItOnly() {
+        //Given
+        final var expectedErrorMessage = "Category 'Filmes' could not be persisted: Duplicate entry for key 'PRIMARY'";
+        final var command = CreateCategoriesBatchCommand.with(List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with("Series", null, true)
+        ));
+
+        when(categoryGateway.createAll(anyList())).thenAnswer(invocation -> {
+            final List<Category> categories = invocation.getArgument(0);
+            return new CategoryBatchResult(
+                    categories.subList(1, 2),
+                    Map.of(categories.get(0).getId(), new Error(expectedErrorMessage))
+            );
+        });
+
+        //When
+        final var actualOutput = useCase.execute(command);
+
+        //Then
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.get(0).getLeft().firstError().message());
+        Assertions.assertTrue(actualOutput.get(1).isRight());
+    }
+
+    @Test
+    void givenAGatewayError_whenCallsCreateBatch_shouldReturnNotificationForEveryValidItem() {
+        //Given
+        final var expectedErrorMessage = "Gateway error";
+        final var command = CreateCategoriesBatchCommand.with(List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with(null, null, true)
+        ));
+
+        when(categoryGateway.createAll(anyList())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        //When
+        final var actualOutput = useCase.execute(command);
+
+        //Then
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.get(0).getLeft().firstError().message());
+        Assertions.assertEquals("'name' should not be null", actualOutput.get(1).getLeft().firstError().message());
+    }
+
+    @Test
+    void givenALargeBatch_whenCallsCreateBatch_shouldValidateInParallelAndKeepOrder() {
+        //Given
+        final var expectedCount = DefaultCreateCategoriesBatchUseCase.PARALLEL_VALIDATION_THRESHOLD * 2;
+        final var command = CreateCategoriesBatchCommand.with(IntStream.range(0, expectedCount)
+                .mapToObj(i -> CreateCategoryCommand.with(i % 10 == 0 ? null : "Categoria " + i, null, true))
+                .toList());
+
+        when(categoryGateway.createAll(anyList())).thenAnswer(invocation -> CategoryBatchResult.allCreated(invocation.getArgument(0)));
+
+        //When
+        final var actualOutput = useCase.execute(command);
+
+        //Then
+        Assertions.assertEquals(expectedCount, actualOutput.size());
+        for (var i = 0; i < expectedCount; i++) {
+            Assertions.assertEquals(i % 10 != 0, actualOutput.get(i).isRight());
+        }
+    }
+}
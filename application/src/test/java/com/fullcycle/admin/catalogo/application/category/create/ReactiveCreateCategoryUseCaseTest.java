@@ -0,0 +1,82 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.category.ReactiveCategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveCreateCategoryUseCaseTest {
+
+    @Mock
+    private ReactiveCategoryGateway categoryGateway;
+
+    @InjectMocks
+    private DefaultReactiveCreateCategoryUseCase useCase;
+
+    @BeforeEach
+    void cleanUp() {
+        reset(categoryGateway);
+    }
+
+    @Test
+    void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() {
+        //Given
+        final var expectedName = "Filme";
+        final var expectedDescription = "A categoria mais assistida";
+        final var expectedIsActive = true;
+
+        //When
+        when(categoryGateway.create(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        final var command = CreateCategoryCommand.with(expectedName, expectedDescription, expectedIsActive);
+        final var actualOutput = useCase.execute(command).block().get();
+
+        //Then
+        Assertions.assertNotNull(actualOutput.id());
+        verify(categoryGateway, times(1)).create(
+                argThat(
+                        category -> Objects.equals(expectedName, category.getName())
+                                && Objects.equals(expectedDescription, category.getDescription())
+                                && Objects.equals(expectedIsActive, category.isActive())
+                )
+        );
+    }
+
+    @Test
+    void givenAInvalidName_whenCallsCreateCategory_shouldReturnNotificationWithoutCallingTheGateway() {
+        //Given
+        final var expectedErrorMessage = "'name' should not be null";
+
+        //When
+        final var command = CreateCategoryCommand.with(null, "A categoria mais assistida", true);
+        final var notification = useCase.execute(command).block().getLeft();
+
+        //Then
+        Assertions.assertEquals(1, notification.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
+        verify(categoryGateway, times(0)).create(any());
+    }
+
+    @Test
+    void givenAValidCommand_whenGatewayFails_shouldReturnTheErrorAsNotification() {
+        //Given
+        final var expectedErrorMessage = "Gateway error";
+
+        //When
+        when(categoryGateway.create(any())).thenReturn(Mono.error(new IllegalStateException(expectedErrorMessage)));
+        final var command = CreateCategoryCommand.with("Filme", null, true);
+        final var notification = useCase.execute(command).block().getLeft();
+
+        //Then
+        Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
+    }
+}
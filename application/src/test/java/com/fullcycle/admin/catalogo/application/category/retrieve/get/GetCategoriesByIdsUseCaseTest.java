@@ -0,0 +1,69 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetCategoriesByIdsUseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @InjectMocks
+    private DefaultGetCategoriesByIdsUseCase useCase;
+
+    @Test
+    void givenFoundAndMissingIds_whenCallsGetCategoriesByIds_shouldReturnBothInRequestOrderWithOneGatewayCall() {
+        //Given
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var expectedMissingId = "123";
+        final var ids = List.of(
+                series.getId().getValue(),
+                expectedMissingId,
+                filmes.getId().getValue(),
+                series.getId().getValue()
+        );
+
+        when(categoryGateway.findAllByIds(anyCollection())).thenReturn(List.of(filmes, series));
+
+        //When
+        final var actualOutput = useCase.execute(ids);
+
+        //Then
+        Assertions.assertEquals(
+                List.of(series.getId(), filmes.getId()),
+                actualOutput.items().stream().map(CategoryOutput::categoryID).toList()
+        );
+        Assertions.assertEquals(List.of(expectedMissingId), actualOutput.missingIds());
+        verify(categoryGateway, times(1)).findAllByIds(List.of(
+                series.getId(),
+                CategoryID.from(expectedMissingId),
+                filmes.getId()
+        ));
+        verify(categoryGateway, never()).findById(any());
+    }
+
+    @Test
+    void givenNoIds_whenCallsGetCategoriesByIds_shouldNotCallGateway() {
+        //When
+        final var actualOutput = useCase.execute(List.of());
+
+        //Then
+        Assertions.assertTrue(actualOutput.items().isEmpty());
+        Assertions.assertTrue(actualOutput.missingIds().isEmpty());
+        verifyNoInteractions(categoryGateway);
+    }
+}
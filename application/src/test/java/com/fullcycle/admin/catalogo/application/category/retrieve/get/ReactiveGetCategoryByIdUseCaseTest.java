@@ -0,0 +1,63 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.category.ReactiveCategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveGetCategoryByIdUseCaseTest {
+
+    @Mock
+    private ReactiveCategoryGateway categoryGateway;
+
+    @InjectMocks
+    private DefaultReactiveGetCategoryByIdUseCase useCase;
+
+    @BeforeEach
+    void cleanUp() {
+        reset(categoryGateway);
+    }
+
+    @Test
+    void givenAValidId_whenCallsGetCategoryById_shouldReturnCategory() {
+        //Given
+        final var category = Category.newCategory("Filme", "A categoria mais assistida", true);
+        final var expectedId = category.getId();
+
+        //When
+        when(categoryGateway.findById(expectedId)).thenReturn(Mono.just(category.clone()));
+        final var actualCategory = useCase.execute(expectedId.getValue()).block();
+
+        //Then
+        Assertions.assertEquals(expectedId, actualCategory.categoryID());
+        Assertions.assertEquals("Filme", actualCategory.name());
+        Assertions.assertEquals("A categoria mais assistida", actualCategory.description());
+        Assertions.assertTrue(actualCategory.isActive());
+    }
+
+    @Test
+    void givenAnUnknownId_whenCallsGetCategoryById_shouldSignalNotFound() {
+        //Given
+        final var expectedId = CategoryID.from("123");
+        final var expectedErrorMessage = "Category with ID 123 was not found";
+
+        //When
+        when(categoryGateway.findById(expectedId)).thenReturn(Mono.empty());
+        final var subscription = useCase.execute(expectedId.getValue());
+
+        //Then
+        final var actualException = Assertions.assertThrows(DomainException.class, subscription::block);
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+}
@@ -0,0 +1,117 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.suggest;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class CategoryPrefixIndexTest {
+
+    @Test
+    public void givenLoadedNames_whenCallsSearch_shouldReturnMatchesInNameOrderIgnoringCaseAndAccents() {
+        //Given
+        final var index = new CategoryPrefixIndex();
+        final var documentaries = Category.newCategory("Documentários", null, true);
+        final var dramas = Category.newCategory("Dramas", null, true);
+        final var docSeries = Category.newCategory("Docs e séries", null, true);
+        index.load(List.of(
+                CategorySuggestionOutput.from(dramas),
+                CategorySuggestionOutput.from(documentaries),
+                CategorySuggestionOutput.from(docSeries)
+        ));
+
+        //When
+        final var actualSuggestions = index.search("DOC", 10);
+
+        //Then
+        Assertions.assertTrue(index.isReady());
+        Assertions.assertEquals(List.of(CategorySuggestionOutput.from(docSeries), CategorySuggestionOutput.from(documentaries)), actualSuggestions);
+        Assertions.assertEquals(List.of(CategorySuggestionOutput.from(documentaries)), index.search("documentá", 10));
+        Assertions.assertEquals(List.of(), index.search("x", 10));
+    }
+
+    @Test
+    public void givenManyMatches_whenCallsSearchWithLimit_shouldReturnOnlyTheFirstOnes() {
+        //Given
+        final var index = new CategoryPrefixIndex();
+        index.load(List.of(
+                CategorySuggestionOutput.from(Category.newCategory("Filmes C", null, true)),
+                CategorySuggestionOutput.from(Category.newCategory("Filmes A", null, true)),
+                CategorySuggestionOutput.from(Category.newCategory("Filmes B", null, true))
+        ));
+
+        //When
+        final var actualSuggestions = index.search("filmes", 2);
+
+        //Then
+        Assertions.assertEquals(List.of("Filmes A", "Filmes B"), actualSuggestions.stream().map(CategorySuggestionOutput::name).toList());
+    }
+
+    @Test
+    public void givenWrites_whenCallsSearch_shouldFollowRenamesAndDeletes() {
+        //Given
+        final var index = new CategoryPrefixIndex();
+        final var category = Category.newCategory("Film", null, true);
+        index.onSaved(category);
+
+        //When
+        index.onSaved(category.clone().update("Séries", null, true));
+
+        //Then
+        Assertions.assertEquals(List.of(), index.search("film", 10));
+        Assertions.assertEquals("Séries", index.search("serie", 10).get(0).name());
+        Assertions.assertEquals(1, index.size());
+
+        index.onDeleted(category.getId());
+        Assertions.assertEquals(0, index.size());
+    }
+
+    @Test
+    public void givenWritesDuringALoad_whenLoadCompletes_shouldReplayThemOverTheLoadedNames() {
+        //Given
+        final var index = new CategoryPrefixIndex();
+        final var renamed = Category.newCategory("Film", null, true);
+        final var deleted = Category.newCategory("Kids", null, true);
+        final var created = Category.newCategory("Séries", null, true);
+
+        //When
+        index.beginLoad();
+        // Read by the load before these writes committed
+        final var snapshot = List.of(CategorySuggestionOutput.from(renamed), CategorySuggestionOutput.from(deleted));
+        index.onSaved(renamed.clone().update("Filmes", null, true));
+        index.onDeleted(deleted.getId());
+        index.onSaved(created);
+        index.load(snapshot);
+
+        //Then
+        Assertions.assertEquals(2, index.size());
+        Assertions.assertEquals("Filmes", index.search("film", 10).get(0).name());
+        Assertions.assertEquals("Séries", index.search("serie", 10).get(0).name());
+        Assertions.assertEquals(List.of(), index.search("kids", 10));
+    }
+
+    @Test
+    public void givenABatchOfWrites_whenCallsOnSavedAll_shouldMergeThemKeepingOrderAndReplacingExistingIds() {
+        //Given
+        final var index = new CategoryPrefixIndex();
+        final var renamed = Category.newCategory("Film", null, true);
+        index.load(List.of(
+                CategorySuggestionOutput.from(renamed),
+                CategorySuggestionOutput.from(Category.newCategory("Filmes B", null, true))
+        ));
+
+        //When
+        index.onSavedAll(List.of(
+                Category.newCategory("Filmes C", null, true),
+                renamed.clone().update("Filmes A", null, true)
+        ));
+
+        //Then
+        Assertions.assertEquals(
+                List.of("Filmes A", "Filmes B", "Filmes C"),
+                index.search("film", 10).stream().map(CategorySuggestionOutput::name).toList()
+        );
+        Assertions.assertEquals(3, index.size());
+    }
+}
@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.suggest;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.CountStrategy;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchMode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SuggestCategoriesUseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    public void givenALoadedIndex_whenCallsSuggestCategories_shouldAnswerFromIndex() {
+        //Given
+        final var categoryMovie = Category.newCategory("Filmes", null, true);
+        final var index = new CategoryPrefixIndex();
+        index.load(List.of(CategorySuggestionOutput.from(categoryMovie)));
+        final var useCase = new DefaultSuggestCategoriesUseCase(index, categoryGateway);
+
+        //When
+        final var actualSuggestions = useCase.execute(new SuggestCategoriesQuery("fil", 5));
+
+        //Then
+        Assertions.assertEquals(List.of(CategorySuggestionOutput.from(categoryMovie)), actualSuggestions);
+        verifyNoInteractions(categoryGateway);
+    }
+
+    @Test
+    public void givenAnIndexStillLoading_whenCallsSuggestCategories_shouldSearchNamePrefixWithoutCount() {
+        //Given
+        final var categoryMovie = Category.newCategory("Filmes", null, true);
+        final var useCase = new DefaultSuggestCategoriesUseCase(new CategoryPrefixIndex(), categoryGateway);
+        final var expectedQuery = new CategorySearchQuery(0, 5, "fil", "name", "asc")
+                .withMode(SearchMode.PREFIX)
+                .withCount(CountStrategy.NONE);
+
+        when(categoryGateway.findAll(expectedQuery))
+                .thenReturn(new Pagination<>(0, 5, 1, List.of(categoryMovie)));
+
+        //When
+        final var actualSuggestions = useCase.execute(new SuggestCategoriesQuery("fil", 5));
+
+        //Then
+        Assertions.assertEquals(List.of(CategorySuggestionOutput.from(categoryMovie)), actualSuggestions);
+    }
+
+    @Test
+    public void givenABlankPrefix_whenCallsSuggestCategories_shouldReturnNothing() {
+        final var useCase = new DefaultSuggestCategoriesUseCase(new CategoryPrefixIndex(), categoryGateway);
+
+        Assertions.assertEquals(List.of(), useCase.execute(new SuggestCategoriesQuery(" ", 5)));
+        verifyNoInteractions(categoryGateway);
+    }
+}
@@ -0,0 +1,199 @@
+package com.fullcycle.admin.catalogo.application.category.update;
+
+import com.fullcycle.admin.catalogo.application.category.ReactiveCategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveUpdateCategoryUseCaseTest {
+
+    @Mock
+    private ReactiveCategoryGateway categoryGateway;
+
+    private DefaultReactiveUpdateCategoryUseCase useCase;
+
+    @BeforeEach
+    void cleanUp() {
+        reset(categoryGateway);
+        useCase = new DefaultReactiveUpdateCategoryUseCase(
+                categoryGateway,
+                UpdateRetryPolicy.with(3, Duration.ZERO, Duration.ZERO)
+        );
+    }
+
+    @Test
+    void givenAValidCommand_whenCallsUpdateCategory_shouldReturnCategoryId() {
+        //Given
+        final var category = Category.newCategory("Film", null, true);
+        final var expectedId = category.getId();
+
+        when(categoryGateway.findById(expectedId)).thenReturn(Mono.just(category.clone()));
+        when(categoryGateway.update(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        //When
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", "A categoria mais assistida", false, 0);
+        final var actualOutput = useCase.execute(command).block().get();
+
+        //Then
+        Assertions.assertEquals(expectedId, actualOutput.id());
+        verify(categoryGateway, times(1)).update(
+                argThat(
+                        updatedCategory -> Objects.equals("Filmes", updatedCategory.getName())
+                                && Objects.equals("A categoria mais assistida", updatedCategory.getDescription())
+                                && !updatedCategory.isActive()
+                                && Objects.nonNull(updatedCategory.getDeletedAt())
+                )
+        );
+    }
+
+    @Test
+    void givenAConcurrentUpdateOnOtherFields_whenCallsUpdateCategory_shouldMergeAndRetry() {
+        //Given
+        final var oldCategory = Category.newCategory("Film", null, true);
+        final var expectedId = oldCategory.getId();
+        final var expectedName = "Filme";
+        final var expectedDescription = "A categoria mais assistida";
+        final var concurrentCategory = Category.with(
+                expectedId, "Film", expectedDescription, true,
+                oldCategory.getCreatedAt(), oldCategory.getUpdatedAt(), null, 1
+        );
+
+        when(categoryGateway.findById(expectedId))
+                .thenReturn(Mono.just(oldCategory.clone()))
+                .thenReturn(Mono.just(concurrentCategory));
+        when(categoryGateway.update(any()))
+                .thenReturn(Mono.error(ConflictException.with("stale")))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        //When
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, null, true, 0);
+        final var actualOutput = useCase.execute(command).block();
+
+        //Then
+        Assertions.assertTrue(actualOutput.isRight());
+        verify(categoryGateway, times(2)).findById(expectedId);
+        verify(categoryGateway, times(1)).update(
+                argThat(
+                        updatedCategory -> updatedCategory.getVersion() == 1
+                                && Objects.equals(expectedName, updatedCategory.getName())
+                                && Objects.equals(expectedDescription, updatedCategory.getDescription())
+                )
+        );
+    }
+
+    @Test
+    void givenAConcurrentUpdateOnTheSameField_whenCallsUpdateCategory_shouldReturnConflictWithoutRetrying() {
+        //Given
+        final var oldCategory = Category.newCategory("Film", null, true);
+        final var expectedId = oldCategory.getId();
+        final var expectedErrorMessage =
+                "Category with ID %s was changed concurrently, reload it and try again".formatted(expectedId.getValue());
+        final var concurrentCategory = Category.with(
+                expectedId, "Filmes", null, true,
+                oldCategory.getCreatedAt(), oldCategory.getUpdatedAt(), null, 1
+        );
+
+        when(categoryGateway.findById(expectedId))
+                .thenReturn(Mono.just(oldCategory.clone()))
+                .thenReturn(Mono.just(concurrentCategory));
+        when(categoryGateway.update(any())).thenReturn(Mono.error(ConflictException.with("stale")));
+
+        //When
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), "Filme", null, true, 0);
+        final var notification = useCase.execute(command).block().getLeft();
+
+        //Then
+        Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
+        verify(categoryGateway, times(1)).update(any());
+    }
+
+    @Test
+    void givenACommandEditedFromAnOlderVersion_whenCallsUpdateCategory_shouldReturnConflictWithoutWriting() {
+        //Given
+        final var oldCategory = Category.newCategory("Film", null, true);
+        final var expectedId = oldCategory.getId();
+        final var expectedErrorMessage =
+                "Category with ID %s was changed concurrently, reload it and try again".formatted(expectedId.getValue());
+        final var currentCategory = Category.with(
+                expectedId, "Filme", null, true,
+                oldCategory.getCreatedAt(), oldCategory.getUpdatedAt(), null, 1
+        );
+        when(categoryGateway.findById(expectedId)).thenReturn(Mono.just(currentCategory));
+
+        //When
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), "Film", "A categoria mais assistida", true, 0);
+        final var notification = useCase.execute(command).block().getLeft();
+
+        //Then
+        Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
+        verify(categoryGateway, never()).update(any());
+    }
+
+    @Test
+    void givenConflictsOnEveryAttempt_whenCallsUpdateCategory_shouldGiveUpAfterMaxAttempts() {
+        //Given
+        final var oldCategory = Category.newCategory("Film", null, true);
+        final var expectedId = oldCategory.getId();
+
+        when(categoryGateway.findById(expectedId)).thenAnswer(invocation -> Mono.just(oldCategory.clone()));
+        when(categoryGateway.update(any())).thenReturn(Mono.error(ConflictException.with("stale")));
+
+        //When
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), "Filme", null, true, 0);
+        final var actualOutput = useCase.execute(command).block();
+
+        //Then
+        Assertions.assertTrue(actualOutput.isLeft());
+        verify(categoryGateway, times(3)).update(any());
+    }
+
+    @Test
+    void givenAValidCommand_whenGatewayFails_shouldReturnTheErrorAsNotification() {
+        //Given
+        final var category = Category.newCategory("Film", null, true);
+        final var expectedId = category.getId();
+        final var expectedErrorMessage = "Gateway error";
+
+        when(categoryGateway.findById(expectedId)).thenReturn(Mono.just(category.clone()));
+        when(categoryGateway.update(any())).thenReturn(Mono.error(new IllegalStateException(expectedErrorMessage)));
+
+        //When
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), "Filme", null, true, 0);
+        final var notification = useCase.execute(command).block().getLeft();
+
+        //Then
+        Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
+        verify(categoryGateway, times(1)).update(any());
+    }
+
+    @Test
+    void givenAnUnknownId_whenCallsUpdateCategory_shouldSignalNotFound() {
+        //Given
+        final var expectedId = CategoryID.from("123");
+        final var expectedErrorMessage = "Category with ID 123 was not found";
+
+        when(categoryGateway.findById(expectedId)).thenReturn(Mono.empty());
+
+        //When
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), "Filme", null, true, 0);
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> useCase.execute(command).block());
+
+        //Then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        verify(categoryGateway, times(0)).update(any());
+    }
+}
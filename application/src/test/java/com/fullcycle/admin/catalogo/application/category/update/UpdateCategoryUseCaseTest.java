@@ -3,15 +3,16 @@ package com.fullcycle.admin.catalogo.application.category.update;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -24,12 +25,15 @@ class UpdateCategoryUseCaseTest {
     @Mock
     private CategoryGateway categoryGateway;
 
-    @InjectMocks
     private DefaultUpdateCategoryUseCase useCase;
 
     @BeforeEach
     void cleanUp() {
         reset(categoryGateway);
+        useCase = new DefaultUpdateCategoryUseCase(
+                categoryGateway,
+                UpdateRetryPolicy.with(3, Duration.ZERO, Duration.ZERO)
+        );
     }
 
     @Test
@@ -44,7 +48,7 @@ class UpdateCategoryUseCaseTest {
         //When
         when(categoryGateway.findById(expectedId)).thenReturn(Optional.of(oldCategory.clone()));
         when(categoryGateway.update(any())).thenAnswer(returnsFirstArg());
-        final var command = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription, expectedIsActive);
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription, expectedIsActive, 0);
         final var actualOutput = useCase.execute(command).get();
 
         //Then
@@ -77,7 +81,7 @@ class UpdateCategoryUseCaseTest {
         final var expectedErrorMessage = "'name' should not be null";
 
         //When
-        final var command = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription, expectedIsActive);
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription, expectedIsActive, 0);
         when(categoryGateway.findById(expectedId)).thenReturn(Optional.of(oldCategory.clone()));
         final var notification = useCase.execute(command).getLeft();
 
@@ -103,7 +107,7 @@ class UpdateCategoryUseCaseTest {
         Assertions.assertTrue(oldCategory.isActive());
         Assertions.assertNull(oldCategory.getDeletedAt());
 
-        final var command = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription, expectedIsActive);
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription, expectedIsActive, 0);
         final var actualOutput = useCase.execute(command).get();
 
         //Then
@@ -138,7 +142,7 @@ class UpdateCategoryUseCaseTest {
         //When
         when(categoryGateway.findById(expectedId)).thenReturn(Optional.of(oldCategory.clone()));
         when(categoryGateway.update(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
-        final var command = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription, expectedIsActive);
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription, expectedIsActive, 0);
         final var notification = useCase.execute(command).getLeft();
 
         //Then
@@ -169,7 +173,7 @@ class UpdateCategoryUseCaseTest {
 
         //When
         when(categoryGateway.findById(CategoryID.from(expectedId))).thenReturn(Optional.empty());
-        final var command = UpdateCategoryCommand.with(expectedId, expectedName, expectedDescription, expectedIsActive);
+        final var command = UpdateCategoryCommand.with(expectedId, expectedName, expectedDescription, expectedIsActive, 0);
         final var actualException = Assertions.assertThrows(DomainException.class, () -> useCase.execute(command));
 
         //Then
@@ -180,4 +184,183 @@ class UpdateCategoryUseCaseTest {
         verify(categoryGateway, times(0)).update(any());
     }
 
+    @Test
+    void givenAConcurrentUpdateOnOtherFields_whenCallsUpdateCategory_shouldMergeAndRetry() {
+        //Given
+        final var oldCategory = Category.newCategory("Film", null, true);
+        final var expectedId = oldCategory.getId();
+        final var expectedName = "Filme";
+        final var expectedDescription = "A categoria mais assistida";
+        final var concurrentCategory = Category.with(
+                expectedId, "Film", expectedDescription, true,
+                oldCategory.getCreatedAt(), oldCategory.getUpdatedAt(), null, 1
+        );
+
+        when(categoryGateway.findById(expectedId))
+                .thenReturn(Optional.of(oldCategory.clone()))
+                .thenReturn(Optional.of(concurrentCategory));
+        when(categoryGateway.update(any()))
+                .thenThrow(ConflictException.with("stale"))
+                .thenAnswer(returnsFirstArg());
+
+        //When
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, null, true, 0);
+        final var actualOutput = useCase.execute(command);
+
+        //Then
+        Assertions.assertTrue(actualOutput.isRight());
+        Assertions.assertEquals(1, useCase.conflicts());
+        Assertions.assertEquals(1, useCase.retries());
+        Assertions.assertEquals(0, useCase.unresolvedConflicts());
+
+        verify(categoryGateway, times(2)).findById(expectedId);
+        verify(categoryGateway, times(1)).update(
+                argThat(
+                        updatedCategory -> updatedCategory.getVersion() == 1
+                                && Objects.equals(expectedName, updatedCategory.getName())
+                                && Objects.equals(expectedDescription, updatedCategory.getDescription())
+                )
+        );
+    }
+
+    @Test
+    void givenAConcurrentUpdateOnTheSameField_whenCallsUpdateCategory_shouldReturnConflictWithoutRetrying() {
+        //Given
+        final var oldCategory = Category.newCategory("Film", null, true);
+        final var expectedId = oldCategory.getId();
+        final var expectedErrorMessage =
+                "Category with ID %s was changed concurrently, reload it and try again".formatted(expectedId.getValue());
+        final var concurrentCategory = Category.with(
+                expectedId, "Filmes", null, true,
+                oldCategory.getCreatedAt(), oldCategory.getUpdatedAt(), null, 1
+        );
+
+        when(categoryGateway.findById(expectedId))
+                .thenReturn(Optional.of(oldCategory.clone()))
+                .thenReturn(Optional.of(concurrentCategory));
+        when(categoryGateway.update(any())).thenThrow(ConflictException.with("stale"));
+
+        //When
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), "Filme", null, true, 0);
+        final var notification = useCase.execute(command).getLeft();
+
+        //Then
+        Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
+        Assertions.assertEquals(1, useCase.conflicts());
+        Assertions.assertEquals(1, useCase.retries());
+        Assertions.assertEquals(1, useCase.unresolvedConflicts());
+        verify(categoryGateway, times(1)).update(any());
+    }
+
+    @Test
+    void givenConflictsOnEveryAttempt_whenCallsUpdateCategory_shouldGiveUpAfterMaxAttempts() {
+        //Given
+        final var oldCategory = Category.newCategory("Film", null, true);
+        final var expectedId = oldCategory.getId();
+        final var expectedAttempts = 3;
+
+        when(categoryGateway.findById(expectedId)).thenAnswer(invocation -> Optional.of(oldCategory.clone()));
+        when(categoryGateway.update(any())).thenThrow(ConflictException.with("stale"));
+
+        //When
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), "Filme", null, true, 0);
+        final var actualOutput = useCase.execute(command);
+
+        //Then
+        Assertions.assertTrue(actualOutput.isLeft());
+        Assertions.assertEquals(expectedAttempts, useCase.conflicts());
+        Assertions.assertEquals(expectedAttempts - 1, useCase.retries());
+        Assertions.assertEquals(1, useCase.unresolvedConflicts());
+        verify(categoryGateway, times(expectedAttempts)).update(any());
+    }
+
+    @Test
+    void givenACommandEditedFromAnOlderVersion_whenCallsUpdateCategory_shouldReturnConflictWithoutWriting() {
+        //Given
+        final var oldCategory = Category.newCategory("Film", null, true);
+        final var expectedId = oldCategory.getId();
+        final var expectedErrorMessage =
+                "Category with ID %s was changed concurrently, reload it and try again".formatted(expectedId.getValue());
+        // Another admin saved "Filme" over version 0 while this form was still open on it
+        final var currentCategory = Category.with(
+                expectedId, "Filme", null, true,
+                oldCategory.getCreatedAt(), oldCategory.getUpdatedAt(), null, 1
+        );
+        when(categoryGateway.findById(expectedId)).thenReturn(Optional.of(currentCategory));
+
+        //When
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), "Film", "A categoria mais assistida", true, 0);
+        final var notification = useCase.execute(command).getLeft();
+
+        //Then
+        Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
+        Assertions.assertEquals(1, useCase.conflicts());
+        Assertions.assertEquals(0, useCase.retries());
+        Assertions.assertEquals(1, useCase.unresolvedConflicts());
+        verify(categoryGateway, never()).update(any());
+    }
+
+    @Test
+    void givenACommandEditedFromAnOlderVersionWithTheCurrentValues_whenCallsUpdateCategory_shouldSucceed() {
+        //Given
+        final var oldCategory = Category.newCategory("Film", null, true);
+        final var expectedId = oldCategory.getId();
+        final var currentCategory = Category.with(
+                expectedId, "Filme", null, true,
+                oldCategory.getCreatedAt(), oldCategory.getUpdatedAt(), null, 1
+        );
+        when(categoryGateway.findById(expectedId)).thenReturn(Optional.of(currentCategory));
+        when(categoryGateway.update(any())).thenAnswer(returnsFirstArg());
+
+        //When
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), "Filme", null, true, 0);
+        final var actualOutput = useCase.execute(command);
+
+        //Then
+        Assertions.assertTrue(actualOutput.isRight());
+        Assertions.assertEquals(1, actualOutput.get().version());
+        verify(categoryGateway, times(1)).update(argThat(updatedCategory -> !updatedCategory.hasChanges()));
+    }
+
+    @Test
+    void givenARetryPolicy_whenComputesDelays_shouldStayUnderTheGrowingCeiling() {
+        //Given
+        final var policy = UpdateRetryPolicy.with(5, Duration.ofMillis(10), Duration.ofMillis(25));
+
+        //When / Then
+        for (var i = 0; i < 100; i++) {
+            Assertions.assertTrue(policy.delayAfter(1).compareTo(Duration.ofMillis(10)) <= 0);
+            Assertions.assertTrue(policy.delayAfter(2).compareTo(Duration.ofMillis(20)) <= 0);
+            Assertions.assertTrue(policy.delayAfter(4).compareTo(Duration.ofMillis(25)) <= 0);
+        }
+        Assertions.assertTrue(policy.canRetryAfter(4));
+        Assertions.assertFalse(policy.canRetryAfter(5));
+    }
+
+    @Test
+    void givenACommandWithTheCurrentValues_whenCallsUpdateCategory_shouldPassAnUnchangedCategory() {
+        //Given
+        final var newCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var storedCategory = Category.with(
+                newCategory.getId(), "Filmes", "A categoria mais assistida", true,
+                newCategory.getCreatedAt(), newCategory.getUpdatedAt(), null
+        );
+        final var expectedId = storedCategory.getId();
+
+        when(categoryGateway.findById(expectedId)).thenReturn(Optional.of(storedCategory.clone()));
+        when(categoryGateway.update(any())).thenAnswer(returnsFirstArg());
+
+        //When
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", "A categoria mais assistida", true, 0);
+        final var actualOutput = useCase.execute(command);
+
+        //Then
+        Assertions.assertTrue(actualOutput.isRight());
+        verify(categoryGateway, times(1)).update(
+                argThat(
+                        updatedCategory -> !updatedCategory.hasChanges()
+                                && Objects.equals(storedCategory.getUpdatedAt(), updatedCategory.getUpdatedAt())
+                )
+        );
+    }
 }
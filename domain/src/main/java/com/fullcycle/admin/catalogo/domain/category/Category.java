@@ -4,7 +4,10 @@ import com.fullcycle.admin.catalogo.domain.AggregateRoot;
 import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
 
 import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 public class Category extends AggregateRoot<CategoryID> implements Cloneable {
 
@@ -14,6 +17,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     private Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
+    private long version;
+    private EnumSet<CategoryField> changes = EnumSet.noneOf(CategoryField.class);
 
     public Category(final CategoryID categoryID,
                     final String name,
@@ -22,6 +27,17 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
                     final Instant createdAt,
                     final Instant updatedAt,
                     final Instant deletedAt) {
+        this(categoryID, name, description, active, createdAt, updatedAt, deletedAt, 0);
+    }
+
+    public Category(final CategoryID categoryID,
+                    final String name,
+                    final String description,
+                    final boolean active,
+                    final Instant createdAt,
+                    final Instant updatedAt,
+                    final Instant deletedAt,
+                    final long version) {
         super(categoryID);
         this.name = name;
         this.description = description;
@@ -29,13 +45,17 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         this.createdAt = Objects.requireNonNull(createdAt, "'createdAt' should not be null");
         this.updatedAt = Objects.requireNonNull(updatedAt, "'updatedAt' should not be null");
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static Category newCategory(final String name, final String description, final boolean active) {
         final var id = CategoryID.unique();
         final var now = Instant.now();
         final var deletedAt = active ? null : Instant.now();
-        return new Category(id, name, description, active, now, now, deletedAt);
+        final var category = new Category(id, name, description, active, now, now, deletedAt);
+        // Nothing of a new category is stored yet
+        category.changes = EnumSet.allOf(CategoryField.class);
+        return category;
     }
 
     public static Category with(final CategoryID id,
@@ -45,6 +65,17 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
                                 final Instant createdAt,
                                 final Instant updatedAt,
                                 final Instant deletedAt) {
+        return with(id, name, description, active, createdAt, updatedAt, deletedAt, 0);
+    }
+
+    public static Category with(final CategoryID id,
+                                final String name,
+                                final String description,
+                                final boolean active,
+                                final Instant createdAt,
+                                final Instant updatedAt,
+                                final Instant deletedAt,
+                                final long version) {
         return new Category(
                 id,
                 name,
@@ -52,20 +83,24 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
                 active,
                 createdAt,
                 updatedAt,
-                deletedAt
+                deletedAt,
+                version
         );
     }
 
     public static Category with(final Category category) {
-        return with(
+        final var copy = with(
                 category.getId(),
                 category.name,
                 category.description,
                 category.isActive(),
                 category.createdAt,
                 category.updatedAt,
-                category.deletedAt
+                category.deletedAt,
+                category.version
         );
+        copy.changes = EnumSet.copyOf(category.changes);
+        return copy;
     }
 
     @Override
@@ -74,6 +109,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     }
 
     public Category activate() {
+        this.changes.add(CategoryField.ACTIVE);
         this.deletedAt = null;
         this.active = true;
         this.updatedAt = Instant.now();
@@ -81,6 +117,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     }
 
     public Category deactivate() {
+        this.changes.add(CategoryField.ACTIVE);
         if (getDeletedAt() == null) {
             this.deletedAt = Instant.now();
         }
@@ -118,11 +155,45 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         return deletedAt;
     }
 
+    /**
+     * Version of the stored row this instance was read from, the gateway only writes it back while it is still current.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Fields changed since this instance was read, so the gateway only writes those. Empty when there is nothing to
+     * write.
+     */
+    public Set<CategoryField> getChanges() {
+        return Collections.unmodifiableSet(changes);
+    }
+
+    public boolean hasChanges() {
+        return !changes.isEmpty();
+    }
+
+    /**
+     * Applies the given values, leaving the category untouched, {@code updatedAt} included, when they are the
+     * current ones.
+     */
     public Category update(final String name, final String description, final boolean isActive) {
+        final var changed = EnumSet.noneOf(CategoryField.class);
+        if (!Objects.equals(this.name, name)) changed.add(CategoryField.NAME);
+        if (!Objects.equals(this.description, description)) changed.add(CategoryField.DESCRIPTION);
+        if (this.active != isActive) changed.add(CategoryField.ACTIVE);
+        if (changed.isEmpty()) {
+            return this;
+        }
+
+        this.changes.addAll(changed);
         this.name = name;
         this.description = description;
-        if (isActive) activate();
-        else deactivate();
+        if (changed.contains(CategoryField.ACTIVE)) {
+            if (isActive) activate();
+            else deactivate();
+        }
         this.updatedAt = Instant.now();
         return this;
     }
@@ -131,6 +202,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     public Category clone() {
         try {
             Category clone = (Category) super.clone();
+            clone.changes = EnumSet.copyOf(this.changes);
             return clone;
         } catch (CloneNotSupportedException e) {
             throw new AssertionError();
@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What {@link CategoryGateway#createAll(List)} did with each category.
+ *
+ * @param created  the categories persisted, in the order they were given.
+ * @param rejected why each of the others could not be persisted, by ID.
+ */
+public record CategoryBatchResult(List<Category> created, Map<CategoryID, Error> rejected) {
+
+    public CategoryBatchResult {
+        created = List.copyOf(created);
+        rejected = Map.copyOf(rejected);
+    }
+
+    public static CategoryBatchResult allCreated(final List<Category> created) {
+        return new CategoryBatchResult(created, Map.of());
+    }
+
+    public boolean isEmpty() {
+        return this.created.isEmpty() && this.rejected.isEmpty();
+    }
+}
@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+/**
+ * Fields of a {@link Category} that can change after it is created.
+ */
+public enum CategoryField {
+    NAME,
+    DESCRIPTION,
+    /**
+     * The active flag together with {@code deletedAt}, which follows it.
+     */
+    ACTIVE
+}
@@ -2,17 +2,31 @@ package com.fullcycle.admin.catalogo.domain.category;
 
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CategoryGateway {
 
     Category create(Category category);
 
+    /**
+     * Persists new categories in chunks, each in its own transaction. A category whose row is rejected by the
+     * database (a duplicate ID, a value it can't store) is reported in {@link CategoryBatchResult#rejected()} instead
+     * of failing the others; any other failure is thrown, leaving the chunks before it persisted.
+     */
+    CategoryBatchResult createAll(List<Category> categories);
+
     Category update(Category category);
 
     void deleteById(CategoryID id);
 
     Optional<Category> findById(CategoryID id);
 
+    /**
+     * Categories with the given IDs, in no particular order and once each. IDs with no category are left out.
+     */
+    List<Category> findAllByIds(Collection<CategoryID> ids);
+
     Pagination<Category> findAll(CategorySearchQuery query);
 }
@@ -1,10 +1,71 @@
 package com.fullcycle.admin.catalogo.domain.category;
 
+import com.fullcycle.admin.catalogo.domain.pagination.CountStrategy;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchMode;
+
+/**
+ * @param after opaque cursor returned as {@code Pagination#nextCursor()}; when present the page is read
+ *              right after that position (keyset pagination) and {@code page} is ignored.
+ * @param count how the total is computed, {@link CountStrategy#EXACT} when not informed.
+ * @param mode  how {@code terms} are matched, {@link SearchMode#CONTAINS} when not informed.
+ */
 public record CategorySearchQuery(
         int page,
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String after,
+        CountStrategy count,
+        SearchMode mode
 ) {
+    public CategorySearchQuery {
+        if (count == null) {
+            count = CountStrategy.EXACT;
+        }
+        if (mode == null) {
+            mode = SearchMode.CONTAINS;
+        }
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null, null, null);
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String after
+    ) {
+        this(page, perPage, terms, sort, direction, after, null, null);
+    }
+
+    public boolean isCursorBased() {
+        return after != null && !after.isBlank();
+    }
+
+    public boolean hasTerms() {
+        return terms != null && !terms.isBlank();
+    }
+
+    public CategorySearchQuery withAfter(final String after) {
+        return new CategorySearchQuery(page, perPage, terms, sort, direction, after, count, mode);
+    }
+
+    public CategorySearchQuery withCount(final CountStrategy count) {
+        return new CategorySearchQuery(page, perPage, terms, sort, direction, after, count, mode);
+    }
+
+    public CategorySearchQuery withMode(final SearchMode mode) {
+        return new CategorySearchQuery(page, perPage, terms, sort, direction, after, count, mode);
+    }
 }
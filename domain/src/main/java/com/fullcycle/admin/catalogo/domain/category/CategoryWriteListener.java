@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import java.util.Collection;
+
+/**
+ * Hook notified of every category write once it is committed, for in-memory views that must follow the catalog.
+ */
+public interface CategoryWriteListener {
+
+    void onSaved(Category category);
+
+    default void onSavedAll(final Collection<Category> categories) {
+        categories.forEach(this::onSaved);
+    }
+
+    void onDeleted(CategoryID id);
+}
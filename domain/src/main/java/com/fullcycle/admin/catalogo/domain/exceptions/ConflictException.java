@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalogo.domain.exceptions;
+
+/**
+ * Thrown when a write is based on a version of an aggregate that someone else has changed in the meantime.
+ */
+public class ConflictException extends NoStackTraceException {
+
+    private ConflictException(final String message) {
+        super(message);
+    }
+
+    public static ConflictException with(final String message) {
+        return new ConflictException(message);
+    }
+}
@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalogo.domain.pagination;
+
+/**
+ * How a list query computes {@link Pagination#total()}.
+ */
+public enum CountStrategy {
+    /**
+     * {@code COUNT(*)} with the same filter, issued alongside the page query. Always exact.
+     */
+    EXACT,
+    /**
+     * Total read from {@code COUNT(*) OVER()} in the page query itself, one round trip. Always exact.
+     */
+    WINDOW,
+    /**
+     * Table statistics from the database, only meaningful for unfiltered queries. Not exact.
+     */
+    ESTIMATED,
+    /**
+     * Exact total remembered until the next catalog write. Exact for writes made through the gateway.
+     */
+    CACHED,
+    /**
+     * No count at all: the total only tells whether there is a next page. Not exact.
+     */
+    NONE
+}
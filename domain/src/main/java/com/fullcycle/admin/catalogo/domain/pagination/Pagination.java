@@ -3,14 +3,34 @@ package com.fullcycle.admin.catalogo.domain.pagination;
 import java.util.List;
 import java.util.function.Function;
 
+/**
+ * @param nextCursor opaque token to fetch the following page by keyset, or {@code null} on the last page.
+ * @param totalExact whether {@code total} is the exact number of matching items or just an estimate/lower bound,
+ *                   see {@link CountStrategy}.
+ */
 public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items) {
+        List<T> items,
+        String nextCursor,
+        boolean totalExact) {
+
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+        this(currentPage, perPage, total, items, null, true);
+    }
+
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items, final String nextCursor) {
+        this(currentPage, perPage, total, items, nextCursor, true);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final var list = this.items.stream().map(mapper).toList();
-        return new Pagination<>(this.currentPage(), this.perPage(), this.total(), list);
+        return new Pagination<>(this.currentPage(), this.perPage(), this.total(), list, this.nextCursor(), this.totalExact());
+    }
+
+    public boolean hasNext() {
+        return this.nextCursor != null;
     }
 
 }
@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalogo.domain.pagination;
+
+/**
+ * How the {@code terms} of a list query are matched. Matching is always case and accent insensitive.
+ */
+public enum SearchMode {
+    /**
+     * Terms anywhere in the name or in the description. Needs a scan of every row.
+     */
+    CONTAINS,
+    /**
+     * Names starting with the terms. Seeks on the name search index.
+     */
+    PREFIX,
+    /**
+     * Every word of the terms in the name or in the description, best matches first. Answered by the full-text
+     * index, or as {@link #CONTAINS} where there is none. The ranking is the order: the requested sort only applies
+     * when it falls back to {@link #CONTAINS}.
+     */
+    RELEVANCE
+}
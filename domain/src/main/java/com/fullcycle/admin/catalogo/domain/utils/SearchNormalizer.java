@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Folds text into the form kept in the search columns: lower case, without accents and with
+ * whitespace collapsed, so "  Documentários " and "documentarios" compare equal.
+ */
+public final class SearchNormalizer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private SearchNormalizer() {
+    }
+
+    public static String normalize(final String value) {
+        if (value == null) {
+            return null;
+        }
+        final var decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        final var folded = DIACRITICS.matcher(decomposed).replaceAll("");
+        return WHITESPACES.matcher(folded.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,11 +1,15 @@
 package com.fullcycle.admin.catalogo.domain;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryField;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.validation.handler.ThrowsValidationHandler;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 class CategoryTest {
 
     @Test
@@ -270,4 +274,39 @@ class CategoryTest {
         Assertions.assertTrue(actualCategory.getUpdatedAt().isAfter(updatedAt));
         Assertions.assertNull(actualCategory.getDeletedAt());
     }
+
+    @Test
+    public void givenTheCurrentValues_whenCallUpdate_thenKeepCategoryUntouched() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria", true);
+        final var storedCategory = Category.with(
+                aCategory.getId(), "Filmes", "A categoria", true,
+                aCategory.getCreatedAt(), aCategory.getUpdatedAt(), null, 3
+        );
+
+        final var actualCategory = storedCategory.update("Filmes", "A categoria", true);
+
+        Assertions.assertFalse(actualCategory.hasChanges());
+        Assertions.assertEquals(aCategory.getUpdatedAt(), actualCategory.getUpdatedAt());
+        Assertions.assertEquals(3, actualCategory.getVersion());
+    }
+
+    @Test
+    public void givenANewDescription_whenCallUpdate_thenTrackOnlyThatField() {
+        final var newCategory = Category.newCategory("Filmes", "A categoria", true);
+        Assertions.assertEquals(EnumSet.allOf(CategoryField.class), newCategory.getChanges());
+
+        final var storedCategory = Category.with(
+                newCategory.getId(), "Filmes", "A categoria", true,
+                newCategory.getCreatedAt(), newCategory.getUpdatedAt(), null
+        );
+        Assertions.assertFalse(storedCategory.hasChanges());
+
+        final var clonedCategory = storedCategory.clone().update("Filmes", "A categoria mais assistida", true);
+
+        Assertions.assertEquals(Set.of(CategoryField.DESCRIPTION), clonedCategory.getChanges());
+        Assertions.assertFalse(storedCategory.hasChanges());
+
+        clonedCategory.deactivate();
+        Assertions.assertEquals(Set.of(CategoryField.DESCRIPTION, CategoryField.ACTIVE), clonedCategory.getChanges());
+    }
 }
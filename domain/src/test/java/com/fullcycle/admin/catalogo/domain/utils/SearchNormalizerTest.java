@@ -0,0 +1,26 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class SearchNormalizerTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "Documentários|documentarios",
+            "CRIANÇAS|criancas",
+            "  Séries   de  TV |series de tv",
+            "ação e aventura|acao e aventura",
+            "Filmes|filmes",
+    })
+    void givenAText_whenCallsNormalize_shouldLowerCaseAndFoldAccents(final String text, final String expectedNormalized) {
+        Assertions.assertEquals(expectedNormalized, SearchNormalizer.normalize(text));
+    }
+
+    @Test
+    void givenANullText_whenCallsNormalize_shouldReturnNull() {
+        Assertions.assertNull(SearchNormalizer.normalize(null));
+    }
+}
@@ -0,0 +1,84 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.suggest;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typeahead lookups on {@link CategoryPrefixIndex}. The setup also prints how much heap the loaded index retains,
+ * measured as the used heap difference around the load, after full GCs.
+ * <pre>
+ * ./gradlew :infrastructure:jmh -Pjmh.includes=CategoryPrefixIndexBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class CategoryPrefixIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "filmes", "séries", "documentários", "infantil", "ação", "aventura", "comédia", "drama", "terror",
+            "romance", "suspense", "animação", "clássicos", "nacionais", "musicais", "esportes", "natureza",
+            "história", "ciência", "ficção", "policial", "faroeste", "guerra", "biografias", "novelas"
+    };
+
+    @Param({"100000", "1000000"})
+    public int names;
+
+    @Param({"d", "doc", "documentarios cla"})
+    public String prefix;
+
+    private CategoryPrefixIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var before = usedHeapAfterGc();
+        final var random = new SplittableRandom(42);
+        final var categories = new ArrayList<CategorySuggestionOutput>(this.names);
+        for (var i = 0; i < this.names; i++) {
+            final var name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            categories.add(new CategorySuggestionOutput(CategoryID.unique(), name));
+        }
+
+        this.index = new CategoryPrefixIndex();
+        this.index.load(categories);
+        // Names and IDs are shared with the index, only the list and the output records go away
+        categories.clear();
+        categories.trimToSize();
+        final var retained = usedHeapAfterGc() - before;
+
+        System.out.printf("%nCategoryPrefixIndex: %d names retain ~%d MB (%d bytes per name, %.0f MB per million)%n",
+                this.index.size(), retained >> 20, retained / this.names, retained * 1_000_000.0 / this.names / (1 << 20));
+    }
+
+    @Benchmark
+    public List<CategorySuggestionOutput> suggestTop10() {
+        return this.index.search(this.prefix, 10);
+    }
+
+    private static long usedHeapAfterGc() {
+        for (var i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
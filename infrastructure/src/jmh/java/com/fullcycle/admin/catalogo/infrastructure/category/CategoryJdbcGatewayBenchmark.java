@@ -0,0 +1,135 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.CountStrategy;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeLog;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CategoryMySQLGateway} (JPA) against {@link CategoryJdbcGateway} on the same table, with nothing in front of
+ * them: lookup by ID, an offset page with its exact count, a keyset page without one, and a versioned update.
+ * <p>
+ * Boots the application without the web server on the {@code test} profile, so both run over the in-memory H2 in
+ * MySQL mode; the difference is the mapping, SQL building and persistence context cost of each gateway, which a MySQL
+ * over the network only dilutes. {@code -Dspring.datasource.url=...} (plus {@code username} and {@code password})
+ * points it to an empty MySQL schema instead.
+ * <pre>
+ * ./gradlew :infrastructure:jmh -Pjmh.includes=CategoryJdbcGatewayBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class CategoryJdbcGatewayBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    @Param({"jpa", "jdbc"})
+    public String gateway;
+
+    private ConfigurableApplicationContext context;
+    private CategoryGateway categoryGateway;
+    private CategoryJdbcGateway jdbcGateway;
+    private List<Category> stored;
+    private CategorySearchQuery offsetPage;
+    private CategorySearchQuery cursorPage;
+    private final SplittableRandom random = new SplittableRandom();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(WebServerConfig.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                // Only the gateways are measured, no category is cached or listened to
+                .properties("category.find-by-id.batching.enabled=false", "cache.category.enabled=false",
+                        "search.category.enabled=false", "category.cluster.enabled=false")
+                .run();
+
+        this.jdbcGateway = new CategoryJdbcGateway(
+                this.context.getBean(DataSource.class),
+                this.context.getBean(CatalogGeneration.class),
+                this.context.getBean(CategoryChangeLog.class),
+                this.context.getBean(PlatformTransactionManager.class),
+                500,
+                4,
+                500
+        );
+        this.categoryGateway = "jdbc".equals(this.gateway) ? this.jdbcGateway : this.context.getBean(CategoryMySQLGateway.class);
+
+        final var categories = new ArrayList<Category>(ROWS);
+        for (var i = 0; i < ROWS; i++) {
+            categories.add(Category.newCategory("Categoria " + i, "Descrição " + i, true));
+        }
+        this.stored = new ArrayList<>(this.jdbcGateway.createAll(categories).created());
+
+        this.offsetPage = new CategorySearchQuery(50, 20, "categoria 1", "name", "asc").withCount(CountStrategy.EXACT);
+        final var first = new CategorySearchQuery(0, 20, "", "createdAt", "desc").withCount(CountStrategy.NONE);
+        this.cursorPage = first.withAfter(this.jdbcGateway.findAll(first.withCount(CountStrategy.NONE)).nextCursor());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new JdbcTemplate(this.context.getBean(DataSource.class)).execute("DELETE FROM category");
+        this.jdbcGateway.shutdown();
+        this.context.close();
+    }
+
+    @Benchmark
+    public void findById(final Blackhole blackhole) {
+        blackhole.consume(this.categoryGateway.findById(pick().getId()).orElseThrow());
+    }
+
+    @Benchmark
+    public void findAllOffsetPage(final Blackhole blackhole) {
+        blackhole.consume(this.categoryGateway.findAll(this.offsetPage));
+    }
+
+    @Benchmark
+    public void findAllCursorPage(final Blackhole blackhole) {
+        blackhole.consume(this.categoryGateway.findAll(this.cursorPage));
+    }
+
+    @Benchmark
+    public long update() {
+        final var index = this.random.nextInt(this.stored.size());
+        final var category = this.stored.get(index);
+        final var updated = this.categoryGateway.update(
+                category.clone().update("Categoria " + this.random.nextInt(), category.getDescription(), true));
+        this.stored.set(index, updated);
+        return updated.getVersion();
+    }
+
+    private Category pick() {
+        return this.stored.get(this.random.nextInt(this.stored.size()));
+    }
+}
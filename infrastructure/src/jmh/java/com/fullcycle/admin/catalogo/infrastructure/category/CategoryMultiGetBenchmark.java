@@ -0,0 +1,148 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolving a set of category IDs one {@code SELECT ... WHERE id = ?} at a time, as repeated calls to
+ * {@code GetCategoryByIdUseCase} do, against the chunked {@code IN (...)} queries of
+ * {@code CategoryMySQLGateway#findAllByIds}.
+ * <p>
+ * Runs on an in-memory H2 by default, where a round trip costs next to nothing, so the gap only grows against a
+ * MySQL over the network; {@code -Dbench.jdbc.url=...} (plus {@code bench.jdbc.user} and {@code bench.jdbc.password})
+ * points it to an empty MySQL schema instead.
+ * <pre>
+ * ./gradlew :infrastructure:jmh -Pjmh.includes=CategoryMultiGetBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class CategoryMultiGetBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int CHUNK_SIZE = 500;
+    private static final String SELECT_BY_ID = "SELECT * FROM category c WHERE c.id = ?";
+
+    @Param({"1", "10", "100", "1000"})
+    public int ids;
+
+    private Connection connection;
+    private List<String> storedIds;
+    private List<String> requestedIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        final var url = System.getProperty("bench.jdbc.url", "jdbc:h2:mem:category_multi_get_bench;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        final var user = System.getProperty("bench.jdbc.user", "root");
+        final var password = System.getProperty("bench.jdbc.password", "123456");
+
+        Flyway.configure().dataSource(url, user, password).load().migrate();
+        this.connection = DriverManager.getConnection(url, user, password);
+        populate();
+    }
+
+    @Setup(Level.Iteration)
+    public void pickIds() {
+        final var random = new SplittableRandom();
+        this.requestedIds = new ArrayList<>(this.ids);
+        for (var i = 0; i < this.ids; i++) {
+            this.requestedIds.add(this.storedIds.get(random.nextInt(this.storedIds.size())));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (final var statement = this.connection.createStatement()) {
+            statement.execute("DELETE FROM category");
+        }
+        this.connection.commit();
+        this.connection.close();
+    }
+
+    @Benchmark
+    public void perIdLoop(final Blackhole blackhole) throws SQLException {
+        for (final var id : this.requestedIds) {
+            try (final var select = this.connection.prepareStatement(SELECT_BY_ID)) {
+                select.setString(1, id);
+                try (final var rs = select.executeQuery()) {
+                    while (rs.next()) blackhole.consume(rs.getString("name"));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void inChunks(final Blackhole blackhole) throws SQLException {
+        final var distinctIds = this.requestedIds.stream().distinct().toList();
+        for (var from = 0; from < distinctIds.size(); from += CHUNK_SIZE) {
+            final var chunk = distinctIds.subList(from, Math.min(from + CHUNK_SIZE, distinctIds.size()));
+            final var sql = "SELECT * FROM category c WHERE c.id IN ("
+                    + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")";
+            try (final var select = this.connection.prepareStatement(sql)) {
+                for (var i = 0; i < chunk.size(); i++) {
+                    select.setString(i + 1, chunk.get(i));
+                }
+                try (final var rs = select.executeQuery()) {
+                    while (rs.next()) blackhole.consume(rs.getString("name"));
+                }
+            }
+        }
+    }
+
+    private void populate() throws SQLException {
+        final var now = Timestamp.from(Instant.now());
+        final var sql = "INSERT INTO category (id, name, name_search, active, created_at, updated_at)"
+                + " VALUES (?, ?, ?, TRUE, ?, ?)";
+
+        this.storedIds = new ArrayList<>(ROWS);
+        this.connection.setAutoCommit(false);
+        try (final var insert = this.connection.prepareStatement(sql)) {
+            for (var i = 0; i < ROWS; i++) {
+                final var id = CategoryID.unique().getValue();
+                insert.setString(1, id);
+                insert.setString(2, "Categoria " + i);
+                insert.setString(3, "categoria " + i);
+                insert.setTimestamp(4, now);
+                insert.setTimestamp(5, now);
+                insert.addBatch();
+                this.storedIds.add(id);
+
+                if ((i + 1) % 1_000 == 0) {
+                    insert.executeBatch();
+                    this.connection.commit();
+                }
+            }
+            insert.executeBatch();
+            this.connection.commit();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.exporter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Dumps the whole category table with {@link CategoryExporter} against the OFFSET pagination it replaces
+ * (page + COUNT per page, rows materialized as objects and serialized with an {@link ObjectMapper}).
+ * <p>
+ * Runs on a file based H2 by default, so the table does not live in the benchmark heap, which is kept at 256 MB
+ * to show the export does not grow with the table. {@code -Dbench.jdbc.url=...} (plus {@code bench.jdbc.user} and
+ * {@code bench.jdbc.password}) points it to an empty MySQL schema instead. {@code rowsPerSecond} and
+ * {@code peakOldGenMb} are reported next to the time of each dump.
+ * <pre>
+ * ./gradlew :infrastructure:jmh -Pjmh.includes=CategoryExportBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = {"-Xms256m", "-Xmx256m"})
+public class CategoryExportBenchmark {
+
+    private static final int PAGE_SIZE = 1_000;
+    private static final String PAGE = "SELECT * FROM category ORDER BY id LIMIT ? OFFSET ?";
+    private static final String COUNT = "SELECT COUNT(*) FROM category";
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    private Path directory;
+    private DataSource dataSource;
+    private CategoryExporter exporter;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public double rowsPerSecond;
+        public double peakOldGenMb;
+
+        @Setup(Level.Invocation)
+        public void resetPeak() {
+            System.gc();
+            oldGen().forEach(MemoryPoolMXBean::resetPeakUsage);
+        }
+
+        void record(final long rows, final long startedAt) {
+            this.rowsPerSecond = rows * 1_000_000_000d / (System.nanoTime() - startedAt);
+            this.peakOldGenMb = oldGen().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum() / (1024d * 1024d);
+        }
+
+        // Young pools peak at their size on every cycle whatever the export keeps, what is kept ends in the old one
+        private static Stream<MemoryPoolMXBean> oldGen() {
+            return ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP)
+                    .filter(pool -> pool.getName().contains("Old") || pool.getName().contains("Tenured"));
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, IOException {
+        this.directory = Files.createTempDirectory("category-export-bench");
+        // Lazy execution makes H2 stream the result set instead of computing it whole before the first row
+        final var h2 = "jdbc:h2:file:" + this.directory.resolve("db")
+                + ";MODE=MYSQL;DATABASE_TO_LOWER=TRUE;LAZY_QUERY_EXECUTION=TRUE";
+        this.dataSource = new DriverManagerDataSource(
+                System.getProperty("bench.jdbc.url", h2),
+                System.getProperty("bench.jdbc.user", "root"),
+                System.getProperty("bench.jdbc.password", "123456")
+        );
+
+        Flyway.configure().dataSource(this.dataSource).load().migrate();
+        this.exporter = new CategoryExporter(this.dataSource, 1_000);
+        populate();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException, IOException {
+        try (final var connection = this.dataSource.getConnection();
+             final var statement = connection.createStatement()) {
+            statement.execute("DELETE FROM category");
+        }
+        try (final Stream<Path> files = Files.walk(this.directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long stream(final Counters counters) throws IOException {
+        final var startedAt = System.nanoTime();
+        final var report = this.exporter.export(OutputStream.nullOutputStream(), false);
+        counters.record(report.rows(), startedAt);
+        return report.bytes();
+    }
+
+    @Benchmark
+    public long streamGzip(final Counters counters) throws IOException {
+        final var startedAt = System.nanoTime();
+        final var report = this.exporter.export(OutputStream.nullOutputStream(), true);
+        counters.record(report.rows(), startedAt);
+        return report.bytes();
+    }
+
+    @Benchmark
+    public long offsetPages(final Counters counters) throws SQLException, IOException {
+        final var startedAt = System.nanoTime();
+        final var mapper = new ObjectMapper();
+        final var output = OutputStream.nullOutputStream();
+        var exported = 0L;
+
+        try (final var connection = this.dataSource.getConnection();
+             final var page = connection.prepareStatement(PAGE);
+             final var count = connection.prepareStatement(COUNT)) {
+            for (var offset = 0; ; offset += PAGE_SIZE) {
+                try (final var rs = count.executeQuery()) {
+                    rs.next();
+                }
+
+                page.setInt(1, PAGE_SIZE);
+                page.setInt(2, offset);
+                final var categories = new ArrayList<Category>(PAGE_SIZE);
+                try (final var rs = page.executeQuery()) {
+                    while (rs.next()) {
+                        categories.add(Category.with(
+                                CategoryID.from(rs.getString("id")),
+                                rs.getString("name"),
+                                rs.getString("description"),
+                                rs.getBoolean("active"),
+                                rs.getTimestamp("created_at").toInstant(),
+                                rs.getTimestamp("updated_at").toInstant(),
+                                null
+                        ));
+                    }
+                }
+                for (final var category : categories) {
+                    output.write(mapper.writeValueAsBytes(Map.of(
+                            "id", category.getId().getValue(),
+                            "name", category.getName(),
+                            "is_active", category.isActive(),
+                            "created_at", category.getCreatedAt().toString()
+                    )));
+                }
+                exported += categories.size();
+                if (categories.size() < PAGE_SIZE) {
+                    break;
+                }
+            }
+        }
+        counters.record(exported, startedAt);
+        return exported;
+    }
+
+    private void populate() throws SQLException {
+        final var now = Timestamp.from(Instant.now());
+        final var sql = "INSERT INTO category (id, name, name_search, description, description_search, active, created_at, updated_at)"
+                + " VALUES (?, ?, ?, ?, ?, TRUE, ?, ?)";
+
+        try (final var connection = this.dataSource.getConnection();
+             final var insert = connection.prepareStatement(sql)) {
+            connection.setAutoCommit(false);
+            for (var i = 0; i < this.rows; i++) {
+                final var name = "Categoria " + i;
+                insert.setString(1, CategoryID.unique().getValue());
+                insert.setString(2, name);
+                insert.setString(3, name.toLowerCase());
+                insert.setString(4, "Descrição da categoria " + i);
+                insert.setString(5, "descricao da categoria " + i);
+                insert.setTimestamp(6, now);
+                insert.setTimestamp(7, now);
+                insert.addBatch();
+                if (i % 1_000 == 999) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+}
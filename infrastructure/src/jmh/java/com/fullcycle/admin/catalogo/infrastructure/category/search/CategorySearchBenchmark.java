@@ -0,0 +1,188 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.search;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.utils.SearchNormalizer;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search on the category table through the LIKE path used by {@code CategoryMySQLGateway} (page + exact count)
+ * against the full-text index path (index page + hydration by ID).
+ * <p>
+ * Runs on an in-memory H2 by default; {@code -Dbench.jdbc.url=...} (plus {@code bench.jdbc.user} and
+ * {@code bench.jdbc.password}) points it to an empty MySQL schema instead.
+ * <pre>
+ * ./gradlew :infrastructure:jmh -Pjmh.includes=CategorySearchBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class CategorySearchBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+    private static final String[] WORDS = {
+            "filmes", "séries", "documentários", "infantil", "ação", "aventura", "comédia", "drama", "terror",
+            "romance", "suspense", "animação", "clássicos", "nacionais", "musicais", "esportes", "natureza",
+            "história", "ciência", "ficção", "policial", "faroeste", "guerra", "biografias", "novelas"
+    };
+
+    private static final String LIKE_PAGE = "SELECT * FROM category c"
+            + " WHERE c.name_search LIKE ? OR c.description_search LIKE ?"
+            + " ORDER BY c.name, c.id LIMIT " + PAGE_SIZE;
+    private static final String LIKE_COUNT = "SELECT COUNT(*) FROM category c"
+            + " WHERE c.name_search LIKE ? OR c.description_search LIKE ?";
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    @Param({"documentarios", "acao aventura"})
+    public String terms;
+
+    private Connection connection;
+    private CategorySearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, IOException {
+        final var url = System.getProperty("bench.jdbc.url", "jdbc:h2:mem:category_bench;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        final var user = System.getProperty("bench.jdbc.user", "root");
+        final var password = System.getProperty("bench.jdbc.password", "123456");
+
+        Flyway.configure().dataSource(url, user, password).load().migrate();
+        this.connection = DriverManager.getConnection(url, user, password);
+        this.index = CategorySearchIndex.open(Files.createTempDirectory("category-bench"), Duration.ofMinutes(1));
+
+        populate();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException, IOException {
+        try (final var statement = this.connection.createStatement()) {
+            statement.execute("DELETE FROM category");
+        }
+        this.connection.close();
+        this.index.close();
+    }
+
+    @Benchmark
+    public void like(final Blackhole blackhole) throws SQLException {
+        final var pattern = "%" + SearchNormalizer.normalize(this.terms) + "%";
+
+        try (final var page = this.connection.prepareStatement(LIKE_PAGE)) {
+            page.setString(1, pattern);
+            page.setString(2, pattern);
+            try (final var rs = page.executeQuery()) {
+                while (rs.next()) blackhole.consume(rs.getString("id"));
+            }
+        }
+        try (final var count = this.connection.prepareStatement(LIKE_COUNT)) {
+            count.setString(1, pattern);
+            count.setString(2, pattern);
+            try (final var rs = count.executeQuery()) {
+                rs.next();
+                blackhole.consume(rs.getLong(1));
+            }
+        }
+    }
+
+    @Benchmark
+    public void fullText(final Blackhole blackhole) throws SQLException {
+        final var hits = this.index.search(this.terms, 0, PAGE_SIZE);
+        blackhole.consume(hits.total());
+        if (hits.ids().isEmpty()) {
+            return;
+        }
+
+        final var sql = "SELECT * FROM category c WHERE c.id IN ("
+                + String.join(",", Collections.nCopies(hits.ids().size(), "?")) + ")";
+        try (final var page = this.connection.prepareStatement(sql)) {
+            for (var i = 0; i < hits.ids().size(); i++) {
+                page.setString(i + 1, hits.ids().get(i));
+            }
+            try (final var rs = page.executeQuery()) {
+                while (rs.next()) blackhole.consume(rs.getString("id"));
+            }
+        }
+    }
+
+    private void populate() throws SQLException {
+        final var random = new SplittableRandom(42);
+        final var now = Timestamp.from(Instant.now());
+        final var sql = "INSERT INTO category (id, name, name_search, description, description_search, active, created_at, updated_at)"
+                + " VALUES (?, ?, ?, ?, ?, TRUE, ?, ?)";
+
+        this.connection.setAutoCommit(false);
+        try (final var insert = this.connection.prepareStatement(sql)) {
+            final var batch = new ArrayList<Category>(1_000);
+            for (var i = 0; i < this.rows; i++) {
+                final var name = words(random, 2) + " " + i;
+                final var description = words(random, 12);
+                final var category = Category.with(CategoryID.unique(), name, description, true, now.toInstant(), now.toInstant(), null);
+
+                insert.setString(1, category.getId().getValue());
+                insert.setString(2, name);
+                insert.setString(3, SearchNormalizer.normalize(name));
+                insert.setString(4, description);
+                insert.setString(5, SearchNormalizer.normalize(description));
+                insert.setTimestamp(6, now);
+                insert.setTimestamp(7, now);
+                insert.addBatch();
+                batch.add(category);
+
+                if (batch.size() == 1_000) {
+                    flush(insert, batch);
+                }
+            }
+            flush(insert, batch);
+        }
+        this.index.refresh();
+    }
+
+    private void flush(final PreparedStatement insert, final List<Category> batch) throws SQLException {
+        insert.executeBatch();
+        this.connection.commit();
+        this.index.indexAll(batch);
+        batch.clear();
+    }
+
+    private static String words(final SplittableRandom random, final int count) {
+        final var words = new StringBuilder();
+        for (var i = 0; i < count; i++) {
+            if (i > 0) words.append(' ');
+            words.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return words.toString();
+    }
+}
@@ -0,0 +1,200 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.storage;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write and read throughput of {@link CategoryLogStore} against the category table, with several threads: a write
+ * stores a new version of a random category and waits until it is durable, a read looks one up by ID.
+ * <p>
+ * The table lives in an in-memory H2 in MySQL mode by default, which never touches the disk, so {@code fsync=false}
+ * is the fair comparison for writes and {@code fsync=true} shows what durability costs once the group commit spreads
+ * it over the threads. {@code -Dbench.jdbc.url=...} (plus {@code bench.jdbc.user} and {@code bench.jdbc.password})
+ * points the table side to an empty MySQL schema instead, and {@code -Dbench.log.dir=...} the log to a given disk.
+ * <pre>
+ * ./gradlew :infrastructure:jmh -Pjmh.includes=CategoryLogStoreBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+@Threads(4)
+public class CategoryLogStoreBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final String SELECT_BY_ID = "SELECT * FROM category c WHERE c.id = ?";
+    private static final String UPDATE = "UPDATE category SET name = ?, name_search = ?, updated_at = ?, version = version + 1"
+            + " WHERE id = ?";
+
+    @Param({"true", "false"})
+    public boolean fsync;
+
+    private String url;
+    private String user;
+    private String password;
+    private Path directory;
+    private CategoryLogStore store;
+    private List<Category> stored;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, IOException {
+        this.url = System.getProperty("bench.jdbc.url", "jdbc:h2:mem:category_log_bench;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        this.user = System.getProperty("bench.jdbc.user", "root");
+        this.password = System.getProperty("bench.jdbc.password", "123456");
+        Flyway.configure().dataSource(this.url, this.user, this.password).load().migrate();
+
+        final var parent = System.getProperty("bench.log.dir");
+        this.directory = parent != null
+                ? Files.createTempDirectory(Path.of(parent), "category-log-bench")
+                : Files.createTempDirectory("category-log-bench");
+        this.store = CategoryLogStore.open(this.directory, 64L * 1024 * 1024, this.fsync, Duration.ofSeconds(1), 0.5);
+        populate();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException, IOException {
+        this.store.close();
+        try (final var files = Files.walk(this.directory)) {
+            for (final var file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+        try (final var connection = DriverManager.getConnection(this.url, this.user, this.password);
+             final var statement = connection.createStatement()) {
+            statement.execute("DELETE FROM category");
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Session {
+
+        private final SplittableRandom random = new SplittableRandom();
+        private Connection connection;
+
+        @Setup(Level.Trial)
+        public void open(final CategoryLogStoreBenchmark benchmark) throws SQLException {
+            // Auto-commit: every write is its own transaction, as the gateway's are
+            this.connection = DriverManager.getConnection(benchmark.url, benchmark.user, benchmark.password);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws SQLException {
+            this.connection.close();
+        }
+
+        private Category pick(final List<Category> categories) {
+            return categories.get(this.random.nextInt(categories.size()));
+        }
+    }
+
+    @Benchmark
+    public long logWrite(final Session session) {
+        final var category = session.pick(this.stored);
+        final var updated = Category.with(
+                category.getId(),
+                "Categoria " + session.random.nextInt(),
+                category.getDescription(),
+                category.isActive(),
+                category.getCreatedAt(),
+                Instant.now(),
+                category.getDeletedAt(),
+                category.getVersion() + 1
+        );
+        final var ticket = this.store.append(updated);
+        this.store.sync(ticket);
+        return ticket;
+    }
+
+    @Benchmark
+    public int tableWrite(final Session session) throws SQLException {
+        final var category = session.pick(this.stored);
+        final var name = "Categoria " + session.random.nextInt();
+        try (final var update = session.connection.prepareStatement(UPDATE)) {
+            update.setString(1, name);
+            update.setString(2, name.toLowerCase());
+            update.setTimestamp(3, Timestamp.from(Instant.now()));
+            update.setString(4, category.getId().getValue());
+            return update.executeUpdate();
+        }
+    }
+
+    @Benchmark
+    public void logRead(final Session session, final Blackhole blackhole) {
+        blackhole.consume(this.store.get(session.pick(this.stored).getId()).orElseThrow().getName());
+    }
+
+    @Benchmark
+    public void tableRead(final Session session, final Blackhole blackhole) throws SQLException {
+        try (final var select = session.connection.prepareStatement(SELECT_BY_ID)) {
+            select.setString(1, session.pick(this.stored).getId().getValue());
+            try (final var rs = select.executeQuery()) {
+                while (rs.next()) blackhole.consume(rs.getString("name"));
+            }
+        }
+    }
+
+    private void populate() throws SQLException {
+        final var now = Timestamp.from(Instant.now());
+        final var sql = "INSERT INTO category (id, name, name_search, active, created_at, updated_at)"
+                + " VALUES (?, ?, ?, TRUE, ?, ?)";
+
+        this.stored = new ArrayList<>(ROWS);
+        try (final var connection = DriverManager.getConnection(this.url, this.user, this.password);
+             final var insert = connection.prepareStatement(sql)) {
+            connection.setAutoCommit(false);
+            var ticket = 0L;
+            for (var i = 0; i < ROWS; i++) {
+                final var category = Category.newCategory("Categoria " + i, null, true);
+                insert.setString(1, category.getId().getValue());
+                insert.setString(2, category.getName());
+                insert.setString(3, category.getName().toLowerCase());
+                insert.setTimestamp(4, now);
+                insert.setTimestamp(5, now);
+                insert.addBatch();
+                ticket = this.store.append(category);
+                this.stored.add(category);
+
+                if ((i + 1) % 1_000 == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+            this.store.sync(ticket);
+        }
+    }
+}
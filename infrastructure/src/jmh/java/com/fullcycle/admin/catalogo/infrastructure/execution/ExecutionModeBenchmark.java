@@ -0,0 +1,226 @@
+package com.fullcycle.admin.catalogo.infrastructure.execution;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Requests per second and latency percentiles of the two {@code execution.mode}s under {@code clients} concurrent
+ * clients, each sending its next request as soon as the previous one is answered.
+ * <p>
+ * Boots the application with the web server on the {@code test} profile and serves one endpoint that, like a
+ * request of this service would, waits {@code ioMillis} on something other than the database (another service, a
+ * file) and then holds a pooled connection for {@code dbMillis}, standing in for the query, before running
+ * {@link GetCategoryByIdUseCase}. Both waits are sleeps, so the in-memory H2 does not decide the result: with platform
+ * threads the 64 Undertow workers are the limit, with virtual threads the connections behind the limiter are, as long
+ * as the cores keep up with every request being admitted at once.
+ * <p>
+ * The score is requests answered per second; each iteration also prints its p50, p99 and failed requests, which is
+ * where the modes differ most once the clients outnumber the workers. Virtual threads need Java 21: on an older JVM the
+ * virtual runs fall back to the worker pool and measure the same thing twice. Client and server share the process, so
+ * 10k clients need about 20k file descriptors ({@code ulimit -n}).
+ * <pre>
+ * ./gradlew :infrastructure:jmh -Pjmh.includes=ExecutionModeBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ExecutionModeBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"1000", "10000"})
+    public int clients;
+
+    @Param({"20"})
+    public int ioMillis;
+
+    @Param({"1"})
+    public int dbMillis;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private volatile boolean running;
+    private final LinkedBlockingQueue<Long> completions = new LinkedBlockingQueue<>();
+    private final LongAdder failures = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private long[] latencies = new long[1 << 20];
+    private int recorded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(WebServerConfig.class, Endpoint.class)
+                .profiles("test")
+                // Arguments, not default properties: application.yml would win over those
+                .run("--server.port=0", "--execution.mode=" + this.mode,
+                        "--bench.io-millis=" + this.ioMillis, "--bench.db-millis=" + this.dbMillis,
+                        // Every client may be waiting for a connection at once: measure the wait, don't shed it
+                        "--execution.jdbc-limiter.max-waiting=" + this.clients, "--execution.jdbc-limiter.acquire-timeout=60s");
+
+        final var gateway = this.context.getBean(CategoryGateway.class);
+        final var ids = new ArrayList<String>(ROWS);
+        final var categories = new ArrayList<Category>(ROWS);
+        for (var i = 0; i < ROWS; i++) {
+            final var category = Category.newCategory("Categoria " + i, null, true);
+            categories.add(category);
+            ids.add(category.getId().getValue());
+        }
+        gateway.createAll(categories);
+
+        final var port = ((WebServerApplicationContext) this.context).getWebServer().getPort();
+        this.clientExecutor = Executors.newFixedThreadPool(2);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(this.clientExecutor)
+                .build();
+        this.running = true;
+        for (var i = 0; i < this.clients; i++) {
+            send(HttpRequest.newBuilder(URI.create("http://localhost:%d/bench/categories/%s".formatted(port, ids.get(i % ROWS))))
+                    .timeout(Duration.ofSeconds(60))
+                    .build());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        this.running = false;
+        // Lets the last requests finish before the server goes away under them
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (this.inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        this.clientExecutor.shutdownNow();
+        new JdbcTemplate(this.context.getBean(DataSource.class)).execute("DELETE FROM category");
+        this.context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration() {
+        this.completions.clear();
+        this.failures.reset();
+        this.recorded = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void printLatencies() {
+        final var sorted = Arrays.copyOf(this.latencies, this.recorded);
+        Arrays.sort(sorted);
+        System.out.printf("%n%s, %d clients: %d requests, p50 %.1f ms, p99 %.1f ms, %d failed%n",
+                this.mode, this.clients, sorted.length, millis(sorted, 0.50), millis(sorted, 0.99), this.failures.sum());
+    }
+
+    @Benchmark
+    public long request() throws InterruptedException {
+        final long latency = this.completions.take();
+        if (this.recorded == this.latencies.length) {
+            this.latencies = Arrays.copyOf(this.latencies, this.latencies.length * 2);
+        }
+        this.latencies[this.recorded++] = latency;
+        return latency;
+    }
+
+    private void send(final HttpRequest request) {
+        final var start = System.nanoTime();
+        this.inFlight.incrementAndGet();
+        this.client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+            this.inFlight.decrementAndGet();
+            if (error != null || response.statusCode() != 200) {
+                this.failures.increment();
+            }
+            this.completions.add(System.nanoTime() - start);
+            if (this.running) {
+                send(request);
+            }
+        });
+    }
+
+    private static double millis(final long[] sorted, final double percentile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        final var index = Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    /**
+     * Not a {@code @Configuration}, so the component scan of other benchmarks never picks it up.
+     */
+    public static class Endpoint {
+
+        @Bean
+        public ServletRegistrationBean<HttpServlet> categoryEndpoint(
+                final GetCategoryByIdUseCase getCategoryByIdUseCase,
+                final DataSource dataSource,
+                final Environment environment
+        ) {
+            final var ioMillis = environment.getRequiredProperty("bench.io-millis", Long.class);
+            final var dbMillis = environment.getRequiredProperty("bench.db-millis", Long.class);
+            final var servlet = new HttpServlet() {
+                @Override
+                protected void doGet(final HttpServletRequest req, final HttpServletResponse resp) throws IOException {
+                    try {
+                        Thread.sleep(ioMillis);
+                        try (final var ignored = dataSource.getConnection()) {
+                            Thread.sleep(dbMillis);
+                        }
+                        final var output = getCategoryByIdUseCase.execute(req.getPathInfo().substring(1));
+                        resp.setContentType("text/plain");
+                        resp.getWriter().write(output.name());
+                    } catch (final Exception e) {
+                        resp.sendError(503, e.getMessage());
+                    }
+                }
+            };
+            return new ServletRegistrationBean<>(servlet, "/bench/categories/*");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic counter bumped on every committed catalog write. Anything derived from the whole catalog
+ * (totals, list pages) can be cached under the current generation and is implicitly invalidated by the next write.
+ */
+@Component
+public class CatalogGeneration {
+
+    private final AtomicLong value = new AtomicLong();
+
+    public long current() {
+        return this.value.get();
+    }
+
+    public long next() {
+        return this.value.incrementAndGet();
+    }
+}
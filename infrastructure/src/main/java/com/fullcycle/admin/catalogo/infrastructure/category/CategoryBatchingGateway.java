@@ -0,0 +1,182 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryBatchResult;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.isTransactionActive;
+
+/**
+ * Coalesces concurrent {@link CategoryGateway#findById(CategoryID)} calls into one
+ * {@link CategoryGateway#findAllByIds(Collection)}, so a burst of lookups for different IDs takes one connection
+ * instead of one each.
+ * <p>
+ * The first lookup opens a batch that is loaded once {@code window} has passed or as soon as it holds
+ * {@code maxBatchSize} IDs, whichever comes first; every caller waits for its own result. A full batch is loaded by
+ * the thread that filled it, an expired one by a loader thread. Lookups inside a transaction skip the batch, since
+ * the batch query runs on another connection and would not see the transaction's own writes.
+ */
+public class CategoryBatchingGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService loaders;
+    private final DistributionSummary batchSizes;
+    private final Timer waitTimes;
+
+    private final Object lock = new Object();
+    private Batch current;
+
+    public CategoryBatchingGateway(
+            final CategoryGateway delegate,
+            final Duration window,
+            final int maxBatchSize,
+            final int loaderThreads,
+            final MeterRegistry meterRegistry
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.window = Objects.requireNonNull(window);
+        this.maxBatchSize = maxBatchSize;
+        final var loaders = new ScheduledThreadPoolExecutor(loaderThreads, runnable -> {
+            final var thread = new Thread(runnable, "category-batch-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Batches that fill up cancel their timer, which would otherwise sit in the queue until the window ends
+        loaders.setRemoveOnCancelPolicy(true);
+        this.loaders = loaders;
+        this.batchSizes = DistributionSummary.builder("category.find-by-id.batch.size")
+                .description("IDs loaded by each batched findById query")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue((double) maxBatchSize)
+                .register(meterRegistry);
+        this.waitTimes = Timer.builder("category.find-by-id.batch.wait")
+                .description("Time a findById call spends waiting for its batch, query included")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return this.delegate.create(category);
+    }
+
+    @Override
+    public CategoryBatchResult createAll(final List<Category> categories) {
+        return this.delegate.createAll(categories);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return this.delegate.update(category);
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        this.delegate.deleteById(id);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        if (isTransactionActive()) {
+            return this.delegate.findById(id);
+        }
+
+        final var startedAt = System.nanoTime();
+        final CompletableFuture<Optional<Category>> result;
+        Batch full = null;
+        synchronized (this.lock) {
+            if (this.current == null) {
+                final var batch = new Batch();
+                batch.timer = this.loaders.schedule(() -> expire(batch), this.window.toNanos(), TimeUnit.NANOSECONDS);
+                this.current = batch;
+            }
+            result = this.current.waiters.computeIfAbsent(id, key -> new CompletableFuture<>());
+            if (this.current.waiters.size() >= this.maxBatchSize) {
+                full = this.current;
+                full.timer.cancel(false);
+                this.current = null;
+            }
+        }
+        if (full != null) {
+            load(full);
+        }
+
+        try {
+            // Callers asking for the same ID share a result, each one gets its own copy
+            return result.join().map(Category::with);
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        } finally {
+            this.waitTimes.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> ids) {
+        return this.delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return this.delegate.findAll(query);
+    }
+
+    private void expire(final Batch batch) {
+        synchronized (this.lock) {
+            if (this.current != batch) {
+                // Filled up and taken by a caller in the meantime
+                return;
+            }
+            this.current = null;
+        }
+        load(batch);
+    }
+
+    private void load(final Batch batch) {
+        this.batchSizes.record(batch.waiters.size());
+        try {
+            final Map<CategoryID, Category> found = this.delegate.findAllByIds(batch.waiters.keySet()).stream()
+                    .collect(Collectors.toMap(Category::getId, Function.identity()));
+            batch.waiters.forEach((id, waiter) -> waiter.complete(Optional.ofNullable(found.get(id))));
+        } catch (final Throwable t) {
+            batch.waiters.values().forEach(waiter -> waiter.completeExceptionally(t));
+        }
+    }
+
+    /**
+     * IDs waiting for the same query. Only touched under {@code lock} until it is handed to {@link #load(Batch)}.
+     */
+    private static final class Batch {
+
+        private final Map<CategoryID, CompletableFuture<Optional<Category>>> waiters = new HashMap<>();
+        private ScheduledFuture<?> timer;
+    }
+}
@@ -0,0 +1,115 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+
+/**
+ * Compact binary form of a {@link Category}, for the files that keep categories outside the database.
+ * <p>
+ * A payload starts with its kind, {@link #PUT} or {@link #TOMBSTONE}, followed by the ID; a put carries the whole
+ * category after it, version first, so the ID and the version can be read without decoding the rest.
+ */
+public final class CategoryBinaryCodec {
+
+    public static final byte PUT = 1;
+    public static final byte TOMBSTONE = 2;
+
+    private CategoryBinaryCodec() {
+    }
+
+    public static byte[] encode(final Category category) {
+        final var bytes = new ByteArrayOutputStream(256);
+        try (final var out = new DataOutputStream(bytes)) {
+            out.writeByte(PUT);
+            out.writeUTF(category.getId().getValue());
+            out.writeLong(category.getVersion());
+            out.writeUTF(category.getName());
+            writeNullableUTF(out, category.getDescription());
+            out.writeBoolean(category.isActive());
+            writeInstant(out, category.getCreatedAt());
+            writeInstant(out, category.getUpdatedAt());
+            out.writeBoolean(category.getDeletedAt() != null);
+            if (category.getDeletedAt() != null) {
+                writeInstant(out, category.getDeletedAt());
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static byte[] tombstone(final CategoryID id) {
+        final var bytes = new ByteArrayOutputStream(64);
+        try (final var out = new DataOutputStream(bytes)) {
+            out.writeByte(TOMBSTONE);
+            out.writeUTF(id.getValue());
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static boolean isTombstone(final byte[] payload) {
+        return payload[0] == TOMBSTONE;
+    }
+
+    public static Category decode(final byte[] payload) {
+        try (final var in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            in.readByte();
+            final var id = CategoryID.from(in.readUTF());
+            final var version = in.readLong();
+            final var name = in.readUTF();
+            final var description = in.readBoolean() ? in.readUTF() : null;
+            final var active = in.readBoolean();
+            final var createdAt = readInstant(in);
+            final var updatedAt = readInstant(in);
+            final var deletedAt = in.readBoolean() ? readInstant(in) : null;
+            return Category.with(id, name, description, active, createdAt, updatedAt, deletedAt, version);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public static CategoryID readId(final byte[] payload) {
+        try (final var in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            in.readByte();
+            return CategoryID.from(in.readUTF());
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public static long readVersion(final byte[] payload) {
+        try (final var in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            in.readByte();
+            in.readUTF();
+            return in.readLong();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void writeNullableUTF(final DataOutputStream out, final String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static void writeInstant(final DataOutputStream out, final Instant instant) throws IOException {
+        out.writeLong(instant.getEpochSecond());
+        out.writeInt(instant.getNano());
+    }
+
+    private static Instant readInstant(final DataInputStream in) throws IOException {
+        return Instant.ofEpochSecond(in.readLong(), in.readInt());
+    }
+}
@@ -0,0 +1,138 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryBatchResult;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChange;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeListener;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
+
+/**
+ * Read-through cache in front of {@link CategoryGateway#findById(CategoryID)} and
+ * {@link CategoryGateway#findAllByIds(Collection)}.
+ * <p>
+ * Entries are bounded by size and TTL and are refreshed in background once they are older than
+ * {@code refreshAfterWrite}. Concurrent misses for the same ID share a single load. Writes only touch
+ * the cache after the surrounding transaction commits, so a rollback never leaks into it.
+ */
+public class CategoryCacheGateway implements CategoryGateway, CategoryChangeListener, MeterBinder {
+
+    public static final String CACHE_NAME = "categories";
+
+    private final CategoryGateway delegate;
+    private final LoadingCache<CategoryID, Category> cache;
+
+    public CategoryCacheGateway(
+            final CategoryGateway delegate,
+            final long maximumSize,
+            final Duration expireAfterWrite,
+            final Duration refreshAfterWrite
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .refreshAfterWrite(refreshAfterWrite)
+                .recordStats()
+                .build(id -> this.delegate.findById(id).orElse(null));
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var created = this.delegate.create(category);
+        afterCommit(() -> this.cache.put(created.getId(), Category.with(created)));
+        return created;
+    }
+
+    @Override
+    public CategoryBatchResult createAll(final List<Category> categories) {
+        final var result = this.delegate.createAll(categories);
+        afterCommit(() -> result.created().forEach(category -> this.cache.put(category.getId(), Category.with(category))));
+        return result;
+    }
+
+    @Override
+    public Category update(final Category category) {
+        final Category updated;
+        try {
+            updated = this.delegate.update(category);
+        } catch (final ConflictException ex) {
+            // The cached copy is what the caller based its stale write on, a retry has to read past it
+            this.cache.invalidate(category.getId());
+            throw ex;
+        }
+        afterCommit(() -> this.cache.put(updated.getId(), Category.with(updated)));
+        return updated;
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        this.delegate.deleteById(id);
+        afterCommit(() -> this.cache.invalidate(id));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        // Category is mutable, so callers always get their own copy of the cached instance
+        return Optional.ofNullable(this.cache.get(id)).map(Category::with);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> ids) {
+        // Only the IDs missing from the cache go to the delegate, all of them in one call
+        return this.cache.getAll(ids, this::loadAll).values().stream()
+                .map(Category::with)
+                .toList();
+    }
+
+    private Map<CategoryID, Category> loadAll(final Iterable<? extends CategoryID> ids) {
+        final var missingIds = new ArrayList<CategoryID>();
+        ids.forEach(missingIds::add);
+        return this.delegate.findAllByIds(missingIds).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return this.delegate.findAll(query);
+    }
+
+    @Override
+    public void onRemoteChange(final CategoryChange change) {
+        this.cache.invalidate(change.id());
+    }
+
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+
+    public long size() {
+        return this.cache.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, this.cache, CACHE_NAME);
+    }
+}
@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategorySortField;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position of the last row of a page: the value of the sort key plus the row {@code id} as tie-breaker.
+ * It travels to clients as an opaque URL-safe token.
+ */
+public record CategoryCursor(CategorySortField sort, String value, String id) {
+
+    // 2: name cursors carry the normalized name_search value
+    private static final String VERSION = "2";
+    private static final String SEPARATOR = "\n";
+
+    public static CategoryCursor of(final CategorySortField sort, final CategoryJpaEntity last) {
+        return new CategoryCursor(sort, sort.valueOf(last), last.getId());
+    }
+
+    public static CategoryCursor decode(final String token) {
+        try {
+            final var decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            final var parts = decoded.split(SEPARATOR, 4);
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw invalidCursor();
+            }
+            return new CategoryCursor(CategorySortField.of(parts[1]), parts[3], parts[2]);
+        } catch (final IllegalArgumentException ex) {
+            throw invalidCursor();
+        }
+    }
+
+    public String encode() {
+        final var raw = String.join(SEPARATOR, VERSION, this.sort.property(), this.id, this.value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Comparable<?> typedValue() {
+        try {
+            return this.sort.parse(this.value);
+        } catch (final DateTimeParseException ex) {
+            throw invalidCursor();
+        }
+    }
+
+    private static DomainException invalidCursor() {
+        return DomainException.with(new Error("'after' is not a valid cursor"));
+    }
+}
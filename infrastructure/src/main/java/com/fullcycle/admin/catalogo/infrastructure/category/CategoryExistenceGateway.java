@@ -0,0 +1,169 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryBatchResult;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChange;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeListener;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.isTransactionActive;
+
+/**
+ * Answers lookups and deletes of category IDs that don't exist without going to the delegate.
+ * <p>
+ * An ID is known to be missing when {@link CategoryIdFilter} has never seen it, or when the delegate didn't find it
+ * within the last {@code negativeTtl}. Creates reach the filter before their transaction commits, so a caller always
+ * finds the categories it just created; creates made by other instances, or that skip this gateway (the reactive
+ * stack), are seen once they reach {@link #onRemoteChange(CategoryChange)}, or the filter catches up with them. Either
+ * way the ID goes into the filter, which also drops it from the negative cache, so neither answers "missing" for it
+ * past the next catch-up.
+ */
+public class CategoryExistenceGateway implements CategoryGateway, CategoryChangeListener, MeterBinder {
+
+    public static final String NEGATIVE_CACHE_NAME = "categories-missing";
+
+    private final CategoryGateway delegate;
+    private final CategoryIdFilter filter;
+    private final Cache<CategoryID, Boolean> missing;
+
+    private final LongAdder filtered = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder notFound = new LongAdder();
+    private final LongAdder found = new LongAdder();
+
+    public CategoryExistenceGateway(
+            final CategoryGateway delegate,
+            final CategoryIdFilter filter,
+            final Duration negativeTtl,
+            final long negativeMaximumSize
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.filter = Objects.requireNonNull(filter);
+        this.missing = Caffeine.newBuilder()
+                .maximumSize(negativeMaximumSize)
+                .expireAfterWrite(negativeTtl)
+                .recordStats()
+                .build();
+        this.filter.subscribe(this.missing::invalidate);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        this.filter.add(category.getId());
+        forgetMissingAfterCommit(category.getId());
+        return this.delegate.create(category);
+    }
+
+    @Override
+    public CategoryBatchResult createAll(final List<Category> categories) {
+        categories.forEach(category -> {
+            this.filter.add(category.getId());
+            forgetMissingAfterCommit(category.getId());
+        });
+        return this.delegate.createAll(categories);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return this.delegate.update(category);
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        if (isKnownMissing(id)) {
+            return;
+        }
+        this.delegate.deleteById(id);
+        afterCommit(() -> this.missing.put(id, Boolean.TRUE));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        if (isKnownMissing(id)) {
+            return Optional.empty();
+        }
+
+        final var category = this.delegate.findById(id);
+        if (category.isPresent()) {
+            this.found.increment();
+        } else {
+            this.notFound.increment();
+            // A miss inside a transaction may just be a row it can't see yet
+            if (!isTransactionActive()) {
+                this.missing.put(id, Boolean.TRUE);
+            }
+        }
+        return category;
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> ids) {
+        final var mightExist = ids.stream().filter(this.filter::mightContain).toList();
+        return mightExist.isEmpty() ? List.of() : this.delegate.findAllByIds(mightExist);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return this.delegate.findAll(query);
+    }
+
+    @Override
+    public void onRemoteChange(final CategoryChange change) {
+        if (change.type() == CategoryChangeType.CREATED) {
+            this.filter.add(change.id());
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        final var lookupsByResult = Map.of(
+                "filtered", this.filtered,
+                "negative-cached", this.negativeHits,
+                "not-found", this.notFound,
+                "found", this.found
+        );
+        lookupsByResult.forEach((result, counter) ->
+                FunctionCounter.builder("category.existence.lookups", counter, LongAdder::sum)
+                        .description("Category lookups and deletes by ID, by how their existence was settled")
+                        .tag("result", result)
+                        .register(registry));
+        CaffeineCacheMetrics.monitor(registry, this.missing, NEGATIVE_CACHE_NAME);
+    }
+
+    private boolean isKnownMissing(final CategoryID id) {
+        if (!this.filter.mightContain(id)) {
+            this.filtered.increment();
+            return true;
+        }
+        if (this.missing.getIfPresent(id) != null) {
+            this.negativeHits.increment();
+            return true;
+        }
+        return false;
+    }
+
+    private void forgetMissingAfterCommit(final CategoryID id) {
+        // Adding to the filter already forgot it, but a lookup running concurrently may cache the miss again before
+        // this create commits
+        afterCommit(() -> this.missing.invalidate(id));
+    }
+}
@@ -0,0 +1,243 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.CountStrategy;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchMode;
+import com.fullcycle.admin.catalogo.domain.utils.SearchNormalizer;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import reactor.core.publisher.Mono;
+
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.isTransactionActive;
+
+/**
+ * What the JPA, JDBC and R2DBC category gateways share: how search terms filter the rows, how each
+ * {@link CountStrategy} gets its total, the row estimate and the generation bump of a write. Each gateway keeps one,
+ * holding its count threads and the totals cached under the current {@link CatalogGeneration}.
+ */
+final class CategoryGatewaySupport {
+
+    static final String ESCAPE = " ESCAPE '" + SpecificationUtils.ESCAPE + "'";
+
+    private final CatalogGeneration generation;
+    private final ExecutorService countExecutor;
+    private final Cache<String, Long> cachedTotals = Caffeine.newBuilder().maximumSize(1_000).build();
+
+    /**
+     * For a blocking gateway, counting on up to {@code countParallelism} threads of its own next to the page query.
+     */
+    CategoryGatewaySupport(final CatalogGeneration generation, final int countParallelism, final String threadName) {
+        this.generation = generation;
+        this.countExecutor = Executors.newFixedThreadPool(countParallelism, runnable -> {
+            final var thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * For the reactive gateway, whose counts run on their own connection when subscribed to.
+     */
+    CategoryGatewaySupport(final CatalogGeneration generation) {
+        this.generation = generation;
+        this.countExecutor = null;
+    }
+
+    void shutdown() {
+        if (this.countExecutor != null) {
+            this.countExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Moves the generation for a write in the current transaction.
+     */
+    void bumpGeneration() {
+        // Bumped again on commit: anything cached while the write was still in flight gets discarded too
+        this.generation.next();
+        afterCommit(this.generation::next);
+    }
+
+    /**
+     * Total of {@code query} per its count strategy, started next to the page query. {@code estimate} is only asked
+     * for with {@link CountStrategy#ESTIMATED} and no terms, and an empty one falls back to {@code exact}.
+     */
+    CompletableFuture<Total> count(
+            final CategorySearchQuery query,
+            final Supplier<Long> exact,
+            final Supplier<OptionalLong> estimate
+    ) {
+        return switch (query.count()) {
+            case EXACT, WINDOW -> exactCount(exact);
+            case CACHED -> cachedCount(query, exact);
+            case ESTIMATED -> query.hasTerms()
+                    ? CompletableFuture.completedFuture(Total.UNKNOWN)
+                    : CompletableFuture.completedFuture(estimate.get()
+                    .stream()
+                    .mapToObj(Total::estimated)
+                    .findFirst()
+                    .orElseGet(() -> Total.exact(exact.get())));
+            case NONE -> CompletableFuture.completedFuture(Total.UNKNOWN);
+        };
+    }
+
+    /**
+     * Reactive {@link #count(CategorySearchQuery, Supplier, Supplier)}, with no estimate:
+     * {@link CountStrategy#ESTIMATED} counts exactly when there are no terms.
+     */
+    Mono<Total> count(final CategorySearchQuery query, final Mono<Long> exact) {
+        return switch (query.count()) {
+            case EXACT, WINDOW -> exact.map(Total::exact);
+            case CACHED -> {
+                final var key = cacheKey(query);
+                final var cached = this.cachedTotals.getIfPresent(key);
+                yield cached != null
+                        ? Mono.just(Total.exact(cached))
+                        : exact.doOnNext(total -> this.cachedTotals.put(key, total)).map(Total::exact);
+            }
+            case ESTIMATED -> query.hasTerms() ? Mono.just(Total.UNKNOWN) : exact.map(Total::exact);
+            case NONE -> Mono.just(Total.UNKNOWN);
+        };
+    }
+
+    private CompletableFuture<Total> exactCount(final Supplier<Long> count) {
+        // A second connection cannot see what the current transaction has not committed yet
+        if (isTransactionActive()) {
+            return CompletableFuture.completedFuture(Total.exact(count.get()));
+        }
+        return CompletableFuture.supplyAsync(() -> Total.exact(count.get()), this.countExecutor);
+    }
+
+    private CompletableFuture<Total> cachedCount(final CategorySearchQuery query, final Supplier<Long> count) {
+        final var key = cacheKey(query);
+        final var cached = this.cachedTotals.getIfPresent(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(Total.exact(cached));
+        }
+        return exactCount(count)
+                .thenApply(total -> {
+                    this.cachedTotals.put(key, total.value());
+                    return total;
+                });
+    }
+
+    private String cacheKey(final CategorySearchQuery query) {
+        return this.generation.current() + ":" + query.mode() + ":"
+                + (query.terms() == null ? "" : SearchNormalizer.normalize(query.terms()));
+    }
+
+    static Total join(final CompletableFuture<Total> total) {
+        try {
+            return total.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) throw cause;
+            throw ex;
+        }
+    }
+
+    /**
+     * Row count kept by the database statistics, empty when the database does not expose one.
+     */
+    static OptionalLong estimateRows(final JdbcTemplate jdbc) {
+        return jdbc.execute((ConnectionCallback<OptionalLong>) connection -> {
+            final var sql = switch (connection.getMetaData().getDatabaseProductName()) {
+                case "MySQL" -> "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'category'";
+                case "H2" -> "SELECT ROW_COUNT_ESTIMATE FROM information_schema.TABLES WHERE LOWER(TABLE_NAME) = 'category'";
+                default -> null;
+            };
+            if (sql == null) {
+                return OptionalLong.empty();
+            }
+            try (final var statement = connection.createStatement(); final var rs = statement.executeQuery(sql)) {
+                if (!rs.next()) {
+                    return OptionalLong.empty();
+                }
+                final var rows = rs.getLong(1);
+                return rs.wasNull() ? OptionalLong.empty() : OptionalLong.of(rows);
+            }
+        });
+    }
+
+    record Total(long value, boolean exact) {
+        static final Total UNKNOWN = new Total(0, false);
+
+        static Total exact(final long value) {
+            return new Total(value, true);
+        }
+
+        static Total estimated(final long value) {
+            return new Total(value, false);
+        }
+
+        /**
+         * The total to report for a page that proves at least {@code lowerBound} rows exist.
+         */
+        long atLeast(final long lowerBound) {
+            return this.exact ? this.value : Math.max(this.value, lowerBound);
+        }
+    }
+
+    /**
+     * How the search terms filter the rows, always against the normalized columns.
+     */
+    enum Filter {
+        NONE,
+        PREFIX,
+        CONTAINS;
+
+        static Filter of(final CategorySearchQuery query) {
+            if (query.terms() == null || query.terms().isBlank()) {
+                return NONE;
+            }
+            // Ranking by relevance is left to the search index, here it matches as CONTAINS
+            return query.mode() == SearchMode.PREFIX ? PREFIX : CONTAINS;
+        }
+
+        /**
+         * SQL condition with {@code parameter}, {@code ?} or a named one, standing for {@link #pattern(String)}
+         * {@link #occurrences()} times.
+         */
+        String condition(final String parameter) {
+            return switch (this) {
+                case NONE -> "";
+                case PREFIX -> "c.name_search LIKE " + parameter + ESCAPE;
+                case CONTAINS -> "(c.name_search LIKE " + parameter + ESCAPE
+                        + " OR c.description_search LIKE " + parameter + ESCAPE + ")";
+            };
+        }
+
+        String where(final String parameter) {
+            return this == NONE ? "" : " WHERE " + condition(parameter);
+        }
+
+        int occurrences() {
+            return switch (this) {
+                case NONE -> 0;
+                case PREFIX -> 1;
+                case CONTAINS -> 2;
+            };
+        }
+
+        /**
+         * LIKE pattern for the normalized {@code terms}.
+         */
+        String pattern(final String terms) {
+            return switch (this) {
+                case NONE -> null;
+                case PREFIX -> SpecificationUtils.escape(terms) + "%";
+                case CONTAINS -> "%" + SpecificationUtils.escape(terms) + "%";
+            };
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.utils.BloomFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Bloom filter over the IDs of every category, telling the IDs that certainly don't exist apart from the ones that
+ * might.
+ * <p>
+ * Until the first load finishes every ID might exist. A reload builds a new filter, sized for what the table holds
+ * at that point, and swaps it in when done; IDs added meanwhile go to both filters, so none is lost by the swap.
+ * Deleted IDs stay in the filter until the next reload and only cost a false positive.
+ * <p>
+ * Whoever remembers answers derived from the filter can {@link #subscribe(Consumer) subscribe} to the IDs added one by
+ * one, wherever they come from: this instance's creates, other instances' or a catch-up with the table.
+ */
+public class CategoryIdFilter implements MeterBinder {
+
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter active;
+    private volatile BloomFilter loading;
+
+    private final List<Consumer<CategoryID>> listeners = new CopyOnWriteArrayList<>();
+
+    public CategoryIdFilter(final long expectedInsertions, final double falsePositiveRate) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public boolean isReady() {
+        return this.active != null;
+    }
+
+    public boolean mightContain(final CategoryID id) {
+        final var filter = this.active;
+        return filter == null || filter.mightContain(id.getValue());
+    }
+
+    public void add(final CategoryID id) {
+        final var loading = this.loading;
+        if (loading != null) {
+            loading.add(id.getValue());
+        }
+        final var active = this.active;
+        if (active != null) {
+            active.add(id.getValue());
+        }
+        this.listeners.forEach(listener -> listener.accept(id));
+    }
+
+    /**
+     * Calls {@code listener} with every ID passed to {@link #add(CategoryID)}, once it is in the filter.
+     */
+    public void subscribe(final Consumer<CategoryID> listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Starts a new filter with room for {@code existingIds} plus the configured headroom, whichever is larger.
+     */
+    public void beginLoad(final long existingIds) {
+        this.loading = BloomFilter.create(Math.max(this.expectedInsertions, existingIds * 2), this.falsePositiveRate);
+    }
+
+    public void addLoaded(final String id) {
+        this.loading.add(id);
+    }
+
+    public void finishLoad() {
+        this.active = this.loading;
+        this.loading = null;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("category.existence.filter.size", this, it -> it.active == null ? 0 : it.active.sizeInBytes())
+                .description("Memory taken by the filter of existing category IDs")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("category.existence.filter.false-positive.rate", this, it -> it.falsePositiveRate)
+                .description("False-positive rate the filter of existing category IDs is sized for")
+                .tag("kind", "configured")
+                .register(registry);
+        Gauge.builder("category.existence.filter.false-positive.rate", this,
+                        it -> it.active == null ? 0 : it.active.expectedFalsePositiveRate())
+                .description("False-positive rate of the filter of existing category IDs, estimated from its fill")
+                .tag("kind", "estimated")
+                .register(registry);
+    }
+}
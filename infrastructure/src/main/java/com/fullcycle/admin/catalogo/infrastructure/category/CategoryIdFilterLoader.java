@@ -0,0 +1,114 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills {@link CategoryIdFilter} from the category table, reading only IDs, and then keeps adding the categories
+ * created by other instances, which never go through this instance's gateway.
+ * <p>
+ * The catch-up reads the IDs created since the previous pass started, minus {@code overlap}, so a transaction that
+ * commits late or a clock running behind on another instance still gets picked up. Reading an ID twice is harmless.
+ * The IDs it adds reach the filter's subscribers, so a lookup remembered as missing before the catch-up is asked again.
+ */
+public class CategoryIdFilterLoader implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryIdFilterLoader.class);
+
+    private final CategoryRepository repository;
+    private final JdbcTemplate jdbc;
+    private final CategoryIdFilter filter;
+    private final int batchSize;
+    private final Duration overlap;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile Instant syncedAt;
+
+    public CategoryIdFilterLoader(
+            final CategoryRepository repository,
+            final DataSource dataSource,
+            final CategoryIdFilter filter,
+            final int batchSize,
+            final Duration overlap
+    ) {
+        this.repository = repository;
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.filter = filter;
+        this.batchSize = batchSize;
+        this.overlap = overlap;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "category-id-filter-load");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public long load() {
+        final var startedAt = System.nanoTime();
+        final var syncedAt = Instant.now();
+        this.filter.beginLoad(CategoryGatewaySupport.estimateRows(this.jdbc).orElse(0));
+
+        var loaded = 0L;
+        var afterId = "";
+        while (true) {
+            final var ids = this.repository.findIdsAfter(afterId, PageRequest.of(0, this.batchSize));
+            ids.forEach(this.filter::addLoaded);
+            loaded += ids.size();
+            if (ids.size() < this.batchSize) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        this.filter.finishLoad();
+        this.syncedAt = syncedAt;
+        log.info("Category ID filter loaded: {} IDs in {} ms", loaded,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return loaded;
+    }
+
+    /**
+     * Adds the IDs created since the last pass, loading the whole filter when it was never loaded.
+     *
+     * @return how many IDs were read.
+     */
+    public long catchUp() {
+        if (this.syncedAt == null) {
+            return load();
+        }
+        final var syncedAt = Instant.now();
+        final var ids = this.repository.findIdsCreatedSince(this.syncedAt.minus(this.overlap));
+        ids.forEach(id -> this.filter.add(CategoryID.from(id)));
+        this.syncedAt = syncedAt;
+        return ids.size();
+    }
+
+    /**
+     * Loads the filter in background and then catches up every {@code interval}.
+     */
+    public void start(final Duration interval) {
+        this.scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                catchUp();
+            } catch (final RuntimeException ex) {
+                log.warn("Category ID filter catch-up failed, retrying in {}", interval, ex);
+            }
+        }, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        this.scheduler.shutdownNow();
+    }
+}
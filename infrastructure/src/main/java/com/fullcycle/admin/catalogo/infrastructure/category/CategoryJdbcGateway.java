@@ -0,0 +1,432 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryBatchResult;
+import com.fullcycle.admin.catalogo.domain.category.CategoryField;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.CountStrategy;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.utils.SearchNormalizer;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryGatewaySupport.Filter;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeLog;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeType;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategorySortField;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * {@link CategoryGateway} over plain JDBC: the SQL of each query shape is built once and cached, and result sets are
+ * mapped straight to {@link Category}, with no persistence context, dirty checking or Criteria query in between.
+ * <p>
+ * Behaves as {@link CategoryMySQLGateway}: same version checks and errors, same {@code category_change} rows, same
+ * sort allowlist, keyset cursors and count strategies, in the same transactions. Selected with the {@code jdbc}
+ * profile.
+ */
+public class CategoryJdbcGateway implements CategoryGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryJdbcGateway.class);
+
+    private static final String COLUMNS =
+            "c.id, c.name, c.description, c.active, c.created_at, c.updated_at, c.deleted_at, c.version";
+    private static final String INSERT = "INSERT INTO category"
+            + " (id, name, name_search, description, description_search, active, created_at, updated_at, deleted_at, version)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_BY_ID = "SELECT " + COLUMNS + " FROM category c WHERE c.id = ?";
+    private static final String EXISTS_BY_ID = "SELECT COUNT(*) FROM category c WHERE c.id = ?";
+    private static final String DELETE_BY_ID = "DELETE FROM category WHERE id = ?";
+
+    private final JdbcTemplate jdbc;
+    private final CategoryGatewaySupport support;
+    private final CategoryChangeLog changeLog;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+    private final int multiGetChunkSize;
+
+    // SQL by query shape, there are only a few dozen of each
+    private final Map<QueryShape, String> selects = new ConcurrentHashMap<>();
+    private final Map<Filter, String> counts = new ConcurrentHashMap<>();
+    private final Map<Set<CategoryField>, String> updates = new ConcurrentHashMap<>();
+    private final Map<Integer, String> multiGets = new ConcurrentHashMap<>();
+
+    public CategoryJdbcGateway(
+            final DataSource dataSource,
+            final CatalogGeneration generation,
+            final CategoryChangeLog changeLog,
+            final PlatformTransactionManager transactionManager,
+            final int chunkSize,
+            final int countParallelism,
+            final int multiGetChunkSize
+    ) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.support = new CategoryGatewaySupport(generation, countParallelism, "category-jdbc-count");
+        this.changeLog = changeLog;
+        // The change log row has to commit or roll back with the write it records
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+        this.multiGetChunkSize = multiGetChunkSize;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        this.support.shutdown();
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return this.writeTransaction.execute(status -> {
+            this.jdbc.update(INSERT, statement -> bindInsert(statement, category));
+            this.changeLog.append(CategoryChangeType.CREATED, List.of(category.getId()));
+            this.support.bumpGeneration();
+            return stored(category, category.getVersion());
+        });
+    }
+
+    @Override
+    public CategoryBatchResult createAll(final List<Category> categories) {
+        final var created = new ArrayList<Category>(categories.size());
+        final var rejected = new LinkedHashMap<CategoryID, Error>();
+        for (var from = 0; from < categories.size(); from += this.chunkSize) {
+            final var chunk = categories.subList(from, Math.min(from + this.chunkSize, categories.size()));
+            try {
+                created.addAll(insertChunk(chunk));
+            } catch (final DataIntegrityViolationException ex) {
+                // One bad row fails the whole batch, so the chunk is retried row by row to save the others. Anything
+                // else (lost connection, pool timeout, deadlock) would fail every row again and goes to the caller.
+                log.warn("Category batch insert failed, retrying {} rows one by one: {}", chunk.size(), ex.getMessage());
+                chunk.forEach(category -> insertAlone(category, created, rejected));
+            }
+        }
+        return new CategoryBatchResult(created, rejected);
+    }
+
+    private List<Category> insertChunk(final List<Category> chunk) {
+        return this.chunkTransaction.execute(status -> {
+            this.jdbc.batchUpdate(INSERT, chunk, chunk.size(), CategoryJdbcGateway::bindInsert);
+            this.changeLog.append(CategoryChangeType.CREATED, chunk.stream().map(Category::getId).toList());
+            this.support.bumpGeneration();
+            return chunk;
+        });
+    }
+
+    private void insertAlone(final Category category, final List<Category> created, final Map<CategoryID, Error> rejected) {
+        try {
+            created.addAll(insertChunk(List.of(category)));
+        } catch (final DataIntegrityViolationException ex) {
+            final var cause = ex.getMostSpecificCause().getMessage();
+            log.warn("Category {} could not be inserted: {}", category.getId().getValue(), cause);
+            rejected.put(category.getId(), new Error("Category '%s' could not be persisted: %s".formatted(category.getName(), cause)));
+        }
+    }
+
+    @Override
+    public Category update(final Category category) {
+        if (!category.hasChanges()) {
+            // Nothing to write, not even updated_at: the stored row already is this category
+            return category;
+        }
+
+        final var fields = category.getChanges();
+        final var sql = this.updates.computeIfAbsent(EnumSet.copyOf(fields), CategoryJdbcGateway::updateSql);
+        return this.writeTransaction.execute(status -> {
+            final var id = category.getId().getValue();
+            final var updated = this.jdbc.update(sql, statement -> {
+                var index = 1;
+                if (fields.contains(CategoryField.NAME)) {
+                    statement.setString(index++, category.getName());
+                    statement.setString(index++, SearchNormalizer.normalize(category.getName()));
+                }
+                if (fields.contains(CategoryField.DESCRIPTION)) {
+                    statement.setString(index++, category.getDescription());
+                    statement.setString(index++, SearchNormalizer.normalize(category.getDescription()));
+                }
+                if (fields.contains(CategoryField.ACTIVE)) {
+                    statement.setBoolean(index++, category.isActive());
+                    statement.setTimestamp(index++, timestamp(category.getDeletedAt()));
+                }
+                statement.setTimestamp(index++, timestamp(category.getUpdatedAt()));
+                statement.setString(index++, id);
+                statement.setLong(index, category.getVersion());
+            });
+            if (updated == 0) {
+                // Only the unhappy path pays for telling a stale version apart from a missing row
+                final var existing = this.jdbc.queryForObject(EXISTS_BY_ID, Long.class, id);
+                if (existing != null && existing > 0) {
+                    throw ConflictException.with("Category with ID %s was changed concurrently, version %d is stale"
+                            .formatted(id, category.getVersion()));
+                }
+                throw DomainException.with(new Error("Category with ID %s was not found".formatted(id)));
+            }
+            this.changeLog.append(CategoryChangeType.UPDATED, List.of(category.getId()));
+            this.support.bumpGeneration();
+            return stored(category, category.getVersion() + 1);
+        });
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        this.writeTransaction.executeWithoutResult(status -> {
+            if (this.jdbc.update(DELETE_BY_ID, id.getValue()) > 0) {
+                this.changeLog.append(CategoryChangeType.DELETED, List.of(id));
+                this.support.bumpGeneration();
+            }
+        });
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return this.jdbc.query(SELECT_BY_ID, CategoryJdbcGateway::toCategory, id.getValue()).stream().findFirst();
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> ids) {
+        final var distinctIds = ids.stream().map(CategoryID::getValue).distinct().toList();
+        final var found = new ArrayList<Category>(distinctIds.size());
+        // Bounded IN lists: a huge one is slow to parse and can go past max_allowed_packet
+        for (var from = 0; from < distinctIds.size(); from += this.multiGetChunkSize) {
+            final var chunk = distinctIds.subList(from, Math.min(from + this.multiGetChunkSize, distinctIds.size()));
+            final var sql = this.multiGets.computeIfAbsent(chunk.size(), size ->
+                    "SELECT " + COLUMNS + " FROM category c WHERE c.id IN (" + String.join(",", Collections.nCopies(size, "?")) + ")");
+            found.addAll(this.jdbc.query(sql, CategoryJdbcGateway::toCategory, chunk.toArray()));
+        }
+        return found;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        // Only allowlisted keys, anything else would sort without an index
+        final var sort = CategorySortField.of(query.sort());
+        final var ascending = org.springframework.data.domain.Sort.Direction.fromString(query.direction()).isAscending();
+        final var filter = Filter.of(query);
+        final var terms = filter == Filter.NONE ? null : SearchNormalizer.normalize(query.terms());
+
+        if (query.count() == CountStrategy.WINDOW && !query.isCursorBased()) {
+            return findPageWithWindowCount(query, sort, ascending, filter, terms);
+        }
+
+        final var total = this.support.count(query, () -> count(filter, terms), () -> estimateRows(this.jdbc));
+
+        final var parameters = new ArrayList<>(filterParameters(filter, terms));
+        final long offset;
+        if (query.isCursorBased()) {
+            parameters.addAll(seekParameters(query, sort));
+            offset = 0;
+        } else {
+            offset = (long) query.page() * query.perPage();
+        }
+        // Reads one extra row just to know whether there is a next page
+        parameters.add(query.perPage() + 1);
+        parameters.add(offset);
+
+        final var shape = new QueryShape(sort, ascending, filter, query.isCursorBased(), false);
+        final var rows = this.jdbc.query(select(shape), CategoryJdbcGateway::toCategory, parameters.toArray());
+        final var hasNext = rows.size() > query.perPage();
+        final var pageRows = hasNext ? rows.subList(0, query.perPage()) : rows;
+        final var nextCursor = hasNext ? cursorAfter(sort, pageRows) : null;
+
+        final var count = join(total);
+        final var lowerBound = offset + pageRows.size() + (hasNext ? 1 : 0);
+
+        return new Pagination<>(
+                query.page(),
+                query.perPage(),
+                count.atLeast(lowerBound),
+                List.copyOf(pageRows),
+                nextCursor,
+                count.exact()
+        );
+    }
+
+    private Pagination<Category> findPageWithWindowCount(
+            final CategorySearchQuery query,
+            final CategorySortField sort,
+            final boolean ascending,
+            final Filter filter,
+            final String terms
+    ) {
+        final var offset = (long) query.page() * query.perPage();
+        final var parameters = new ArrayList<>(filterParameters(filter, terms));
+        parameters.add(query.perPage());
+        parameters.add(offset);
+
+        final var shape = new QueryShape(sort, ascending, filter, false, true);
+        final var totals = new long[1];
+        final var rows = this.jdbc.query(select(shape), (rs, rowNum) -> {
+            totals[0] = rs.getLong("total_count");
+            return toCategory(rs, rowNum);
+        }, parameters.toArray());
+        // A page past the end has no row to carry the window total: counted on its own, as the JPA gateway does
+        final var total = !rows.isEmpty() || offset == 0 ? totals[0] : count(filter, terms);
+        final var hasNext = offset + rows.size() < total;
+
+        return new Pagination<>(
+                query.page(),
+                query.perPage(),
+                total,
+                rows,
+                hasNext ? cursorAfter(sort, rows) : null,
+                true
+        );
+    }
+
+    private long count(final Filter filter, final String terms) {
+        final var sql = this.counts.computeIfAbsent(filter, it -> "SELECT COUNT(*) FROM category c" + it.where("?"));
+        final Long count = this.jdbc.queryForObject(sql, Long.class, filterParameters(filter, terms).toArray());
+        return count == null ? 0 : count;
+    }
+
+    private String select(final QueryShape shape) {
+        return this.selects.computeIfAbsent(shape, QueryShape::sql);
+    }
+
+    private static List<Object> seekParameters(final CategorySearchQuery query, final CategorySortField sort) {
+        final var cursor = CategoryCursor.decode(query.after());
+        if (!cursor.sort().property().equals(query.sort())) {
+            throw DomainException.with(new Error("'after' cursor was issued for sort '%s'".formatted(cursor.sort().property())));
+        }
+        if (sort == CategorySortField.ID) {
+            return List.of(cursor.id());
+        }
+        final var value = cursor.typedValue() instanceof Instant instant ? Timestamp.from(instant) : cursor.typedValue();
+        return List.of(value, value, cursor.id());
+    }
+
+    private static String cursorAfter(final CategorySortField sort, final List<Category> page) {
+        return CategoryCursor.of(sort, CategoryJpaEntity.from(page.get(page.size() - 1))).encode();
+    }
+
+    private static String updateSql(final Set<CategoryField> fields) {
+        final var assignments = new StringJoiner(", ", "UPDATE category SET ", "");
+        if (fields.contains(CategoryField.NAME)) {
+            assignments.add("name = ?").add("name_search = ?");
+        }
+        if (fields.contains(CategoryField.DESCRIPTION)) {
+            assignments.add("description = ?").add("description_search = ?");
+        }
+        if (fields.contains(CategoryField.ACTIVE)) {
+            assignments.add("active = ?").add("deleted_at = ?");
+        }
+        assignments.add("updated_at = ?").add("version = version + 1");
+        return assignments + " WHERE id = ? AND version = ?";
+    }
+
+    private static void bindInsert(final PreparedStatement statement, final Category category) throws SQLException {
+        statement.setString(1, category.getId().getValue());
+        statement.setString(2, category.getName());
+        statement.setString(3, SearchNormalizer.normalize(category.getName()));
+        statement.setString(4, category.getDescription());
+        statement.setString(5, SearchNormalizer.normalize(category.getDescription()));
+        statement.setBoolean(6, category.isActive());
+        statement.setTimestamp(7, timestamp(category.getCreatedAt()));
+        statement.setTimestamp(8, timestamp(category.getUpdatedAt()));
+        statement.setTimestamp(9, timestamp(category.getDeletedAt()));
+        statement.setLong(10, category.getVersion());
+    }
+
+    private static Category toCategory(final ResultSet rs, final int rowNum) throws SQLException {
+        return Category.with(
+                CategoryID.from(rs.getString(1)),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getBoolean(4),
+                rs.getTimestamp(5).toInstant(),
+                rs.getTimestamp(6).toInstant(),
+                instant(rs.getTimestamp(7)),
+                rs.getLong(8)
+        );
+    }
+
+    /**
+     * {@code category} as read back from the table: at {@code version} and with nothing left to write.
+     */
+    private static Category stored(final Category category, final long version) {
+        return Category.with(
+                category.getId(),
+                category.getName(),
+                category.getDescription(),
+                category.isActive(),
+                category.getCreatedAt(),
+                category.getUpdatedAt(),
+                category.getDeletedAt(),
+                version
+        );
+    }
+
+    private static Timestamp timestamp(final Instant instant) {
+        return instant == null ? null : Timestamp.from(instant);
+    }
+
+    private static Instant instant(final Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
+    private static List<Object> filterParameters(final Filter filter, final String terms) {
+        return Collections.nCopies(filter.occurrences(), filter.pattern(terms));
+    }
+
+    private record QueryShape(CategorySortField sort, boolean ascending, Filter filter, boolean seek, boolean windowCount) {
+
+        String sql() {
+            final var direction = this.ascending ? " ASC" : " DESC";
+            final var sql = new StringBuilder("SELECT ").append(COLUMNS);
+            if (this.windowCount) {
+                sql.append(", COUNT(*) OVER() AS total_count");
+            }
+            sql.append(" FROM category c");
+
+            final var conditions = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+            if (this.filter != Filter.NONE) {
+                conditions.add(this.filter.condition("?"));
+            }
+            if (this.seek) {
+                // Rows strictly after (value, id) in the (column, id) order
+                final var operator = this.ascending ? " > ?" : " < ?";
+                final var column = "c." + this.sort.column();
+                conditions.add(this.sort == CategorySortField.ID
+                        ? "c.id" + operator
+                        : "(" + column + operator + " OR (" + column + " = ? AND c.id" + operator + "))");
+            }
+            sql.append(conditions);
+
+            // id as tie-breaker keeps the order stable between pages and makes it usable as a keyset
+            sql.append(" ORDER BY c.").append(this.sort.column()).append(direction);
+            if (this.sort != CategorySortField.ID) {
+                sql.append(", c.id").append(direction);
+            }
+            return sql.append(" LIMIT ? OFFSET ?").toString();
+        }
+    }
+}
@@ -1,48 +1,212 @@
 package com.fullcycle.admin.catalogo.infrastructure.category;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryBatchResult;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.CountStrategy;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.utils.SearchNormalizer;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryGatewaySupport.Filter;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeLog;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeType;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategorySortField;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 
-import static com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils.like;
+import static com.fullcycle.admin.catalogo.infrastructure.category.CategoryGatewaySupport.estimateRows;
+import static com.fullcycle.admin.catalogo.infrastructure.category.CategoryGatewaySupport.join;
+import static com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils.after;
+import static com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils.contains;
+import static com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils.startsWith;
 
 @Service
-public class CategoryMySQLGateway implements CategoryGateway {
+public class CategoryMySQLGateway implements CategoryGateway, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryMySQLGateway.class);
 
     private final CategoryRepository repository;
+    private final JdbcTemplate jdbc;
+    private final CategoryGatewaySupport support;
+    private final CategoryChangeLog changeLog;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+    private final int multiGetChunkSize;
+    private final LongAdder writtenUpdates = new LongAdder();
+    private final LongAdder skippedUpdates = new LongAdder();
 
-    public CategoryMySQLGateway(final CategoryRepository repository) {
+    public CategoryMySQLGateway(
+            final CategoryRepository repository,
+            final DataSource dataSource,
+            final CatalogGeneration generation,
+            final CategoryChangeLog changeLog,
+            final PlatformTransactionManager transactionManager,
+            @Value("${category.batch.chunk-size:500}") final int chunkSize,
+            @Value("${category.count.parallelism:4}") final int countParallelism,
+            @Value("${category.multi-get.chunk-size:500}") final int multiGetChunkSize
+    ) {
         this.repository = repository;
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.support = new CategoryGatewaySupport(generation, countParallelism, "category-count");
+        this.changeLog = changeLog;
+        // The change log row has to commit or roll back with the write it records
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+        this.multiGetChunkSize = multiGetChunkSize;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        this.support.shutdown();
+    }
+
+    public long writtenUpdates() {
+        return this.writtenUpdates.sum();
     }
 
-    private Category saveCategory(Category category) {
-        return this.repository.save(CategoryJpaEntity.from(category)).toAggregate();
+    /**
+     * Updates that changed nothing and were not sent to the database.
+     */
+    public long skippedUpdates() {
+        return this.skippedUpdates.sum();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("category.update.writes", this, CategoryMySQLGateway::writtenUpdates)
+                .description("Category updates sent to the database")
+                .tag("result", "written")
+                .register(registry);
+        FunctionCounter.builder("category.update.writes", this, CategoryMySQLGateway::skippedUpdates)
+                .description("Category updates sent to the database")
+                .tag("result", "skipped")
+                .register(registry);
+        Gauge.builder("category.update.skipped.ratio", this, CategoryMySQLGateway::skippedUpdateRatio)
+                .description("Share of category updates skipped because nothing changed, since startup")
+                .register(registry);
+    }
+
+    private double skippedUpdateRatio() {
+        final var skipped = skippedUpdates();
+        final var total = skipped + writtenUpdates();
+        return total == 0 ? 0 : (double) skipped / total;
     }
 
     @Override
     public Category create(final Category category) {
-        return saveCategory(category);
+        return this.writeTransaction.execute(status -> {
+            final var created = this.repository.save(CategoryJpaEntity.from(category).asNew()).toAggregate();
+            this.changeLog.append(CategoryChangeType.CREATED, List.of(created.getId()));
+            this.support.bumpGeneration();
+            return created;
+        });
+    }
+
+    @Override
+    public CategoryBatchResult createAll(final List<Category> categories) {
+        final var created = new ArrayList<Category>(categories.size());
+        final var rejected = new LinkedHashMap<CategoryID, Error>();
+        for (var from = 0; from < categories.size(); from += this.chunkSize) {
+            final var chunk = categories.subList(from, Math.min(from + this.chunkSize, categories.size()));
+            try {
+                created.addAll(insertChunk(chunk));
+            } catch (final DataIntegrityViolationException ex) {
+                // One bad row fails the whole batch, so the chunk is retried row by row to save the others. Anything
+                // else (lost connection, pool timeout, deadlock) would fail every row again and goes to the caller.
+                log.warn("Category batch insert failed, retrying {} rows one by one: {}", chunk.size(), ex.getMessage());
+                chunk.forEach(category -> insertAlone(category, created, rejected));
+            }
+        }
+        return new CategoryBatchResult(created, rejected);
+    }
+
+    private List<Category> insertChunk(final List<Category> chunk) {
+        return this.chunkTransaction.execute(status -> {
+            this.repository.insertAll(chunk.stream().map(CategoryJpaEntity::from).toList(), this.chunkSize);
+            this.changeLog.append(CategoryChangeType.CREATED, chunk.stream().map(Category::getId).toList());
+            this.support.bumpGeneration();
+            return chunk;
+        });
+    }
+
+    private void insertAlone(final Category category, final List<Category> created, final Map<CategoryID, Error> rejected) {
+        try {
+            created.addAll(insertChunk(List.of(category)));
+        } catch (final DataIntegrityViolationException ex) {
+            final var cause = ex.getMostSpecificCause().getMessage();
+            log.warn("Category {} could not be inserted: {}", category.getId().getValue(), cause);
+            rejected.put(category.getId(), new Error("Category '%s' could not be persisted: %s".formatted(category.getName(), cause)));
+        }
     }
 
     @Override
     public Category update(final Category category) {
-        return saveCategory(category);
+        if (!category.hasChanges()) {
+            // Nothing to write, not even updated_at: the stored row already is this category
+            this.skippedUpdates.increment();
+            return category;
+        }
+
+        return this.writeTransaction.execute(status -> {
+            final var entity = CategoryJpaEntity.from(category);
+            if (this.repository.update(entity, category.getChanges()) == 0) {
+                final var id = category.getId().getValue();
+                // Only the unhappy path pays for telling a stale version apart from a missing row
+                if (this.repository.existsById(id)) {
+                    throw ConflictException.with("Category with ID %s was changed concurrently, version %d is stale"
+                            .formatted(id, category.getVersion()));
+                }
+                throw DomainException.with(new Error("Category with ID %s was not found".formatted(id)));
+            }
+            this.changeLog.append(CategoryChangeType.UPDATED, List.of(category.getId()));
+            this.writtenUpdates.increment();
+            this.support.bumpGeneration();
+            entity.setVersion(entity.getVersion() + 1);
+            return entity.toAggregate();
+        });
     }
 
     @Override
     public void deleteById(final CategoryID id) {
-        final var idValue = id.getValue();
-        if (this.repository.existsById(idValue)) this.repository.deleteById(idValue);
+        this.writeTransaction.executeWithoutResult(status -> {
+            if (this.repository.deleteByIdReturningCount(id.getValue()) > 0) {
+                this.changeLog.append(CategoryChangeType.DELETED, List.of(id));
+                this.support.bumpGeneration();
+            }
+        });
     }
 
     @Override
@@ -50,33 +214,110 @@ public class CategoryMySQLGateway implements CategoryGateway {
         return this.repository.findById(id.getValue()).map(CategoryJpaEntity::toAggregate);
     }
 
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> ids) {
+        final var distinctIds = ids.stream().map(CategoryID::getValue).distinct().toList();
+        final var found = new ArrayList<Category>(distinctIds.size());
+        // Bounded IN lists: a huge one is slow to parse and can go past max_allowed_packet
+        for (var from = 0; from < distinctIds.size(); from += this.multiGetChunkSize) {
+            final var chunk = distinctIds.subList(from, Math.min(from + this.multiGetChunkSize, distinctIds.size()));
+            this.repository.findAllById(chunk).forEach(entity -> found.add(entity.toAggregate()));
+        }
+        return found;
+    }
+
     @Override
     public Pagination<Category> findAll(final CategorySearchQuery query) {
-        // Pagination
-        final var pageRequest = PageRequest.of(query.page(),
+        final var sort = sortOf(query);
+        if (query.count() == CountStrategy.WINDOW && !query.isCursorBased()) {
+            return findPageWithWindowCount(query, sort);
+        }
+
+        final var terms = Specification.where(termsSpecification(query));
+        final var total = this.support.count(query, () -> this.repository.count(terms), () -> estimateRows(this.jdbc));
+
+        final Specification<CategoryJpaEntity> where;
+        final long offset;
+        if (query.isCursorBased()) {
+            where = terms.and(seek(query));
+            offset = 0;
+        } else {
+            where = terms;
+            offset = (long) query.page() * query.perPage();
+        }
+
+        // Reads one extra row just to know whether there is a next page
+        final var rows = this.repository.findAll(where, sort, offset, query.perPage() + 1);
+        final var hasNext = rows.size() > query.perPage();
+        final var pageRows = hasNext ? rows.subList(0, query.perPage()) : rows;
+        final var nextCursor = hasNext
+                ? CategoryCursor.of(CategorySortField.of(query.sort()), pageRows.get(pageRows.size() - 1)).encode()
+                : null;
+
+        final var count = join(total);
+        final var lowerBound = offset + pageRows.size() + (hasNext ? 1 : 0);
+
+        return new Pagination<>(
+                query.page(),
                 query.perPage(),
-                Sort.by(Sort.Direction.fromString(query.direction()),
-                        query.sort())
+                count.atLeast(lowerBound),
+                pageRows.stream().map(CategoryJpaEntity::toAggregate).toList(),
+                nextCursor,
+                count.exact()
         );
+    }
+
+    private Pagination<Category> findPageWithWindowCount(final CategorySearchQuery query, final Sort sort) {
+        final var page = PageRequest.of(query.page(), query.perPage(), sort);
+        final var pageResult = this.repository.findAllWithWindowCount(SearchNormalizer.normalize(query.terms()), query.mode(), page);
+        final var nextCursor = pageResult.hasNext()
+                ? CategoryCursor.of(CategorySortField.of(query.sort()), pageResult.getContent().get(pageResult.getNumberOfElements() - 1)).encode()
+                : null;
 
-        // Dynamic Search
-        final var specifications = Optional.ofNullable(query.terms())
-                .filter(str -> !str.isBlank())
-                .map(str -> {
-                    final Specification<CategoryJpaEntity> nameLike = like("name", str);
-                    final Specification<CategoryJpaEntity> descriptionLike = like("description", str);
-                    return nameLike.or(descriptionLike);
-                })
-                .orElse(null);
-
-        final var pageResult = this.repository.findAll(Specification.where(specifications), pageRequest);
         return new Pagination<>(
                 pageResult.getNumber(),
                 pageResult.getSize(),
                 pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList()
+                pageResult.map(CategoryJpaEntity::toAggregate).toList(),
+                nextCursor,
+                true
         );
     }
 
+    private static Sort sortOf(final CategorySearchQuery query) {
+        // Only allowlisted keys, anything else would sort without an index
+        final var field = CategorySortField.of(query.sort());
+        final var direction = Sort.Direction.fromString(query.direction());
+        // id as tie-breaker keeps the order stable between pages and makes it usable as a keyset
+        return field == CategorySortField.ID
+                ? Sort.by(direction, field.attribute())
+                : Sort.by(direction, field.attribute()).and(Sort.by(direction, CategorySortField.ID.attribute()));
+    }
+
+    private static Specification<CategoryJpaEntity> termsSpecification(final CategorySearchQuery query) {
+        // Dynamic Search, always against the normalized columns
+        final var filter = Filter.of(query);
+        if (filter == Filter.NONE) {
+            return null;
+        }
+        final var terms = SearchNormalizer.normalize(query.terms());
+        if (filter == Filter.PREFIX) {
+            final Specification<CategoryJpaEntity> namePrefix = startsWith("nameSearch", terms);
+            return namePrefix;
+        }
+        final Specification<CategoryJpaEntity> nameLike = contains("nameSearch", terms);
+        final Specification<CategoryJpaEntity> descriptionLike = contains("descriptionSearch", terms);
+        return nameLike.or(descriptionLike);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Specification<CategoryJpaEntity> seek(final CategorySearchQuery query) {
+        final var cursor = CategoryCursor.decode(query.after());
+        if (!cursor.sort().property().equals(query.sort())) {
+            throw DomainException.with(new Error("'after' cursor was issued for sort '%s'".formatted(cursor.sort().property())));
+        }
 
+        final var ascending = Sort.Direction.fromString(query.direction()).isAscending();
+        return after(cursor.sort().attribute(), (Comparable) cursor.typedValue(), CategorySortField.ID.attribute(), cursor.id(), ascending);
+    }
 }
@@ -0,0 +1,217 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryBatchResult;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.isTransactionActive;
+
+/**
+ * Caches {@link CategoryGateway#findAll(CategorySearchQuery)} pages by normalized query, each one tagged with the
+ * {@link CatalogGeneration} read before it was loaded.
+ * <p>
+ * A page is fresh while the generation hasn't moved; the first write makes every cached page stale at once, without
+ * tracking which pages the write touched. A stale page is loaded again, unless it is hot (asked for at least
+ * {@code hotAfter} times) and was loaded less than {@code staleWhileRevalidate} ago: then it is returned as is and
+ * reloaded in background, so a hot page is never older than {@code staleWhileRevalidate}. Reads inside a transaction
+ * go straight to the delegate.
+ */
+public class CategoryPageCacheGateway implements CategoryGateway, MeterBinder {
+
+    public static final String CACHE_NAME = "category-pages";
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryPageCacheGateway.class);
+
+    private final CategoryGateway delegate;
+    private final CatalogGeneration generation;
+    private final long staleWhileRevalidateNanos;
+    private final int hotAfter;
+    private final Cache<CategoryQueryKey, Entry> pages;
+    private final ExecutorService refreshers;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    public CategoryPageCacheGateway(
+            final CategoryGateway delegate,
+            final CatalogGeneration generation,
+            final long maximumSize,
+            final Duration expireAfterAccess,
+            final Duration staleWhileRevalidate,
+            final int hotAfter,
+            final int refreshThreads
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.generation = Objects.requireNonNull(generation);
+        this.staleWhileRevalidateNanos = staleWhileRevalidate.toNanos();
+        this.hotAfter = hotAfter;
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        this.refreshers = Executors.newFixedThreadPool(refreshThreads, runnable -> {
+            final var thread = new Thread(runnable, "category-page-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return this.delegate.create(category);
+    }
+
+    @Override
+    public CategoryBatchResult createAll(final List<Category> categories) {
+        return this.delegate.createAll(categories);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return this.delegate.update(category);
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        this.delegate.deleteById(id);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return this.delegate.findById(id);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> ids) {
+        return this.delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        if (isTransactionActive()) {
+            return this.delegate.findAll(query);
+        }
+
+        final var key = CategoryQueryKey.of(query);
+        final var entry = this.pages.getIfPresent(key);
+        if (entry != null) {
+            final var uses = entry.uses.incrementAndGet();
+            if (entry.generation == this.generation.current()) {
+                this.hits.increment();
+                return copyOf(entry.page, query);
+            }
+            if (uses >= this.hotAfter && System.nanoTime() - entry.loadedAt < this.staleWhileRevalidateNanos) {
+                this.staleHits.increment();
+                refreshInBackground(key, query, entry);
+                return copyOf(entry.page, query);
+            }
+        }
+
+        this.misses.increment();
+        return copyOf(load(key, query, entry).page, query);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        final var lookupsByResult = Map.of(
+                "hit", this.hits,
+                "stale", this.staleHits,
+                "miss", this.misses
+        );
+        lookupsByResult.forEach((result, counter) ->
+                FunctionCounter.builder("category.page-cache.lookups", counter, LongAdder::sum)
+                        .description("Category list pages asked for, by how the page cache answered")
+                        .tag("result", result)
+                        .register(registry));
+        FunctionCounter.builder("category.page-cache.refreshes", this.refreshes, LongAdder::sum)
+                .description("Stale category list pages reloaded in background")
+                .register(registry);
+        CaffeineCacheMetrics.monitor(registry, this.pages, CACHE_NAME);
+    }
+
+    private Entry load(final CategoryQueryKey key, final CategorySearchQuery query, final Entry previous) {
+        // Read before the query: a write landing while it runs leaves the page already stale
+        final var generation = this.generation.current();
+        final var startedAt = System.nanoTime();
+        final var page = this.delegate.findAll(query);
+        final var loaded = new Entry(generation, page, startedAt, previous == null ? 0 : previous.uses.get());
+        // An older page never replaces one loaded at a later generation
+        return this.pages.asMap().merge(key, loaded,
+                (current, candidate) -> current.generation > candidate.generation ? current : candidate);
+    }
+
+    private void refreshInBackground(final CategoryQueryKey key, final CategorySearchQuery query, final Entry entry) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            this.refreshers.execute(() -> {
+                try {
+                    load(key, query, entry);
+                    this.refreshes.increment();
+                } catch (final RuntimeException ex) {
+                    log.warn("Failed to refresh category page {}", key, ex);
+                } finally {
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            entry.refreshing.set(false);
+        }
+    }
+
+    private static Pagination<Category> copyOf(final Pagination<Category> page, final CategorySearchQuery query) {
+        // Category is mutable, and cursor pages are shared by queries that only differ in the page number
+        return new Pagination<>(
+                query.page(),
+                page.perPage(),
+                page.total(),
+                page.items().stream().map(Category::with).toList(),
+                page.nextCursor(),
+                page.totalExact()
+        );
+    }
+
+    private static final class Entry {
+
+        private final long generation;
+        private final Pagination<Category> page;
+        private final long loadedAt;
+        private final AtomicLong uses;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(final long generation, final Pagination<Category> page, final long loadedAt, final long uses) {
+            this.generation = generation;
+            this.page = page;
+            this.loadedAt = loadedAt;
+            this.uses = new AtomicLong(uses);
+        }
+    }
+}
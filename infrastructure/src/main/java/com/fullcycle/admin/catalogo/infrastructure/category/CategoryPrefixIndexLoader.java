@@ -0,0 +1,98 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.suggest.CategoryPrefixIndex;
+import com.fullcycle.admin.catalogo.application.category.retrieve.suggest.CategorySuggestionOutput;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChange;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeListener;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills {@link CategoryPrefixIndex} from the category table, reading only IDs and names.
+ * <p>
+ * Writes made here reach the index directly; the ones other instances make are read back once per change poll.
+ */
+public class CategoryPrefixIndexLoader implements CategoryChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryPrefixIndexLoader.class);
+
+    private final CategoryRepository repository;
+    private final CategoryPrefixIndex index;
+    private final int batchSize;
+
+    // Only touched by the poller thread
+    private final Set<String> changedRemotely = new LinkedHashSet<>();
+
+    public CategoryPrefixIndexLoader(
+            final CategoryRepository repository,
+            final CategoryPrefixIndex index,
+            final int batchSize
+    ) {
+        this.repository = repository;
+        this.index = index;
+        this.batchSize = batchSize;
+    }
+
+    public int load() {
+        final var startedAt = System.nanoTime();
+        this.index.beginLoad();
+
+        final var categories = new ArrayList<CategorySuggestionOutput>();
+        var afterId = "";
+        while (true) {
+            final var rows = this.repository.findNamesAfter(afterId, PageRequest.of(0, this.batchSize));
+            rows.forEach(row -> categories.add(new CategorySuggestionOutput(CategoryID.from(row.getId()), row.getName())));
+            if (rows.size() < this.batchSize) {
+                break;
+            }
+            afterId = rows.get(rows.size() - 1).getId();
+        }
+
+        this.index.load(categories);
+        log.info("Category prefix index loaded: {} names in {} ms", categories.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return categories.size();
+    }
+
+    public CompletableFuture<Integer> loadAsync() {
+        return CompletableFuture.supplyAsync(this::load, runnable -> {
+            final var thread = new Thread(runnable, "category-prefix-index-load");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    @Override
+    public void onRemoteChange(final CategoryChange change) {
+        this.changedRemotely.add(change.id().getValue());
+    }
+
+    @Override
+    public void onPolled(final long appliedThrough) {
+        if (this.changedRemotely.isEmpty()) {
+            return;
+        }
+
+        final var found = this.repository.findAllById(List.copyOf(this.changedRemotely)).stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+        final var deleted = new HashSet<>(this.changedRemotely);
+        found.forEach(category -> deleted.remove(category.getId().getValue()));
+
+        this.index.onSavedAll(found);
+        deleted.forEach(id -> this.index.onDeleted(CategoryID.from(id)));
+        this.changedRemotely.clear();
+    }
+}
@@ -0,0 +1,36 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.CountStrategy;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchMode;
+import com.fullcycle.admin.catalogo.domain.utils.SearchNormalizer;
+
+import java.util.Locale;
+
+/**
+ * {@link CategorySearchQuery} with the differences that can't change the result folded away: terms are normalized
+ * like the search columns, the direction is case-insensitive and the page number is ignored when a cursor is given.
+ */
+record CategoryQueryKey(
+        int page,
+        int perPage,
+        String terms,
+        String sort,
+        String direction,
+        String after,
+        CountStrategy count,
+        SearchMode mode
+) {
+    static CategoryQueryKey of(final CategorySearchQuery query) {
+        return new CategoryQueryKey(
+                query.isCursorBased() ? 0 : query.page(),
+                query.perPage(),
+                query.hasTerms() ? SearchNormalizer.normalize(query.terms()) : null,
+                query.sort(),
+                query.direction() == null ? null : query.direction().toUpperCase(Locale.ROOT),
+                query.isCursorBased() ? query.after() : null,
+                query.count(),
+                query.mode()
+        );
+    }
+}
@@ -0,0 +1,428 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.application.category.ReactiveCategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryField;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.CountStrategy;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.utils.SearchNormalizer;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryGatewaySupport.Filter;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeLog;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeType;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategorySortField;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Row;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ReactiveCategoryGateway} over R2DBC: no thread waits on the database, a query holds a pooled connection only
+ * while it runs and the rest of the request goes on when its rows arrive.
+ * <p>
+ * Reads and writes the same table as the blocking gateways, with the same version checks, errors, sort allowlist,
+ * keyset cursors and count strategies, minus the estimates: {@link CountStrategy#ESTIMATED} counts exactly when
+ * there are no terms. Counts run on a second connection, concurrently with the page.
+ * <p>
+ * There are no caches here, and this instance's blocking caches, search index and read model don't see these writes
+ * directly. Each one appends its {@code category_change} row under a node ID of its own, so the change poller picks
+ * it up as if another instance had made it; with {@code category.cluster.enabled=false} they only catch up on expiry.
+ */
+public class CategoryR2dbcGateway implements ReactiveCategoryGateway {
+
+    private static final String COLUMNS =
+            "c.id, c.name, c.description, c.active, c.created_at, c.updated_at, c.deleted_at, c.version";
+    private static final String INSERT = "INSERT INTO category"
+            + " (id, name, name_search, description, description_search, active, created_at, updated_at, deleted_at, version)"
+            + " VALUES (:id, :name, :nameSearch, :description, :descriptionSearch, :active, :createdAt, :updatedAt, :deletedAt, :version)";
+    private static final String INSERT_CHANGE = "INSERT INTO category_change (category_id, change_type, node_id, created_at)"
+            + " VALUES (:categoryId, :changeType, :nodeId, :createdAt)";
+    private static final String SELECT_BY_ID = "SELECT " + COLUMNS + " FROM category c WHERE c.id = :id";
+    private static final String SELECT_BY_IDS = "SELECT " + COLUMNS + " FROM category c WHERE c.id IN (:ids)";
+    private static final String EXISTS_BY_ID = "SELECT COUNT(*) AS total FROM category c WHERE c.id = :id";
+    private static final String DELETE_BY_ID = "DELETE FROM category WHERE id = :id";
+
+    private final DatabaseClient client;
+    private final TransactionalOperator transactional;
+    private final CatalogGeneration generation;
+    private final CategoryGatewaySupport support;
+    private final CategoryChangeLog changeLog;
+    private final String nodeId;
+    private final ZoneId zone;
+    private final int multiGetChunkSize;
+
+    private final Map<QueryShape, String> selects = new ConcurrentHashMap<>();
+    private final Map<Set<CategoryField>, String> updates = new ConcurrentHashMap<>();
+
+    /**
+     * @param zone time zone the database keeps its {@code DATETIME} columns in, the one the JDBC URL sets.
+     */
+    public CategoryR2dbcGateway(
+            final ConnectionFactory connectionFactory,
+            final CatalogGeneration generation,
+            final CategoryChangeLog changeLog,
+            final ZoneId zone,
+            final int multiGetChunkSize
+    ) {
+        this.client = DatabaseClient.create(connectionFactory);
+        this.transactional = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+        this.generation = generation;
+        this.support = new CategoryGatewaySupport(generation);
+        this.changeLog = changeLog;
+        // Not the instance's own ID, or its change poller would skip these writes
+        this.nodeId = UUID.randomUUID().toString();
+        this.zone = zone;
+        this.multiGetChunkSize = multiGetChunkSize;
+    }
+
+    /**
+     * Node ID of the {@code category_change} rows this gateway writes.
+     */
+    public String nodeId() {
+        return this.nodeId;
+    }
+
+    @Override
+    public Mono<Category> create(final Category category) {
+        final var insert = bind(this.client.sql(INSERT), Map.of(
+                "id", Parameter.from(category.getId().getValue()),
+                "name", Parameter.fromOrEmpty(category.getName(), String.class),
+                "nameSearch", Parameter.fromOrEmpty(SearchNormalizer.normalize(category.getName()), String.class),
+                "description", Parameter.fromOrEmpty(category.getDescription(), String.class),
+                "descriptionSearch", Parameter.fromOrEmpty(SearchNormalizer.normalize(category.getDescription()), String.class),
+                "active", Parameter.from(category.isActive()),
+                "createdAt", timestamp(category.getCreatedAt()),
+                "updatedAt", timestamp(category.getUpdatedAt()),
+                "deletedAt", timestamp(category.getDeletedAt()),
+                "version", Parameter.from(category.getVersion())
+        ));
+        return insert.fetch().rowsUpdated()
+                .then(Mono.defer(() -> recordChange(CategoryChangeType.CREATED, category.getId())))
+                .as(this.transactional::transactional)
+                .then(Mono.fromSupplier(() -> committed(category, category.getVersion())));
+    }
+
+    @Override
+    public Mono<Category> update(final Category category) {
+        if (!category.hasChanges()) {
+            // Nothing to write, not even updated_at: the stored row already is this category
+            return Mono.just(category);
+        }
+
+        final var fields = category.getChanges();
+        final var parameters = new LinkedHashMap<String, Parameter>();
+        if (fields.contains(CategoryField.NAME)) {
+            parameters.put("name", Parameter.fromOrEmpty(category.getName(), String.class));
+            parameters.put("nameSearch", Parameter.fromOrEmpty(SearchNormalizer.normalize(category.getName()), String.class));
+        }
+        if (fields.contains(CategoryField.DESCRIPTION)) {
+            parameters.put("description", Parameter.fromOrEmpty(category.getDescription(), String.class));
+            parameters.put("descriptionSearch", Parameter.fromOrEmpty(SearchNormalizer.normalize(category.getDescription()), String.class));
+        }
+        if (fields.contains(CategoryField.ACTIVE)) {
+            parameters.put("active", Parameter.from(category.isActive()));
+            parameters.put("deletedAt", timestamp(category.getDeletedAt()));
+        }
+        parameters.put("updatedAt", timestamp(category.getUpdatedAt()));
+        parameters.put("id", Parameter.from(category.getId().getValue()));
+        parameters.put("version", Parameter.from(category.getVersion()));
+
+        final var sql = this.updates.computeIfAbsent(EnumSet.copyOf(fields), CategoryR2dbcGateway::updateSql);
+        return bind(this.client.sql(sql), parameters).fetch().rowsUpdated()
+                .flatMap(updated -> updated > 0
+                        ? recordChange(CategoryChangeType.UPDATED, category.getId())
+                        : missingOrStale(category))
+                .as(this.transactional::transactional)
+                .then(Mono.fromSupplier(() -> committed(category, category.getVersion() + 1)));
+    }
+
+    private Mono<Void> missingOrStale(final Category category) {
+        // Only the unhappy path pays for telling a stale version apart from a missing row
+        final var id = category.getId().getValue();
+        return this.client.sql(EXISTS_BY_ID)
+                .bind("id", id)
+                .map(row -> row.get("total", Long.class))
+                .one()
+                .flatMap(count -> Mono.error(count > 0
+                        ? ConflictException.with("Category with ID %s was changed concurrently, version %d is stale"
+                        .formatted(id, category.getVersion()))
+                        : DomainException.with(new Error("Category with ID %s was not found".formatted(id)))));
+    }
+
+    @Override
+    public Mono<Void> deleteById(final CategoryID id) {
+        return this.client.sql(DELETE_BY_ID)
+                .bind("id", id.getValue())
+                .fetch().rowsUpdated()
+                .flatMap(deleted -> deleted > 0
+                        ? recordChange(CategoryChangeType.DELETED, id).thenReturn(true)
+                        : Mono.just(false))
+                .as(this.transactional::transactional)
+                .doOnNext(deleted -> {
+                    if (deleted) this.generation.next();
+                })
+                .then();
+    }
+
+    @Override
+    public Mono<Category> findById(final CategoryID id) {
+        return this.client.sql(SELECT_BY_ID)
+                .bind("id", id.getValue())
+                .map(this::toCategory)
+                .one();
+    }
+
+    @Override
+    public Flux<Category> findAllByIds(final Collection<CategoryID> ids) {
+        final var distinctIds = ids.stream().map(CategoryID::getValue).distinct().toList();
+        // Bounded IN lists: a huge one is slow to parse and can go past max_allowed_packet
+        return Flux.range(0, (distinctIds.size() + this.multiGetChunkSize - 1) / this.multiGetChunkSize)
+                .map(chunk -> distinctIds.subList(
+                        chunk * this.multiGetChunkSize,
+                        Math.min((chunk + 1) * this.multiGetChunkSize, distinctIds.size())))
+                .concatMap(chunk -> this.client.sql(SELECT_BY_IDS).bind("ids", chunk).map(this::toCategory).all());
+    }
+
+    @Override
+    public Mono<Pagination<Category>> findAll(final CategorySearchQuery query) {
+        return Mono.defer(() -> {
+            // Only allowlisted keys, anything else would sort without an index
+            final var sort = CategorySortField.of(query.sort());
+            final var ascending = Sort.Direction.fromString(query.direction()).isAscending();
+            final var filter = Filter.of(query);
+            final var terms = filter == Filter.NONE ? null : SearchNormalizer.normalize(query.terms());
+
+            if (query.count() == CountStrategy.WINDOW && !query.isCursorBased()) {
+                return findPageWithWindowCount(query, sort, ascending, filter, terms);
+            }
+
+            final var parameters = new LinkedHashMap<>(filterParameters(filter, terms));
+            final long offset;
+            if (query.isCursorBased()) {
+                parameters.putAll(seekParameters(query, sort));
+                offset = 0;
+            } else {
+                offset = (long) query.page() * query.perPage();
+            }
+            // Reads one extra row just to know whether there is a next page
+            parameters.put("limit", Parameter.from(query.perPage() + 1));
+            parameters.put("offset", Parameter.from(offset));
+
+            final var shape = new QueryShape(sort, ascending, filter, query.isCursorBased(), false);
+            final var rows = bind(this.client.sql(select(shape)), parameters).map(this::toCategory).all().collectList();
+
+            return Mono.zip(rows, this.support.count(query, count(filter, terms))).map(result -> {
+                final var fetched = result.getT1();
+                final var count = result.getT2();
+                final var hasNext = fetched.size() > query.perPage();
+                final var pageRows = hasNext ? fetched.subList(0, query.perPage()) : fetched;
+                final var lowerBound = offset + pageRows.size() + (hasNext ? 1 : 0);
+                return new Pagination<>(
+                        query.page(),
+                        query.perPage(),
+                        count.atLeast(lowerBound),
+                        List.copyOf(pageRows),
+                        hasNext ? cursorAfter(sort, pageRows) : null,
+                        count.exact()
+                );
+            });
+        });
+    }
+
+    private Mono<Pagination<Category>> findPageWithWindowCount(
+            final CategorySearchQuery query,
+            final CategorySortField sort,
+            final boolean ascending,
+            final Filter filter,
+            final String terms
+    ) {
+        final var offset = (long) query.page() * query.perPage();
+        final var parameters = new LinkedHashMap<>(filterParameters(filter, terms));
+        parameters.put("limit", Parameter.from(query.perPage()));
+        parameters.put("offset", Parameter.from(offset));
+
+        final var shape = new QueryShape(sort, ascending, filter, false, true);
+        return bind(this.client.sql(select(shape)), parameters)
+                .map(row -> new CountedRow(toCategory(row), row.get("total_count", Long.class)))
+                .all()
+                .collectList()
+                .flatMap(rows -> {
+                    final var items = rows.stream().map(CountedRow::category).toList();
+                    // A page past the end has no row to carry the window total: counted on its own, as the other
+                    // gateways do
+                    final Mono<Long> total = !rows.isEmpty() ? Mono.just(rows.get(0).total())
+                            : offset == 0 ? Mono.just(0L)
+                            : count(filter, terms);
+                    return total.map(count -> {
+                        final var hasNext = offset + items.size() < count;
+                        return new Pagination<>(
+                                query.page(),
+                                query.perPage(),
+                                count,
+                                items,
+                                hasNext ? cursorAfter(sort, items) : null,
+                                true
+                        );
+                    });
+                });
+    }
+
+    private Mono<Long> count(final Filter filter, final String terms) {
+        return bind(this.client.sql("SELECT COUNT(*) AS total FROM category c" + filter.where(":terms")), filterParameters(filter, terms))
+                .map(row -> row.get("total", Long.class))
+                .one();
+    }
+
+    private Mono<Void> recordChange(final CategoryChangeType type, final CategoryID id) {
+        // Bumped again on commit: anything cached while the write was still in flight gets discarded too
+        this.generation.next();
+        if (!this.changeLog.isEnabled()) {
+            return Mono.empty();
+        }
+        return bind(this.client.sql(INSERT_CHANGE), Map.of(
+                "categoryId", Parameter.from(id.getValue()),
+                "changeType", Parameter.from(type.name()),
+                "nodeId", Parameter.from(this.nodeId),
+                "createdAt", timestamp(Instant.now())
+        )).then();
+    }
+
+    private Category committed(final Category category, final long version) {
+        this.generation.next();
+        return Category.with(
+                category.getId(),
+                category.getName(),
+                category.getDescription(),
+                category.isActive(),
+                category.getCreatedAt(),
+                category.getUpdatedAt(),
+                category.getDeletedAt(),
+                version
+        );
+    }
+
+    private String select(final QueryShape shape) {
+        return this.selects.computeIfAbsent(shape, QueryShape::sql);
+    }
+
+    private Map<String, Parameter> seekParameters(final CategorySearchQuery query, final CategorySortField sort) {
+        final var cursor = CategoryCursor.decode(query.after());
+        if (!cursor.sort().property().equals(query.sort())) {
+            throw DomainException.with(new Error("'after' cursor was issued for sort '%s'".formatted(cursor.sort().property())));
+        }
+        final var value = cursor.typedValue() instanceof Instant instant ? timestamp(instant) : Parameter.from(cursor.typedValue());
+        return sort == CategorySortField.ID
+                ? Map.of("afterId", Parameter.from(cursor.id()))
+                : Map.of("afterValue", value, "afterId", Parameter.from(cursor.id()));
+    }
+
+    private static String cursorAfter(final CategorySortField sort, final List<Category> page) {
+        return CategoryCursor.of(sort, CategoryJpaEntity.from(page.get(page.size() - 1))).encode();
+    }
+
+    private static Map<String, Parameter> filterParameters(final Filter filter, final String terms) {
+        return filter == Filter.NONE ? Map.of() : Map.of("terms", Parameter.from(filter.pattern(terms)));
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, final Map<String, Parameter> parameters) {
+        for (final var parameter : parameters.entrySet()) {
+            spec = spec.bind(parameter.getKey(), parameter.getValue());
+        }
+        return spec;
+    }
+
+    private static String updateSql(final Set<CategoryField> fields) {
+        final var assignments = new StringJoiner(", ", "UPDATE category SET ", "");
+        if (fields.contains(CategoryField.NAME)) {
+            assignments.add("name = :name").add("name_search = :nameSearch");
+        }
+        if (fields.contains(CategoryField.DESCRIPTION)) {
+            assignments.add("description = :description").add("description_search = :descriptionSearch");
+        }
+        if (fields.contains(CategoryField.ACTIVE)) {
+            assignments.add("active = :active").add("deleted_at = :deletedAt");
+        }
+        assignments.add("updated_at = :updatedAt").add("version = version + 1");
+        return assignments + " WHERE id = :id AND version = :version";
+    }
+
+    private Category toCategory(final Row row) {
+        return Category.with(
+                CategoryID.from(row.get("id", String.class)),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                Boolean.TRUE.equals(row.get("active", Boolean.class)),
+                instant(row.get("created_at", LocalDateTime.class)),
+                instant(row.get("updated_at", LocalDateTime.class)),
+                instant(row.get("deleted_at", LocalDateTime.class)),
+                row.get("version", Long.class)
+        );
+    }
+
+    private Parameter timestamp(final Instant instant) {
+        return Parameter.fromOrEmpty(instant == null ? null : LocalDateTime.ofInstant(instant, this.zone), LocalDateTime.class);
+    }
+
+    private Instant instant(final LocalDateTime timestamp) {
+        return timestamp == null ? null : timestamp.atZone(this.zone).toInstant();
+    }
+
+    private record QueryShape(CategorySortField sort, boolean ascending, Filter filter, boolean seek, boolean windowCount) {
+
+        String sql() {
+            final var direction = this.ascending ? " ASC" : " DESC";
+            final var sql = new StringBuilder("SELECT ").append(COLUMNS);
+            if (this.windowCount) {
+                sql.append(", COUNT(*) OVER() AS total_count");
+            }
+            sql.append(" FROM category c");
+
+            final var conditions = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+            if (this.filter != Filter.NONE) {
+                conditions.add(this.filter.condition(":terms"));
+            }
+            if (this.seek) {
+                // Rows strictly after (value, id) in the (column, id) order
+                final var operator = this.ascending ? " > " : " < ";
+                final var column = "c." + this.sort.column();
+                conditions.add(this.sort == CategorySortField.ID
+                        ? "c.id" + operator + ":afterId"
+                        : "(" + column + operator + ":afterValue OR (" + column + " = :afterValue AND c.id" + operator + ":afterId))");
+            }
+            sql.append(conditions);
+
+            // id as tie-breaker keeps the order stable between pages and makes it usable as a keyset
+            sql.append(" ORDER BY c.").append(this.sort.column()).append(direction);
+            if (this.sort != CategorySortField.ID) {
+                sql.append(", c.id").append(direction);
+            }
+            return sql.append(" LIMIT :limit OFFSET :offset").toString();
+        }
+    }
+
+    private record CountedRow(Category category, long total) {
+    }
+}
@@ -0,0 +1,183 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryBatchResult;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.isTransactionActive;
+
+/**
+ * Lets concurrent identical reads share one call to the delegate ("single flight").
+ * <p>
+ * A {@code findById} or {@code findAll} that finds the same ID, or the same normalized query, already in flight waits
+ * for that call and gets a copy of its result instead of running its own. Nothing is kept once the call returns, so
+ * this is not a cache: it only collapses the stampede of callers that miss at the same moment. Reads inside a
+ * transaction run on their own, and a committed write makes the next reads start a fresh call rather than join one
+ * that may have read the row before the write.
+ * <p>
+ * {@code findAll} flights are also keyed by the {@link CatalogGeneration} read when they start, so a caller that
+ * already sees a write's generation never joins a flight started before it. The generation moves in an after-commit
+ * hook that can run before this gateway's own, and callers above (the page cache) tag what they get with it.
+ */
+public class CategorySingleFlightGateway implements CategoryGateway, MeterBinder {
+
+    private final CategoryGateway delegate;
+    private final CatalogGeneration generation;
+
+    private final ConcurrentMap<CategoryID, CompletableFuture<Optional<Category>>> byId = new ConcurrentHashMap<>();
+    private final ConcurrentMap<QueryFlight, CompletableFuture<Pagination<Category>>> byQuery = new ConcurrentHashMap<>();
+
+    private final Flights findByIdFlights = new Flights();
+    private final Flights findAllFlights = new Flights();
+
+    public CategorySingleFlightGateway(final CategoryGateway delegate, final CatalogGeneration generation) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.generation = Objects.requireNonNull(generation);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var created = this.delegate.create(category);
+        afterCommit(() -> forget(created.getId()));
+        return created;
+    }
+
+    @Override
+    public CategoryBatchResult createAll(final List<Category> categories) {
+        final var result = this.delegate.createAll(categories);
+        afterCommit(this.byQuery::clear);
+        return result;
+    }
+
+    @Override
+    public Category update(final Category category) {
+        final var updated = this.delegate.update(category);
+        afterCommit(() -> forget(category.getId()));
+        return updated;
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        this.delegate.deleteById(id);
+        afterCommit(() -> forget(id));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        if (isTransactionActive()) {
+            return this.delegate.findById(id);
+        }
+        return flight(this.byId, id, () -> this.delegate.findById(id), this.findByIdFlights,
+                category -> category.map(Category::with));
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> ids) {
+        return this.delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        if (isTransactionActive()) {
+            return this.delegate.findAll(query);
+        }
+        final var key = new QueryFlight(CategoryQueryKey.of(query), this.generation.current());
+        return flight(this.byQuery, key, () -> this.delegate.findAll(query), this.findAllFlights,
+                page -> page.map(Category::with));
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        final var flightsByOperation = Map.of("findById", this.findByIdFlights, "findAll", this.findAllFlights);
+        flightsByOperation.forEach((operation, flights) -> {
+            FunctionCounter.builder("category.single-flight.calls", flights, it -> it.leaders.sum())
+                    .description("Category reads that reached the delegate")
+                    .tags("operation", operation, "result", "leader")
+                    .register(registry);
+            FunctionCounter.builder("category.single-flight.calls", flights, it -> it.joined.sum())
+                    .description("Category reads that shared the result of an identical read in flight")
+                    .tags("operation", operation, "result", "joined")
+                    .register(registry);
+            Gauge.builder("category.single-flight.coalesced.ratio", flights, Flights::coalescedRatio)
+                    .description("Share of category reads served by an identical read in flight, since startup")
+                    .tag("operation", operation)
+                    .register(registry);
+        });
+    }
+
+    private void forget(final CategoryID id) {
+        this.byId.remove(id);
+        this.byQuery.clear();
+    }
+
+    private static <K, V> V flight(
+            final ConcurrentMap<K, CompletableFuture<V>> inFlight,
+            final K key,
+            final Supplier<V> call,
+            final Flights flights,
+            final UnaryOperator<V> copy
+    ) {
+        final var mine = new CompletableFuture<V>();
+        final var existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            flights.joined.increment();
+            try {
+                // The leader keeps the instance it read, everyone else gets their own copy
+                return copy.apply(existing.join());
+            } catch (final CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw ex;
+            }
+        }
+
+        flights.leaders.increment();
+        try {
+            final var result = call.get();
+            mine.complete(result);
+            return result;
+        } catch (final RuntimeException | Error ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private record QueryFlight(CategoryQueryKey query, long generation) {
+    }
+
+    private static final class Flights {
+
+        private final LongAdder leaders = new LongAdder();
+        private final LongAdder joined = new LongAdder();
+
+        private double coalescedRatio() {
+            final var joined = this.joined.sum();
+            final var total = joined + this.leaders.sum();
+            return total == 0 ? 0 : (double) joined / total;
+        }
+    }
+}
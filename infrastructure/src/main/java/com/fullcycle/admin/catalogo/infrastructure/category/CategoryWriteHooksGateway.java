@@ -0,0 +1,72 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryBatchResult;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategoryWriteListener;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
+
+/**
+ * Notifies every {@link CategoryWriteListener} of the writes made through it, once they commit.
+ */
+public class CategoryWriteHooksGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final List<CategoryWriteListener> listeners;
+
+    public CategoryWriteHooksGateway(final CategoryGateway delegate, final List<CategoryWriteListener> listeners) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.listeners = List.copyOf(listeners);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var created = this.delegate.create(category);
+        afterCommit(() -> this.listeners.forEach(listener -> listener.onSaved(created)));
+        return created;
+    }
+
+    @Override
+    public CategoryBatchResult createAll(final List<Category> categories) {
+        final var result = this.delegate.createAll(categories);
+        afterCommit(() -> this.listeners.forEach(listener -> listener.onSavedAll(result.created())));
+        return result;
+    }
+
+    @Override
+    public Category update(final Category category) {
+        final var updated = this.delegate.update(category);
+        afterCommit(() -> this.listeners.forEach(listener -> listener.onSaved(updated)));
+        return updated;
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        this.delegate.deleteById(id);
+        afterCommit(() -> this.listeners.forEach(listener -> listener.onDeleted(id)));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return this.delegate.findById(id);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> ids) {
+        return this.delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return this.delegate.findAll(query);
+    }
+}
@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.cluster;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+
+import java.time.Instant;
+
+/**
+ * One committed write to a category, as recorded in the {@code category_change} table.
+ */
+public record CategoryChange(
+        long sequence,
+        CategoryID id,
+        CategoryChangeType type,
+        String nodeId,
+        Instant createdAt
+) {
+}
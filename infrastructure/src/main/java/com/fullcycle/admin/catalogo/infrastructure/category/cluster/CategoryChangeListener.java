@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.cluster;
+
+/**
+ * Something kept in memory that has to follow the writes made by other instances.
+ */
+public interface CategoryChangeListener {
+
+    void onRemoteChange(CategoryChange change);
+
+    /**
+     * Called after every poll with the sequence up to which every change has been applied, for state that outlives
+     * the process and has to know where to resume from.
+     */
+    default void onPolled(final long appliedThrough) {
+    }
+}
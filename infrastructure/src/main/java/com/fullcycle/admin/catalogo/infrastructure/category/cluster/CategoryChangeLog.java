@@ -0,0 +1,122 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.cluster;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The {@code category_change} table, through which instances tell each other what they wrote.
+ * <p>
+ * {@link #append(CategoryChangeType, Collection)} has to run in the transaction of the write it records, so a change
+ * is seen by the other instances exactly when the write is. Every instance gets a random node ID on startup, which
+ * lets it skip its own changes.
+ */
+@Component
+public class CategoryChangeLog {
+
+    private static final String INSERT =
+            "INSERT INTO category_change (category_id, change_type, node_id, created_at) VALUES (?, ?, ?, ?)";
+    private static final String SELECT_AFTER =
+            "SELECT seq, category_id, change_type, node_id, created_at FROM category_change WHERE seq > ? ORDER BY seq LIMIT ?";
+    private static final String SELECT_SEQUENCES =
+            "SELECT seq, category_id, change_type, node_id, created_at FROM category_change WHERE seq IN (%s) ORDER BY seq";
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final boolean enabled;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CategoryChangeLog(
+            final DataSource dataSource,
+            final PlatformTransactionManager transactionManager,
+            @Value("${category.cluster.enabled:true}") final boolean enabled
+    ) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+    }
+
+    public String nodeId() {
+        return this.nodeId;
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public void append(final CategoryChangeType type, final Collection<CategoryID> ids) {
+        if (!this.enabled || ids.isEmpty()) {
+            return;
+        }
+        final var createdAt = Timestamp.from(Instant.now());
+        final var rows = new ArrayList<CategoryID>(ids);
+        // Joins the transaction of the write when there is one
+        this.writeTransaction.executeWithoutResult(status ->
+                this.jdbc.batchUpdate(INSERT, rows, rows.size(), (statement, id) -> {
+                    statement.setString(1, id.getValue());
+                    statement.setString(2, type.name());
+                    statement.setString(3, this.nodeId);
+                    statement.setTimestamp(4, createdAt);
+                }));
+    }
+
+    /**
+     * Changes after {@code sequence}, by every instance, oldest first.
+     */
+    public List<CategoryChange> readAfter(final long sequence, final int limit) {
+        return this.readTransaction.execute(status -> this.jdbc.query(SELECT_AFTER, CategoryChangeLog::toChange, sequence, limit));
+    }
+
+    /**
+     * Whichever of {@code sequences} exist by now.
+     */
+    public List<CategoryChange> readSequences(final Collection<Long> sequences) {
+        if (sequences.isEmpty()) {
+            return List.of();
+        }
+        final var sql = SELECT_SEQUENCES.formatted(String.join(",", Collections.nCopies(sequences.size(), "?")));
+        return this.readTransaction.execute(status -> this.jdbc.query(sql, CategoryChangeLog::toChange, sequences.toArray()));
+    }
+
+    public long lastSequence() {
+        final Long last = this.readTransaction.execute(status ->
+                this.jdbc.queryForObject("SELECT MAX(seq) FROM category_change", Long.class));
+        return last == null ? 0 : last;
+    }
+
+    /**
+     * Deletes the changes older than {@code before}, which every instance has long applied.
+     */
+    public int purgeBefore(final Instant before) {
+        final Integer deleted = this.writeTransaction.execute(status ->
+                this.jdbc.update("DELETE FROM category_change WHERE created_at < ?", Timestamp.from(before)));
+        return deleted == null ? 0 : deleted;
+    }
+
+    private static CategoryChange toChange(final ResultSet rs, final int rowNum) throws SQLException {
+        return new CategoryChange(
+                rs.getLong("seq"),
+                CategoryID.from(rs.getString("category_id")),
+                CategoryChangeType.valueOf(rs.getString("change_type")),
+                rs.getString("node_id"),
+                rs.getTimestamp("created_at").toInstant()
+        );
+    }
+}
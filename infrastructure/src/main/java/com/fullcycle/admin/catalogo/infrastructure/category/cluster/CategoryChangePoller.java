@@ -0,0 +1,205 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.cluster;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.CatalogGeneration;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Applies the changes other instances write to {@link CategoryChangeLog}, every {@code pollInterval}.
+ * <p>
+ * Sequence numbers are handed out before commit, so a change may show up after later ones. A sequence skipped over
+ * is looked for again on every poll until {@code gapTimeout} has passed, which covers a transaction that commits
+ * late; after that it is taken for a rollback. A change shows up here at most {@code pollInterval} after its commit,
+ * and every change applied also moves {@link CatalogGeneration}, dropping whatever was derived from the whole catalog.
+ */
+public class CategoryChangePoller implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryChangePoller.class);
+
+    private final CategoryChangeLog changeLog;
+    private final CatalogGeneration generation;
+    private final int batchSize;
+    private final long gapTimeoutNanos;
+    private final List<CategoryChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler;
+
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder abandonedGaps = new LongAdder();
+    private final Timer lag;
+
+    // Only written by the polling thread
+    private long cursor;
+    private final Map<Long, Long> gaps = new ConcurrentHashMap<>();
+
+    public CategoryChangePoller(
+            final CategoryChangeLog changeLog,
+            final CatalogGeneration generation,
+            final int batchSize,
+            final Duration gapTimeout,
+            final MeterRegistry meterRegistry
+    ) {
+        this.changeLog = Objects.requireNonNull(changeLog);
+        this.generation = Objects.requireNonNull(generation);
+        this.batchSize = batchSize;
+        this.gapTimeoutNanos = gapTimeout.toNanos();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "category-change-poll");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        FunctionCounter.builder("category.cluster.changes.applied", this.applied, LongAdder::sum)
+                .description("Category changes made by other instances and applied here")
+                .register(meterRegistry);
+        FunctionCounter.builder("category.cluster.gaps.abandoned", this.abandonedGaps, LongAdder::sum)
+                .description("Sequence numbers never seen in the change log, taken for rolled back writes")
+                .register(meterRegistry);
+        Gauge.builder("category.cluster.gaps.pending", this.gaps, Map::size)
+                .description("Sequence numbers skipped over and still looked for in the change log")
+                .register(meterRegistry);
+        this.lag = Timer.builder("category.cluster.apply.lag")
+                .description("Time between a change being written by another instance and applied here")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public void subscribe(final CategoryChangeListener listener) {
+        this.listeners.add(Objects.requireNonNull(listener));
+    }
+
+    /**
+     * Skips the changes already in the log: whatever is loaded from now on is at least as recent as them.
+     */
+    public void startFromLatest() {
+        startFrom(this.changeLog.lastSequence());
+    }
+
+    /**
+     * Resumes after {@code sequence}: the next polls replay every change written since then.
+     */
+    public void startFrom(final long sequence) {
+        this.cursor = sequence;
+        this.gaps.clear();
+    }
+
+    /**
+     * Applies the changes that showed up since the last poll.
+     *
+     * @return how many changes made by other instances were applied.
+     */
+    public int poll() {
+        var remote = 0;
+        if (!this.gaps.isEmpty()) {
+            for (final var change : this.changeLog.readSequences(List.copyOf(this.gaps.keySet()))) {
+                this.gaps.remove(change.sequence());
+                remote += apply(change);
+            }
+        }
+
+        final var now = System.nanoTime();
+        while (true) {
+            final var changes = this.changeLog.readAfter(this.cursor, this.batchSize);
+            for (final var change : changes) {
+                // A jump wider than a batch is not a transaction in flight but the sequence skipping ahead
+                final var firstTracked = Math.max(this.cursor + 1, change.sequence() - this.batchSize);
+                this.abandonedGaps.add(firstTracked - this.cursor - 1);
+                for (var missing = firstTracked; missing < change.sequence(); missing++) {
+                    this.gaps.put(missing, now);
+                }
+                this.cursor = change.sequence();
+                remote += apply(change);
+            }
+            if (changes.size() < this.batchSize) {
+                break;
+            }
+        }
+
+        this.gaps.values().removeIf(seenAt -> {
+            final var abandoned = now - seenAt >= this.gapTimeoutNanos;
+            if (abandoned) {
+                this.abandonedGaps.increment();
+            }
+            return abandoned;
+        });
+
+        if (remote > 0) {
+            this.generation.next();
+        }
+        final var appliedThrough = appliedThrough();
+        this.listeners.forEach(listener -> listener.onPolled(appliedThrough));
+        return remote;
+    }
+
+    /**
+     * The sequence up to which every change was applied: the cursor, or right before the oldest gap still pending.
+     */
+    public long appliedThrough() {
+        return this.gaps.keySet().stream().mapToLong(Long::longValue).min().orElse(this.cursor + 1) - 1;
+    }
+
+    /**
+     * Starts from the latest change and polls every {@code interval} in background, and purges the changes older
+     * than {@code retention} every {@code purgeInterval}.
+     */
+    public void start(final Duration interval, final Duration retention, final Duration purgeInterval) {
+        start(OptionalLong.empty(), interval, retention, purgeInterval);
+    }
+
+    /**
+     * Same as {@link #start(Duration, Duration, Duration)}, but resuming after {@code from} when given.
+     */
+    public void start(
+            final OptionalLong from,
+            final Duration interval,
+            final Duration retention,
+            final Duration purgeInterval
+    ) {
+        this.scheduler.execute(() -> from.ifPresentOrElse(this::startFrom, this::startFromLatest));
+        this.scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                poll();
+            } catch (final RuntimeException ex) {
+                log.warn("Category change poll failed, retrying in {}", interval, ex);
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        this.scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                this.changeLog.purgeBefore(Instant.now().minus(retention));
+            } catch (final RuntimeException ex) {
+                log.warn("Category change purge failed", ex);
+            }
+        }, purgeInterval.toMillis(), purgeInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        this.scheduler.shutdownNow();
+    }
+
+    private int apply(final CategoryChange change) {
+        if (change.nodeId().equals(this.changeLog.nodeId())) {
+            return 0;
+        }
+        this.lag.record(Duration.between(change.createdAt(), Instant.now()));
+        this.applied.increment();
+        this.listeners.forEach(listener -> listener.onRemoteChange(change));
+        return 1;
+    }
+}
@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.cluster;
+
+public enum CategoryChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
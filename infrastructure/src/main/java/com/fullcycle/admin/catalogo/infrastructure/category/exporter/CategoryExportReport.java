@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.exporter;
+
+import java.time.Duration;
+
+/**
+ * @param rows    categories written.
+ * @param bytes   bytes written to the output, after compression.
+ * @param elapsed wall time of the whole export.
+ */
+public record CategoryExportReport(long rows, long bytes, Duration elapsed) {
+
+    public double rowsPerSecond() {
+        final var nanos = this.elapsed.toNanos();
+        return nanos == 0 ? 0 : this.rows * 1_000_000_000d / nanos;
+    }
+}
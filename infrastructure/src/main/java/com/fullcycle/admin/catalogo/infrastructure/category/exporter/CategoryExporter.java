@@ -0,0 +1,140 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.exporter;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes the whole category table as NDJSON, one object per line, in ID order.
+ * <p>
+ * Rows are read through a forward-only, read-only cursor and written straight from the {@link ResultSet} with the
+ * Jackson streaming generator: no entity, aggregate or output object is created per row and there is no OFFSET or
+ * COUNT query, so memory stays flat and the table is read once whatever its size. The fields are the ones read by
+ * {@code CategoryImportPipeline}, so an export can be imported back.
+ */
+public class CategoryExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryExporter.class);
+
+    private static final String SELECT_ALL = "SELECT id, name, description, active, created_at, updated_at, deleted_at"
+            + " FROM category ORDER BY id";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private static final JsonFactory JSON = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private final DataSource dataSource;
+    private final int fetchSize;
+
+    public CategoryExporter(final DataSource dataSource, final int fetchSize) {
+        this.dataSource = Objects.requireNonNull(dataSource);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Writes every category to {@code output}, gzipped when {@code gzip} is set. {@code output} is flushed but not
+     * closed.
+     */
+    public CategoryExportReport export(final OutputStream output, final boolean gzip) throws IOException {
+        final var startedAt = System.nanoTime();
+        final var counted = new CountingOutputStream(output);
+        final var target = gzip ? new GZIPOutputStream(counted, GZIP_BUFFER_SIZE) : counted;
+
+        final long rows;
+        try (final var json = JSON.createGenerator(target, JsonEncoding.UTF8)) {
+            json.setRootValueSeparator(null);
+            rows = write(json);
+        }
+        if (target instanceof GZIPOutputStream compressed) {
+            compressed.finish();
+        }
+        target.flush();
+
+        final var report = new CategoryExportReport(rows, counted.count, Duration.ofNanos(System.nanoTime() - startedAt));
+        log.info("Category export finished: {} rows, {} bytes in {} ms ({} rows/s)",
+                report.rows(), report.bytes(), report.elapsed().toMillis(), Math.round(report.rowsPerSecond()));
+        return report;
+    }
+
+    private long write(final JsonGenerator json) throws IOException {
+        try (final var connection = this.dataSource.getConnection();
+             final var statement = connection.prepareStatement(SELECT_ALL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(fetchSizeFor(connection));
+            try (final var rs = statement.executeQuery()) {
+                var rows = 0L;
+                while (rs.next()) {
+                    json.writeStartObject();
+                    json.writeStringField("id", rs.getString(1));
+                    json.writeStringField("name", rs.getString(2));
+                    json.writeStringField("description", rs.getString(3));
+                    json.writeBooleanField("is_active", rs.getBoolean(4));
+                    writeTimestamp(json, "created_at", rs.getTimestamp(5));
+                    writeTimestamp(json, "updated_at", rs.getTimestamp(6));
+                    writeTimestamp(json, "deleted_at", rs.getTimestamp(7));
+                    json.writeEndObject();
+                    json.writeRaw('\n');
+                    rows++;
+                }
+                return rows;
+            }
+        } catch (final SQLException ex) {
+            throw new IOException("Could not read categories to export", ex);
+        }
+    }
+
+    private int fetchSizeFor(final Connection connection) throws SQLException {
+        // Connector/J buffers the whole result set unless the fetch size is Integer.MIN_VALUE, which streams it row by row
+        return "MySQL".equals(connection.getMetaData().getDatabaseProductName()) ? Integer.MIN_VALUE : this.fetchSize;
+    }
+
+    private static void writeTimestamp(final JsonGenerator json, final String field, final Timestamp value) throws IOException {
+        if (value == null) {
+            json.writeNullField(field);
+        } else {
+            json.writeStringField(field, value.toInstant().toString());
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        private CountingOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            this.out.write(b);
+            this.count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            this.out.write(b, off, len);
+            this.count += len;
+        }
+
+        @Override
+        public void close() throws IOException {
+            // The caller owns the output
+            flush();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importer;
+
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+/**
+ * @param line   line of the input file where the rejected record starts, counting from 1.
+ * @param errors why it was rejected.
+ */
+public record CategoryImportError(long line, List<Error> errors) {
+
+    public static CategoryImportError with(final long line, final List<Error> errors) {
+        return new CategoryImportError(line, List.copyOf(errors));
+    }
+
+    public static CategoryImportError with(final long line, final String message) {
+        return new CategoryImportError(line, List.of(new Error(message)));
+    }
+}
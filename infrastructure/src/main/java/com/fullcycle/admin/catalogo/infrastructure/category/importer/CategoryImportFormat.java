@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importer;
+
+public enum CategoryImportFormat {
+    /**
+     * Comma separated values with a header row naming the {@code name}, {@code description} and {@code is_active}
+     * columns. Fields may be quoted, with {@code ""} for a quote inside them.
+     */
+    CSV,
+    /**
+     * One JSON object per line, with {@code name}, {@code description} and {@code is_active} properties.
+     */
+    NDJSON
+}
@@ -0,0 +1,227 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importer;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Imports categories from a CSV or NDJSON stream of any size.
+ * <p>
+ * Three stages run concurrently: the calling thread parses the input one record at a time, {@code parallelism}
+ * threads validate the records with the domain validator and one thread writes them through
+ * {@link CategoryGateway#createAll(List)} in batches of {@code batchSize}. Stages are linked by queues of
+ * {@code queueCapacity} records, so a slow database slows down the reading instead of piling records up in memory.
+ * Rejected records are handed to the error consumer as soon as they are found rather than collected, which keeps
+ * memory constant whatever the size of the input or the number of errors.
+ */
+public class CategoryImportPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryImportPipeline.class);
+
+    private static final CategoryImportRecord END_OF_RECORDS = CategoryImportRecord.unparseable(-1, "end");
+    private static final ValidRecord END_OF_VALID_RECORDS = new ValidRecord(-1, null);
+
+    private final CategoryGateway categoryGateway;
+    private final int parallelism;
+    private final int batchSize;
+    private final int queueCapacity;
+
+    public CategoryImportPipeline(
+            final CategoryGateway categoryGateway,
+            final int parallelism,
+            final int batchSize,
+            final int queueCapacity
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Imports every record of {@code input}, which is not closed.
+     *
+     * @param errors receives one {@link CategoryImportError} per rejected record, from the pipeline threads but never
+     *               concurrently.
+     */
+    public CategoryImportReport run(
+            final InputStream input,
+            final CategoryImportFormat format,
+            final Consumer<CategoryImportError> errors
+    ) throws IOException {
+        final var reader = CategoryImportReader.of(format, input);
+        final var run = new Run(errors);
+
+        final var workers = Executors.newFixedThreadPool(this.parallelism + 1, runnable -> {
+            final var thread = new Thread(runnable, "category-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final var startedAt = System.nanoTime();
+            final var writer = workers.submit(() -> write(run));
+            final var validators = new AtomicInteger(this.parallelism);
+            for (var i = 0; i < this.parallelism; i++) {
+                workers.submit(() -> validate(run, validators));
+            }
+
+            try {
+                read(reader, run);
+            } finally {
+                for (var i = 0; i < this.parallelism; i++) {
+                    run.records.put(END_OF_RECORDS);
+                }
+                await(writer);
+            }
+
+            final var report = new CategoryImportReport(
+                    run.read.get(),
+                    run.imported.get(),
+                    run.failed.get(),
+                    Duration.ofNanos(System.nanoTime() - startedAt)
+            );
+            log.info("Category import finished: {} read, {} imported, {} failed in {} ms ({} records/s)",
+                    report.read(), report.imported(), report.failed(), report.elapsed().toMillis(),
+                    Math.round(report.recordsPerSecond()));
+            return report;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Category import interrupted", ex);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private void read(final CategoryImportReader reader, final Run run) throws IOException, InterruptedException {
+        CategoryImportRecord record;
+        while ((record = reader.next()) != null) {
+            run.read.incrementAndGet();
+            run.records.put(record);
+        }
+    }
+
+    private Void validate(final Run run, final AtomicInteger validators) throws InterruptedException {
+        try {
+            while (true) {
+                final var record = run.records.take();
+                if (record == END_OF_RECORDS) {
+                    return null;
+                }
+                if (!record.isParsed()) {
+                    run.reject(CategoryImportError.with(record.line(), record.error()));
+                    continue;
+                }
+
+                final var category = Category.newCategory(record.name(), record.description(), record.active());
+                final var notification = Notification.create();
+                notification.validate(() -> category.validate(notification));
+                if (notification.hasError()) {
+                    run.reject(CategoryImportError.with(record.line(), notification.getErrors()));
+                } else {
+                    run.valid.put(new ValidRecord(record.line(), category));
+                }
+            }
+        } finally {
+            // The last validator to stop tells the writer nothing else is coming
+            if (validators.decrementAndGet() == 0) {
+                run.valid.put(END_OF_VALID_RECORDS);
+            }
+        }
+    }
+
+    private Void write(final Run run) throws InterruptedException {
+        final var batch = new ArrayList<ValidRecord>(this.batchSize);
+        while (true) {
+            final var record = run.valid.take();
+            if (record == END_OF_VALID_RECORDS) {
+                flush(batch, run);
+                return null;
+            }
+            batch.add(record);
+            if (batch.size() == this.batchSize) {
+                flush(batch, run);
+            }
+        }
+    }
+
+    private void flush(final List<ValidRecord> batch, final Run run) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            final var rejected = this.categoryGateway.createAll(batch.stream().map(ValidRecord::category).toList())
+                    .rejected();
+            for (final var record : batch) {
+                final var rejection = rejected.get(record.category().getId());
+                if (rejection == null) {
+                    run.imported.incrementAndGet();
+                } else {
+                    run.reject(CategoryImportError.with(record.line(), List.of(rejection)));
+                }
+            }
+        } catch (final RuntimeException ex) {
+            // The gateway only throws when the whole batch failed, the cause is every record's error
+            log.warn("Category import batch of {} records failed: {}", batch.size(), ex.getMessage());
+            batch.forEach(record -> run.reject(CategoryImportError.with(record.line(), ex.getMessage())));
+        }
+        batch.clear();
+    }
+
+    private static void await(final Future<?> stage) throws InterruptedException {
+        try {
+            stage.get();
+        } catch (final ExecutionException ex) {
+            throw new IllegalStateException("Category import failed", ex.getCause());
+        }
+    }
+
+    private record ValidRecord(long line, Category category) {
+    }
+
+    /**
+     * State of a single {@link #run(InputStream, CategoryImportFormat, Consumer)} call.
+     */
+    private final class Run {
+
+        private final BlockingQueue<CategoryImportRecord> records = new ArrayBlockingQueue<>(queueCapacity);
+        private final BlockingQueue<ValidRecord> valid = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicLong read = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final Consumer<CategoryImportError> errors;
+
+        private Run(final Consumer<CategoryImportError> errors) {
+            this.errors = Objects.requireNonNull(errors);
+        }
+
+        private void reject(final CategoryImportError error) {
+            this.failed.incrementAndGet();
+            synchronized (this) {
+                try {
+                    this.errors.accept(error);
+                } catch (final RuntimeException ex) {
+                    // A broken error report must not stall the import, the failure is still counted
+                    log.warn("Could not report category import error on line {}: {}", error.line(), ex.getMessage());
+                }
+            }
+        }
+    }
+}
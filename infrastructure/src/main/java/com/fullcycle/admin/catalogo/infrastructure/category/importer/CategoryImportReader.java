@@ -0,0 +1,53 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads one record at a time, so only the current record is ever held in memory.
+ */
+abstract class CategoryImportReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char BOM = '\uFEFF';
+
+    protected final BufferedReader reader;
+
+    protected CategoryImportReader(final InputStream input) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), BUFFER_SIZE);
+        skipBom();
+    }
+
+    static CategoryImportReader of(final CategoryImportFormat format, final InputStream input) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvCategoryImportReader(input);
+            case NDJSON -> new NdjsonCategoryImportReader(input);
+        };
+    }
+
+    /**
+     * @return the next record, or {@code null} at the end of the input.
+     */
+    abstract CategoryImportRecord next() throws IOException;
+
+    protected static Boolean parseActive(final String value) {
+        if (value == null || value.isBlank()) {
+            return true;
+        }
+        return switch (value.trim().toLowerCase()) {
+            case "true", "1" -> true;
+            case "false", "0" -> false;
+            default -> null;
+        };
+    }
+
+    private void skipBom() throws IOException {
+        this.reader.mark(1);
+        if (this.reader.read() != BOM) {
+            this.reader.reset();
+        }
+    }
+}
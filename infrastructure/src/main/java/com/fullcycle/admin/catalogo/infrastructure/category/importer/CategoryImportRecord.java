@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importer;
+
+/**
+ * One record as parsed from the input, before any validation. {@code error} is set when it could not even be parsed.
+ */
+record CategoryImportRecord(long line, String name, String description, boolean active, String error) {
+
+    static CategoryImportRecord of(final long line, final String name, final String description, final boolean active) {
+        return new CategoryImportRecord(line, name, description, active, null);
+    }
+
+    static CategoryImportRecord unparseable(final long line, final String error) {
+        return new CategoryImportRecord(line, null, null, false, error);
+    }
+
+    boolean isParsed() {
+        return this.error == null;
+    }
+}
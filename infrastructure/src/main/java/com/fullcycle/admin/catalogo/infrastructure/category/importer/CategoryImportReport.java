@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importer;
+
+import java.time.Duration;
+
+/**
+ * @param read     records read from the input.
+ * @param imported records persisted.
+ * @param failed   records rejected, each one reported as a {@link CategoryImportError}.
+ * @param elapsed  wall time of the whole import.
+ */
+public record CategoryImportReport(long read, long imported, long failed, Duration elapsed) {
+
+    public double recordsPerSecond() {
+        final var nanos = this.elapsed.toNanos();
+        return nanos == 0 ? 0 : this.read * 1_000_000_000d / nanos;
+    }
+}
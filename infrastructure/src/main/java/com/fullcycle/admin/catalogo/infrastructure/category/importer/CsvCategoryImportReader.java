@@ -0,0 +1,134 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * RFC 4180 style CSV: the first record names the columns, quoted fields may hold commas, {@code ""} and line breaks.
+ */
+class CsvCategoryImportReader extends CategoryImportReader {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private final int nameColumn;
+    private final int descriptionColumn;
+    private final int activeColumn;
+    private final int columns;
+
+    private long line;
+
+    CsvCategoryImportReader(final InputStream input) throws IOException {
+        super(input);
+        final var header = readRecord();
+        if (header == null || header.fields() == null) {
+            this.nameColumn = this.descriptionColumn = this.activeColumn = -1;
+            this.columns = 0;
+            return;
+        }
+
+        final var names = header.fields().stream().map(it -> it.trim().toLowerCase(Locale.ROOT)).toList();
+        this.nameColumn = names.indexOf("name");
+        this.descriptionColumn = names.indexOf("description");
+        this.activeColumn = names.indexOf("is_active");
+        this.columns = names.size();
+        if (this.nameColumn < 0) {
+            throw new IllegalArgumentException("CSV header must have a 'name' column");
+        }
+    }
+
+    @Override
+    CategoryImportRecord next() throws IOException {
+        if (this.columns == 0) {
+            return null;
+        }
+
+        RawRecord record;
+        do {
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.isBlank());
+
+        if (record.fields() == null) {
+            return CategoryImportRecord.unparseable(record.line(), "Unterminated quoted field");
+        }
+        final var fields = record.fields();
+        if (fields.size() != this.columns) {
+            return CategoryImportRecord.unparseable(record.line(),
+                    "Expected %d columns but found %d".formatted(this.columns, fields.size()));
+        }
+
+        final var active = this.activeColumn < 0 ? Boolean.TRUE : parseActive(fields.get(this.activeColumn));
+        if (active == null) {
+            return CategoryImportRecord.unparseable(record.line(), "'is_active' must be true or false");
+        }
+
+        final var description = this.descriptionColumn < 0 ? null : fields.get(this.descriptionColumn);
+        return CategoryImportRecord.of(
+                record.line(),
+                fields.get(this.nameColumn),
+                description == null || description.isEmpty() ? null : description,
+                active
+        );
+    }
+
+    /**
+     * Reads one logical record, which spans several lines when a quoted field holds line breaks. {@code fields} is
+     * {@code null} when the input ends inside a quoted field.
+     */
+    private RawRecord readRecord() throws IOException {
+        var text = this.reader.readLine();
+        if (text == null) {
+            return null;
+        }
+        final var startLine = ++this.line;
+
+        final var fields = new ArrayList<String>();
+        final var field = new StringBuilder();
+        var quoted = false;
+        var i = 0;
+        while (true) {
+            if (i == text.length()) {
+                if (!quoted) {
+                    fields.add(field.toString());
+                    return new RawRecord(startLine, fields, text.isEmpty() && fields.size() == 1);
+                }
+                text = this.reader.readLine();
+                if (text == null) {
+                    return new RawRecord(startLine, null, false);
+                }
+                this.line++;
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+
+            final var c = text.charAt(i++);
+            if (quoted) {
+                if (c != QUOTE) {
+                    field.append(c);
+                } else if (i < text.length() && text.charAt(i) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == QUOTE && field.isEmpty()) {
+                quoted = true;
+            } else {
+                field.append(c);
+            }
+        }
+    }
+
+    private record RawRecord(long line, List<String> fields, boolean isBlank) {
+    }
+}
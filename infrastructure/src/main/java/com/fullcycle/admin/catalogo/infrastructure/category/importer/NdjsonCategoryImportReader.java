@@ -0,0 +1,64 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Newline delimited JSON: one category object per line, blank lines are skipped.
+ */
+class NdjsonCategoryImportReader extends CategoryImportReader {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private long line;
+
+    NdjsonCategoryImportReader(final InputStream input) throws IOException {
+        super(input);
+    }
+
+    @Override
+    CategoryImportRecord next() throws IOException {
+        String text;
+        do {
+            text = this.reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            this.line++;
+        } while (text.isBlank());
+
+        final JsonNode json;
+        try {
+            json = MAPPER.readTree(text);
+        } catch (final JsonProcessingException ex) {
+            return CategoryImportRecord.unparseable(this.line, "Invalid JSON: " + ex.getOriginalMessage());
+        }
+        if (!json.isObject()) {
+            return CategoryImportRecord.unparseable(this.line, "Expected a JSON object");
+        }
+
+        final var activeNode = json.get("is_active");
+        final Boolean active;
+        if (activeNode == null || activeNode.isNull()) {
+            active = true;
+        } else if (activeNode.isBoolean()) {
+            active = activeNode.booleanValue();
+        } else {
+            active = parseActive(activeNode.asText());
+        }
+        if (active == null) {
+            return CategoryImportRecord.unparseable(this.line, "'is_active' must be true or false");
+        }
+
+        return CategoryImportRecord.of(this.line, text(json, "name"), text(json, "description"), active);
+    }
+
+    private static String text(final JsonNode json, final String property) {
+        final var node = json.get(property);
+        return node == null || node.isNull() ? null : node.asText();
+    }
+}
@@ -2,16 +2,34 @@ package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.utils.SearchNormalizer;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.Column;
+import javax.persistence.ColumnResult;
 import javax.persistence.Entity;
+import javax.persistence.EntityResult;
 import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
+import javax.persistence.SqlResultSetMapping;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 import java.time.Instant;
 
 @Entity
 @Table(name = "category")
-public class CategoryJpaEntity {
+@SqlResultSetMapping(
+        name = CategoryJpaEntity.WITH_TOTAL_COUNT_MAPPING,
+        entities = @EntityResult(entityClass = CategoryJpaEntity.class),
+        columns = @ColumnResult(name = "total_count", type = Long.class)
+)
+public class CategoryJpaEntity implements Persistable<String> {
+
+    public static final String WITH_TOTAL_COUNT_MAPPING = "CategoryWithTotalCount";
+
     @Id
     private String id;
 
@@ -21,6 +39,12 @@ public class CategoryJpaEntity {
     @Column(name = "description", length = 4000)
     private String description;
 
+    @Column(name = "name_search", nullable = false)
+    private String nameSearch;
+
+    @Column(name = "description_search", length = 4000)
+    private String descriptionSearch;
+
     @Column(name = "active", nullable = false)
     private boolean active;
 
@@ -33,6 +57,13 @@ public class CategoryJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    // IDs are assigned up front, so Spring Data can't tell a new row apart and would merge (SELECT + INSERT)
+    @Transient
+    private boolean newEntity;
+
     public CategoryJpaEntity() {
     }
 
@@ -43,7 +74,8 @@ public class CategoryJpaEntity {
             final boolean active,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt) {
+            final Instant deletedAt,
+            final long version) {
         this.id = id;
         this.name = name;
         this.description = description;
@@ -51,6 +83,8 @@ public class CategoryJpaEntity {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.version = version;
+        this.normalizeSearchColumns();
     }
 
     public static CategoryJpaEntity from(final Category category) {
@@ -61,10 +95,30 @@ public class CategoryJpaEntity {
                 category.isActive(),
                 category.getCreatedAt(),
                 category.getUpdatedAt(),
-                category.getDeletedAt()
+                category.getDeletedAt(),
+                category.getVersion()
         );
     }
 
+    /**
+     * Flags the entity as a row that does not exist yet, so saving it is a plain INSERT without the SELECT of a merge.
+     */
+    public CategoryJpaEntity asNew() {
+        this.newEntity = true;
+        return this;
+    }
+
+    @Override
+    public boolean isNew() {
+        return this.newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
     public Category toAggregate() {
         return Category.with(
                 CategoryID.from(this.getId()),
@@ -73,10 +127,17 @@ public class CategoryJpaEntity {
                 this.isActive(),
                 this.getCreatedAt(),
                 this.getUpdatedAt(),
-                this.getDeletedAt()
+                this.getDeletedAt(),
+                this.getVersion()
         );
     }
 
+    @PrePersist
+    @PreUpdate
+    void normalizeSearchColumns() {
+        this.nameSearch = SearchNormalizer.normalize(this.name);
+        this.descriptionSearch = SearchNormalizer.normalize(this.description);
+    }
 
     public String getId() {
         return id;
@@ -102,6 +163,14 @@ public class CategoryJpaEntity {
         this.description = description;
     }
 
+    public String getNameSearch() {
+        return nameSearch;
+    }
+
+    public String getDescriptionSearch() {
+        return descriptionSearch;
+    }
+
     public boolean isActive() {
         return active;
     }
@@ -133,4 +202,12 @@ public class CategoryJpaEntity {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
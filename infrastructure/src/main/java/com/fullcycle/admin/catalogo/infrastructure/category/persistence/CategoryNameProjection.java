@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+public interface CategoryNameProjection {
+
+    String getId();
+
+    String getName();
+}
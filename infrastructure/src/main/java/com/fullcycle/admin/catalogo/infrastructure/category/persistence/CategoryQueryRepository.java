@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryField;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchMode;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+public interface CategoryQueryRepository {
+
+    /**
+     * Same as {@code findAll(Specification, Pageable)} but without the extra {@code COUNT} query.
+     */
+    List<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Sort sort, long offset, int limit);
+
+    /**
+     * Page filtered by {@code terms}, already normalized, whose total comes from {@code COUNT(*) OVER()} in the same statement.
+     */
+    Page<CategoryJpaEntity> findAllWithWindowCount(String terms, SearchMode mode, Pageable page);
+
+    /**
+     * Inserts {@code entities} with JDBC batches of {@code batchSize} and detaches them, in the current transaction.
+     */
+    void insertAll(List<CategoryJpaEntity> entities, int batchSize);
+
+    /**
+     * Writes only the columns of {@code fields}, plus {@code updated_at}, in a single UPDATE without loading the row
+     * first, as long as the row is still at the version of {@code entity}. The version is incremented on the way.
+     *
+     * @return how many rows were updated, 0 when there is no category with that ID or it has moved to another version.
+     */
+    @Transactional
+    int update(CategoryJpaEntity entity, Set<CategoryField> fields);
+
+}
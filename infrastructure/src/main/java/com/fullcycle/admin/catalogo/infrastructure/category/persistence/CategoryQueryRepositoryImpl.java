@@ -0,0 +1,151 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryField;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchMode;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import org.hibernate.Session;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+
+public class CategoryQueryRepositoryImpl implements CategoryQueryRepository {
+
+    private static final String ESCAPE = " ESCAPE '" + SpecificationUtils.ESCAPE + "'";
+    private static final String NAME_STARTS_WITH = "c.name_search LIKE :terms" + ESCAPE;
+    private static final String NAME_OR_DESCRIPTION_CONTAINS =
+            "(c.name_search LIKE :terms" + ESCAPE + " OR c.description_search LIKE :terms" + ESCAPE + ")";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CategoryJpaEntity> findAll(
+            final Specification<CategoryJpaEntity> whereClause,
+            final Sort sort,
+            final long offset,
+            final int limit
+    ) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(CategoryJpaEntity.class);
+        final var root = query.from(CategoryJpaEntity.class);
+
+        if (whereClause != null) {
+            final var predicate = whereClause.toPredicate(root, query, cb);
+            if (predicate != null) query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return this.entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Page<CategoryJpaEntity> findAllWithWindowCount(final String terms, final SearchMode mode, final Pageable page) {
+        final var hasTerms = terms != null && !terms.isBlank();
+        final var prefix = mode == SearchMode.PREFIX;
+        final var where = hasTerms ? " WHERE " + (prefix ? NAME_STARTS_WITH : NAME_OR_DESCRIPTION_CONTAINS) : "";
+        final var sql = "SELECT c.*, COUNT(*) OVER() AS total_count FROM category c" + where
+                + " ORDER BY " + orderBy(page.getSort())
+                + " LIMIT :limit OFFSET :offset";
+
+        final var query = this.entityManager.createNativeQuery(sql, CategoryJpaEntity.WITH_TOTAL_COUNT_MAPPING)
+                .setParameter("limit", page.getPageSize())
+                .setParameter("offset", page.getOffset());
+        final var pattern = hasTerms ? searchPattern(terms, prefix) : null;
+        if (hasTerms) {
+            query.setParameter("terms", pattern);
+        }
+
+        final List<Object[]> rows = query.getResultList();
+        final var content = rows.stream().map(row -> (CategoryJpaEntity) row[0]).toList();
+        if (!rows.isEmpty()) {
+            return new PageImpl<>(content, page, (Long) rows.get(0)[1]);
+        }
+        if (page.getOffset() == 0) {
+            return new PageImpl<>(content, page, 0);
+        }
+
+        // A page past the end has no row to carry the window total: counted on its own instead
+        final var count = this.entityManager.createNativeQuery("SELECT COUNT(*) FROM category c" + where);
+        if (hasTerms) {
+            count.setParameter("terms", pattern);
+        }
+        return new PageImpl<>(content, page, ((Number) count.getSingleResult()).longValue());
+    }
+
+    @Override
+    public void insertAll(final List<CategoryJpaEntity> entities, final int batchSize) {
+        final var session = this.entityManager.unwrap(Session.class);
+        final var previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(batchSize);
+        try {
+            entities.forEach(this.entityManager::persist);
+            this.entityManager.flush();
+            // Keeps the persistence context small without clearing whatever else the caller has in it
+            entities.forEach(this.entityManager::detach);
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+    }
+
+    @Override
+    public int update(final CategoryJpaEntity entity, final Set<CategoryField> fields) {
+        final var assignments = new StringJoiner(", ", "UPDATE CategoryJpaEntity c SET ", "");
+        if (fields.contains(CategoryField.NAME)) {
+            assignments.add("c.name = :name").add("c.nameSearch = :nameSearch");
+        }
+        if (fields.contains(CategoryField.DESCRIPTION)) {
+            assignments.add("c.description = :description").add("c.descriptionSearch = :descriptionSearch");
+        }
+        if (fields.contains(CategoryField.ACTIVE)) {
+            assignments.add("c.active = :active").add("c.deletedAt = :deletedAt");
+        }
+        assignments.add("c.updatedAt = :updatedAt").add("c.version = c.version + 1");
+
+        // Same as @Modifying(flushAutomatically = true, clearAutomatically = true)
+        this.entityManager.flush();
+        final var query = this.entityManager
+                .createQuery(assignments + " WHERE c.id = :id AND c.version = :version")
+                .setParameter("updatedAt", entity.getUpdatedAt())
+                .setParameter("id", entity.getId())
+                .setParameter("version", entity.getVersion());
+        if (fields.contains(CategoryField.NAME)) {
+            query.setParameter("name", entity.getName()).setParameter("nameSearch", entity.getNameSearch());
+        }
+        if (fields.contains(CategoryField.DESCRIPTION)) {
+            query.setParameter("description", entity.getDescription())
+                    .setParameter("descriptionSearch", entity.getDescriptionSearch());
+        }
+        if (fields.contains(CategoryField.ACTIVE)) {
+            query.setParameter("active", entity.isActive()).setParameter("deletedAt", entity.getDeletedAt());
+        }
+
+        final var updated = query.executeUpdate();
+        this.entityManager.clear();
+        return updated;
+    }
+
+    private static String searchPattern(final String terms, final boolean prefix) {
+        final var escaped = SpecificationUtils.escape(terms);
+        return prefix ? escaped + "%" : "%" + escaped + "%";
+    }
+
+    private static String orderBy(final Sort sort) {
+        return sort.stream()
+                .map(order -> "c." + CategorySortField.ofAttribute(order.getProperty()).column() + " " + order.getDirection().name())
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -4,9 +4,46 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+import java.time.Instant;
+import java.util.List;
+
+public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String>, CategoryQueryRepository {
 
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
 
+    long count(Specification<CategoryJpaEntity> whereClause);
+
+    /**
+     * Only ID and name of the categories after {@code afterId}, in ID order, for loading in-memory views.
+     */
+    @Query("SELECT c.id AS id, c.name AS name FROM CategoryJpaEntity c WHERE c.id > :afterId ORDER BY c.id")
+    List<CategoryNameProjection> findNamesAfter(@Param("afterId") String afterId, Pageable page);
+
+    /**
+     * Only the IDs after {@code afterId}, in ID order, for loading in-memory views.
+     */
+    @Query("SELECT c.id FROM CategoryJpaEntity c WHERE c.id > :afterId ORDER BY c.id")
+    List<String> findIdsAfter(@Param("afterId") String afterId, Pageable page);
+
+    /**
+     * IDs of the categories created at or after {@code since}, served by the {@code (created_at, id)} index.
+     */
+    @Query("SELECT c.id FROM CategoryJpaEntity c WHERE c.createdAt >= :since")
+    List<String> findIdsCreatedSince(@Param("since") Instant since);
+
+    /**
+     * Deletes in a single DELETE, unlike {@link #deleteById(Object)} which loads the entity first.
+     *
+     * @return how many rows were deleted, 0 when there is no category with that ID.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM CategoryJpaEntity c WHERE c.id = :id")
+    int deleteByIdReturningCount(@Param("id") String id);
+
 }
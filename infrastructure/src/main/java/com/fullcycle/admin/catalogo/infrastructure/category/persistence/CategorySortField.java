@@ -0,0 +1,90 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Allowlist of the keys a category list can be sorted by. Each one is backed by a {@code (column, id)} index,
+ * see {@code V2__category_sort_indexes.sql}, so no sort ends up as a filesort over the whole table.
+ * <p>
+ * {@link #NAME} sorts by the normalized {@code name_search} column, which compares as binary on every database
+ * (see {@code V6__category_name_search_sort}), so the order is the same as {@link String#compareTo} in memory
+ * and ignores case and accents like the search does.
+ */
+public enum CategorySortField {
+
+    NAME("name", "nameSearch", "name_search", CategoryJpaEntity::getNameSearch, Function.identity()),
+    CREATED_AT("createdAt", "createdAt", "created_at", it -> it.getCreatedAt().toString(), Instant::parse),
+    UPDATED_AT("updatedAt", "updatedAt", "updated_at", it -> it.getUpdatedAt().toString(), Instant::parse),
+    ID("id", "id", "id", CategoryJpaEntity::getId, Function.identity());
+
+    private final String property;
+    private final String attribute;
+    private final String column;
+    private final Function<CategoryJpaEntity, String> writer;
+    private final Function<String, ? extends Comparable<?>> reader;
+
+    CategorySortField(
+            final String property,
+            final String attribute,
+            final String column,
+            final Function<CategoryJpaEntity, String> writer,
+            final Function<String, ? extends Comparable<?>> reader
+    ) {
+        this.property = property;
+        this.attribute = attribute;
+        this.column = column;
+        this.writer = writer;
+        this.reader = reader;
+    }
+
+    public static CategorySortField of(final String property) {
+        return Arrays.stream(values())
+                .filter(it -> it.property.equals(property))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(new Error("Sort '%s' is not supported".formatted(property))));
+    }
+
+    public static CategorySortField ofAttribute(final String attribute) {
+        return Arrays.stream(values())
+                .filter(it -> it.attribute.equals(attribute))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(new Error("Sort '%s' is not supported".formatted(attribute))));
+    }
+
+    /**
+     * Key clients sort by.
+     */
+    public String property() {
+        return property;
+    }
+
+    /**
+     * Mapped attribute of {@link CategoryJpaEntity} the sort runs on.
+     */
+    public String attribute() {
+        return attribute;
+    }
+
+    public String column() {
+        return column;
+    }
+
+    /**
+     * Sort key of {@code entity} as text, used to build keyset cursors.
+     */
+    public String valueOf(final CategoryJpaEntity entity) {
+        return this.writer.apply(entity);
+    }
+
+    /**
+     * Inverse of {@link #valueOf(CategoryJpaEntity)}, typed as the mapped attribute.
+     */
+    public Comparable<?> parse(final String value) {
+        return this.reader.apply(value);
+    }
+}
@@ -0,0 +1,403 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.readmodel;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategoryWriteListener;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.CountStrategy;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchMode;
+import com.fullcycle.admin.catalogo.domain.utils.SearchNormalizer;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryCursor;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategorySortField;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Every category held in memory, answering lookups by ID and list queries (filter, sort and paging) without the
+ * database.
+ * <p>
+ * Rows are immutable {@link CategoryRow}s indexed by ID and kept in one sorted array per {@link CategorySortField},
+ * in the same order as the {@code (column, id)} indexes, so a page is a binary search plus a slice and cursors are
+ * interchangeable with the ones the database issues. Readers take the current arrays without locks; each write
+ * copies them, O(n), which is fine for the rate categories change. Bulk loads go through {@link #load(Collection)},
+ * and writes made while a load is in progress are replayed on top of it. A row never replaces a newer version.
+ * <p>
+ * Local writes arrive through {@link CategoryWriteListener} once they commit, and other instances' writes through
+ * {@link CategoryReadModelSync} on every change poll. The model is only trusted while the last poll is less than
+ * {@code maxStaleness} old, which bounds how far behind the database it can be.
+ */
+public class CategoryReadModel implements CategoryWriteListener {
+
+    private final Object writeLock = new Object();
+    private final long maxStalenessNanos;
+    private final Timer localLag;
+
+    private volatile State state = State.EMPTY;
+    private volatile boolean ready;
+    private volatile long syncedAt;
+    private List<Write> pendingWhileLoading;
+
+    public CategoryReadModel(final Duration maxStaleness, final MeterRegistry meterRegistry) {
+        this.maxStalenessNanos = maxStaleness.toNanos();
+
+        Gauge.builder("category.read-model.size", this, CategoryReadModel::size)
+                .description("Categories held by the in-memory read model")
+                .register(meterRegistry);
+        Gauge.builder("category.read-model.staleness", this, CategoryReadModel::staleness)
+                .description("Time since the read model last caught up with the other instances' changes")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.localLag = lagTimer("local", meterRegistry);
+    }
+
+    static Timer lagTimer(final String source, final MeterRegistry meterRegistry) {
+        return Timer.builder("category.read-model.apply.lag")
+                .description("Time between a category write and the read model reflecting it")
+                .tag("source", source)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public Optional<Category> findById(final CategoryID id) {
+        return Optional.ofNullable(this.state.byId.get(id)).map(CategoryRow::toAggregate);
+    }
+
+    public List<Category> findAllByIds(final Collection<CategoryID> ids) {
+        final var byId = this.state.byId;
+        return ids.stream()
+                .distinct()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(CategoryRow::toAggregate)
+                .toList();
+    }
+
+    /**
+     * Same results as the database for every {@link SearchMode} but {@link SearchMode#RELEVANCE}, which is matched
+     * as {@link SearchMode#CONTAINS} without ranking. Totals are always exact, except with {@link CountStrategy#NONE}.
+     */
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        final var field = CategorySortField.of(query.sort());
+        final var ascending = Sort.Direction.fromString(query.direction()).isAscending();
+        final var rows = this.state.sorted.get(field);
+        final var matcher = matcherOf(query);
+
+        final int start;
+        final long offset;
+        if (query.isCursorBased()) {
+            start = seek(rows, field, CategoryCursor.decode(query.after()), ascending, query.sort());
+            offset = 0;
+        } else {
+            start = 0;
+            offset = (long) query.page() * query.perPage();
+        }
+
+        // One extra row just to know whether there is a next page
+        final var found = new ArrayList<CategoryRow>(Math.min(query.perPage() + 1, 1024));
+        var position = start;
+        var toSkip = offset;
+        if (matcher == null) {
+            // Every row matches, the offset is skipped at once
+            position = (int) Math.min(start + offset, rows.length);
+            toSkip = 0;
+        }
+        for (; position < rows.length && found.size() <= query.perPage(); position++) {
+            final var row = rows[ascending ? position : rows.length - 1 - position];
+            if (matcher != null && !matcher.test(row)) {
+                continue;
+            }
+            if (toSkip > 0) {
+                toSkip--;
+                continue;
+            }
+            found.add(row);
+        }
+
+        final var hasNext = found.size() > query.perPage();
+        final var pageRows = hasNext ? found.subList(0, query.perPage()) : found;
+        final var nextCursor = hasNext
+                ? CategoryCursor.of(field, CategoryJpaEntity.from(pageRows.get(pageRows.size() - 1).toAggregate())).encode()
+                : null;
+
+        final var exact = query.count() != CountStrategy.NONE;
+        final long total;
+        if (!exact) {
+            total = offset + pageRows.size() + (hasNext ? 1 : 0);
+        } else if (matcher == null) {
+            total = rows.length;
+        } else {
+            total = Arrays.stream(rows).filter(matcher).count();
+        }
+
+        return new Pagination<>(
+                query.page(),
+                query.perPage(),
+                total,
+                pageRows.stream().map(CategoryRow::toAggregate).toList(),
+                nextCursor,
+                exact
+        );
+    }
+
+    @Override
+    public void onSaved(final Category category) {
+        onSavedAll(List.of(category));
+    }
+
+    @Override
+    public void onSavedAll(final Collection<Category> categories) {
+        apply(new Write(categories.stream().map(CategoryRow::of).toList(), List.of()));
+        final var now = Instant.now();
+        categories.forEach(category -> this.localLag.record(Duration.between(category.getUpdatedAt(), now)));
+    }
+
+    @Override
+    public void onDeleted(final CategoryID id) {
+        apply(new Write(List.of(), List.of(id)));
+    }
+
+    /**
+     * Applies what other instances wrote: the current state of the categories that changed, and the ones gone.
+     */
+    void refresh(final Collection<Category> saved, final Collection<CategoryID> deleted) {
+        apply(new Write(saved.stream().map(CategoryRow::of).toList(), List.copyOf(deleted)));
+    }
+
+    /**
+     * Marks the model as caught up with every change polled so far.
+     */
+    void markSynced() {
+        this.syncedAt = System.nanoTime();
+    }
+
+    /**
+     * Marks the start of a bulk load: from now on writes are also kept aside to be replayed by {@link #load(Collection)}.
+     */
+    public void beginLoad() {
+        synchronized (this.writeLock) {
+            this.pendingWhileLoading = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Replaces the whole content with {@code categories}, read after {@link #beginLoad()}, plus every write since.
+     */
+    void load(final Collection<CategoryRow> categories) {
+        final var byId = new ConcurrentHashMap<CategoryID, CategoryRow>(Math.max(16, categories.size() * 4 / 3 + 1));
+        categories.forEach(row -> byId.merge(row.id(), row, CategoryReadModel::newest));
+        final var loaded = byId.values().toArray(CategoryRow[]::new);
+        final var sorted = new EnumMap<CategorySortField, CategoryRow[]>(CategorySortField.class);
+        CategoryRow.ORDER.forEach((field, order) -> {
+            final var rows = loaded.clone();
+            Arrays.parallelSort(rows, order);
+            sorted.put(field, rows);
+        });
+
+        synchronized (this.writeLock) {
+            var current = new State(byId, sorted);
+            if (this.pendingWhileLoading != null) {
+                for (final var write : this.pendingWhileLoading) {
+                    current = current.apply(write);
+                }
+                this.pendingWhileLoading = null;
+            }
+            this.state = current;
+            this.syncedAt = System.nanoTime();
+            this.ready = true;
+        }
+    }
+
+    /**
+     * {@link #load(Collection)} from the aggregates, for stores other than the category table.
+     */
+    public void loadAll(final Collection<Category> categories) {
+        load(categories.stream().map(CategoryRow::of).toList());
+    }
+
+    public boolean isReady() {
+        return this.ready;
+    }
+
+    /**
+     * Whether the model is loaded and close enough to the database to answer reads.
+     */
+    public boolean isFresh() {
+        return this.ready && System.nanoTime() - this.syncedAt <= this.maxStalenessNanos;
+    }
+
+    public int size() {
+        return this.state.byId.size();
+    }
+
+    private double staleness() {
+        return this.ready ? (System.nanoTime() - this.syncedAt) / (double) TimeUnit.SECONDS.toNanos(1) : 0;
+    }
+
+    private void apply(final Write write) {
+        synchronized (this.writeLock) {
+            if (this.pendingWhileLoading != null) {
+                this.pendingWhileLoading.add(write);
+            }
+            this.state = this.state.apply(write);
+        }
+    }
+
+    private static Predicate<CategoryRow> matcherOf(final CategorySearchQuery query) {
+        if (!query.hasTerms()) {
+            return null;
+        }
+        final var terms = SearchNormalizer.normalize(query.terms());
+        if (query.mode() == SearchMode.PREFIX) {
+            return row -> row.nameSearch().startsWith(terms);
+        }
+        return row -> row.nameSearch().contains(terms)
+                || (row.descriptionSearch() != null && row.descriptionSearch().contains(terms));
+    }
+
+    /**
+     * Position, in the direction of the query, of the first row after {@code cursor}.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static int seek(
+            final CategoryRow[] rows,
+            final CategorySortField field,
+            final CategoryCursor cursor,
+            final boolean ascending,
+            final String sort
+    ) {
+        if (!cursor.sort().property().equals(sort)) {
+            throw DomainException.with(new Error("'after' cursor was issued for sort '%s'".formatted(cursor.sort().property())));
+        }
+
+        final var value = (Comparable) cursor.typedValue();
+        // First row at or after the cursor position, ascending
+        var low = 0;
+        var high = rows.length;
+        while (low < high) {
+            final var mid = (low + high) >>> 1;
+            var compared = ((Comparable) rows[mid].valueOf(field)).compareTo(value);
+            if (compared == 0) {
+                compared = rows[mid].id().getValue().compareTo(cursor.id());
+            }
+            if (compared < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        if (ascending) {
+            final var atCursor = low < rows.length
+                    && ((Comparable) rows[low].valueOf(field)).compareTo(value) == 0
+                    && rows[low].id().getValue().equals(cursor.id());
+            return atCursor ? low + 1 : low;
+        }
+        return rows.length - low;
+    }
+
+    private static CategoryRow newest(final CategoryRow current, final CategoryRow candidate) {
+        return current.version() > candidate.version() ? current : candidate;
+    }
+
+    private record Write(List<CategoryRow> saved, List<CategoryID> deleted) {
+    }
+
+    /**
+     * Rows by ID, mutated in place by the writer, plus the sorted arrays, replaced on every write.
+     */
+    private record State(Map<CategoryID, CategoryRow> byId, Map<CategorySortField, CategoryRow[]> sorted) {
+
+        static final State EMPTY = new State(new ConcurrentHashMap<>(), emptySorted());
+
+        State apply(final Write write) {
+            final var removed = Collections.newSetFromMap(new IdentityHashMap<CategoryRow, Boolean>());
+            final var added = new ArrayList<CategoryRow>(write.saved().size());
+            for (final var row : write.saved()) {
+                final var current = this.byId.get(row.id());
+                if (current != null && current.version() > row.version()) {
+                    continue;
+                }
+                if (current != null) {
+                    removed.add(current);
+                }
+                this.byId.put(row.id(), row);
+                added.add(row);
+            }
+            for (final var id : write.deleted()) {
+                final var current = this.byId.remove(id);
+                if (current != null) {
+                    removed.add(current);
+                }
+            }
+            // A row saved twice in the same write only keeps the last copy
+            added.removeIf(row -> this.byId.get(row.id()) != row);
+            if (removed.isEmpty() && added.isEmpty()) {
+                return this;
+            }
+
+            final var sorted = new EnumMap<CategorySortField, CategoryRow[]>(CategorySortField.class);
+            this.sorted.forEach((field, rows) -> {
+                final var order = CategoryRow.ORDER.get(field);
+                final var kept = removed.isEmpty()
+                        ? rows
+                        : Arrays.stream(rows).filter(row -> !removed.contains(row)).toArray(CategoryRow[]::new);
+                final var addedSorted = added.toArray(CategoryRow[]::new);
+                Arrays.sort(addedSorted, order);
+                sorted.put(field, merge(kept, addedSorted, order));
+            });
+            return new State(this.byId, sorted);
+        }
+
+        private static Map<CategorySortField, CategoryRow[]> emptySorted() {
+            final var sorted = new EnumMap<CategorySortField, CategoryRow[]>(CategorySortField.class);
+            CategoryRow.ORDER.keySet().forEach(field -> sorted.put(field, new CategoryRow[0]));
+            return sorted;
+        }
+
+        /**
+         * Merges two sorted arrays, O(n + m), instead of one copy per added row.
+         */
+        private static CategoryRow[] merge(
+                final CategoryRow[] rows,
+                final CategoryRow[] added,
+                final Comparator<CategoryRow> order
+        ) {
+            if (added.length == 0) {
+                return rows;
+            }
+            final var merged = new CategoryRow[rows.length + added.length];
+            var i = 0;
+            var j = 0;
+            var k = 0;
+            while (i < rows.length && j < added.length) {
+                merged[k++] = order.compare(rows[i], added[j]) <= 0 ? rows[i++] : added[j++];
+            }
+            while (i < rows.length) merged[k++] = rows[i++];
+            while (j < added.length) merged[k++] = added[j++];
+            return merged;
+        }
+    }
+}
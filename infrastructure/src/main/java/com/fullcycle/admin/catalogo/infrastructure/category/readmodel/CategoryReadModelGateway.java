@@ -0,0 +1,107 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.readmodel;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryBatchResult;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchMode;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.isTransactionActive;
+
+/**
+ * Answers reads from {@link CategoryReadModel} and sends writes to the delegate, whose write hooks keep the model
+ * current.
+ * <p>
+ * Reads go to the delegate instead while the model is loading or too far behind, inside a transaction, which must
+ * see its own uncommitted writes, and for {@link SearchMode#RELEVANCE}, which needs the full-text ranking.
+ */
+public class CategoryReadModelGateway implements CategoryGateway, MeterBinder {
+
+    private final CategoryGateway delegate;
+    private final CategoryReadModel model;
+
+    private final LongAdder fromMemory = new LongAdder();
+    private final LongAdder fromDelegate = new LongAdder();
+
+    public CategoryReadModelGateway(final CategoryGateway delegate, final CategoryReadModel model) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.model = Objects.requireNonNull(model);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return this.delegate.create(category);
+    }
+
+    @Override
+    public CategoryBatchResult createAll(final List<Category> categories) {
+        return this.delegate.createAll(categories);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return this.delegate.update(category);
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        this.delegate.deleteById(id);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        if (!servesReads()) {
+            return this.delegate.findById(id);
+        }
+        return this.model.findById(id);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> ids) {
+        if (!servesReads()) {
+            return this.delegate.findAllByIds(ids);
+        }
+        return this.model.findAllByIds(ids);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        if (query.mode() == SearchMode.RELEVANCE) {
+            this.fromDelegate.increment();
+            return this.delegate.findAll(query);
+        }
+        if (!servesReads()) {
+            return this.delegate.findAll(query);
+        }
+        return this.model.findAll(query);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("category.read-model.reads", this.fromMemory, LongAdder::sum)
+                .description("Category reads, by where they were answered")
+                .tag("source", "memory")
+                .register(registry);
+        FunctionCounter.builder("category.read-model.reads", this.fromDelegate, LongAdder::sum)
+                .description("Category reads, by where they were answered")
+                .tag("source", "delegate")
+                .register(registry);
+    }
+
+    private boolean servesReads() {
+        final var serves = this.model.isFresh() && !isTransactionActive();
+        (serves ? this.fromMemory : this.fromDelegate).increment();
+        return serves;
+    }
+}
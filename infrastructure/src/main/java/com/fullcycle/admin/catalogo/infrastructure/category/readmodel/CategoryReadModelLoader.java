@@ -0,0 +1,121 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.readmodel;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills {@link CategoryReadModel} from the category table with {@code parallelism} threads, each one reading its own
+ * range of IDs in ID order, one batch at a time.
+ * <p>
+ * IDs are lower case UUIDs, so the ranges split the first hex digit evenly; the first and the last range are open
+ * ended, so no ID outside that alphabet is left out.
+ */
+public class CategoryReadModelLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryReadModelLoader.class);
+
+    private static final String HEX_DIGITS = "0123456789abcdef";
+
+    private final CategoryRepository repository;
+    private final CategoryReadModel model;
+    private final int parallelism;
+    private final int batchSize;
+
+    public CategoryReadModelLoader(
+            final CategoryRepository repository,
+            final CategoryReadModel model,
+            final int parallelism,
+            final int batchSize
+    ) {
+        this.repository = repository;
+        this.model = model;
+        this.parallelism = Math.max(1, Math.min(parallelism, HEX_DIGITS.length()));
+        this.batchSize = batchSize;
+    }
+
+    public int load() {
+        final var startedAt = System.nanoTime();
+        this.model.beginLoad();
+
+        final var workers = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            final var thread = new Thread(runnable, "category-read-model-load");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final var scans = ranges().stream()
+                    .map(range -> CompletableFuture.supplyAsync(() -> scan(range), workers))
+                    .toList();
+            final var rows = new ArrayList<CategoryRow>();
+            scans.forEach(scan -> rows.addAll(scan.join()));
+
+            this.model.load(rows);
+            log.info("Category read model loaded: {} categories with {} threads in {} ms", rows.size(), this.parallelism,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            return rows.size();
+        } finally {
+            workers.shutdown();
+        }
+    }
+
+    public CompletableFuture<Integer> loadAsync() {
+        return CompletableFuture.supplyAsync(this::load, runnable -> {
+            final var thread = new Thread(runnable, "category-read-model-loader");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    private List<CategoryRow> scan(final Range range) {
+        final var rows = new ArrayList<CategoryRow>();
+        String lastId = null;
+        while (true) {
+            final var batch = this.repository.findAll(range.after(lastId), Sort.by(Sort.Direction.ASC, "id"), 0, this.batchSize);
+            batch.forEach(entity -> rows.add(CategoryRow.of(entity.toAggregate())));
+            if (batch.size() < this.batchSize) {
+                return rows;
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+    }
+
+    private List<Range> ranges() {
+        final var ranges = new ArrayList<Range>(this.parallelism);
+        String from = null;
+        for (var i = 1; i <= this.parallelism; i++) {
+            final var to = i == this.parallelism
+                    ? null
+                    : String.valueOf(HEX_DIGITS.charAt(i * HEX_DIGITS.length() / this.parallelism));
+            ranges.add(new Range(from, to));
+            from = to;
+        }
+        return ranges;
+    }
+
+    /**
+     * IDs from {@code from}, inclusive, to {@code to}, exclusive; {@code null} leaves that end open.
+     */
+    private record Range(String from, String to) {
+
+        Specification<CategoryJpaEntity> after(final String lastId) {
+            return (root, query, cb) -> {
+                final var id = root.<String>get("id");
+                final var lower = lastId != null ? cb.greaterThan(id, lastId) : from != null ? cb.greaterThanOrEqualTo(id, from) : null;
+                final var upper = to != null ? cb.lessThan(id, to) : null;
+                if (lower == null) return upper;
+                if (upper == null) return lower;
+                return cb.and(lower, upper);
+            };
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.readmodel;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChange;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeListener;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Brings {@link CategoryReadModel} up to date with the changes other instances made, once per change poll: the
+ * categories changed are read back from the database in a single query, whatever the kind of change.
+ * <p>
+ * The first poll also starts loading the model. By then the poller already knows where it started from, so every
+ * change the load could miss is in the log after that point and gets applied on top of it.
+ */
+public class CategoryReadModelSync implements CategoryChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryReadModelSync.class);
+
+    private final CategoryRepository repository;
+    private final CategoryReadModel model;
+    private final CategoryReadModelLoader loader;
+    private final Timer remoteLag;
+    private volatile boolean loadStarted;
+
+    // Only touched by the poller thread: the oldest change not applied yet, by ID
+    private final Map<CategoryID, Instant> changed = new LinkedHashMap<>();
+
+    public CategoryReadModelSync(
+            final CategoryRepository repository,
+            final CategoryReadModel model,
+            final CategoryReadModelLoader loader,
+            final MeterRegistry meterRegistry
+    ) {
+        this.repository = Objects.requireNonNull(repository);
+        this.model = Objects.requireNonNull(model);
+        this.loader = Objects.requireNonNull(loader);
+        this.remoteLag = CategoryReadModel.lagTimer("remote", meterRegistry);
+    }
+
+    @Override
+    public void onRemoteChange(final CategoryChange change) {
+        this.changed.putIfAbsent(change.id(), change.createdAt());
+    }
+
+    @Override
+    public void onPolled(final long appliedThrough) {
+        if (!this.loadStarted) {
+            this.loadStarted = true;
+            this.loader.loadAsync().whenComplete((loaded, error) -> {
+                if (error != null) {
+                    log.warn("Category read model load failed, retrying on the next poll", error);
+                    this.loadStarted = false;
+                }
+            });
+        }
+        if (!this.changed.isEmpty()) {
+            final var ids = this.changed.keySet().stream().map(CategoryID::getValue).toList();
+            final var found = this.repository.findAllById(ids).stream().map(CategoryJpaEntity::toAggregate).toList();
+            final var deleted = new HashSet<>(this.changed.keySet());
+            found.forEach(category -> deleted.remove(category.getId()));
+            this.model.refresh(found, deleted);
+
+            final var now = Instant.now();
+            this.changed.values().forEach(changedAt -> this.remoteLag.record(Duration.between(changedAt, now)));
+            this.changed.clear();
+        }
+        this.model.markSynced();
+    }
+}
@@ -0,0 +1,76 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.readmodel;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.utils.SearchNormalizer;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategorySortField;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable copy of a category as held by {@link CategoryReadModel}, with its search columns already normalized.
+ */
+record CategoryRow(
+        CategoryID id,
+        String name,
+        String description,
+        boolean active,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt,
+        long version,
+        String nameSearch,
+        String descriptionSearch
+) {
+
+    private static final Comparator<CategoryRow> BY_ID = Comparator.comparing(row -> row.id().getValue());
+
+    /**
+     * Same order as the {@code (column, id)} indexes, ascending.
+     */
+    static final Map<CategorySortField, Comparator<CategoryRow>> ORDER = orders();
+
+    static CategoryRow of(final Category category) {
+        return new CategoryRow(
+                category.getId(),
+                category.getName(),
+                category.getDescription(),
+                category.isActive(),
+                category.getCreatedAt(),
+                category.getUpdatedAt(),
+                category.getDeletedAt(),
+                category.getVersion(),
+                SearchNormalizer.normalize(category.getName()),
+                SearchNormalizer.normalize(category.getDescription())
+        );
+    }
+
+    Category toAggregate() {
+        return Category.with(this.id, this.name, this.description, this.active, this.createdAt, this.updatedAt,
+                this.deletedAt, this.version);
+    }
+
+    /**
+     * Sort key of this row, typed as {@link CategorySortField#parse(String)} returns it.
+     */
+    Comparable<?> valueOf(final CategorySortField field) {
+        return switch (field) {
+            case NAME -> this.nameSearch;
+            case CREATED_AT -> this.createdAt;
+            case UPDATED_AT -> this.updatedAt;
+            case ID -> this.id.getValue();
+        };
+    }
+
+    private static Map<CategorySortField, Comparator<CategoryRow>> orders() {
+        final var orders = new EnumMap<CategorySortField, Comparator<CategoryRow>>(CategorySortField.class);
+        orders.put(CategorySortField.NAME, Comparator.comparing(CategoryRow::nameSearch).thenComparing(BY_ID));
+        orders.put(CategorySortField.CREATED_AT, Comparator.comparing(CategoryRow::createdAt).thenComparing(BY_ID));
+        orders.put(CategorySortField.UPDATED_AT, Comparator.comparing(CategoryRow::updatedAt).thenComparing(BY_ID));
+        orders.put(CategorySortField.ID, BY_ID);
+        return Map.copyOf(orders);
+    }
+}
@@ -0,0 +1,288 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.search;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChange;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeListener;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils.after;
+
+/**
+ * Rebuilds {@link CategorySearchIndex} from the category table.
+ * <p>
+ * Rows are read in ID order, one batch at a time, and handed to {@code parallelism} indexing threads. At most
+ * {@code maxDocsPerSecond} rows are read, so a reindex never hogs the database, and at most two batches per thread
+ * wait in memory. Writes that happen while it runs are re-read at the end, so they always win over the copy the
+ * reindex read before them.
+ * <p>
+ * An index closed cleanly only needs {@link #reconcile(Instant) reconciling}: the rows updated since the last one it
+ * indexed are read again and the IDs it holds but the table no longer has are dropped.
+ * <p>
+ * It also follows the writes other instances make: the categories they changed are read back once per change poll,
+ * and every poll moves the point a later reconcile resumes from.
+ */
+public class CategoryReindexJob implements CategoryChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryReindexJob.class);
+
+    // updated_at is taken before commit, and on other instances' clocks: a write can commit a little behind the mark
+    private static final Duration RECONCILE_OVERLAP = Duration.ofMinutes(1);
+
+    private final CategoryRepository repository;
+    private final CategorySearchIndex index;
+    private final int parallelism;
+    private final int batchSize;
+    private final long nanosPerDoc;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Set<String> touchedWhileRunning = ConcurrentHashMap.newKeySet();
+
+    // Only touched by the poller thread
+    private final Set<String> changedRemotely = new LinkedHashSet<>();
+
+    public CategoryReindexJob(
+            final CategoryRepository repository,
+            final CategorySearchIndex index,
+            final int parallelism,
+            final int batchSize,
+            final int maxDocsPerSecond
+    ) {
+        this.repository = repository;
+        this.index = index;
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+        this.nanosPerDoc = maxDocsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / maxDocsPerSecond : 0;
+    }
+
+    /**
+     * Reindexes the whole table on the calling thread and returns how many rows were indexed, or -1 when another
+     * reindex is already running.
+     */
+    public long run() {
+        if (!this.running.compareAndSet(false, true)) {
+            return -1;
+        }
+
+        final var workers = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            final var thread = new Thread(runnable, "category-reindex");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final var startedAt = System.nanoTime();
+            final var epoch = this.index.beginEpoch();
+            final var indexed = indexTable(workers);
+
+            reindexTouched();
+            this.index.deleteOlderThan(epoch);
+            this.index.commit();
+            this.index.markReady();
+
+            log.info("Category search index rebuilt: {} rows in {} ms", indexed,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            return indexed;
+        } finally {
+            workers.shutdown();
+            this.touchedWhileRunning.clear();
+            this.running.set(false);
+        }
+    }
+
+    public CompletableFuture<Long> runAsync() {
+        return CompletableFuture.supplyAsync(this::run, CategoryReindexJob::startThread);
+    }
+
+    /**
+     * Catches the index up with the table from {@code updatedSince} on, on the calling thread, and returns how many
+     * rows were reindexed or dropped, or -1 when another reindex is already running.
+     */
+    public long reconcile(final Instant updatedSince) {
+        if (!this.running.compareAndSet(false, true)) {
+            return -1;
+        }
+
+        try {
+            final var startedAt = System.nanoTime();
+            final var reindexed = indexUpdatedSince(updatedSince.minus(RECONCILE_OVERLAP));
+            final var dropped = dropDeleted();
+
+            reindexTouched();
+            this.index.refresh();
+            this.index.commit();
+            this.index.markReady();
+
+            log.info("Category search index reconciled: {} rows reindexed and {} dropped in {} ms", reindexed, dropped,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            return reindexed + dropped;
+        } finally {
+            this.touchedWhileRunning.clear();
+            this.running.set(false);
+        }
+    }
+
+    public CompletableFuture<Long> reconcileAsync(final Instant updatedSince) {
+        return CompletableFuture.supplyAsync(() -> reconcile(updatedSince), CategoryReindexJob::startThread);
+    }
+
+    /**
+     * Called for every write indexed incrementally, so a running reindex knows the row must be re-read.
+     */
+    public void touched(final CategoryID id) {
+        if (this.running.get()) {
+            this.touchedWhileRunning.add(id.getValue());
+        }
+    }
+
+    public boolean isRunning() {
+        return this.running.get();
+    }
+
+    @Override
+    public void onRemoteChange(final CategoryChange change) {
+        this.changedRemotely.add(change.id().getValue());
+    }
+
+    @Override
+    public void onPolled(final long appliedThrough) {
+        // The log was read a moment ago: changes committing in between are left to the next poll or, after a
+        // restart, to the reconcile overlap
+        final var polledAt = Instant.now();
+        if (!this.changedRemotely.isEmpty()) {
+            final var ids = List.copyOf(this.changedRemotely);
+            reload(ids);
+            this.index.refresh();
+            ids.forEach(id -> touched(CategoryID.from(id)));
+            this.changedRemotely.clear();
+        }
+        this.index.markSynced(polledAt);
+    }
+
+    private long indexTable(final ExecutorService workers) {
+        final var inFlight = new Semaphore(this.parallelism * 2);
+        final var pending = new ArrayList<CompletableFuture<Void>>();
+        var throttle = System.nanoTime();
+        var indexed = 0L;
+        String lastId = null;
+
+        while (true) {
+            final var rows = this.repository.findAll(idAfter(lastId), Sort.by(Sort.Direction.ASC, "id"), 0, this.batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            lastId = rows.get(rows.size() - 1).getId();
+            indexed += rows.size();
+
+            inFlight.acquireUninterruptibly();
+            final var batch = rows.stream().map(CategoryJpaEntity::toAggregate).toList();
+            pending.add(CompletableFuture.runAsync(() -> this.index.indexAll(batch), workers)
+                    .whenComplete((ok, error) -> inFlight.release()));
+            pending.removeIf(CompletableFuture::isDone);
+
+            throttle = pace(throttle, rows.size());
+            if (rows.size() < this.batchSize) {
+                break;
+            }
+        }
+
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+        return indexed;
+    }
+
+    private long indexUpdatedSince(final Instant since) {
+        final var sort = Sort.by(Sort.Direction.ASC, "updatedAt").and(Sort.by(Sort.Direction.ASC, "id"));
+        Specification<CategoryJpaEntity> where = updatedSince(since);
+        var throttle = System.nanoTime();
+        var indexed = 0L;
+
+        while (true) {
+            final var rows = this.repository.findAll(where, sort, 0, this.batchSize);
+            this.index.indexAll(rows.stream().map(CategoryJpaEntity::toAggregate).toList());
+            indexed += rows.size();
+            throttle = pace(throttle, rows.size());
+            if (rows.size() < this.batchSize) {
+                return indexed;
+            }
+            final var last = rows.get(rows.size() - 1);
+            where = updatedSince(since).and(after("updatedAt", last.getUpdatedAt(), "id", last.getId(), true));
+        }
+    }
+
+    private long dropDeleted() {
+        final var missing = this.index.ids();
+        var lastId = "";
+        while (!missing.isEmpty()) {
+            final var ids = this.repository.findIdsAfter(lastId, PageRequest.of(0, this.batchSize));
+            ids.forEach(missing::remove);
+            if (ids.size() < this.batchSize) {
+                break;
+            }
+            lastId = ids.get(ids.size() - 1);
+        }
+        missing.forEach(id -> this.index.delete(CategoryID.from(id)));
+        return missing.size();
+    }
+
+    private long pace(final long previous, final int docs) {
+        if (this.nanosPerDoc == 0) {
+            return previous;
+        }
+        final var next = Math.max(previous, System.nanoTime() - TimeUnit.SECONDS.toNanos(1)) + docs * this.nanosPerDoc;
+        final var wait = next - System.nanoTime();
+        if (wait > 0) {
+            LockSupport.parkNanos(wait);
+        }
+        return next;
+    }
+
+    private void reindexTouched() {
+        reload(List.copyOf(this.touchedWhileRunning));
+    }
+
+    private void reload(final Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        final var found = this.repository.findAllById(ids);
+        this.index.indexAll(found.stream().map(CategoryJpaEntity::toAggregate).toList());
+        ids.stream()
+                .filter(id -> found.stream().noneMatch(entity -> entity.getId().equals(id)))
+                .forEach(id -> this.index.delete(CategoryID.from(id)));
+    }
+
+    private static void startThread(final Runnable runnable) {
+        final var thread = new Thread(runnable, "category-reindex-job");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static Specification<CategoryJpaEntity> updatedSince(final Instant since) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("updatedAt"), since);
+    }
+
+    private static Specification<CategoryJpaEntity> idAfter(final String lastId) {
+        return (root, query, cb) -> lastId == null ? null : cb.greaterThan(root.get("id"), lastId);
+    }
+}
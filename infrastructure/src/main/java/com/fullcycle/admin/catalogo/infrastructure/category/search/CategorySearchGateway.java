@@ -0,0 +1,126 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.search;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryBatchResult;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchMode;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
+
+/**
+ * Answers {@link SearchMode#RELEVANCE} searches from {@link CategorySearchIndex} and keeps the index up to date
+ * with every write made through it. Only the IDs of the requested page are read back from the database. Pages come in
+ * relevance order whatever the sort and direction of the query, which only apply when it goes to the delegate.
+ * <p>
+ * Everything else, and relevance searches while the index is still being built, goes to the delegate.
+ */
+public class CategorySearchGateway implements CategoryGateway, MeterBinder {
+
+    private final CategoryGateway delegate;
+    private final CategoryRepository repository;
+    private final CategorySearchIndex index;
+    private final CategoryReindexJob reindexJob;
+
+    public CategorySearchGateway(
+            final CategoryGateway delegate,
+            final CategoryRepository repository,
+            final CategorySearchIndex index,
+            final CategoryReindexJob reindexJob
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.repository = Objects.requireNonNull(repository);
+        this.index = Objects.requireNonNull(index);
+        this.reindexJob = Objects.requireNonNull(reindexJob);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var created = this.delegate.create(category);
+        afterCommit(() -> index(created));
+        return created;
+    }
+
+    @Override
+    public CategoryBatchResult createAll(final List<Category> categories) {
+        final var result = this.delegate.createAll(categories);
+        afterCommit(() -> {
+            this.index.indexAll(result.created());
+            this.index.refresh();
+            result.created().forEach(category -> this.reindexJob.touched(category.getId()));
+        });
+        return result;
+    }
+
+    @Override
+    public Category update(final Category category) {
+        final var updated = this.delegate.update(category);
+        afterCommit(() -> index(updated));
+        return updated;
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        this.delegate.deleteById(id);
+        afterCommit(() -> {
+            this.index.delete(id);
+            this.reindexJob.touched(id);
+        });
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return this.delegate.findById(id);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> ids) {
+        return this.delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        if (query.mode() != SearchMode.RELEVANCE || !query.hasTerms() || query.isCursorBased() || !this.index.isReady()) {
+            return this.delegate.findAll(query);
+        }
+
+        final var hits = this.index.search(query.terms(), query.page() * query.perPage(), query.perPage());
+        final var rows = this.repository.findAllById(hits.ids()).stream()
+                .collect(Collectors.toMap(CategoryJpaEntity::getId, Function.identity()));
+
+        // Keeps the relevance order; an ID deleted after the search just leaves the page one item shorter
+        final var items = hits.ids().stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+
+        return new Pagination<>(query.page(), query.perPage(), hits.total(), items);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("category.search.index.documents", this.index, CategorySearchIndex::size)
+                .description("Categories in the full-text index")
+                .register(registry);
+    }
+
+    private void index(final Category category) {
+        this.index.index(category);
+        this.reindexJob.touched(category.getId());
+    }
+}
@@ -0,0 +1,386 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.search;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.utils.SearchNormalizer;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Embedded Lucene full-text index over category name and description.
+ * <p>
+ * Only the ID is stored, the database hydrates the result page. Writes are visible to the next search right away
+ * (near real-time reader) and are committed to the directory every {@code commitInterval}. Every commit records the
+ * latest {@code updated_at} indexed, or the last change poll when that is earlier, so an index closed cleanly can be
+ * {@link #resumableFrom() caught up} with the rows written while it was closed instead of rebuilt; one that was not,
+ * or is empty, needs a full reindex. Either way it reports {@link #isReady()} false until that is done.
+ * <p>
+ * Hits always come best match first: the sort of the list query does not apply to them.
+ */
+public class CategorySearchIndex implements Closeable {
+
+    static final String ID = "id";
+    static final String NAME = "name";
+    static final String DESCRIPTION = "description";
+    static final String NAME_SORT = "name_sort";
+    static final String EPOCH = "epoch";
+
+    private static final String CLEAN_SHUTDOWN = "clean_shutdown";
+    private static final String UPDATED_THROUGH = "updated_through";
+    private static final float NAME_BOOST = 3f;
+    private static final float PREFIX_BOOST = 0.5f;
+    private static final Sort RELEVANCE = new Sort(
+            SortField.FIELD_SCORE,
+            new SortField(NAME_SORT, SortField.Type.STRING),
+            new SortField(ID, SortField.Type.STRING)
+    );
+
+    private final Directory directory;
+    private final Analyzer analyzer;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ScheduledExecutorService committer;
+    private final AtomicLong updatedThrough;
+    // When other instances' writes were last applied; stays unbounded without a change poller
+    private volatile long syncedThrough = Long.MAX_VALUE;
+    private final Instant resumableFrom;
+
+    private volatile boolean ready;
+    private volatile long epoch;
+
+    public CategorySearchIndex(final Directory directory, final Duration commitInterval) {
+        try {
+            final var commitData = DirectoryReader.indexExists(directory)
+                    ? SegmentInfos.readLatestCommit(directory).getUserData()
+                    : Map.<String, String>of();
+            final var cleanShutdown = "true".equals(commitData.get(CLEAN_SHUTDOWN));
+            final var lastUpdatedAt = commitData.get(UPDATED_THROUGH);
+
+            this.directory = directory;
+            // Text is folded with SearchNormalizer before reaching the analyzer, and no stop words: "de", "e" are valid names
+            this.analyzer = new StandardAnalyzer(CharArraySet.EMPTY_SET);
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(this.analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            this.searcherManager = new SearcherManager(this.writer, null);
+            this.updatedThrough = new AtomicLong(lastUpdatedAt == null ? Long.MIN_VALUE : Long.parseLong(lastUpdatedAt));
+            this.resumableFrom = cleanShutdown && lastUpdatedAt != null && this.writer.getDocStats().numDocs > 0
+                    ? Instant.ofEpochMilli(this.updatedThrough.get())
+                    : null;
+            this.epoch = System.currentTimeMillis();
+
+            // Until the next clean close, a crash leaves the on-disk index flagged for reindex
+            this.writer.setLiveCommitData(commitData(false));
+            this.writer.commit();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        this.committer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "category-index-commit");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final var interval = commitInterval.toMillis();
+        this.committer.scheduleWithFixedDelay(this::commit, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public static CategorySearchIndex open(final Path path, final Duration commitInterval) {
+        try {
+            return new CategorySearchIndex(FSDirectory.open(path), commitInterval);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public static CategorySearchIndex inMemory() {
+        return new CategorySearchIndex(new ByteBuffersDirectory(), Duration.ofMinutes(1));
+    }
+
+    public void index(final Category category) {
+        indexAll(List.of(category));
+        refresh();
+    }
+
+    /**
+     * Adds or replaces the documents without refreshing the reader, meant for bulk loads followed by {@link #refresh()}.
+     */
+    public void indexAll(final Collection<Category> categories) {
+        final var currentEpoch = this.epoch;
+        try {
+            for (final var category : categories) {
+                this.writer.updateDocument(idTerm(category.getId()), document(category, currentEpoch));
+                this.updatedThrough.accumulateAndGet(category.getUpdatedAt().toEpochMilli(), Math::max);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void delete(final CategoryID id) {
+        try {
+            this.writer.deleteDocuments(idTerm(id));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        refresh();
+    }
+
+    /**
+     * IDs of the categories matching every word of {@code terms}, best matches first. The last word also matches
+     * as a prefix, so partially typed terms already find something.
+     */
+    public Hits search(final String terms, final int offset, final int limit) {
+        final var query = query(terms);
+        if (query == null) {
+            return Hits.EMPTY;
+        }
+
+        try {
+            final var searcher = this.searcherManager.acquire();
+            try {
+                final var total = searcher.count(query);
+                if (total <= offset || limit <= 0) {
+                    return new Hits(List.of(), total);
+                }
+
+                final var top = searcher.search(query, offset + limit, RELEVANCE, false);
+                final var ids = new ArrayList<String>(limit);
+                for (var i = offset; i < top.scoreDocs.length; i++) {
+                    ids.add(searcher.doc(top.scoreDocs[i].doc, Set.of(ID)).get(ID));
+                }
+                return new Hits(ids, total);
+            } finally {
+                this.searcherManager.release(searcher);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Starts a new epoch: every document written from now on, by a reindex or not, belongs to it.
+     */
+    public long beginEpoch() {
+        this.epoch = Math.max(System.currentTimeMillis(), this.epoch + 1);
+        return this.epoch;
+    }
+
+    /**
+     * Drops documents not rewritten since {@code epoch} started, that is, rows a reindex did not find anymore.
+     */
+    public void deleteOlderThan(final long epoch) {
+        try {
+            this.writer.deleteDocuments(LongPoint.newRangeQuery(EPOCH, Long.MIN_VALUE, epoch - 1));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        refresh();
+    }
+
+    public void refresh() {
+        try {
+            this.searcherManager.maybeRefreshBlocking();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void commit() {
+        try {
+            if (this.writer.hasUncommittedChanges()) {
+                this.writer.setLiveCommitData(commitData(false));
+                this.writer.commit();
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public boolean isReady() {
+        return this.ready;
+    }
+
+    /**
+     * The latest {@code updated_at} of the documents on disk, when the index was closed cleanly after a reindex: only
+     * rows written since then, and rows deleted since, are missing from it. Empty when it needs a full reindex.
+     */
+    public Optional<Instant> resumableFrom() {
+        return Optional.ofNullable(this.resumableFrom);
+    }
+
+    /**
+     * IDs of every category in the index, including writes not refreshed yet.
+     */
+    public Set<String> ids() {
+        refresh();
+        try {
+            final var searcher = this.searcherManager.acquire();
+            try {
+                final var ids = new HashSet<String>();
+                for (final var leaf : searcher.getIndexReader().leaves()) {
+                    final var values = leaf.reader().getSortedDocValues(ID);
+                    final var liveDocs = leaf.reader().getLiveDocs();
+                    if (values == null) {
+                        continue;
+                    }
+                    for (var doc = values.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = values.nextDoc()) {
+                        if (liveDocs == null || liveDocs.get(doc)) {
+                            ids.add(values.lookupOrd(values.ordValue()).utf8ToString());
+                        }
+                    }
+                }
+                return ids;
+            } finally {
+                this.searcherManager.release(searcher);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Every write other instances committed before {@code at} has been applied, so the mark a reconcile resumes from
+     * never goes past it, however recent the local writes are.
+     */
+    void markSynced(final Instant at) {
+        this.syncedThrough = at.toEpochMilli();
+    }
+
+    void markReady() {
+        this.ready = true;
+    }
+
+    public long size() {
+        return this.writer.getDocStats().numDocs;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.committer.shutdown();
+        this.writer.setLiveCommitData(commitData(this.ready));
+        this.writer.commit();
+        this.searcherManager.close();
+        this.writer.close();
+        this.directory.close();
+    }
+
+    private Iterable<Map.Entry<String, String>> commitData(final boolean cleanShutdown) {
+        return Map.of(
+                CLEAN_SHUTDOWN, Boolean.toString(cleanShutdown),
+                UPDATED_THROUGH, Long.toString(Math.min(this.updatedThrough.get(), this.syncedThrough))
+        ).entrySet();
+    }
+
+    private Query query(final String terms) {
+        final var words = analyze(SearchNormalizer.normalize(terms));
+        if (words.isEmpty()) {
+            return null;
+        }
+
+        final var query = new BooleanQuery.Builder();
+        for (var i = 0; i < words.size(); i++) {
+            final var word = words.get(i);
+            final var clause = new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(new Term(NAME, word)), NAME_BOOST), BooleanClause.Occur.SHOULD)
+                    .add(new TermQuery(new Term(DESCRIPTION, word)), BooleanClause.Occur.SHOULD);
+            if (i == words.size() - 1) {
+                clause.add(new BoostQuery(new PrefixQuery(new Term(NAME, word)), NAME_BOOST * PREFIX_BOOST), BooleanClause.Occur.SHOULD)
+                        .add(new BoostQuery(new PrefixQuery(new Term(DESCRIPTION, word)), PREFIX_BOOST), BooleanClause.Occur.SHOULD);
+            }
+            query.add(clause.build(), BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    private List<String> analyze(final String text) {
+        final var words = new ArrayList<String>();
+        if (text == null || text.isBlank()) {
+            return words;
+        }
+
+        try (final var stream = this.analyzer.tokenStream(NAME, text)) {
+            final var term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                words.add(term.toString());
+            }
+            stream.end();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return words;
+    }
+
+    private static Term idTerm(final CategoryID id) {
+        return new Term(ID, id.getValue());
+    }
+
+    private static Document document(final Category category, final long epoch) {
+        final var name = SearchNormalizer.normalize(category.getName());
+        final var description = SearchNormalizer.normalize(category.getDescription());
+
+        final var document = new Document();
+        document.add(new StringField(ID, category.getId().getValue(), Field.Store.YES));
+        document.add(new SortedDocValuesField(ID, new BytesRef(category.getId().getValue())));
+        document.add(new TextField(NAME, name, Field.Store.NO));
+        document.add(new SortedDocValuesField(NAME_SORT, new BytesRef(name)));
+        if (description != null) {
+            document.add(new TextField(DESCRIPTION, description, Field.Store.NO));
+        }
+        document.add(new LongPoint(EPOCH, epoch));
+        return document;
+    }
+
+    /**
+     * @param ids   category IDs of the requested page, in relevance order.
+     * @param total how many categories match in the whole index.
+     */
+    public record Hits(List<String> ids, long total) {
+        public static final Hits EMPTY = new Hits(List.of(), 0);
+    }
+}
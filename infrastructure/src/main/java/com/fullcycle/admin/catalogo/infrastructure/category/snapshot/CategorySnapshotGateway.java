@@ -0,0 +1,112 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.snapshot;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryBatchResult;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.isTransactionActive;
+
+/**
+ * Looks categories up by ID in {@link CategorySnapshotStore} before going to the delegate, and stores whatever the
+ * delegate returns.
+ * <p>
+ * Sits right below the in-memory cache, so the file is only read on a cache miss, mostly while the cache warms up
+ * after a restart. Writes reach the file after their transaction commits, and reads inside a transaction go straight
+ * to the delegate.
+ */
+public class CategorySnapshotGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final CategorySnapshotStore store;
+
+    public CategorySnapshotGateway(final CategoryGateway delegate, final CategorySnapshotStore store) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.store = Objects.requireNonNull(store);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var created = this.delegate.create(category);
+        afterCommit(() -> this.store.put(created, System.nanoTime()));
+        return created;
+    }
+
+    @Override
+    public CategoryBatchResult createAll(final List<Category> categories) {
+        final var result = this.delegate.createAll(categories);
+        afterCommit(() -> {
+            final var now = System.nanoTime();
+            result.created().forEach(category -> this.store.put(category, now));
+        });
+        return result;
+    }
+
+    @Override
+    public Category update(final Category category) {
+        final var updated = this.delegate.update(category);
+        afterCommit(() -> this.store.put(updated, System.nanoTime()));
+        return updated;
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        this.delegate.deleteById(id);
+        afterCommit(() -> this.store.remove(id));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        if (isTransactionActive()) {
+            return this.delegate.findById(id);
+        }
+
+        final var stored = this.store.get(id);
+        if (stored.isPresent()) {
+            return stored;
+        }
+
+        // Taken before the read: a change landing while it runs keeps its result out of the file
+        final var startedAt = System.nanoTime();
+        final var category = this.delegate.findById(id);
+        category.ifPresent(it -> this.store.put(it, startedAt));
+        return category;
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> ids) {
+        if (isTransactionActive()) {
+            return this.delegate.findAllByIds(ids);
+        }
+
+        final var categories = new ArrayList<Category>(ids.size());
+        final var missingIds = new ArrayList<CategoryID>();
+        for (final var id : ids) {
+            this.store.get(id).ifPresentOrElse(categories::add, () -> missingIds.add(id));
+        }
+        if (missingIds.isEmpty()) {
+            return categories;
+        }
+
+        final var startedAt = System.nanoTime();
+        for (final var category : this.delegate.findAllByIds(missingIds)) {
+            this.store.put(category, startedAt);
+            categories.add(category);
+        }
+        return categories;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return this.delegate.findAll(query);
+    }
+}
@@ -0,0 +1,417 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.snapshot;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChange;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeListener;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+
+import static com.fullcycle.admin.catalogo.infrastructure.category.CategoryBinaryCodec.decode;
+import static com.fullcycle.admin.catalogo.infrastructure.category.CategoryBinaryCodec.encode;
+import static com.fullcycle.admin.catalogo.infrastructure.category.CategoryBinaryCodec.isTombstone;
+import static com.fullcycle.admin.catalogo.infrastructure.category.CategoryBinaryCodec.readId;
+import static com.fullcycle.admin.catalogo.infrastructure.category.CategoryBinaryCodec.readVersion;
+import static com.fullcycle.admin.catalogo.infrastructure.category.CategoryBinaryCodec.tombstone;
+
+/**
+ * Category snapshots kept in a memory-mapped, append-only file, so a restarted instance finds its cache warm.
+ * <p>
+ * Each record is a length, a CRC and either a serialized {@link Category} or a tombstone; an in-memory index points
+ * every ID to its latest record. The index is rebuilt by scanning the file in background on startup, and lookups miss
+ * until it is done. All writes go through a single writer thread, which also compacts the file into a fresh one when
+ * it runs out of room.
+ * <p>
+ * The header holds the {@code category_change} sequence up to which every change was applied to the file. On
+ * startup the change poller resumes from there, and lookups keep missing until a poll has applied every change up to
+ * that checkpoint, so whatever changed while the instance was down is tombstoned before it can be served. A file whose checkpoint is older than {@code maxAge}, which is how long the change log is kept,
+ * can't be brought up to date and is discarded. The checkpoint trails the poller by {@code checkpointDelay}, leaving
+ * time for the local writes up to it to reach the file first.
+ */
+public class CategorySnapshotStore implements CategoryChangeListener, MeterBinder, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(CategorySnapshotStore.class);
+
+    private static final int MAGIC = 0x43415453;
+    private static final int FORMAT = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int CHECKPOINT_OFFSET = 8;
+    private static final int CHECKPOINT_AT_OFFSET = 16;
+    private static final long NO_CHECKPOINT = -1;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int TERMINATOR_SIZE = 4;
+
+    private final Path file;
+    private final int maxBytes;
+    private final long checkpointDelayNanos;
+    private final OptionalLong checkpoint;
+    private final ExecutorService writer;
+    // When each ID was last invalidated, so a read that started before it doesn't write its older copy back
+    private final Cache<CategoryID, Long> invalidatedAt;
+
+    private volatile Segment segment;
+    private volatile boolean loaded;
+    // Whether the changes made while the instance was down were replayed, right away when the file starts over
+    private volatile boolean caughtUp;
+
+    // Only touched by the poller thread
+    private final ArrayDeque<long[]> pendingCheckpoints = new ArrayDeque<>();
+    private long lastPolled = NO_CHECKPOINT;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder compactions = new LongAdder();
+
+    private CategorySnapshotStore(
+            final Path file,
+            final int maxBytes,
+            final Duration maxAge,
+            final Duration checkpointDelay
+    ) throws IOException {
+        this.file = file;
+        this.maxBytes = maxBytes;
+        this.checkpointDelayNanos = checkpointDelay.toNanos();
+        this.invalidatedAt = Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(1)).build();
+
+        final var existed = Files.exists(file) && Files.size(file) >= HEADER_SIZE;
+        final var buffer = map(file, maxBytes);
+        this.checkpoint = existed ? readCheckpoint(buffer, maxAge) : OptionalLong.empty();
+        if (this.checkpoint.isEmpty()) {
+            // Unknown, foreign or too old to catch up with: start over
+            writeHeader(buffer, NO_CHECKPOINT, 0);
+            buffer.putInt(HEADER_SIZE, 0);
+        }
+        this.segment = new Segment(buffer);
+        this.caughtUp = this.checkpoint.isEmpty();
+
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            final var thread = new Thread(runnable, "category-snapshot-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.writer.execute(this::load);
+    }
+
+    public static CategorySnapshotStore open(
+            final Path file,
+            final long maxBytes,
+            final Duration maxAge,
+            final Duration checkpointDelay
+    ) {
+        if (maxBytes <= HEADER_SIZE || maxBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("maxBytes must be between %d and %d".formatted(HEADER_SIZE, Integer.MAX_VALUE));
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            return new CategorySnapshotStore(file, (int) maxBytes, maxAge, checkpointDelay);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * The change log sequence the file is up to date with, empty when the file can't be trusted and was reset.
+     */
+    public OptionalLong checkpoint() {
+        return this.checkpoint;
+    }
+
+    /**
+     * Whether the file was scanned and brought up to date with the changes made since its checkpoint.
+     */
+    public boolean isReady() {
+        return this.loaded && this.caughtUp;
+    }
+
+    public Optional<Category> get(final CategoryID id) {
+        if (!isReady()) {
+            this.misses.increment();
+            return Optional.empty();
+        }
+        final var segment = this.segment;
+        final var entry = segment.index.get(id);
+        final var invalidatedAt = this.invalidatedAt.getIfPresent(id);
+        if (entry == null || (invalidatedAt != null && invalidatedAt >= entry.appendedAt)) {
+            this.misses.increment();
+            return Optional.empty();
+        }
+        this.hits.increment();
+        return Optional.of(decode(read(segment.buffer, entry.offset)));
+    }
+
+    /**
+     * Stores {@code category} in background, unless it was invalidated after {@code readStartedAt} or a newer
+     * version is already stored.
+     */
+    public void put(final Category category, final long readStartedAt) {
+        final var id = category.getId();
+        final var version = category.getVersion();
+        final var payload = encode(category);
+        this.writer.execute(() -> {
+            final var invalidatedAt = this.invalidatedAt.getIfPresent(id);
+            final var current = this.segment.index.get(id);
+            if ((invalidatedAt != null && invalidatedAt >= readStartedAt)
+                    || (current != null && current.version >= version)) {
+                this.dropped.increment();
+                return;
+            }
+            append(id, version, payload);
+        });
+    }
+
+    public void remove(final CategoryID id) {
+        this.invalidatedAt.put(id, System.nanoTime());
+        this.writer.execute(() -> {
+            if (this.segment.index.remove(id) != null) {
+                append(null, 0, tombstone(id));
+            }
+        });
+    }
+
+    @Override
+    public void onRemoteChange(final CategoryChange change) {
+        remove(change.id());
+    }
+
+    @Override
+    public void onPolled(final long appliedThrough) {
+        if (!this.caughtUp && appliedThrough >= this.checkpoint.orElseThrow()) {
+            // Every change replayed since the checkpoint went through onRemoteChange before this poll ended
+            this.caughtUp = true;
+        }
+
+        final var now = System.nanoTime();
+        if (appliedThrough > this.lastPolled) {
+            this.lastPolled = appliedThrough;
+            this.pendingCheckpoints.addLast(new long[]{appliedThrough, now});
+        }
+
+        var checkpoint = NO_CHECKPOINT;
+        while (!this.pendingCheckpoints.isEmpty() && now - this.pendingCheckpoints.peekFirst()[1] >= this.checkpointDelayNanos) {
+            checkpoint = this.pendingCheckpoints.removeFirst()[0];
+        }
+        if (checkpoint != NO_CHECKPOINT) {
+            final var sequence = checkpoint;
+            this.writer.execute(() -> writeHeader(this.segment.buffer, sequence, Instant.now().toEpochMilli()));
+        }
+    }
+
+    public int size() {
+        return this.segment.index.size();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("cache.category.disk.lookups", this.hits, LongAdder::sum)
+                .description("Category lookups in the snapshot file")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.category.disk.lookups", this.misses, LongAdder::sum)
+                .description("Category lookups in the snapshot file")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.category.disk.writes", this.written, LongAdder::sum)
+                .description("Category snapshots appended to the file")
+                .tag("result", "written")
+                .register(registry);
+        FunctionCounter.builder("cache.category.disk.writes", this.dropped, LongAdder::sum)
+                .description("Category snapshots not appended, already stale or with no room left")
+                .tag("result", "dropped")
+                .register(registry);
+        FunctionCounter.builder("cache.category.disk.compactions", this.compactions, LongAdder::sum)
+                .description("Rewrites of the snapshot file keeping only the latest record of each category")
+                .register(registry);
+        Gauge.builder("cache.category.disk.size", this, CategorySnapshotStore::size)
+                .description("Categories in the snapshot file")
+                .register(registry);
+        Gauge.builder("cache.category.disk.used", this, it -> it.segment.position)
+                .description("Bytes of the snapshot file in use")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    @Override
+    public void close() {
+        this.writer.shutdown();
+        try {
+            this.writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        this.segment.buffer.force();
+    }
+
+    private void load() {
+        final var startedAt = System.nanoTime();
+        final var segment = this.segment;
+        final var buffer = segment.buffer;
+        var position = HEADER_SIZE;
+        while (position + RECORD_HEADER_SIZE <= this.maxBytes) {
+            final var length = buffer.getInt(position);
+            if (length <= 0 || position + RECORD_HEADER_SIZE + length > this.maxBytes) {
+                break;
+            }
+            final var payload = new byte[length];
+            buffer.get(position + RECORD_HEADER_SIZE, payload);
+            if (crc(payload) != buffer.getInt(position + 4)) {
+                // Torn by a crash in the middle of an append, nothing after it is trusted
+                break;
+            }
+            final var id = readId(payload);
+            if (!isTombstone(payload)) {
+                segment.index.put(id, new Entry(position, readVersion(payload), 0));
+            } else {
+                segment.index.remove(id);
+            }
+            position += RECORD_HEADER_SIZE + length;
+        }
+        segment.position = position;
+        if (position + TERMINATOR_SIZE <= this.maxBytes) {
+            buffer.putInt(position, 0);
+        }
+        this.loaded = true;
+        log.info("Category snapshot file loaded: {} categories in {} ms", segment.index.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private void append(final CategoryID id, final long version, final byte[] payload) {
+        final var size = RECORD_HEADER_SIZE + payload.length;
+        if (this.segment.position + size + TERMINATOR_SIZE > this.maxBytes) {
+            compact();
+            if (this.segment.position + size + TERMINATOR_SIZE > this.maxBytes) {
+                this.dropped.increment();
+                return;
+            }
+        }
+
+        final var segment = this.segment;
+        final var position = segment.position;
+        final var buffer = segment.buffer;
+        // Terminator and payload first and the length last, so a crash halfway leaves a record the scan rejects
+        buffer.putInt(position + size, 0);
+        buffer.putInt(position + 4, crc(payload));
+        buffer.put(position + RECORD_HEADER_SIZE, payload);
+        buffer.putInt(position, payload.length);
+        segment.position = position + size;
+        if (id != null) {
+            segment.index.put(id, new Entry(position, version, System.nanoTime()));
+            this.written.increment();
+        }
+    }
+
+    private void compact() {
+        final var startedAt = System.nanoTime();
+        final var current = this.segment;
+        final var compacted = this.file.resolveSibling(this.file.getFileName() + ".compact");
+        try {
+            Files.deleteIfExists(compacted);
+            final var buffer = map(compacted, this.maxBytes);
+            writeHeader(buffer, current.buffer.getLong(CHECKPOINT_OFFSET), current.buffer.getLong(CHECKPOINT_AT_OFFSET));
+
+            final var next = new Segment(buffer);
+            var position = HEADER_SIZE;
+            for (final Map.Entry<CategoryID, Entry> live : current.index.entrySet()) {
+                final var offset = live.getValue().offset;
+                final var size = RECORD_HEADER_SIZE + current.buffer.getInt(offset);
+                buffer.put(position, current.buffer, offset, size);
+                next.index.put(live.getKey(), new Entry(position, live.getValue().version, live.getValue().appendedAt));
+                position += size;
+            }
+            next.position = position;
+            buffer.putInt(position, 0);
+            buffer.force();
+
+            Files.move(compacted, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            this.segment = next;
+            this.compactions.increment();
+            log.info("Category snapshot file compacted: {} categories, {} of {} bytes in {} ms", next.index.size(),
+                    position, this.maxBytes, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (final IOException ex) {
+            log.warn("Category snapshot file could not be compacted", ex);
+        }
+    }
+
+    private static MappedByteBuffer map(final Path file, final int maxBytes) throws IOException {
+        // The mapping stays valid once the channel is closed
+        try (final var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, maxBytes);
+        }
+    }
+
+    private static OptionalLong readCheckpoint(final MappedByteBuffer buffer, final Duration maxAge) {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT) {
+            return OptionalLong.empty();
+        }
+        final var checkpoint = buffer.getLong(CHECKPOINT_OFFSET);
+        final var checkpointAt = Instant.ofEpochMilli(buffer.getLong(CHECKPOINT_AT_OFFSET));
+        if (checkpoint == NO_CHECKPOINT || checkpointAt.isBefore(Instant.now().minus(maxAge))) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(checkpoint);
+    }
+
+    private static void writeHeader(final MappedByteBuffer buffer, final long checkpoint, final long checkpointAt) {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, FORMAT);
+        buffer.putLong(CHECKPOINT_OFFSET, checkpoint);
+        buffer.putLong(CHECKPOINT_AT_OFFSET, checkpointAt);
+    }
+
+    private static byte[] read(final MappedByteBuffer buffer, final int offset) {
+        final var payload = new byte[buffer.getInt(offset)];
+        buffer.get(offset + RECORD_HEADER_SIZE, payload);
+        return payload;
+    }
+
+    private static int crc(final byte[] payload) {
+        final var crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private record Entry(int offset, long version, long appendedAt) {
+    }
+
+    private static final class Segment {
+
+        private final MappedByteBuffer buffer;
+        private final Map<CategoryID, Entry> index = new ConcurrentHashMap<>();
+        private volatile int position = HEADER_SIZE;
+
+        private Segment(final MappedByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+    }
+}
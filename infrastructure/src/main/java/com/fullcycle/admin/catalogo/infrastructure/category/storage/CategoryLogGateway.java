@@ -0,0 +1,195 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.storage;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryBatchResult;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.category.CatalogGeneration;
+import com.fullcycle.admin.catalogo.infrastructure.category.readmodel.CategoryReadModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * {@link CategoryGateway} over a {@link CategoryLogStore}, for single-instance deployments that keep the categories in
+ * local files instead of the category table. Only the categories move: the application still starts against MySQL
+ * (data source, Flyway, JPA), and since these writes never reach {@code category_change} there is nothing for other
+ * instances to follow.
+ * <p>
+ * Lookups by ID read the log through its index. List queries are answered by a {@link CategoryReadModel} loaded from
+ * the log on startup and kept current by every write, so filters, order, cursors and totals are the database's. A
+ * write reaches the model only once it is on disk; one whose sync fails is reported and left out of list queries.
+ * <p>
+ * Writes follow the same rules as the MySQL gateway: updates are checked against the stored version and bump it, and
+ * an update with no changes writes nothing. Checking and appending happen under one lock, the wait for the disk
+ * outside it, so concurrent writers share their fsyncs. Writes take no part in Spring transactions, each one is
+ * durable on its own once it returns.
+ */
+public class CategoryLogGateway implements CategoryGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryLogGateway.class);
+
+    private final CategoryLogStore store;
+    private final CategoryReadModel model;
+    private final CatalogGeneration generation;
+    private final Object writeLock = new Object();
+
+    public CategoryLogGateway(
+            final CategoryLogStore store,
+            final CategoryReadModel model,
+            final CatalogGeneration generation
+    ) {
+        this.store = Objects.requireNonNull(store);
+        this.model = Objects.requireNonNull(model);
+        this.generation = Objects.requireNonNull(generation);
+        this.model.loadAll(store.all());
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var created = stored(category, category.getVersion());
+        final long ticket;
+        synchronized (this.writeLock) {
+            if (this.store.contains(created.getId())) {
+                throw DomainException.with(new Error("Category with ID %s already exists".formatted(created.getId().getValue())));
+            }
+            ticket = this.store.append(created);
+        }
+        this.store.sync(ticket);
+        publish(List.of(created.getId()));
+        this.generation.next();
+        return created;
+    }
+
+    @Override
+    public CategoryBatchResult createAll(final List<Category> categories) {
+        final var created = new ArrayList<Category>(categories.size());
+        final var rejected = new LinkedHashMap<CategoryID, Error>();
+        var ticket = 0L;
+        synchronized (this.writeLock) {
+            for (final var category : categories) {
+                if (this.store.contains(category.getId())) {
+                    // Same as a duplicate row in the MySQL batch: rejected, the others still go in
+                    log.warn("Category {} could not be inserted: it already exists", category.getId().getValue());
+                    rejected.put(category.getId(), new Error("Category with ID %s already exists".formatted(category.getId().getValue())));
+                    continue;
+                }
+                final var stored = stored(category, category.getVersion());
+                ticket = this.store.append(stored);
+                created.add(stored);
+            }
+        }
+        // One fsync for the whole batch
+        this.store.sync(ticket);
+        if (!created.isEmpty()) {
+            publish(created.stream().map(Category::getId).toList());
+            this.generation.next();
+        }
+        return new CategoryBatchResult(created, rejected);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        if (!category.hasChanges()) {
+            // Nothing to write, not even updated_at: the stored record already is this category
+            return category;
+        }
+
+        final var id = category.getId();
+        final Category updated;
+        final long ticket;
+        synchronized (this.writeLock) {
+            final var version = this.store.version(id);
+            if (version.isEmpty()) {
+                throw DomainException.with(new Error("Category with ID %s was not found".formatted(id.getValue())));
+            }
+            if (version.getAsLong() != category.getVersion()) {
+                throw ConflictException.with("Category with ID %s was changed concurrently, version %d is stale"
+                        .formatted(id.getValue(), category.getVersion()));
+            }
+            updated = stored(category, category.getVersion() + 1);
+            ticket = this.store.append(updated);
+        }
+        this.store.sync(ticket);
+        publish(List.of(id));
+        this.generation.next();
+        return updated;
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        final long ticket;
+        synchronized (this.writeLock) {
+            if (!this.store.contains(id)) {
+                return;
+            }
+            ticket = this.store.appendRemoval(id);
+        }
+        this.store.sync(ticket);
+        publish(List.of(id));
+        this.generation.next();
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return this.store.get(id);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> ids) {
+        return ids.stream()
+                .distinct()
+                .map(this.store::get)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return this.model.findAll(query);
+    }
+
+    /**
+     * Hands the model what the store holds for {@code ids} now that their writes are on disk. Read under the write
+     * lock rather than taken from the write itself, so two writes to the same category that sync in the opposite
+     * order of their appends still leave the model with the last one.
+     */
+    private void publish(final List<CategoryID> ids) {
+        synchronized (this.writeLock) {
+            final var saved = new ArrayList<Category>(ids.size());
+            for (final var id : ids) {
+                this.store.get(id).ifPresentOrElse(saved::add, () -> this.model.onDeleted(id));
+            }
+            if (!saved.isEmpty()) {
+                this.model.onSavedAll(saved);
+            }
+        }
+    }
+
+    /**
+     * {@code category} as read back from the store: at {@code version} and with nothing left to write.
+     */
+    private static Category stored(final Category category, final long version) {
+        return Category.with(
+                category.getId(),
+                category.getName(),
+                category.getDescription(),
+                category.isActive(),
+                category.getCreatedAt(),
+                category.getUpdatedAt(),
+                category.getDeletedAt(),
+                version
+        );
+    }
+}
@@ -0,0 +1,564 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.storage;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+
+import static com.fullcycle.admin.catalogo.infrastructure.category.CategoryBinaryCodec.decode;
+import static com.fullcycle.admin.catalogo.infrastructure.category.CategoryBinaryCodec.encode;
+import static com.fullcycle.admin.catalogo.infrastructure.category.CategoryBinaryCodec.isTombstone;
+import static com.fullcycle.admin.catalogo.infrastructure.category.CategoryBinaryCodec.readId;
+import static com.fullcycle.admin.catalogo.infrastructure.category.CategoryBinaryCodec.readVersion;
+import static com.fullcycle.admin.catalogo.infrastructure.category.CategoryBinaryCodec.tombstone;
+
+/**
+ * Embedded storage for categories: an append-only log of serialized categories and tombstones spread over
+ * memory-mapped segment files, and an in-memory hash index pointing every ID to its latest record.
+ * <p>
+ * Records are appended to the active segment under a lock and are visible to readers right away; {@link #sync(long)}
+ * makes them durable. The first writer to sync forces everything appended so far and the ones arriving meanwhile
+ * wait for it, finding their records already forced or sharing the next force: one fsync per group of concurrent
+ * writes rather than per write. A full segment is forced, sealed and replaced by a new one.
+ * <p>
+ * Sealed segments are compacted in background once enough of their bytes are garbage. The live records are copied to
+ * a new file that replaces the newest of them, and the others are deleted. Its header names the first segment it
+ * covers, so a crash halfway is settled on the next start by deleting whatever it covers. Tombstones are not copied:
+ * every older record of their IDs goes away with the segments.
+ * <p>
+ * Opening the store replays the segments in order to rebuild the index. A record torn by a crash ends its segment,
+ * which is truncated right before it, and appends always resume in a new segment.
+ */
+public class CategoryLogStore implements MeterBinder, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryLogStore.class);
+
+    private static final int MAGIC = 0x4341544c;
+    private static final int FORMAT = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int COVERS_FROM_OFFSET = 8;
+    private static final long BLANK = -1;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int TERMINATOR_SIZE = 4;
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String COMPACT_SUFFIX = ".compact";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final boolean fsync;
+    private final double compactionGarbageRatio;
+    private final Map<CategoryID, Location> index = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Segment> sealed = new ConcurrentSkipListMap<>();
+    private final Object appendLock = new Object();
+    private final Object syncLock = new Object();
+    private final Object compactionLock = new Object();
+    private final ScheduledExecutorService compactor;
+
+    private volatile Segment active;
+    // Records appended and records known to be on disk since the store was opened, both only ever grow
+    private volatile long appended;
+    private volatile long durable;
+
+    private final LongAdder appends = new LongAdder();
+    private final LongAdder syncs = new LongAdder();
+    private final LongAdder compactions = new LongAdder();
+
+    private CategoryLogStore(
+            final Path directory,
+            final int segmentBytes,
+            final boolean fsync,
+            final Duration compactionInterval,
+            final double compactionGarbageRatio
+    ) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.fsync = fsync;
+        this.compactionGarbageRatio = compactionGarbageRatio;
+
+        final var last = replay();
+        this.active = createSegment(last + 1, segmentFile(last + 1), segmentBytes, last + 1);
+
+        this.compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "category-log-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final var interval = compactionInterval.toMillis();
+        this.compactor.scheduleWithFixedDelay(this::compactIfWorthIt, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public static CategoryLogStore open(
+            final Path directory,
+            final long segmentBytes,
+            final boolean fsync,
+            final Duration compactionInterval,
+            final double compactionGarbageRatio
+    ) {
+        if (segmentBytes <= HEADER_SIZE + TERMINATOR_SIZE || segmentBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("segmentBytes must be between %d and %d"
+                    .formatted(HEADER_SIZE + TERMINATOR_SIZE + 1, Integer.MAX_VALUE));
+        }
+        try {
+            Files.createDirectories(directory);
+            return new CategoryLogStore(directory, (int) segmentBytes, fsync, compactionInterval, compactionGarbageRatio);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public Optional<Category> get(final CategoryID id) {
+        final var location = this.index.get(id);
+        return location == null ? Optional.empty() : Optional.of(decode(read(location)));
+    }
+
+    public OptionalLong version(final CategoryID id) {
+        final var location = this.index.get(id);
+        return location == null ? OptionalLong.empty() : OptionalLong.of(location.version);
+    }
+
+    public boolean contains(final CategoryID id) {
+        return this.index.containsKey(id);
+    }
+
+    /**
+     * Every category stored, in no particular order.
+     */
+    public List<Category> all() {
+        final var categories = new ArrayList<Category>(this.index.size());
+        this.index.values().forEach(location -> categories.add(decode(read(location))));
+        return categories;
+    }
+
+    public int size() {
+        return this.index.size();
+    }
+
+    /**
+     * Appends {@code category}, visible from now on, and returns the ticket to {@link #sync(long)} on.
+     */
+    public long append(final Category category) {
+        return append(category.getId(), category.getVersion(), encode(category));
+    }
+
+    /**
+     * Appends a tombstone for {@code id}, gone from now on, and returns the ticket to {@link #sync(long)} on.
+     */
+    public long appendRemoval(final CategoryID id) {
+        return append(id, 0, tombstone(id));
+    }
+
+    /**
+     * Returns once the record of {@code ticket}, and every one appended before it, is on disk.
+     */
+    public void sync(final long ticket) {
+        if (!this.fsync || this.durable >= ticket) {
+            return;
+        }
+        synchronized (this.syncLock) {
+            if (this.durable >= ticket) {
+                // Forced along with the group of the previous writer
+                return;
+            }
+            final long target;
+            final Segment segment;
+            final int end;
+            synchronized (this.appendLock) {
+                target = this.appended;
+                segment = this.active;
+                end = segment.position;
+            }
+            // Segments sealed in the meantime were forced when they filled up
+            final var from = Math.min(segment.forced, end);
+            segment.buffer.force(from, end - from);
+            segment.forced = end;
+            this.syncs.increment();
+            this.durable = target;
+        }
+    }
+
+    /**
+     * Rewrites every sealed segment into one holding only their live records.
+     */
+    public void compact() {
+        synchronized (this.compactionLock) {
+            if (this.sealed.isEmpty()) {
+                return;
+            }
+            final var startedAt = System.nanoTime();
+            final var segments = List.copyOf(this.sealed.values());
+            final var first = segments.get(0);
+            final var last = segments.get(segments.size() - 1);
+            final var covered = Collections.newSetFromMap(new IdentityHashMap<Segment, Boolean>());
+            covered.addAll(segments);
+
+            final var live = new ArrayList<Map.Entry<CategoryID, Location>>();
+            var liveBytes = 0L;
+            for (final var entry : this.index.entrySet()) {
+                if (covered.contains(entry.getValue().segment)) {
+                    live.add(Map.entry(entry.getKey(), entry.getValue()));
+                    liveBytes += entry.getValue().size;
+                }
+            }
+            if (HEADER_SIZE + liveBytes + TERMINATOR_SIZE > Integer.MAX_VALUE) {
+                log.warn("Category log not compacted: {} live bytes don't fit in a single segment", liveBytes);
+                return;
+            }
+
+            try {
+                final var compactedFile = this.directory.resolve(segmentFile(last.number).getFileName() + COMPACT_SUFFIX);
+                Files.deleteIfExists(compactedFile);
+                final var capacity = (int) (HEADER_SIZE + liveBytes + TERMINATOR_SIZE);
+                final var compacted = createSegment(last.number, compactedFile, capacity, first.number);
+                final var moved = new ArrayList<Location>(live.size());
+                var position = HEADER_SIZE;
+                for (final var entry : live) {
+                    final var from = entry.getValue();
+                    compacted.buffer.put(position, from.segment.buffer, from.offset, from.size);
+                    moved.add(new Location(compacted, position, from.size, from.version));
+                    position += from.size;
+                }
+                compacted.buffer.putInt(position, 0);
+                compacted.buffer.force();
+                compacted.position = position;
+                compacted.forced = position;
+
+                Files.move(compactedFile, segmentFile(last.number), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                syncDirectory();
+
+                // Whatever was written or deleted since the copy is newer and stays where it is
+                for (var i = 0; i < live.size(); i++) {
+                    this.index.replace(live.get(i).getKey(), live.get(i).getValue(), moved.get(i));
+                }
+                this.sealed.put(last.number, compacted);
+                for (final var segment : segments) {
+                    if (segment != last) {
+                        this.sealed.remove(segment.number);
+                        // Readers still holding a location in it keep reading from the mapping
+                        Files.deleteIfExists(segmentFile(segment.number));
+                    }
+                }
+                syncDirectory();
+                this.compactions.increment();
+                log.info("Category log compacted: {} segments into {} live records of {} bytes in {} ms", segments.size(),
+                        live.size(), liveBytes, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            } catch (final IOException ex) {
+                log.warn("Category log could not be compacted", ex);
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("category.log.appends", this.appends, LongAdder::sum)
+                .description("Records appended to the category log")
+                .register(registry);
+        FunctionCounter.builder("category.log.syncs", this.syncs, LongAdder::sum)
+                .description("Forces of the category log to disk, each one covering every record appended before it")
+                .register(registry);
+        FunctionCounter.builder("category.log.compactions", this.compactions, LongAdder::sum)
+                .description("Rewrites of the sealed category log segments keeping only their live records")
+                .register(registry);
+        Gauge.builder("category.log.size", this, CategoryLogStore::size)
+                .description("Categories in the category log")
+                .register(registry);
+        Gauge.builder("category.log.segments", this.sealed, sealed -> sealed.size() + 1)
+                .description("Segment files of the category log")
+                .register(registry);
+        Gauge.builder("category.log.used", this, CategoryLogStore::usedBytes)
+                .description("Bytes of the category log segments in use, garbage included")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    @Override
+    public void close() {
+        this.compactor.shutdown();
+        try {
+            this.compactor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this.appendLock) {
+            this.active.buffer.force();
+        }
+    }
+
+    private long append(final CategoryID id, final long version, final byte[] payload) {
+        final var size = RECORD_HEADER_SIZE + payload.length;
+        if (HEADER_SIZE + size + TERMINATOR_SIZE > this.segmentBytes) {
+            throw new IllegalArgumentException("Category %s takes %d bytes, more than a log segment holds"
+                    .formatted(id.getValue(), size));
+        }
+        final var crc = crc(payload);
+
+        synchronized (this.appendLock) {
+            var segment = this.active;
+            if (segment.position + size + TERMINATOR_SIZE > segment.capacity) {
+                segment = roll();
+            }
+            final var position = segment.position;
+            final var buffer = segment.buffer;
+            // Terminator and payload first and the length last, so a crash halfway leaves a record the replay rejects
+            buffer.putInt(position + size, 0);
+            buffer.putInt(position + 4, crc);
+            buffer.put(position + RECORD_HEADER_SIZE, payload);
+            buffer.putInt(position, payload.length);
+            segment.position = position + size;
+
+            if (isTombstone(payload)) {
+                this.index.remove(id);
+            } else {
+                this.index.put(id, new Location(segment, position, size, version));
+            }
+            this.appends.increment();
+            return ++this.appended;
+        }
+    }
+
+    private Segment roll() {
+        final var full = this.active;
+        if (this.fsync) {
+            full.buffer.force();
+            full.forced = full.position;
+        }
+        try {
+            final var next = createSegment(full.number + 1, segmentFile(full.number + 1), this.segmentBytes, full.number + 1);
+            this.sealed.put(full.number, full);
+            this.active = next;
+            return next;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void compactIfWorthIt() {
+        try {
+            final var covered = Collections.newSetFromMap(new IdentityHashMap<Segment, Boolean>());
+            covered.addAll(this.sealed.values());
+            final var sealedBytes = covered.stream().mapToLong(segment -> segment.position - HEADER_SIZE).sum();
+            if (sealedBytes == 0) {
+                return;
+            }
+            final var liveBytes = this.index.values().stream()
+                    .filter(location -> covered.contains(location.segment))
+                    .mapToLong(Location::size)
+                    .sum();
+            if ((double) (sealedBytes - liveBytes) / sealedBytes >= this.compactionGarbageRatio) {
+                compact();
+            }
+        } catch (final RuntimeException ex) {
+            log.warn("Category log compaction failed", ex);
+        }
+    }
+
+    /**
+     * Rebuilds the index from the segments on disk, sealing all of them, and returns the number of the last one.
+     */
+    private long replay() throws IOException {
+        final var startedAt = System.nanoTime();
+        final var files = new TreeMap<Long, Path>();
+        try (final var listing = Files.list(this.directory)) {
+            for (final var file : listing.toList()) {
+                final var name = file.getFileName().toString();
+                if (name.endsWith(COMPACT_SUFFIX)) {
+                    // A compaction that never got to replace its segments
+                    Files.delete(file);
+                } else if (name.matches("\\d+\\" + SEGMENT_SUFFIX)) {
+                    files.put(Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())), file);
+                }
+            }
+        }
+        final var last = files.isEmpty() ? 0 : files.lastKey();
+
+        // A compacted segment replaces every one from the first it covers, any still there outlived a crash
+        for (final var number : List.copyOf(files.descendingKeySet())) {
+            final var file = files.get(number);
+            if (file == null) {
+                continue;
+            }
+            final var coversFrom = readCoversFrom(file);
+            if (coversFrom == BLANK) {
+                // Created right before a crash, before its header reached the disk
+                Files.delete(files.remove(number));
+                continue;
+            }
+            for (final var obsolete : List.copyOf(files.subMap(coversFrom, number).keySet())) {
+                Files.delete(files.remove(obsolete));
+            }
+        }
+
+        for (final var entry : files.entrySet()) {
+            replaySegment(entry.getKey(), entry.getValue());
+        }
+        log.info("Category log replayed: {} categories from {} segments in {} ms", this.index.size(), files.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return last;
+    }
+
+    private void replaySegment(final long number, final Path file) throws IOException {
+        final var size = (int) Files.size(file);
+        final var end = scan(map(file, FileChannel.MapMode.READ_ONLY, size), size, null);
+        if (end == HEADER_SIZE) {
+            Files.delete(file);
+            return;
+        }
+        if (end < size) {
+            try (final var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(end);
+                channel.force(true);
+            }
+        }
+        final var buffer = map(file, FileChannel.MapMode.READ_ONLY, end);
+        final var segment = new Segment(number, buffer, end, end);
+        scan(buffer, end, segment);
+        this.sealed.put(number, segment);
+    }
+
+    /**
+     * Walks the records of a segment up to the first one missing or torn and returns where it stops. Records are
+     * applied to the index when {@code segment} is given.
+     */
+    private int scan(final MappedByteBuffer buffer, final int limit, final Segment segment) {
+        var position = HEADER_SIZE;
+        while (position + RECORD_HEADER_SIZE <= limit) {
+            final var length = buffer.getInt(position);
+            if (length <= 0 || position + RECORD_HEADER_SIZE + length > limit) {
+                break;
+            }
+            final var payload = new byte[length];
+            buffer.get(position + RECORD_HEADER_SIZE, payload);
+            if (crc(payload) != buffer.getInt(position + 4)) {
+                log.warn("Category log segment ends in a torn record at {} of {} bytes, truncated there", position, limit);
+                break;
+            }
+            if (segment != null) {
+                final var id = readId(payload);
+                if (isTombstone(payload)) {
+                    this.index.remove(id);
+                } else {
+                    this.index.put(id, new Location(segment, position, RECORD_HEADER_SIZE + length, readVersion(payload)));
+                }
+            }
+            position += RECORD_HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    private Segment createSegment(final long number, final Path file, final int capacity, final long coversFrom) throws IOException {
+        final var buffer = map(file, FileChannel.MapMode.READ_WRITE, capacity);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, FORMAT);
+        buffer.putLong(COVERS_FROM_OFFSET, coversFrom);
+        buffer.putInt(HEADER_SIZE, 0);
+        buffer.force(0, HEADER_SIZE + TERMINATOR_SIZE);
+        return new Segment(number, buffer, capacity, HEADER_SIZE);
+    }
+
+    private Path segmentFile(final long number) {
+        return this.directory.resolve("%020d%s".formatted(number, SEGMENT_SUFFIX));
+    }
+
+    private long usedBytes() {
+        final var sealedBytes = this.sealed.values().stream().mapToLong(segment -> segment.position).sum();
+        return sealedBytes + this.active.position;
+    }
+
+    private void syncDirectory() {
+        // Makes renames and deletes durable where the platform allows forcing a directory
+        try (final var channel = FileChannel.open(this.directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (final IOException ex) {
+            log.debug("Category log directory could not be forced: {}", ex.getMessage());
+        }
+    }
+
+    private static long readCoversFrom(final Path file) throws IOException {
+        try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final var header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Reads the whole header
+            }
+            if (header.hasRemaining() || header.getInt(0) == 0) {
+                return BLANK;
+            }
+            if (header.getInt(0) != MAGIC || header.getInt(4) != FORMAT) {
+                throw new IllegalStateException("%s is not a category log segment".formatted(file));
+            }
+            return header.getLong(COVERS_FROM_OFFSET);
+        }
+    }
+
+    private static MappedByteBuffer map(final Path file, final FileChannel.MapMode mode, final int size) throws IOException {
+        final var options = mode == FileChannel.MapMode.READ_ONLY
+                ? new StandardOpenOption[]{StandardOpenOption.READ}
+                : new StandardOpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE};
+        // The mapping stays valid once the channel is closed, and even once the file is deleted
+        try (final var channel = FileChannel.open(file, options)) {
+            return channel.map(mode, 0, size);
+        }
+    }
+
+    private static byte[] read(final Location location) {
+        final var payload = new byte[location.size - RECORD_HEADER_SIZE];
+        location.segment.buffer.get(location.offset + RECORD_HEADER_SIZE, payload);
+        return payload;
+    }
+
+    private static int crc(final byte[] payload) {
+        final var crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private record Location(Segment segment, int offset, int size, long version) {
+    }
+
+    private static final class Segment {
+
+        private final long number;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private volatile int position;
+        // Only advanced under the sync lock, or the append lock when the segment fills up
+        private volatile int forced;
+
+        private Segment(final long number, final MappedByteBuffer buffer, final int capacity, final int position) {
+            this.number = number;
+            this.buffer = buffer;
+            this.capacity = capacity;
+            this.position = position;
+            this.forced = position;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.CatalogGeneration;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeLog;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangePoller;
+import com.fullcycle.admin.catalogo.infrastructure.category.snapshot.CategorySnapshotStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+@Configuration
+@ConditionalOnProperty(name = "category.cluster.enabled", havingValue = "true", matchIfMissing = true)
+public class CategoryClusterConfig {
+
+    @Bean(destroyMethod = "close")
+    public CategoryChangePoller categoryChangePoller(
+            final CategoryChangeLog categoryChangeLog,
+            final CatalogGeneration catalogGeneration,
+            final MeterRegistry meterRegistry,
+            @Value("${category.cluster.poll-batch-size:1000}") final int batchSize,
+            @Value("${category.cluster.gap-timeout:30s}") final Duration gapTimeout
+    ) {
+        return new CategoryChangePoller(categoryChangeLog, catalogGeneration, batchSize, gapTimeout, meterRegistry);
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> categoryChangePollOnStartup(
+            final CategoryChangePoller categoryChangePoller,
+            final ObjectProvider<CategorySnapshotStore> categorySnapshotStore,
+            @Value("${category.cluster.poll-interval:500ms}") final Duration interval,
+            @Value("${category.cluster.retention:1h}") final Duration retention,
+            @Value("${category.cluster.purge-interval:5m}") final Duration purgeInterval
+    ) {
+        return event -> {
+            // The snapshot file is only up to date to its checkpoint, whatever changed since is replayed over it
+            final var store = categorySnapshotStore.getIfAvailable();
+            final var from = store == null ? OptionalLong.empty() : store.checkpoint();
+            categoryChangePoller.start(from, interval, retention, purgeInterval);
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryIdFilter;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryIdFilterLoader;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "category.existence.enabled", havingValue = "true", matchIfMissing = true)
+public class CategoryExistenceConfig {
+
+    @Bean
+    public CategoryIdFilter categoryIdFilter(
+            @Value("${category.existence.filter.expected-insertions:1000000}") final long expectedInsertions,
+            @Value("${category.existence.filter.false-positive-rate:0.01}") final double falsePositiveRate
+    ) {
+        return new CategoryIdFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    @Bean(destroyMethod = "close")
+    public CategoryIdFilterLoader categoryIdFilterLoader(
+            final CategoryRepository categoryRepository,
+            final DataSource dataSource,
+            final CategoryIdFilter categoryIdFilter,
+            @Value("${category.existence.filter.load-batch-size:10000}") final int batchSize,
+            @Value("${category.existence.filter.catch-up-overlap:1m}") final Duration overlap
+    ) {
+        return new CategoryIdFilterLoader(categoryRepository, dataSource, categoryIdFilter, batchSize, overlap);
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> categoryIdFilterLoadOnStartup(
+            final CategoryIdFilterLoader categoryIdFilterLoader,
+            @Value("${category.existence.filter.catch-up-interval:5s}") final Duration interval
+    ) {
+        return event -> categoryIdFilterLoader.start(interval);
+    }
+}
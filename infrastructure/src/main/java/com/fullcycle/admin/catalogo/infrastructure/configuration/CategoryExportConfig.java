@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.exporter.CategoryExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class CategoryExportConfig {
+
+    @Bean
+    public CategoryExporter categoryExporter(
+            final DataSource dataSource,
+            @Value("${export.category.fetch-size:1000}") final int fetchSize
+    ) {
+        return new CategoryExporter(dataSource, fetchSize);
+    }
+}
@@ -0,0 +1,191 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryWriteListener;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryBatchingGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.CatalogGeneration;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryCacheGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryExistenceGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryIdFilter;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryJdbcGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryPageCacheGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryPrefixIndexLoader;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategorySingleFlightGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryWriteHooksGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangePoller;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.category.readmodel.CategoryReadModel;
+import com.fullcycle.admin.catalogo.infrastructure.category.readmodel.CategoryReadModelGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.search.CategoryReindexJob;
+import com.fullcycle.admin.catalogo.infrastructure.category.search.CategorySearchGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.search.CategorySearchIndex;
+import com.fullcycle.admin.catalogo.infrastructure.category.snapshot.CategorySnapshotGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.snapshot.CategorySnapshotStore;
+import com.fullcycle.admin.catalogo.infrastructure.category.storage.CategoryLogGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Configuration
+public class CategoryGatewayConfig {
+
+    @Bean
+    @Primary
+    public CategoryGateway categoryGateway(
+            final CategoryMySQLGateway categoryMySQLGateway,
+            final ObjectProvider<CategoryJdbcGateway> categoryJdbcGateway,
+            final ObjectProvider<CategoryLogGateway> categoryLogGateway,
+            final CategoryRepository categoryRepository,
+            final CatalogGeneration catalogGeneration,
+            final ObjectProvider<CategorySearchIndex> categorySearchIndex,
+            final ObjectProvider<CategoryReindexJob> categoryReindexJob,
+            final ObjectProvider<CategoryPrefixIndexLoader> categoryPrefixIndexLoader,
+            final ObjectProvider<CategoryWriteListener> categoryWriteListeners,
+            final ObjectProvider<CategoryIdFilter> categoryIdFilter,
+            final ObjectProvider<CategoryChangePoller> categoryChangePoller,
+            final ObjectProvider<CategorySnapshotStore> categorySnapshotStore,
+            final ObjectProvider<CategoryReadModel> categoryReadModel,
+            final MeterRegistry meterRegistry,
+            @Value("${category.find-by-id.batching.enabled:true}") final boolean batchingEnabled,
+            @Value("${category.find-by-id.batching.window:2ms}") final Duration batchingWindow,
+            @Value("${category.find-by-id.batching.max-batch-size:100}") final int batchingMaxBatchSize,
+            @Value("${category.find-by-id.batching.loader-threads:2}") final int batchingLoaderThreads,
+            @Value("${category.single-flight.enabled:true}") final boolean singleFlightEnabled,
+            @Value("${cache.category.enabled:true}") final boolean cacheEnabled,
+            @Value("${cache.category.maximum-size:10000}") final long cacheMaximumSize,
+            @Value("${cache.category.expire-after-write:10m}") final Duration cacheExpireAfterWrite,
+            @Value("${cache.category.refresh-after-write:1m}") final Duration cacheRefreshAfterWrite,
+            @Value("${cache.category.pages.enabled:true}") final boolean pageCacheEnabled,
+            @Value("${cache.category.pages.maximum-size:1000}") final long pageCacheMaximumSize,
+            @Value("${cache.category.pages.expire-after-access:10m}") final Duration pageCacheExpireAfterAccess,
+            @Value("${cache.category.pages.stale-while-revalidate:2s}") final Duration pageCacheStaleWhileRevalidate,
+            @Value("${cache.category.pages.hot-after:3}") final int pageCacheHotAfter,
+            @Value("${cache.category.pages.refresh-threads:1}") final int pageCacheRefreshThreads,
+            @Value("${category.existence.negative-ttl:30s}") final Duration negativeTtl,
+            @Value("${category.existence.negative-maximum-size:100000}") final long negativeMaximumSize
+    ) {
+        // category.storage.engine=log keeps the categories in local files instead of the category table; MySQL is still
+        // needed by the rest of the context. The layers that load from the table (search index, ID filter, read model)
+        // would see none of them and are left out.
+        final var logGateway = categoryLogGateway.getIfAvailable();
+        final var tableBacked = logGateway == null;
+        // category.storage.engine=jdbc reads and writes the same table with plain SQL instead of JPA
+        final CategoryGateway tableGateway = Optional.<CategoryGateway>ofNullable(categoryJdbcGateway.getIfAvailable())
+                .orElse(categoryMySQLGateway);
+        CategoryGateway gateway = tableBacked ? tableGateway : logGateway;
+        final var changePoller = categoryChangePoller.getIfAvailable();
+
+        if (batchingEnabled) {
+            // Below the cache, so only misses are batched
+            gateway = new CategoryBatchingGateway(
+                    gateway,
+                    batchingWindow,
+                    batchingMaxBatchSize,
+                    batchingLoaderThreads,
+                    meterRegistry
+            );
+        }
+
+        final var writeListeners = categoryWriteListeners.orderedStream().toList();
+        if (!writeListeners.isEmpty()) {
+            gateway = new CategoryWriteHooksGateway(gateway, writeListeners);
+        }
+
+        final var prefixIndexLoader = categoryPrefixIndexLoader.getIfAvailable();
+        if (prefixIndexLoader != null && changePoller != null && tableBacked) {
+            // Local writes reach the typeahead index through the write hooks, the other instances' through the poller
+            changePoller.subscribe(prefixIndexLoader);
+        }
+
+        final var searchIndex = categorySearchIndex.getIfAvailable();
+        if (searchIndex != null && tableBacked) {
+            final var reindexJob = categoryReindexJob.getObject();
+            final var searchGateway = new CategorySearchGateway(
+                    gateway,
+                    categoryRepository,
+                    searchIndex,
+                    reindexJob
+            );
+            searchGateway.bindTo(meterRegistry);
+            if (changePoller != null) {
+                changePoller.subscribe(reindexJob);
+            }
+            gateway = searchGateway;
+        }
+
+        if (singleFlightEnabled) {
+            final var singleFlightGateway = new CategorySingleFlightGateway(gateway, catalogGeneration);
+            singleFlightGateway.bindTo(meterRegistry);
+            gateway = singleFlightGateway;
+        }
+
+        if (pageCacheEnabled) {
+            // Above the single flight, so only page misses are coalesced
+            final var pageCacheGateway = new CategoryPageCacheGateway(
+                    gateway,
+                    catalogGeneration,
+                    pageCacheMaximumSize,
+                    pageCacheExpireAfterAccess,
+                    pageCacheStaleWhileRevalidate,
+                    pageCacheHotAfter,
+                    pageCacheRefreshThreads
+            );
+            pageCacheGateway.bindTo(meterRegistry);
+            gateway = pageCacheGateway;
+        }
+
+        final var snapshotStore = categorySnapshotStore.getIfAvailable();
+        if (snapshotStore != null && changePoller != null) {
+            // Right below the in-memory cache, so the file is only read on its misses
+            gateway = new CategorySnapshotGateway(gateway, snapshotStore);
+            changePoller.subscribe(snapshotStore);
+        }
+
+        if (cacheEnabled) {
+            final var cacheGateway = new CategoryCacheGateway(
+                    gateway,
+                    cacheMaximumSize,
+                    cacheExpireAfterWrite,
+                    cacheRefreshAfterWrite
+            );
+            cacheGateway.bindTo(meterRegistry);
+            if (changePoller != null) {
+                changePoller.subscribe(cacheGateway);
+            }
+            gateway = cacheGateway;
+        }
+
+        final var idFilter = categoryIdFilter.getIfAvailable();
+        if (idFilter != null && tableBacked) {
+            // Outermost, so IDs that don't exist don't even take a slot in the cache
+            final var existenceGateway = new CategoryExistenceGateway(
+                    gateway,
+                    idFilter,
+                    negativeTtl,
+                    negativeMaximumSize
+            );
+            existenceGateway.bindTo(meterRegistry);
+            if (changePoller != null) {
+                changePoller.subscribe(existenceGateway);
+            }
+            gateway = existenceGateway;
+        }
+
+        final var readModel = categoryReadModel.getIfAvailable();
+        if (readModel != null && tableBacked) {
+            // Outermost: once loaded it answers the reads, everything below only sees writes and the fallbacks
+            final var readModelGateway = new CategoryReadModelGateway(gateway, readModel);
+            readModelGateway.bindTo(meterRegistry);
+            gateway = readModelGateway;
+        }
+
+        return gateway;
+    }
+}
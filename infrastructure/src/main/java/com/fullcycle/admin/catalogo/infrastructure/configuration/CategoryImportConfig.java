@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.importer.CategoryImportPipeline;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CategoryImportConfig {
+
+    @Bean
+    public CategoryImportPipeline categoryImportPipeline(
+            final CategoryGateway categoryGateway,
+            @Value("${import.category.parallelism:4}") final int parallelism,
+            @Value("${import.category.batch-size:500}") final int batchSize,
+            @Value("${import.category.queue-capacity:10000}") final int queueCapacity
+    ) {
+        return new CategoryImportPipeline(categoryGateway, parallelism, batchSize, queueCapacity);
+    }
+}
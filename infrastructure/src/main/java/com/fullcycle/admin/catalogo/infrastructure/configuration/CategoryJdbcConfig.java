@@ -0,0 +1,38 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.CatalogGeneration;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryJdbcGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "category.storage.engine", havingValue = "jdbc")
+public class CategoryJdbcConfig {
+
+    @Bean
+    public CategoryJdbcGateway categoryJdbcGateway(
+            final DataSource dataSource,
+            final CatalogGeneration catalogGeneration,
+            final CategoryChangeLog categoryChangeLog,
+            final PlatformTransactionManager transactionManager,
+            @Value("${category.batch.chunk-size:500}") final int chunkSize,
+            @Value("${category.count.parallelism:4}") final int countParallelism,
+            @Value("${category.multi-get.chunk-size:500}") final int multiGetChunkSize
+    ) {
+        return new CategoryJdbcGateway(
+                dataSource,
+                catalogGeneration,
+                categoryChangeLog,
+                transactionManager,
+                chunkSize,
+                countParallelism,
+                multiGetChunkSize
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.CatalogGeneration;
+import com.fullcycle.admin.catalogo.infrastructure.category.readmodel.CategoryReadModel;
+import com.fullcycle.admin.catalogo.infrastructure.category.storage.CategoryLogGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.storage.CategoryLogStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "category.storage.engine", havingValue = "log")
+public class CategoryLogConfig {
+
+    @Bean(destroyMethod = "close")
+    public CategoryLogStore categoryLogStore(
+            final MeterRegistry meterRegistry,
+            @Value("${category.storage.log.directory:./.cache/category-log}") final Path directory,
+            @Value("${category.storage.log.segment-size:64MB}") final DataSize segmentSize,
+            @Value("${category.storage.log.fsync:true}") final boolean fsync,
+            @Value("${category.storage.log.compaction-interval:1m}") final Duration compactionInterval,
+            @Value("${category.storage.log.compaction-garbage-ratio:0.5}") final double compactionGarbageRatio
+    ) {
+        final var store = CategoryLogStore.open(directory, segmentSize.toBytes(), fsync, compactionInterval, compactionGarbageRatio);
+        store.bindTo(meterRegistry);
+        return store;
+    }
+
+    @Bean
+    public CategoryLogGateway categoryLogGateway(
+            final CategoryLogStore categoryLogStore,
+            final CatalogGeneration catalogGeneration
+    ) {
+        // Deliberately unmetered, a composite with no registries: nothing polls for this model, so its staleness gauge
+        // would only grow, and it would share its meter names with the table-backed read model
+        final var model = new CategoryReadModel(Duration.ZERO, new CompositeMeterRegistry());
+        return new CategoryLogGateway(categoryLogStore, model, catalogGeneration);
+    }
+}
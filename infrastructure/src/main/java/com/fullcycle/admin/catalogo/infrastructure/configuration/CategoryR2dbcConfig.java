@@ -0,0 +1,68 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.CatalogGeneration;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeLog;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryR2dbcGateway;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+@Configuration
+@ConditionalOnProperty(name = "category.reactive.enabled", havingValue = "true")
+public class CategoryR2dbcConfig {
+
+    // The pool is not a bean: a ConnectionFactory bean would switch off the DataSource auto-configuration
+    @Bean(destroyMethod = "dispose")
+    public CategoryR2dbcConnections categoryR2dbcConnections(
+            @Value("${category.reactive.r2dbc.url}") final String url,
+            @Value("${category.reactive.r2dbc.username:}") final String username,
+            @Value("${category.reactive.r2dbc.password:}") final String password,
+            @Value("${category.reactive.r2dbc.pool.max-size:10}") final int maxSize,
+            @Value("${category.reactive.r2dbc.pool.max-acquire-time:250ms}") final Duration maxAcquireTime
+    ) {
+        final var options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isBlank()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        final var pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name("category-r2dbc")
+                .initialSize(Math.min(2, maxSize))
+                .maxSize(maxSize)
+                .maxAcquireTime(maxAcquireTime)
+                .build());
+        return new CategoryR2dbcConnections(pool);
+    }
+
+    @Bean
+    public CategoryR2dbcGateway categoryR2dbcGateway(
+            final CategoryR2dbcConnections categoryR2dbcConnections,
+            final CatalogGeneration catalogGeneration,
+            final CategoryChangeLog categoryChangeLog,
+            @Value("${category.reactive.r2dbc.time-zone:UTC}") final ZoneId zone,
+            @Value("${category.multi-get.chunk-size:500}") final int multiGetChunkSize
+    ) {
+        return new CategoryR2dbcGateway(
+                categoryR2dbcConnections.pool(),
+                catalogGeneration,
+                categoryChangeLog,
+                zone,
+                multiGetChunkSize
+        );
+    }
+
+    public record CategoryR2dbcConnections(ConnectionPool pool) {
+
+        public void dispose() {
+            this.pool.dispose();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangePoller;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.category.readmodel.CategoryReadModel;
+import com.fullcycle.admin.catalogo.infrastructure.category.readmodel.CategoryReadModelLoader;
+import com.fullcycle.admin.catalogo.infrastructure.category.readmodel.CategoryReadModelSync;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+// Opt-in: when on it answers every read, so the layers below it only see writes and fallbacks
+@ConditionalOnProperty(name = {"category.read-model.enabled", "category.cluster.enabled"}, havingValue = "true")
+public class CategoryReadModelConfig {
+
+    @Bean
+    public CategoryReadModel categoryReadModel(
+            final MeterRegistry meterRegistry,
+            @Value("${category.read-model.max-staleness:5s}") final Duration maxStaleness
+    ) {
+        return new CategoryReadModel(maxStaleness, meterRegistry);
+    }
+
+    @Bean
+    public CategoryReadModelLoader categoryReadModelLoader(
+            final CategoryRepository categoryRepository,
+            final CategoryReadModel categoryReadModel,
+            @Value("${category.read-model.load-parallelism:4}") final int parallelism,
+            @Value("${category.read-model.load-batch-size:5000}") final int batchSize
+    ) {
+        return new CategoryReadModelLoader(categoryRepository, categoryReadModel, parallelism, batchSize);
+    }
+
+    @Bean
+    public CategoryReadModelSync categoryReadModelSync(
+            final CategoryRepository categoryRepository,
+            final CategoryReadModel categoryReadModel,
+            final CategoryReadModelLoader categoryReadModelLoader,
+            final CategoryChangePoller categoryChangePoller,
+            final MeterRegistry meterRegistry
+    ) {
+        // Loads the model on the first poll and then applies the other instances' changes on every one
+        final var sync = new CategoryReadModelSync(categoryRepository, categoryReadModel, categoryReadModelLoader, meterRegistry);
+        categoryChangePoller.subscribe(sync);
+        return sync;
+    }
+}
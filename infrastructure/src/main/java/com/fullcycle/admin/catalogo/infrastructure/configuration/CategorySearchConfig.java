@@ -0,0 +1,50 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.category.search.CategoryReindexJob;
+import com.fullcycle.admin.catalogo.infrastructure.category.search.CategorySearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "search.category.enabled", havingValue = "true", matchIfMissing = true)
+public class CategorySearchConfig {
+
+    @Bean(destroyMethod = "close")
+    public CategorySearchIndex categorySearchIndex(
+            @Value("${search.category.path:}") final String path,
+            @Value("${search.category.commit-interval:5s}") final Duration commitInterval
+    ) {
+        return path.isBlank()
+                ? CategorySearchIndex.inMemory()
+                : CategorySearchIndex.open(Path.of(path), commitInterval);
+    }
+
+    @Bean
+    public CategoryReindexJob categoryReindexJob(
+            final CategoryRepository categoryRepository,
+            final CategorySearchIndex categorySearchIndex,
+            @Value("${search.category.reindex.parallelism:2}") final int parallelism,
+            @Value("${search.category.reindex.batch-size:500}") final int batchSize,
+            @Value("${search.category.reindex.max-docs-per-second:2000}") final int maxDocsPerSecond
+    ) {
+        return new CategoryReindexJob(categoryRepository, categorySearchIndex, parallelism, batchSize, maxDocsPerSecond);
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> categoryReindexOnStartup(
+            final CategorySearchIndex categorySearchIndex,
+            final CategoryReindexJob categoryReindexJob
+    ) {
+        // A clean index only misses what was written while it was closed, anything else is rebuilt
+        return event -> categorySearchIndex.resumableFrom()
+                .ifPresentOrElse(categoryReindexJob::reconcileAsync, categoryReindexJob::runAsync);
+    }
+}
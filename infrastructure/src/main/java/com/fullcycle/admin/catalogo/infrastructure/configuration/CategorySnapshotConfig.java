@@ -0,0 +1,31 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.snapshot.CategorySnapshotStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = {"cache.category.disk.enabled", "category.cluster.enabled"}, havingValue = "true", matchIfMissing = true)
+public class CategorySnapshotConfig {
+
+    @Bean(destroyMethod = "close")
+    public CategorySnapshotStore categorySnapshotStore(
+            final MeterRegistry meterRegistry,
+            @Value("${cache.category.disk.path:./.cache/categories.snap}") final Path path,
+            @Value("${cache.category.disk.max-size:256MB}") final DataSize maxSize,
+            @Value("${cache.category.disk.checkpoint-delay:10s}") final Duration checkpointDelay,
+            // Changes older than that are gone from category_change, a file checkpointed before can't catch up
+            @Value("${category.cluster.retention:1h}") final Duration retention
+    ) {
+        final var store = CategorySnapshotStore.open(path, maxSize.toBytes(), retention, checkpointDelay);
+        store.bindTo(meterRegistry);
+        return store;
+    }
+}
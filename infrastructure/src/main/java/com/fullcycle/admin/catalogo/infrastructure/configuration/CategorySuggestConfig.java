@@ -0,0 +1,41 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.suggest.CategoryPrefixIndex;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryPrefixIndexLoader;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CategorySuggestConfig {
+
+    @Bean
+    public CategoryPrefixIndex categoryPrefixIndex(final MeterRegistry meterRegistry) {
+        final var index = new CategoryPrefixIndex();
+        Gauge.builder("category.suggest.index.names", index, CategoryPrefixIndex::size)
+                .description("Category names in the typeahead index")
+                .register(meterRegistry);
+        return index;
+    }
+
+    @Bean
+    public CategoryPrefixIndexLoader categoryPrefixIndexLoader(
+            final CategoryRepository categoryRepository,
+            final CategoryPrefixIndex categoryPrefixIndex,
+            @Value("${suggest.category.load-batch-size:5000}") final int batchSize
+    ) {
+        return new CategoryPrefixIndexLoader(categoryRepository, categoryPrefixIndex, batchSize);
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> categoryPrefixIndexLoadOnStartup(
+            final CategoryPrefixIndexLoader categoryPrefixIndexLoader
+    ) {
+        return event -> categoryPrefixIndexLoader.loadAsync();
+    }
+}
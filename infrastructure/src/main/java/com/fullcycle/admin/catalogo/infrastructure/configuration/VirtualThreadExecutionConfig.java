@@ -0,0 +1,111 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.infrastructure.execution.ConnectionLimiter;
+import com.fullcycle.admin.catalogo.infrastructure.execution.UseCaseOffloader;
+import com.fullcycle.admin.catalogo.infrastructure.execution.VirtualThreads;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * {@code execution.mode=virtual}: every request and every {@link UseCase#execute} on a virtual thread of its own, with
+ * a {@link ConnectionLimiter} in front of the pool now that the Undertow workers no longer bound the callers reaching
+ * it. Needs Java 21; on older runtimes the application stays on the worker pool and says so on startup.
+ */
+@Configuration(proxyBeanMethods = false)
+@Conditional(VirtualThreadExecutionConfig.OnVirtualMode.class)
+public class VirtualThreadExecutionConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        return VirtualThreads.newThreadPerTaskExecutor("virtual-");
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> virtualThreadRequests(
+            @Qualifier("virtualThreadExecutor") final ExecutorService virtualThreadExecutor
+    ) {
+        // Servlet requests are dispatched to the deployment's executor, when it has one, instead of the worker pool
+        return factory -> factory.addDeploymentInfoCustomizers(info -> info.setExecutor(virtualThreadExecutor));
+    }
+
+    @Bean
+    public static BeanPostProcessor virtualThreadUseCases(
+            @Qualifier("virtualThreadExecutor") final ObjectProvider<ExecutorService> virtualThreadExecutor
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                return UseCaseOffloader.isUseCase(bean)
+                        ? new UseCaseOffloader(virtualThreadExecutor.getObject()).offloading(bean)
+                        : bean;
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor connectionLimiter(final Environment environment) {
+        final var permits = environment.getProperty("execution.jdbc-limiter.permits", Integer.class, 20);
+        final var acquireTimeout = environment.getProperty("execution.jdbc-limiter.acquire-timeout", Duration.class, Duration.ofSeconds(1));
+        final var maxWaiting = environment.getProperty("execution.jdbc-limiter.max-waiting", Integer.class, 1000);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionLimiter) {
+                    return bean;
+                }
+                return new ConnectionLimiter(dataSource, permits, acquireTimeout, maxWaiting);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionLimiterMetrics(final DataSource dataSource) {
+        // Bound after the fact: the registry may itself need the DataSource, so the post-processor cannot reach it
+        return registry -> {
+            try {
+                dataSource.unwrap(ConnectionLimiter.class).bindTo(registry);
+            } catch (final SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    static class OnVirtualMode extends SpringBootCondition {
+
+        private static final Logger log = LoggerFactory.getLogger(VirtualThreadExecutionConfig.class);
+
+        @Override
+        public ConditionOutcome getMatchOutcome(final ConditionContext context, final AnnotatedTypeMetadata metadata) {
+            final var mode = context.getEnvironment().getProperty("execution.mode", "platform");
+            if (!"virtual".equals(mode)) {
+                return ConditionOutcome.noMatch("execution.mode is " + mode);
+            }
+            if (!VirtualThreads.isSupported()) {
+                log.warn("execution.mode is virtual but Java {} has no virtual threads, requests stay on the worker pool",
+                        Runtime.version().feature());
+                return ConditionOutcome.noMatch("no virtual threads on Java " + Runtime.version().feature());
+            }
+            return ConditionOutcome.match("execution.mode is virtual");
+        }
+    }
+}
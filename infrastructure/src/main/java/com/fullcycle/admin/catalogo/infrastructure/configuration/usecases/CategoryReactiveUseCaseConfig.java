@@ -0,0 +1,60 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
+
+import com.fullcycle.admin.catalogo.application.category.ReactiveCategoryGateway;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultReactiveCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.ReactiveCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.DefaultReactiveDeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.ReactiveDeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultReactiveGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.ReactiveGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.DefaultReactiveListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.ReactiveListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.DefaultReactiveUpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.ReactiveUpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateRetryPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "category.reactive.enabled", havingValue = "true")
+public class CategoryReactiveUseCaseConfig {
+
+    private final ReactiveCategoryGateway categoryGateway;
+
+    public CategoryReactiveUseCaseConfig(final ReactiveCategoryGateway categoryGateway) {
+        this.categoryGateway = categoryGateway;
+    }
+
+    @Bean
+    public ReactiveCreateCategoryUseCase reactiveCreateCategoryUseCase() {
+        return new DefaultReactiveCreateCategoryUseCase(categoryGateway);
+    }
+
+    @Bean
+    public ReactiveUpdateCategoryUseCase reactiveUpdateCategoryUseCase(
+            @Value("${category.update.retry.max-attempts:3}") final int maxAttempts,
+            @Value("${category.update.retry.base-delay:10ms}") final Duration baseDelay,
+            @Value("${category.update.retry.max-delay:200ms}") final Duration maxDelay
+    ) {
+        return new DefaultReactiveUpdateCategoryUseCase(categoryGateway, UpdateRetryPolicy.with(maxAttempts, baseDelay, maxDelay));
+    }
+
+    @Bean
+    public ReactiveDeleteCategoryUseCase reactiveDeleteCategoryUseCase() {
+        return new DefaultReactiveDeleteCategoryUseCase(categoryGateway);
+    }
+
+    @Bean
+    public ReactiveGetCategoryByIdUseCase reactiveGetCategoryByIdUseCase() {
+        return new DefaultReactiveGetCategoryByIdUseCase(categoryGateway);
+    }
+
+    @Bean
+    public ReactiveListCategoriesUseCase reactiveListCategoriesUseCase() {
+        return new DefaultReactiveListCategoriesUseCase(categoryGateway);
+    }
+}
@@ -1,18 +1,31 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
 
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoriesBatchUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCategoriesBatchUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DefaultDeleteCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoriesByIdsUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoriesByIdsUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.DefaultListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.suggest.CategoryPrefixIndex;
+import com.fullcycle.admin.catalogo.application.category.retrieve.suggest.DefaultSuggestCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateRetryPolicy;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class CategoryUseCaseConfig {
 
@@ -28,8 +41,31 @@ public class CategoryUseCaseConfig {
     }
 
     @Bean
-    public UpdateCategoryUseCase updateCategoryUseCase() {
-        return new DefaultUpdateCategoryUseCase(categoryGateway);
+    public CreateCategoriesBatchUseCase createCategoriesBatchUseCase() {
+        return new DefaultCreateCategoriesBatchUseCase(categoryGateway);
+    }
+
+    @Bean
+    public UpdateCategoryUseCase updateCategoryUseCase(
+            final MeterRegistry meterRegistry,
+            @Value("${category.update.retry.max-attempts:3}") final int maxAttempts,
+            @Value("${category.update.retry.base-delay:10ms}") final Duration baseDelay,
+            @Value("${category.update.retry.max-delay:200ms}") final Duration maxDelay
+    ) {
+        final var useCase = new DefaultUpdateCategoryUseCase(
+                categoryGateway,
+                UpdateRetryPolicy.with(maxAttempts, baseDelay, maxDelay)
+        );
+        FunctionCounter.builder("category.update.conflicts", useCase, DefaultUpdateCategoryUseCase::conflicts)
+                .description("Category updates that found their version already taken by a concurrent update")
+                .register(meterRegistry);
+        FunctionCounter.builder("category.update.retries", useCase, DefaultUpdateCategoryUseCase::retries)
+                .description("Category updates retried on top of a concurrent update")
+                .register(meterRegistry);
+        FunctionCounter.builder("category.update.conflicts.unresolved", useCase, DefaultUpdateCategoryUseCase::unresolvedConflicts)
+                .description("Category updates rejected because of a concurrent update")
+                .register(meterRegistry);
+        return useCase;
     }
 
     @Bean
@@ -42,8 +78,18 @@ public class CategoryUseCaseConfig {
         return new DefaultGetCategoryByIdUseCase(categoryGateway);
     }
 
+    @Bean
+    public GetCategoriesByIdsUseCase getCategoriesByIdsUseCase() {
+        return new DefaultGetCategoriesByIdsUseCase(categoryGateway);
+    }
+
     @Bean
     public DefaultListCategoriesUseCase listCategoriesUseCase() {
         return new DefaultListCategoriesUseCase(categoryGateway);
     }
+
+    @Bean
+    public SuggestCategoriesUseCase suggestCategoriesUseCase(final CategoryPrefixIndex categoryPrefixIndex) {
+        return new DefaultSuggestCategoriesUseCase(categoryPrefixIndex, categoryGateway);
+    }
 }
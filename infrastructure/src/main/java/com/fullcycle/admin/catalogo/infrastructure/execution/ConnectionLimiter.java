@@ -0,0 +1,182 @@
+package com.fullcycle.admin.catalogo.infrastructure.execution;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link DataSource} that lets at most {@code permits} connections out of the pool at once, handing them out in
+ * arrival order.
+ * <p>
+ * With a thread per request the worker pool already bounds how many callers reach the pool. With a virtual thread per
+ * request nothing does: thousands of callers would pile up inside Hikari and all fail at its
+ * {@code connection-timeout} together. Here they wait in a fair queue instead, up to {@code acquireTimeout}, and once
+ * {@code maxWaiting} callers are already waiting new ones fail right away, so a backlog the database cannot drain turns
+ * into quick errors instead of ever longer waits. The permit goes back when the connection is closed.
+ */
+public class ConnectionLimiter extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final int maxWaiting;
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    public ConnectionLimiter(
+            final DataSource target,
+            final int permits,
+            final Duration acquireTimeout,
+            final int maxWaiting
+    ) {
+        super(target);
+        if (permits < 1) {
+            throw new IllegalArgumentException("permits must be at least 1, got %d".formatted(permits));
+        }
+        this.permits = new Semaphore(permits, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.maxWaiting = maxWaiting;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return limited(super.getConnection());
+        } catch (final SQLException | RuntimeException | Error e) {
+            this.permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        acquire();
+        try {
+            return limited(super.getConnection(username, password));
+        } catch (final SQLException | RuntimeException | Error e) {
+            this.permits.release();
+            throw e;
+        }
+    }
+
+    public int availablePermits() {
+        return this.permits.availablePermits();
+    }
+
+    public int waiting() {
+        return this.permits.getQueueLength();
+    }
+
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("jdbc.limiter.available", this, ConnectionLimiter::availablePermits)
+                .description("Connections that can still be taken from the pool without waiting")
+                .register(registry);
+        Gauge.builder("jdbc.limiter.waiting", this, ConnectionLimiter::waiting)
+                .description("Callers waiting for a connection")
+                .register(registry);
+        FunctionCounter.builder("jdbc.limiter.rejections", this.rejections, LongAdder::sum)
+                .description("Connection requests refused because too many callers were already waiting")
+                .register(registry);
+        FunctionCounter.builder("jdbc.limiter.timeouts", this.timeouts, LongAdder::sum)
+                .description("Connection requests that gave up waiting for a connection")
+                .register(registry);
+    }
+
+    private void acquire() throws SQLException {
+        // The queue length is an estimate, good enough for a soft bound
+        if (this.permits.getQueueLength() >= this.maxWaiting) {
+            this.rejections.increment();
+            throw new SQLTransientConnectionException("Connection limiter - %d callers already waiting".formatted(this.maxWaiting));
+        }
+        try {
+            if (!this.permits.tryAcquire(this.acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                this.timeouts.increment();
+                throw new SQLTransientConnectionException("Connection limiter - no connection available after %dms"
+                        .formatted(TimeUnit.NANOSECONDS.toMillis(this.acquireTimeoutNanos)));
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Connection limiter - interrupted while waiting for a connection", e);
+        }
+    }
+
+    private Connection limited(final Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class},
+                new LimitedConnection(target)
+        );
+    }
+
+    private final class LimitedConnection implements InvocationHandler {
+
+        private final Connection target;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private LimitedConnection(final Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Limited connection [" + this.target + "]";
+                case "getTargetConnection":
+                    return this.target;
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                case "isWrapperFor":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                    break;
+                case "isClosed":
+                    if (this.closed.get()) {
+                        return true;
+                    }
+                    break;
+                case "close":
+                    // Closing twice is allowed on a connection, releasing twice would hand out a permit too many
+                    if (this.closed.compareAndSet(false, true)) {
+                        try {
+                            this.target.close();
+                        } finally {
+                            ConnectionLimiter.this.permits.release();
+                        }
+                    }
+                    return null;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(this.target, args);
+            } catch (final InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.fullcycle.admin.catalogo.infrastructure.execution;
+
+import com.fullcycle.admin.catalogo.application.NullaryUseCase;
+import com.fullcycle.admin.catalogo.application.UnitUseCase;
+import com.fullcycle.admin.catalogo.application.UseCase;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.NameMatchMethodPointcutAdvisor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Runs the {@code execute} of a {@link UseCase}, {@link UnitUseCase} or {@link NullaryUseCase} on a thread of
+ * {@code executor}, the caller waiting for the result, and hands back exactly what the use case returned or threw.
+ * <p>
+ * A call that already is on a virtual thread, like a request in the virtual mode, runs where it is: hopping would only
+ * add a hand-off. So does a call inside a transaction, which is bound to the calling thread and would be lost on the
+ * other one.
+ */
+public class UseCaseOffloader implements MethodInterceptor {
+
+    private final ExecutorService executor;
+
+    public UseCaseOffloader(final ExecutorService executor) {
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * {@code useCase} behind a proxy of its own class, so it is still injected wherever the original was, that runs
+     * {@code execute} through this offloader. Its other methods are called on the original directly.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T offloading(final T useCase) {
+        if (!isUseCase(useCase)) {
+            throw new IllegalArgumentException("Not a use case: %s".formatted(useCase.getClass().getName()));
+        }
+        final var factory = new ProxyFactory(useCase);
+        factory.setProxyTargetClass(true);
+        final var advisor = new NameMatchMethodPointcutAdvisor(this);
+        advisor.setMappedName("execute");
+        factory.addAdvisor(advisor);
+        return (T) factory.getProxy(useCase.getClass().getClassLoader());
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        if (VirtualThreads.isVirtual(Thread.currentThread())
+                || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return invocation.proceed();
+        }
+
+        final var future = this.executor.submit(() -> {
+            try {
+                return invocation.proceed();
+            } catch (final Exception | Error e) {
+                throw e;
+            } catch (final Throwable t) {
+                throw new UndeclaredThrowableException(t);
+            }
+        });
+        try {
+            return future.get();
+        } catch (final ExecutionException e) {
+            throw e.getCause();
+        } catch (final InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for %s".formatted(invocation.getMethod()));
+        }
+    }
+
+    public static boolean isUseCase(final Object bean) {
+        return bean instanceof UseCase<?, ?> || bean instanceof UnitUseCase<?> || bean instanceof NullaryUseCase<?>;
+    }
+}
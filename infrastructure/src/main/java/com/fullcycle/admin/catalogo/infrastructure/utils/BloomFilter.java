@@ -0,0 +1,122 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over strings, safe for concurrent adds and lookups.
+ * <p>
+ * {@link #mightContain(String)} never answers {@code false} for a value that was added; it answers {@code true} for
+ * a value that was not with a probability that grows as the filter fills up, close to the rate it was sized for once
+ * it holds the expected number of values. Values can't be removed.
+ */
+public final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashFunctions;
+    private final AtomicLong bitsSet = new AtomicLong();
+
+    private BloomFilter(final long bitCount, final int hashFunctions) {
+        final var wordCount = Math.toIntExact((bitCount + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * Sizes a filter so that it answers wrongly for about {@code falsePositiveRate} of the values it doesn't hold
+     * once {@code expectedInsertions} values were added.
+     */
+    public static BloomFilter create(final long expectedInsertions, final double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        final var bitCount = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        final var hashFunctions = (int) Math.max(1, Math.round((double) bitCount / expectedInsertions * LN2));
+        return new BloomFilter(bitCount, hashFunctions);
+    }
+
+    public void add(final String value) {
+        final var h1 = hash(value);
+        final var h2 = fmix64(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (var i = 0; i < this.hashFunctions; i++) {
+            if (setBit(Math.floorMod(h1 + i * h2, this.bitCount))) {
+                this.bitsSet.incrementAndGet();
+            }
+        }
+    }
+
+    public boolean mightContain(final String value) {
+        final var h1 = hash(value);
+        final var h2 = fmix64(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (var i = 0; i < this.hashFunctions; i++) {
+            if (!getBit(Math.floorMod(h1 + i * h2, this.bitCount))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * False-positive rate for the values added so far, estimated from how many bits are set.
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) this.bitsSet.get() / this.bitCount, this.hashFunctions);
+    }
+
+    public long bitCount() {
+        return this.bitCount;
+    }
+
+    public int hashFunctions() {
+        return this.hashFunctions;
+    }
+
+    public long sizeInBytes() {
+        return this.bitCount / 8;
+    }
+
+    private boolean setBit(final long index) {
+        final var word = (int) (index >>> 6);
+        final var mask = 1L << index;
+        while (true) {
+            final var current = this.words.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+            if (this.words.compareAndSet(word, current, current | mask)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean getBit(final long index) {
+        return (this.words.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    private static long hash(final String value) {
+        // FNV-1a over the UTF-8 bytes, then mixed so that similar IDs spread over the whole filter
+        var hash = 0xcbf29ce484222325L;
+        for (final var b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return fmix64(hash);
+    }
+
+    private static long fmix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -4,14 +4,51 @@ import org.springframework.data.jpa.domain.Specification;
 
 public final class SpecificationUtils {
 
+    // Not a backslash: MySQL would read '\' as an escape inside the literal itself
+    public static final char ESCAPE = '!';
+
     private SpecificationUtils() {
     }
 
-    public static <T> Specification<T> like(final String prop, final String term) {
-        return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), getPattern(term.toUpperCase()));
+    /**
+     * {@code prop LIKE '%term%'}, with {@code term} matched literally. The column is compared as is, so
+     * both sides are expected to be normalized already.
+     */
+    public static <T> Specification<T> contains(final String prop, final String term) {
+        return (root, query, cb) -> cb.like(root.get(prop), "%" + escape(term) + "%", ESCAPE);
+    }
+
+    /**
+     * {@code prop LIKE 'term%'}, which unlike {@link #contains(String, String)} can seek on an index over {@code prop}.
+     */
+    public static <T> Specification<T> startsWith(final String prop, final String term) {
+        return (root, query, cb) -> cb.like(root.get(prop), escape(term) + "%", ESCAPE);
+    }
+
+    /**
+     * Escapes the {@code LIKE} wildcards of {@code term} with {@link #ESCAPE}.
+     */
+    public static String escape(final String term) {
+        return term.replace("!", "!!").replace("%", "!%").replace("_", "!_");
     }
 
-    private static String getPattern(final String term) {
-        return "%" + term + "%";
+    /**
+     * Seek predicate for keyset pagination: rows strictly after {@code (value, tieValue)} in the
+     * {@code (prop, tieBreaker)} ordering.
+     */
+    public static <T, Y extends Comparable<? super Y>> Specification<T> after(
+            final String prop,
+            final Y value,
+            final String tieBreaker,
+            final String tieValue,
+            final boolean ascending
+    ) {
+        return (root, query, cb) -> {
+            final var key = root.<Y>get(prop);
+            final var tie = root.<String>get(tieBreaker);
+            return ascending
+                    ? cb.or(cb.greaterThan(key, value), cb.and(cb.equal(key, value), cb.greaterThan(tie, tieValue)))
+                    : cb.or(cb.lessThan(key, value), cb.and(cb.equal(key, value), cb.lessThan(tie, tieValue)));
+        };
     }
 }
@@ -0,0 +1,27 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Moves the name sort onto name_search: a (name_search, id) index replaces (name) and the prefix-only
+ * (name_search) one, and on MySQL the column compares as binary. With utf8mb4_0900_ai_ci the database would order
+ * punctuation and digits its own way, while the read model orders with String.compareTo; name_search is already
+ * lower case and without accents, so a binary comparison still ignores them. H2 compares strings as binary already.
+ */
+public class V6__category_name_search_sort extends BaseJavaMigration {
+
+    @Override
+    public void migrate(final Context context) throws Exception {
+        final var connection = context.getConnection();
+        try (final var statement = connection.createStatement()) {
+            if ("MySQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                statement.execute("ALTER TABLE category MODIFY name_search VARCHAR(255)"
+                        + " CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_bin NOT NULL DEFAULT ''");
+            }
+            statement.execute("CREATE INDEX idx_category_name_search_id ON category (name_search, id)");
+            statement.execute("DROP INDEX idx_category_name_search ON category");
+            statement.execute("DROP INDEX idx_category_name_id ON category");
+        }
+    }
+}
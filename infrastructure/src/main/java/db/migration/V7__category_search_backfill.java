@@ -0,0 +1,44 @@
+package db.migration;
+
+import com.fullcycle.admin.catalogo.domain.utils.SearchNormalizer;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Fills name_search and description_search of the rows written before they existed with {@link SearchNormalizer},
+ * the same folding the application writes. SQL alone can only lower case, and a row keeps its search columns until
+ * its name or description changes. Walks the table by id in batches, so no statement touches every row at once.
+ */
+public class V7__category_search_backfill extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Override
+    public void migrate(final Context context) throws Exception {
+        final var connection = context.getConnection();
+        try (final var select = connection.prepareStatement(
+                "SELECT id, name, description FROM category WHERE id > ? ORDER BY id LIMIT " + BATCH_SIZE);
+             final var update = connection.prepareStatement(
+                     "UPDATE category SET name_search = ?, description_search = ? WHERE id = ?")) {
+            var lastId = "";
+            while (true) {
+                var rows = 0;
+                select.setString(1, lastId);
+                try (final var resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        lastId = resultSet.getString("id");
+                        update.setString(1, SearchNormalizer.normalize(resultSet.getString("name")));
+                        update.setString(2, SearchNormalizer.normalize(resultSet.getString("description")));
+                        update.setString(3, lastId);
+                        update.addBatch();
+                        rows++;
+                    }
+                }
+                if (rows == 0) {
+                    return;
+                }
+                update.executeBatch();
+            }
+        }
+    }
+}
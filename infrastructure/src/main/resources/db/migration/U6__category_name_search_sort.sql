@@ -0,0 +1,4 @@
+CREATE INDEX idx_category_name_id ON category (name, id);
+CREATE INDEX idx_category_name_search ON category (name_search);
+DROP INDEX idx_category_name_search_id ON category;
+ALTER TABLE category MODIFY name_search VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NOT NULL DEFAULT '';
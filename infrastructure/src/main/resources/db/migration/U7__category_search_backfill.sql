@@ -0,0 +1,2 @@
+-- Nada a desfazer: V7 só preenche as colunas de busca, que U3 remove.
+SELECT 1;
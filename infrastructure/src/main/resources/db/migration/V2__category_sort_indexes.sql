@@ -0,0 +1,6 @@
+-- Um índice por chave de ordenação permitida (CategorySortField), sempre com o id como desempate.
+-- Atende tanto ORDER BY <coluna>, id LIMIT/OFFSET quanto o seek da paginação por cursor,
+-- e o MySQL 8 também o percorre de trás pra frente para as ordenações desc.
+CREATE INDEX idx_category_name_id ON category (name, id);
+CREATE INDEX idx_category_created_at_id ON category (created_at, id);
+CREATE INDEX idx_category_updated_at_id ON category (updated_at, id);
@@ -0,0 +1,8 @@
+-- Colunas de busca: nome e descrição em minúsculas, sem acentos e com espaços colapsados (SearchNormalizer),
+-- regravadas a cada escrita que muda o nome ou a descrição. As linhas existentes são preenchidas em
+-- V7__category_search_backfill, com a mesma normalização.
+ALTER TABLE category ADD COLUMN name_search VARCHAR(255) NOT NULL DEFAULT '';
+ALTER TABLE category ADD COLUMN description_search VARCHAR(4000) NULL;
+
+-- Atende a busca por prefixo (name_search LIKE 'termo%')
+CREATE INDEX idx_category_name_search ON category (name_search);
@@ -0,0 +1,3 @@
+-- Versão da linha para concorrência otimista: todo UPDATE exige a versão lida e a incrementa.
+-- Linhas existentes começam na versão 0.
+ALTER TABLE category ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,12 @@
+-- Log das escritas em categorias, lido por todas as instâncias para invalidar seus caches locais.
+-- Cada instância guarda o último seq aplicado e busca só o que veio depois; linhas antigas são apagadas periodicamente.
+CREATE TABLE category_change (
+    seq BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    category_id VARCHAR(36) NOT NULL,
+    change_type VARCHAR(16) NOT NULL,
+    node_id VARCHAR(36) NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+-- Atende a limpeza das linhas antigas
+CREATE INDEX idx_category_change_created_at ON category_change (created_at);
@@ -0,0 +1,129 @@
+package com.fullcycle.admin.catalogo;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Every SQL statement executed through the application's {@link DataSource}, whoever sends it: Hibernate,
+ * {@code JdbcTemplate} or a plain connection. Import {@link Config} in a test to wrap the {@code DataSource}, then
+ * {@link #clear()} before and {@link #executions()} after the code under test.
+ */
+public class StatementRecorder {
+
+    private static final Set<String> EXECUTIONS = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch");
+
+    private final List<Execution> executions = new CopyOnWriteArrayList<>();
+
+    public void clear() {
+        this.executions.clear();
+    }
+
+    /**
+     * Executed statements in order. A batch counts once, as the round trip it is.
+     */
+    public List<Execution> executions() {
+        return List.copyOf(this.executions);
+    }
+
+    public List<String> statements() {
+        return this.executions.stream().map(Execution::sql).toList();
+    }
+
+    public List<Execution> executionsStartingWith(final String verb) {
+        return this.executions.stream()
+                .filter(it -> it.sql().stripLeading().regionMatches(true, 0, verb, 0, verb.length()))
+                .toList();
+    }
+
+    private DataSource recording(final DataSource target) {
+        return proxy(DataSource.class, target, (method, args, result) ->
+                result instanceof Connection connection ? recording(connection) : result);
+    }
+
+    private Connection recording(final Connection target) {
+        return proxy(Connection.class, target, (method, args, result) -> {
+            if (result instanceof PreparedStatement statement && method.getName().startsWith("prepare")) {
+                return recording(PreparedStatement.class, statement, (String) args[0]);
+            }
+            if (result instanceof Statement statement) {
+                return recording(Statement.class, statement, null);
+            }
+            return result;
+        });
+    }
+
+    private <T extends Statement> T recording(final Class<T> type, final T target, final String preparedSql) {
+        final var parameters = new TreeMap<Integer, Object>();
+        return proxy(type, target, (method, args, result) -> {
+            if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                // setNull(index, sqlType) binds null, not the type code
+                parameters.put(index, "setNull".equals(method.getName()) ? null : args[1]);
+            } else if ("clearParameters".equals(method.getName())) {
+                parameters.clear();
+            } else if (EXECUTIONS.contains(method.getName())) {
+                final var sql = args != null && args.length > 0 && args[0] instanceof String it ? it : String.valueOf(preparedSql);
+                this.executions.add(new Execution(sql, new ArrayList<>(parameters.values())));
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final Class<T> type, final T target, final AfterCall afterCall) {
+        final InvocationHandler handler = (proxy, method, args) -> {
+            if ("unwrap".equals(method.getName()) && ((Class<?>) args[0]).isInstance(proxy)) {
+                return proxy;
+            }
+            try {
+                return afterCall.apply(method, args, method.invoke(target, args));
+            } catch (final InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+        return (T) Proxy.newProxyInstance(StatementRecorder.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    /**
+     * @param parameters values last bound to the statement, by position; {@code null} stands for a bound null.
+     */
+    public record Execution(String sql, List<Object> parameters) {
+    }
+
+    private interface AfterCall {
+        Object apply(Method method, Object[] args, Object result) throws Throwable;
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    public static class Config {
+
+        @Bean
+        public static StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+
+        @Bean
+        public static BeanPostProcessor recordingDataSource(final StatementRecorder statementRecorder) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                    return bean instanceof DataSource dataSource ? statementRecorder.recording(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
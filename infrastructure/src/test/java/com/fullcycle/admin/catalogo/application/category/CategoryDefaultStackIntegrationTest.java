@@ -0,0 +1,83 @@
+package com.fullcycle.admin.catalogo.application.category;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * Runs the use cases over the category gateway stack as application.yml ships it, undoing what the test profile
+ * turns off for the tests that write through the repository.
+ */
+@IntegrationTest
+class CategoryDefaultStackIntegrationTest {
+
+    @Autowired
+    private CreateCategoryUseCase createUseCase;
+    @Autowired
+    private GetCategoryByIdUseCase getUseCase;
+    @Autowired
+    private ListCategoriesUseCase listUseCase;
+    @Autowired
+    private UpdateCategoryUseCase updateUseCase;
+    @Autowired
+    private DeleteCategoryUseCase deleteUseCase;
+
+    @DynamicPropertySource
+    static void applicationDefaults(final DynamicPropertyRegistry registry) throws IOException {
+        final var cacheDir = Files.createTempDirectory("category-default-stack");
+        registry.add("cache.category.pages.enabled", () -> true);
+        registry.add("cache.category.disk.enabled", () -> true);
+        registry.add("cache.category.disk.path", () -> cacheDir.resolve("categories.snap").toString());
+        registry.add("category.existence.enabled", () -> true);
+    }
+
+    @Test
+    void givenTheDefaultStack_whenACategoryIsCreatedUpdatedAndDeleted_shouldReadEveryChangeBack() {
+        //Given
+        final var query = new CategorySearchQuery(0, 10, "stack", "name", "asc");
+        Assertions.assertEquals(0, listUseCase.execute(query).total());
+
+        //When
+        final var id = createUseCase.execute(CreateCategoryCommand.with("Filmes stack", null, true)).get().id().getValue();
+
+        //Then
+        Assertions.assertEquals("Filmes stack", getUseCase.execute(id).name());
+        Assertions.assertEquals(List.of("Filmes stack"), names(query));
+
+        //When
+        final var version = getUseCase.execute(id).version();
+        updateUseCase.execute(UpdateCategoryCommand.with(id, "Séries stack", "A categoria mais assistida", true, version)).get();
+
+        //Then
+        Assertions.assertEquals("Séries stack", getUseCase.execute(id).name());
+        Assertions.assertEquals(List.of("Séries stack"), names(query));
+
+        //When
+        deleteUseCase.execute(id);
+
+        //Then
+        Assertions.assertThrows(DomainException.class, () -> getUseCase.execute(id));
+        Assertions.assertEquals(List.of(), names(query));
+    }
+
+    private List<String> names(final CategorySearchQuery query) {
+        return listUseCase.execute(query).items().stream().map(CategoryListOutput::name).toList();
+    }
+}
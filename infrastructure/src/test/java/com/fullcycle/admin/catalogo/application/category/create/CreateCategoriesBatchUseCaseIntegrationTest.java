@@ -0,0 +1,53 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.application.category.retrieve.suggest.SuggestCategoriesQuery;
+import com.fullcycle.admin.catalogo.application.category.retrieve.suggest.SuggestCategoriesUseCase;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+@IntegrationTest
+public class CreateCategoriesBatchUseCaseIntegrationTest {
+
+    @Autowired
+    private CreateCategoriesBatchUseCase useCase;
+    @Autowired
+    private SuggestCategoriesUseCase suggestCategoriesUseCase;
+    @Autowired
+    private CategoryGateway categoryGateway;
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    public void givenValidAndInvalidCommands_whenCallsCreateBatch_shouldPersistValidOnesAndReportInvalidOnes() {
+        //Given
+        Assertions.assertEquals(0, categoryRepository.count());
+
+        final var command = CreateCategoriesBatchCommand.with(List.of(
+                CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+                CreateCategoryCommand.with(null, null, true),
+                CreateCategoryCommand.with("Documentários", null, false)
+        ));
+
+        //When
+        final var actualOutput = useCase.execute(command);
+
+        //Then
+        Assertions.assertEquals(2, categoryRepository.count());
+        Assertions.assertEquals("'name' should not be null", actualOutput.get(1).getLeft().firstError().message());
+
+        final var filmes = actualOutput.get(0).get().id();
+        final var documentarios = actualOutput.get(2).get().id();
+        Assertions.assertEquals("Filmes", categoryGateway.findById(filmes).get().getName());
+        Assertions.assertFalse(categoryGateway.findById(documentarios).get().isActive());
+
+        final var suggestions = suggestCategoriesUseCase.execute(new SuggestCategoriesQuery("docu", 10));
+        Assertions.assertEquals(1, suggestions.size());
+        Assertions.assertEquals(documentarios, suggestions.get(0).categoryID());
+    }
+}
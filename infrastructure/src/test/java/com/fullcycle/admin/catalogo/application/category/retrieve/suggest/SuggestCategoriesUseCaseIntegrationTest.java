@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.suggest;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryPrefixIndexLoader;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.stream.Stream;
+
+@IntegrationTest
+class SuggestCategoriesUseCaseIntegrationTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryPrefixIndexLoader categoryPrefixIndexLoader;
+
+    @Autowired
+    private SuggestCategoriesUseCase useCase;
+
+    @Autowired
+    private CreateCategoryUseCase createCategoryUseCase;
+
+    @Autowired
+    private DeleteCategoryUseCase deleteCategoryUseCase;
+
+    @BeforeEach
+    void mockUp() {
+        final var categories = Stream.of(
+                        Category.newCategory("Filmes", null, true),
+                        Category.newCategory("Documentários", null, true),
+                        Category.newCategory("Docs Originais", null, true),
+                        Category.newCategory("Kids", null, true)
+                )
+                .map(CategoryJpaEntity::from)
+                .toList();
+
+        categoryRepository.saveAllAndFlush(categories);
+        categoryPrefixIndexLoader.load();
+    }
+
+    @Test
+    void givenLoadedCategories_whenCallsSuggestCategories_shouldReturnNamesStartingWithPrefix() {
+        final var actualSuggestions = useCase.execute(new SuggestCategoriesQuery("doc", 10));
+
+        Assertions.assertEquals(2, actualSuggestions.size());
+        Assertions.assertEquals("Docs Originais", actualSuggestions.get(0).name());
+        Assertions.assertEquals("Documentários", actualSuggestions.get(1).name());
+    }
+
+    @Test
+    void givenCategoriesWrittenThroughGateway_whenCallsSuggestCategories_shouldFollowThem() {
+        final var created = createCategoryUseCase.execute(CreateCategoryCommand.with("Séries", null, true)).get();
+
+        Assertions.assertEquals("Séries", useCase.execute(new SuggestCategoriesQuery("SERI", 10)).get(0).name());
+
+        deleteCategoryUseCase.execute(created.id().getValue());
+
+        Assertions.assertTrue(useCase.execute(new SuggestCategoriesQuery("SERI", 10)).isEmpty());
+    }
+}
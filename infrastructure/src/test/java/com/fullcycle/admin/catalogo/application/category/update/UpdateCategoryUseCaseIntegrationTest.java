@@ -38,7 +38,7 @@ class UpdateCategoryUseCaseIntegrationTest {
         Assertions.assertEquals(1, categoryRepository.count());
 
         //When
-        final var command = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription, expectedIsActive);
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription, expectedIsActive, 0);
         final var actualOutput = useCase.execute(command).get();
 
         //Then
@@ -69,7 +69,7 @@ class UpdateCategoryUseCaseIntegrationTest {
         Assertions.assertEquals(1, categoryRepository.count());
 
         //When
-        final var command = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription, expectedIsActive);
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription, expectedIsActive, 0);
         final var notification = useCase.execute(command).getLeft();
 
         //Then
@@ -93,7 +93,7 @@ class UpdateCategoryUseCaseIntegrationTest {
         Assertions.assertTrue(oldCategory.isActive());
         Assertions.assertNull(oldCategory.getDeletedAt());
 
-        final var command = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription, expectedIsActive);
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription, expectedIsActive, 0);
         final var actualOutput = useCase.execute(command).get();
 
         //Then
@@ -126,7 +126,7 @@ class UpdateCategoryUseCaseIntegrationTest {
 
         //When
         doThrow(new IllegalStateException(expectedErrorMessage)).when(categoryGateway).update(any());
-        final var command = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription, expectedIsActive);
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription, expectedIsActive, 0);
         final var notification = useCase.execute(command).getLeft();
 
         //Then
@@ -154,7 +154,7 @@ class UpdateCategoryUseCaseIntegrationTest {
         final var expectedErrorCount = 1;
 
         //When
-        final var command = UpdateCategoryCommand.with(expectedId, expectedName, expectedDescription, expectedIsActive);
+        final var command = UpdateCategoryCommand.with(expectedId, expectedName, expectedDescription, expectedIsActive, 0);
         final var actualException = Assertions.assertThrows(DomainException.class, () -> useCase.execute(command));
 
         //Then
@@ -163,6 +163,32 @@ class UpdateCategoryUseCaseIntegrationTest {
 
     }
 
+    @Test
+    void givenTwoCommandsEditedFromTheSameVersion_whenCallsUpdateCategory_shouldNotApplyTheSecondOverTheFirst() {
+        //Given
+        final var oldCategory = Category.newCategory("Film", null, true);
+        final var expectedId = oldCategory.getId();
+        final var expectedErrorMessage =
+                "Category with ID %s was changed concurrently, reload it and try again".formatted(expectedId.getValue());
+        save(oldCategory);
+        final var editedFrom = categoryRepository.findById(expectedId.getValue()).get().getVersion();
+
+        //When
+        final var first = UpdateCategoryCommand.with(expectedId.getValue(), "Filme", null, true, editedFrom);
+        final var second = UpdateCategoryCommand.with(expectedId.getValue(), "Film", "A categoria mais assistida", true, editedFrom);
+        final var firstOutput = useCase.execute(first).get();
+        final var notification = useCase.execute(second).getLeft();
+
+        //Then
+        Assertions.assertEquals(editedFrom + 1, firstOutput.version());
+        Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
+
+        final var actualCategory = categoryRepository.findById(expectedId.getValue()).get();
+        Assertions.assertEquals("Filme", actualCategory.getName());
+        Assertions.assertNull(actualCategory.getDescription());
+        Assertions.assertEquals(editedFrom + 1, actualCategory.getVersion());
+    }
+
     private void save(final Category... category) {
         categoryRepository.saveAllAndFlush(
                 Arrays.stream(category)
@@ -0,0 +1,148 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryBatchingGatewayTest {
+
+    @Mock
+    private CategoryGateway delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void cleanUp() {
+        callers.shutdownNow();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void givenConcurrentCallsForDifferentIds_whenCallsFindById_shouldLoadThemWithOneQuery() throws Exception {
+        final var gateway = new CategoryBatchingGateway(delegate, Duration.ofMillis(200), 100, 1, meterRegistry);
+        final var categories = IntStream.range(0, 10)
+                .mapToObj(i -> Category.newCategory("Categoria " + i, null, true))
+                .toList();
+        final var missingId = CategoryID.from("123");
+
+        when(delegate.findAllByIds(anyCollection())).thenAnswer(invocation -> {
+            final Collection<CategoryID> ids = invocation.getArgument(0);
+            return categories.stream().filter(category -> ids.contains(category.getId())).toList();
+        });
+
+        final var ids = new ArrayList<>(categories.stream().map(Category::getId).toList());
+        ids.add(missingId);
+        final var results = findConcurrently(gateway, ids);
+
+        for (var i = 0; i < categories.size(); i++) {
+            Assertions.assertEquals(categories.get(i).getId(), results.get(i).get().getId());
+        }
+        Assertions.assertTrue(results.get(categories.size()).isEmpty());
+
+        verify(delegate, times(1)).findAllByIds(argThat(loaded -> loaded.size() == ids.size()));
+        verify(delegate, never()).findById(any());
+
+        final var batchSizes = meterRegistry.get("category.find-by-id.batch.size").summary();
+        Assertions.assertEquals(1, batchSizes.count());
+        Assertions.assertEquals(ids.size(), batchSizes.totalAmount());
+        Assertions.assertEquals(ids.size(), meterRegistry.get("category.find-by-id.batch.wait").timer().count());
+    }
+
+    @Test
+    void givenAFullBatch_whenCallsFindById_shouldLoadItWithoutWaitingForTheWindow() throws Exception {
+        final var gateway = new CategoryBatchingGateway(delegate, Duration.ofMinutes(1), 3, 1, meterRegistry);
+        final var ids = List.of(CategoryID.unique(), CategoryID.unique(), CategoryID.unique());
+
+        when(delegate.findAllByIds(anyCollection())).thenReturn(List.of());
+
+        final var results = findConcurrently(gateway, ids);
+
+        Assertions.assertTrue(results.stream().allMatch(Optional::isEmpty));
+        verify(delegate, times(1)).findAllByIds(anyCollection());
+    }
+
+    @Test
+    void givenAFailingQuery_whenCallsFindById_shouldThrowToEveryCallerOfTheBatch() {
+        final var gateway = new CategoryBatchingGateway(delegate, Duration.ofMillis(100), 2, 1, meterRegistry);
+        final var expectedErrorMessage = "Gateway error";
+
+        when(delegate.findAllByIds(anyCollection())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var first = CompletableFuture.supplyAsync(() -> gateway.findById(CategoryID.unique()), callers);
+        final var second = CompletableFuture.supplyAsync(() -> gateway.findById(CategoryID.unique()), callers);
+
+        for (final var call : List.of(first, second)) {
+            final var actualException = Assertions.assertThrows(ExecutionException.class, () -> call.get(5, TimeUnit.SECONDS));
+            Assertions.assertInstanceOf(IllegalStateException.class, actualException.getCause());
+            Assertions.assertEquals(expectedErrorMessage, actualException.getCause().getMessage());
+        }
+    }
+
+    @Test
+    void givenAnActiveTransaction_whenCallsFindById_shouldGoStraightToTheDelegate() {
+        final var gateway = new CategoryBatchingGateway(delegate, Duration.ofMinutes(1), 100, 1, meterRegistry);
+        final var category = Category.newCategory("Filmes", null, true);
+
+        when(delegate.findById(category.getId())).thenReturn(Optional.of(category));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        Assertions.assertEquals(category.getId(), gateway.findById(category.getId()).get().getId());
+        verify(delegate, never()).findAllByIds(anyCollection());
+    }
+
+    private List<Optional<Category>> findConcurrently(
+            final CategoryBatchingGateway gateway,
+            final List<CategoryID> ids
+    ) throws Exception {
+        final var start = new CountDownLatch(1);
+        final var calls = ids.stream()
+                .map(id -> CompletableFuture.supplyAsync(() -> {
+                    await(start);
+                    return gateway.findById(id);
+                }, callers))
+                .toList();
+        start.countDown();
+
+        final var results = new ArrayList<Optional<Category>>();
+        for (final var call : calls) {
+            results.add(call.get(5, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
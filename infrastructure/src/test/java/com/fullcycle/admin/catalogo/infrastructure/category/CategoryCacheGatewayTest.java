@@ -0,0 +1,180 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryCacheGatewayTest {
+
+    @Mock
+    private CategoryGateway delegate;
+
+    private CategoryCacheGateway cacheGateway;
+
+    @BeforeEach
+    void setUp() {
+        cacheGateway = new CategoryCacheGateway(delegate, 100, Duration.ofMinutes(10), Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsFindByIdTwice_shouldHitDatabaseOnce() {
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = category.getId();
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.of(category));
+
+        final var firstCall = cacheGateway.findById(expectedId).get();
+        final var secondCall = cacheGateway.findById(expectedId).get();
+
+        Assertions.assertEquals(expectedId, firstCall.getId());
+        Assertions.assertEquals(expectedId, secondCall.getId());
+        Assertions.assertEquals(1, cacheGateway.stats().hitCount());
+        Assertions.assertEquals(1, cacheGateway.stats().missCount());
+        verify(delegate, times(1)).findById(expectedId);
+    }
+
+    @Test
+    void givenACachedCategory_whenCallerMutatesIt_shouldNotChangeCachedEntry() {
+        final var expectedName = "Filmes";
+        final var category = Category.newCategory(expectedName, "A categoria mais assistida", true);
+        final var expectedId = category.getId();
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.of(category));
+
+        cacheGateway.findById(expectedId).get().update("Series", null, false);
+
+        Assertions.assertEquals(expectedName, cacheGateway.findById(expectedId).get().getName());
+    }
+
+    @Test
+    void givenANonExistentId_whenCallsFindById_shouldReturnEmptyAndNotCacheIt() {
+        final var expectedId = CategoryID.from("123");
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.empty());
+
+        Assertions.assertTrue(cacheGateway.findById(expectedId).isEmpty());
+        Assertions.assertTrue(cacheGateway.findById(expectedId).isEmpty());
+
+        Assertions.assertEquals(0, cacheGateway.size());
+        verify(delegate, times(2)).findById(expectedId);
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsUpdate_shouldOverwriteEntry() {
+        final var expectedName = "Filmes";
+        final var category = Category.newCategory("Film", null, true);
+        final var expectedId = category.getId();
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.of(category.clone()));
+        when(delegate.update(any())).thenAnswer(returnsFirstArg());
+
+        cacheGateway.findById(expectedId);
+        cacheGateway.update(category.clone().update(expectedName, null, true));
+
+        Assertions.assertEquals(expectedName, cacheGateway.findById(expectedId).get().getName());
+        verify(delegate, times(1)).findById(expectedId);
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsDeleteById_shouldInvalidateEntry() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var expectedId = category.getId();
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.of(category), Optional.empty());
+
+        cacheGateway.findById(expectedId);
+        cacheGateway.deleteById(expectedId);
+
+        Assertions.assertTrue(cacheGateway.findById(expectedId).isEmpty());
+        verify(delegate, times(1)).deleteById(expectedId);
+        verify(delegate, times(2)).findById(expectedId);
+    }
+
+    @Test
+    void givenAnActiveTransaction_whenCallsUpdate_shouldOnlyTouchCacheAfterCommit() {
+        final var category = Category.newCategory("Film", null, true);
+        final var expectedId = category.getId();
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.of(category.clone()));
+        when(delegate.update(any())).thenAnswer(returnsFirstArg());
+
+        cacheGateway.findById(expectedId);
+
+        TransactionSynchronizationManager.initSynchronization();
+        cacheGateway.update(category.clone().update("Filmes", null, true));
+
+        Assertions.assertEquals("Film", cacheGateway.findById(expectedId).get().getName());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        Assertions.assertEquals("Filmes", cacheGateway.findById(expectedId).get().getName());
+    }
+
+    @Test
+    void givenAnActiveTransactionThatRollsBack_whenCallsDeleteById_shouldKeepEntry() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var expectedId = category.getId();
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.of(category));
+
+        cacheGateway.findById(expectedId);
+
+        TransactionSynchronizationManager.initSynchronization();
+        cacheGateway.deleteById(expectedId);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        Assertions.assertTrue(cacheGateway.findById(expectedId).isPresent());
+        verify(delegate, times(1)).findById(expectedId);
+    }
+
+    @Test
+    void givenSomeCachedCategories_whenCallsFindAllByIds_shouldLoadOnlyTheMissingOnesInOneCall() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var missingId = CategoryID.from("123");
+
+        when(delegate.findById(filmes.getId())).thenReturn(Optional.of(filmes));
+        when(delegate.findAllByIds(anyCollection())).thenReturn(List.of(series));
+        cacheGateway.findById(filmes.getId());
+
+        final var actualCategories = cacheGateway.findAllByIds(List.of(filmes.getId(), series.getId(), missingId));
+
+        Assertions.assertEquals(
+                Set.of(filmes.getId(), series.getId()),
+                actualCategories.stream().map(Category::getId).collect(Collectors.toSet())
+        );
+        verify(delegate, times(1)).findAllByIds(argThat(ids -> Set.copyOf(ids).equals(Set.of(series.getId(), missingId))));
+
+        // The category loaded in bulk is cached like one loaded alone
+        cacheGateway.findById(series.getId());
+        verify(delegate, never()).findById(series.getId());
+    }
+}
@@ -0,0 +1,159 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryBatchResult;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryExistenceGatewayTest {
+
+    @Mock
+    private CategoryGateway delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CategoryIdFilter filter;
+
+    private CategoryExistenceGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        filter = new CategoryIdFilter(1_000, 0.01);
+        gateway = new CategoryExistenceGateway(delegate, filter, Duration.ofMinutes(1), 1_000);
+        gateway.bindTo(meterRegistry);
+        filter.bindTo(meterRegistry);
+    }
+
+    @Test
+    void givenAnIdMissingFromTheFilter_whenCallsFindByIdAndDeleteById_shouldNotCallTheDelegate() {
+        loadFilter();
+
+        final var id = CategoryID.unique();
+
+        Assertions.assertTrue(gateway.findById(id).isEmpty());
+        gateway.deleteById(id);
+
+        verifyNoInteractions(delegate);
+        Assertions.assertEquals(2, lookups("filtered"));
+    }
+
+    @Test
+    void givenAFilterNotLoadedYet_whenCallsFindById_shouldAskTheDelegate() {
+        final var category = Category.newCategory("Filmes", null, true);
+        when(delegate.findById(category.getId())).thenReturn(Optional.of(category));
+
+        Assertions.assertTrue(gateway.findById(category.getId()).isPresent());
+
+        Assertions.assertEquals(1, lookups("found"));
+    }
+
+    @Test
+    void givenAnIdNotFound_whenCallsFindByIdAgain_shouldAnswerFromTheNegativeCache() {
+        // Filter not loaded, so the filter lets every ID through
+        final var id = CategoryID.unique();
+        when(delegate.findById(id)).thenReturn(Optional.empty());
+
+        Assertions.assertTrue(gateway.findById(id).isEmpty());
+        Assertions.assertTrue(gateway.findById(id).isEmpty());
+        gateway.deleteById(id);
+
+        verify(delegate, times(1)).findById(id);
+        verify(delegate, never()).deleteById(any());
+        Assertions.assertEquals(1, lookups("not-found"));
+        Assertions.assertEquals(2, lookups("negative-cached"));
+    }
+
+    @Test
+    void givenAMissingIdThatGetsCreated_whenCallsFindById_shouldFindIt() {
+        loadFilter();
+        final var category = Category.newCategory("Filmes", null, true);
+        when(delegate.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(delegate.findById(category.getId())).thenReturn(Optional.of(category));
+
+        Assertions.assertTrue(gateway.findById(category.getId()).isEmpty());
+
+        gateway.create(category);
+
+        Assertions.assertTrue(gateway.findById(category.getId()).isPresent());
+        verify(delegate, times(1)).findById(category.getId());
+    }
+
+    @Test
+    void givenAMissCachedBeforeTheIdReachedTheFilter_whenTheFilterAddsIt_shouldAskTheDelegateAgain() {
+        // Filter not loaded, so the miss is remembered by the negative cache
+        final var category = Category.newCategory("Filmes", null, true);
+        when(delegate.findById(category.getId())).thenReturn(Optional.empty(), Optional.of(category));
+        Assertions.assertTrue(gateway.findById(category.getId()).isEmpty());
+
+        // Created where this gateway doesn't see it, then picked up by the filter catch-up
+        filter.add(category.getId());
+
+        Assertions.assertTrue(gateway.findById(category.getId()).isPresent());
+        verify(delegate, times(2)).findById(category.getId());
+    }
+
+    @Test
+    void givenADeletedCategory_whenCallsFindById_shouldNotCallTheDelegateAgain() {
+        final var category = Category.newCategory("Filmes", null, true);
+        when(delegate.createAll(any())).thenAnswer(invocation -> CategoryBatchResult.allCreated(invocation.getArgument(0)));
+        loadFilter();
+        gateway.createAll(List.of(category));
+
+        gateway.deleteById(category.getId());
+
+        Assertions.assertTrue(gateway.findById(category.getId()).isEmpty());
+        verify(delegate, times(1)).deleteById(category.getId());
+        verify(delegate, never()).findById(any());
+    }
+
+    @Test
+    void givenSomeMissingIds_whenCallsFindAllByIds_shouldOnlyAskForTheOthers() {
+        loadFilter();
+        final var category = Category.newCategory("Filmes", null, true);
+        when(delegate.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(delegate.findAllByIds(List.of(category.getId()))).thenReturn(List.of(category));
+        gateway.create(category);
+
+        final var found = gateway.findAllByIds(List.of(CategoryID.unique(), category.getId(), CategoryID.unique()));
+
+        Assertions.assertEquals(List.of(category), found);
+    }
+
+    @Test
+    void givenALoadedFilter_whenReadsItsMetrics_shouldReportSizeAndRates() {
+        loadFilter();
+
+        Assertions.assertTrue(meterRegistry.get("category.existence.filter.size").gauge().value() > 0);
+        Assertions.assertEquals(0.01, meterRegistry.get("category.existence.filter.false-positive.rate")
+                .tag("kind", "configured").gauge().value());
+        Assertions.assertTrue(meterRegistry.get("category.existence.filter.false-positive.rate")
+                .tag("kind", "estimated").gauge().value() < 0.01);
+    }
+
+    private void loadFilter() {
+        filter.beginLoad(10);
+        for (var i = 0; i < 10; i++) {
+            filter.addLoaded(CategoryID.unique().getValue());
+        }
+        filter.finishLoad();
+    }
+
+    private double lookups(final String result) {
+        return meterRegistry.get("category.existence.lookups").tag("result", result).functionCounter().count();
+    }
+}
@@ -0,0 +1,342 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.CountStrategy;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchMode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Behavior every {@link CategoryGateway} store has to share, whatever keeps the categories. Everything goes through
+ * the gateway, so each implementation only provides an empty one.
+ */
+public abstract class CategoryGatewayContractTest {
+
+    protected abstract CategoryGateway gateway();
+
+    @Test
+    void givenACreatedCategory_whenCallsFindById_shouldReturnIt() {
+        // Given
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        // When
+        final var actualCreated = gateway().create(category);
+        final var actualCategory = gateway().findById(category.getId()).orElseThrow();
+
+        // Then
+        Assertions.assertEquals(category.getId(), actualCreated.getId());
+        Assertions.assertEquals(category.getId(), actualCategory.getId());
+        Assertions.assertEquals("Filmes", actualCategory.getName());
+        Assertions.assertEquals("A categoria mais assistida", actualCategory.getDescription());
+        Assertions.assertTrue(actualCategory.isActive());
+        assertSameInstant(category.getCreatedAt(), actualCategory.getCreatedAt());
+        assertSameInstant(category.getUpdatedAt(), actualCategory.getUpdatedAt());
+        Assertions.assertNull(actualCategory.getDeletedAt());
+        Assertions.assertEquals(0, actualCategory.getVersion());
+    }
+
+    @Test
+    void givenAnUnknownId_whenCallsFindById_shouldReturnEmpty() {
+        Assertions.assertTrue(gateway().findById(CategoryID.from("empty")).isEmpty());
+    }
+
+    @Test
+    void givenAValidCategory_whenCallsUpdate_shouldBumpTheVersionAndStoreIt() {
+        // Given
+        final var category = gateway().create(Category.newCategory("Fil", null, true));
+
+        // When
+        final var actualCategory = gateway().update(category.clone().update("Filmes", "A categoria mais assistida", false));
+
+        // Then
+        Assertions.assertEquals(1, actualCategory.getVersion());
+        Assertions.assertEquals("Filmes", actualCategory.getName());
+        Assertions.assertNotNull(actualCategory.getDeletedAt());
+
+        final var actualStored = gateway().findById(category.getId()).orElseThrow();
+        Assertions.assertEquals("Filmes", actualStored.getName());
+        Assertions.assertEquals("A categoria mais assistida", actualStored.getDescription());
+        Assertions.assertFalse(actualStored.isActive());
+        Assertions.assertNotNull(actualStored.getDeletedAt());
+        Assertions.assertEquals(1, actualStored.getVersion());
+    }
+
+    @Test
+    void givenAStaleVersion_whenCallsUpdate_shouldThrowConflictAndKeepTheNewerOne() {
+        // Given
+        final var category = gateway().create(Category.newCategory("Film", null, true));
+        final var firstUpdate = gateway().update(category.clone().update("Filmes", null, true));
+
+        // When
+        final var staleUpdate = category.clone().update("Series", null, true);
+        final var actualException = Assertions.assertThrows(ConflictException.class, () -> gateway().update(staleUpdate));
+
+        // Then
+        Assertions.assertEquals(
+                "Category with ID %s was changed concurrently, version 0 is stale".formatted(category.getId().getValue()),
+                actualException.getMessage()
+        );
+        Assertions.assertEquals("Filmes", gateway().findById(category.getId()).orElseThrow().getName());
+        Assertions.assertEquals(2, gateway().update(firstUpdate.clone().update("Series", null, true)).getVersion());
+    }
+
+    @Test
+    void givenAnUnknownId_whenCallsUpdate_shouldThrowNotFound() {
+        // Given
+        final var category = Category.newCategory("Filmes", null, true).update("Séries", null, true);
+
+        // When
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> gateway().update(category));
+
+        // Then
+        Assertions.assertEquals(
+                "Category with ID %s was not found".formatted(category.getId().getValue()),
+                actualException.getErrors().get(0).message()
+        );
+    }
+
+    @Test
+    void givenNoChanges_whenCallsUpdate_shouldReturnTheCategoryAsIs() {
+        // Given
+        final var category = gateway().create(Category.newCategory("Filmes", null, true));
+
+        // When
+        final var actualCategory = gateway().update(Category.with(category));
+
+        // Then
+        Assertions.assertEquals(0, actualCategory.getVersion());
+        Assertions.assertEquals(0, gateway().findById(category.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    void givenACreatedCategory_whenCallsDeleteById_shouldBeGone() {
+        // Given
+        final var category = gateway().create(Category.newCategory("Filmes", null, true));
+
+        // When
+        gateway().deleteById(category.getId());
+        gateway().deleteById(CategoryID.from("invalid"));
+
+        // Then
+        Assertions.assertTrue(gateway().findById(category.getId()).isEmpty());
+        Assertions.assertEquals(0, gateway().findAll(new CategorySearchQuery(0, 10, "", "name", "asc")).total());
+    }
+
+    @Test
+    void givenSeveralIds_whenCallsFindAllByIds_shouldReturnTheOnesStoredOnce() {
+        // Given
+        final var created = gateway().createAll(List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Séries", null, true)
+        )).created();
+        final var ids = List.of(created.get(0).getId(), CategoryID.from("missing"), created.get(1).getId(), created.get(0).getId());
+
+        // When
+        final var actualCategories = gateway().findAllByIds(ids);
+
+        // Then
+        Assertions.assertEquals(
+                created.stream().map(it -> it.getId().getValue()).sorted().toList(),
+                actualCategories.stream().map(it -> it.getId().getValue()).sorted().toList()
+        );
+    }
+
+    @Test
+    void givenFollowCursor_whenCallsFindAllAfterEachNextCursor_shouldWalkAllPagesInOrder() {
+        // Given
+        gateway().createAll(List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Série", null, true),
+                Category.newCategory("Documentários", null, true)
+        ));
+
+        // When
+        final var query = new CategorySearchQuery(0, 1, "", "name", "asc");
+        final var firstPage = gateway().findAll(query);
+        final var secondPage = gateway().findAll(query.withAfter(firstPage.nextCursor()));
+        final var thirdPage = gateway().findAll(query.withAfter(secondPage.nextCursor()));
+
+        // Then
+        Assertions.assertEquals(3, firstPage.total());
+        Assertions.assertEquals("Documentários", firstPage.items().get(0).getName());
+        Assertions.assertEquals("Filmes", secondPage.items().get(0).getName());
+        Assertions.assertEquals("Série", thirdPage.items().get(0).getName());
+        Assertions.assertNull(thirdPage.nextCursor());
+        Assertions.assertEquals("Filmes", gateway().findAll(new CategorySearchQuery(1, 1, "", "name", "asc")).items().get(0).getName());
+    }
+
+    @Test
+    void givenNamesInMixedCaseAndAccents_whenCallsFindAllByName_shouldSortIgnoringCaseAndAccents() {
+        // Given
+        gateway().createAll(List.of(
+                Category.newCategory("Zeta", null, true),
+                Category.newCategory("abc", null, true),
+                Category.newCategory("Ácaro", null, true),
+                Category.newCategory("Bravo", null, true)
+        ));
+
+        // When
+        final var query = new CategorySearchQuery(0, 2, "", "name", "asc");
+        final var firstPage = gateway().findAll(query);
+        final var secondPage = gateway().findAll(query.withAfter(firstPage.nextCursor()));
+        final var descending = gateway().findAll(new CategorySearchQuery(0, 4, "", "name", "desc"));
+
+        // Then
+        final var actualNames = Stream.concat(firstPage.items().stream(), secondPage.items().stream())
+                .map(Category::getName)
+                .toList();
+        Assertions.assertEquals(List.of("abc", "Ácaro", "Bravo", "Zeta"), actualNames);
+        Assertions.assertEquals(List.of("Zeta", "Bravo", "Ácaro", "abc"), descending.items().stream().map(Category::getName).toList());
+    }
+
+    @Test
+    void givenCategoriesWithSameName_whenCallsFindAllByCursorDesc_shouldUseIdAsTieBreaker() {
+        // Given
+        final var created = gateway().createAll(List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Filmes", null, true)
+        )).created();
+        final var expectedIds = created.stream()
+                .map(it -> it.getId().getValue())
+                .sorted(Comparator.reverseOrder())
+                .toList();
+
+        // When
+        final var query = new CategorySearchQuery(0, 2, "", "name", "desc");
+        final var firstPage = gateway().findAll(query);
+        final var secondPage = gateway().findAll(query.withAfter(firstPage.nextCursor()));
+
+        // Then
+        final var actualIds = Stream.concat(firstPage.items().stream(), secondPage.items().stream())
+                .map(it -> it.getId().getValue())
+                .toList();
+        Assertions.assertEquals(expectedIds, actualIds);
+        Assertions.assertNull(secondPage.nextCursor());
+    }
+
+    @Test
+    void givenAnInvalidCursorOrSort_whenCallsFindAll_shouldReturnDomainException() {
+        final var invalidCursor = new CategorySearchQuery(0, 1, "", "name", "asc", "not-a-cursor");
+        final var unsupportedSort = new CategorySearchQuery(0, 1, "", "description", "asc");
+
+        Assertions.assertEquals(
+                "'after' is not a valid cursor",
+                Assertions.assertThrows(DomainException.class, () -> gateway().findAll(invalidCursor)).getErrors().get(0).message()
+        );
+        Assertions.assertEquals(
+                "Sort 'description' is not supported",
+                Assertions.assertThrows(DomainException.class, () -> gateway().findAll(unsupportedSort)).getErrors().get(0).message()
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "EXACT,,0,3,true",
+            "CACHED,fil,0,1,true",
+            "NONE,,0,2,false",
+            "NONE,,2,3,false",
+    })
+    void givenACountStrategy_whenCallsFindAll_shouldReturnTotalAccordingly(
+            final CountStrategy expectedStrategy,
+            final String expectedTerms,
+            final int expectedPage,
+            final long expectedTotal,
+            final boolean expectedTotalExact
+    ) {
+        // Given
+        gateway().createAll(List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Série", null, true),
+                Category.newCategory("Documentários", null, true)
+        ));
+
+        // When
+        final var query = new CategorySearchQuery(expectedPage, 1, expectedTerms, "name", "asc").withCount(expectedStrategy);
+        final var actualCategories = gateway().findAll(query);
+
+        // Then
+        Assertions.assertEquals(1, actualCategories.items().size());
+        Assertions.assertEquals(expectedTotal, actualCategories.total());
+        Assertions.assertEquals(expectedTotalExact, actualCategories.totalExact());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            ",0,3",
+            "fil,0,1",
+            "xyz,0,0",
+            ",5,3",
+            "fil,5,1",
+            "xyz,5,0",
+    })
+    void givenAWindowCountPagePastTheEnd_whenCallsFindAll_shouldStillReturnTheExactTotal(
+            final String expectedTerms,
+            final int expectedPage,
+            final long expectedTotal
+    ) {
+        // Given
+        gateway().createAll(List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Série", null, true),
+                Category.newCategory("Documentários", null, true)
+        ));
+
+        // When
+        final var query = new CategorySearchQuery(expectedPage, 10, expectedTerms, "name", "asc").withCount(CountStrategy.WINDOW);
+        final var actualCategories = gateway().findAll(query);
+
+        // Then
+        Assertions.assertEquals(expectedPage == 0 ? expectedTotal : 0, actualCategories.items().size());
+        Assertions.assertEquals(expectedTotal, actualCategories.total());
+        Assertions.assertTrue(actualCategories.totalExact());
+        Assertions.assertNull(actualCategories.nextCursor());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "CONTAINS,documentarios,1",
+            "CONTAINS,SÉRIE,1",
+            "CONTAINS,assistida,2",
+            "CONTAINS,100%,1",
+            "PREFIX,DOC,1",
+            "PREFIX,mes,0",
+            "PREFIX,_ilmes,0",
+    })
+    void givenASearchMode_whenCallsFindAll_shouldMatchIgnoringCaseAndAccents(
+            final SearchMode expectedMode,
+            final String expectedTerms,
+            final long expectedTotal
+    ) {
+        // Given
+        gateway().create(Category.newCategory("Filmes", "A categoria mais assistida", true));
+        gateway().create(Category.newCategory("Series", "Uma categoria assistida", true));
+        gateway().create(Category.newCategory("Documentários", "100% real", true));
+
+        // When
+        final var query = new CategorySearchQuery(0, 10, expectedTerms, "name", "asc").withMode(expectedMode);
+        final var actualCategories = gateway().findAll(query);
+
+        // Then
+        Assertions.assertEquals(expectedTotal, actualCategories.total());
+        Assertions.assertEquals(expectedTotal, actualCategories.items().size());
+    }
+
+    private static void assertSameInstant(final Instant expected, final Instant actual) {
+        // Databases may keep them to the microsecond only
+        Assertions.assertTrue(Duration.between(expected, actual).abs().toNanos() < 1_000, () -> expected + " != " + actual);
+    }
+}
@@ -0,0 +1,83 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+@MySQLGatewayTest
+class CategoryIdFilterLoaderTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private CategoryIdFilter filter;
+
+    private CategoryIdFilterLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        filter = new CategoryIdFilter(1_000, 0.001);
+        loader = new CategoryIdFilterLoader(categoryRepository, dataSource, filter, 2, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void givenStoredCategories_whenCallsLoad_shouldKnowEveryIdInEveryPage() {
+        final var categories = save(5);
+
+        Assertions.assertFalse(filter.isReady());
+        Assertions.assertEquals(5, loader.load());
+
+        Assertions.assertTrue(filter.isReady());
+        Assertions.assertTrue(categories.stream().allMatch(category -> filter.mightContain(category.getId())));
+        Assertions.assertFalse(filter.mightContain(CategoryID.unique()));
+    }
+
+    @Test
+    void givenCategoriesCreatedAfterTheLoad_whenCallsCatchUp_shouldAddThem() {
+        save(3);
+        loader.load();
+
+        final var createdElsewhere = save(2);
+        Assertions.assertTrue(createdElsewhere.stream().noneMatch(category -> filter.mightContain(category.getId())));
+
+        loader.catchUp();
+
+        Assertions.assertTrue(createdElsewhere.stream().allMatch(category -> filter.mightContain(category.getId())));
+    }
+
+    @Test
+    void givenCategoriesCreatedAfterTheLoad_whenCallsCatchUp_shouldTellTheSubscribers() {
+        save(3);
+        loader.load();
+        final var added = new ArrayList<CategoryID>();
+        filter.subscribe(added::add);
+
+        final var createdElsewhere = save(2);
+        loader.catchUp();
+
+        Assertions.assertTrue(added.containsAll(createdElsewhere.stream().map(Category::getId).toList()));
+    }
+
+    private List<Category> save(final int count) {
+        final var categories = IntStream.range(0, count)
+                .mapToObj(i -> Category.newCategory("Categoria " + i, null, true))
+                .toList();
+        categoryRepository.saveAllAndFlush(categories.stream().map(CategoryJpaEntity::from).toList());
+        return categories;
+    }
+}
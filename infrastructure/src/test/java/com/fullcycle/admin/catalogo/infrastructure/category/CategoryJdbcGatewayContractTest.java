@@ -0,0 +1,132 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.CountStrategy;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchMode;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+@MySQLGatewayTest
+class CategoryJdbcGatewayContractTest extends CategoryGatewayContractTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CatalogGeneration catalogGeneration;
+
+    @Autowired
+    private CategoryChangeLog categoryChangeLog;
+
+    @Autowired
+    private CategoryMySQLGateway categoryMySQLGateway;
+
+    private CategoryJdbcGateway categoryJdbcGateway;
+
+    @BeforeEach
+    void setUp() {
+        categoryJdbcGateway = new CategoryJdbcGateway(dataSource, catalogGeneration, categoryChangeLog, transactionManager, 2, 2, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        categoryJdbcGateway.shutdown();
+    }
+
+    @Override
+    protected CategoryGateway gateway() {
+        return categoryJdbcGateway;
+    }
+
+    @Test
+    void givenTheSameQuery_whenCallsFindAll_shouldReturnTheSamePagesAsTheJpaGateway() {
+        // Given
+        categoryJdbcGateway.createAll(List.of(
+                Category.newCategory("Filmes", "A categoria mais assistida", true),
+                Category.newCategory("Filmes", "Longas", true),
+                Category.newCategory("Séries", "Uma categoria assistida", false),
+                Category.newCategory("Documentários", "100% real", true),
+                Category.newCategory("Animações", null, true),
+                Category.newCategory("Esportes", null, true),
+                Category.newCategory("Filmes clássicos", null, true)
+        ));
+
+        // When / Then
+        for (final var sort : List.of("name", "createdAt", "updatedAt", "id")) {
+            for (final var direction : List.of("asc", "desc")) {
+                for (final var terms : new String[]{null, "fil", "ASSISTIDA", "serie", "100%", "_ilmes"}) {
+                    for (final var mode : List.of(SearchMode.CONTAINS, SearchMode.PREFIX)) {
+                        for (final var count : List.of(CountStrategy.EXACT, CountStrategy.WINDOW, CountStrategy.NONE)) {
+                            for (var page = 0; page < 5; page++) {
+                                final var query = new CategorySearchQuery(page, 2, terms, sort, direction).withMode(mode).withCount(count);
+                                assertSamePage(categoryMySQLGateway.findAll(query), categoryJdbcGateway.findAll(query), query);
+                            }
+                            assertSameWalk(new CategorySearchQuery(0, 2, terms, sort, direction).withMode(mode).withCount(count));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void givenAnUpdateThroughJdbc_whenReadsThroughJpa_shouldSeeTheSameRow() {
+        // Given
+        final var category = categoryJdbcGateway.create(Category.newCategory("Fil", null, true));
+
+        // When
+        categoryJdbcGateway.update(category.clone().update("Filmes", "A categoria mais assistida", false));
+
+        // Then
+        final var actualCategory = categoryMySQLGateway.findById(category.getId()).orElseThrow();
+        Assertions.assertEquals("Filmes", actualCategory.getName());
+        Assertions.assertEquals("A categoria mais assistida", actualCategory.getDescription());
+        Assertions.assertFalse(actualCategory.isActive());
+        Assertions.assertNotNull(actualCategory.getDeletedAt());
+        Assertions.assertEquals(1, actualCategory.getVersion());
+        Assertions.assertEquals(1, categoryMySQLGateway.findAll(new CategorySearchQuery(0, 10, "filmes", "name", "asc")).total());
+    }
+
+    private void assertSameWalk(final CategorySearchQuery first) {
+        var query = first;
+        while (true) {
+            final var expected = categoryMySQLGateway.findAll(query);
+            final var actual = categoryJdbcGateway.findAll(query);
+            assertSamePage(expected, actual, query);
+            if (!expected.hasNext()) {
+                return;
+            }
+            query = first.withAfter(expected.nextCursor());
+        }
+    }
+
+    private static void assertSamePage(
+            final Pagination<Category> expected,
+            final Pagination<Category> actual,
+            final CategorySearchQuery query
+    ) {
+        Assertions.assertEquals(ids(expected), ids(actual), query::toString);
+        Assertions.assertEquals(expected.total(), actual.total(), query::toString);
+        Assertions.assertEquals(expected.totalExact(), actual.totalExact(), query::toString);
+        Assertions.assertEquals(expected.nextCursor(), actual.nextCursor(), query::toString);
+    }
+
+    private static List<String> ids(final Pagination<Category> page) {
+        return page.items().stream().map(category -> category.getId().getValue()).toList();
+    }
+}
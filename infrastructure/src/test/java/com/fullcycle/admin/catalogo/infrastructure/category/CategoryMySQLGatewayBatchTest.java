@@ -0,0 +1,158 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeLog;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * {@link CategoryMySQLGateway#createAll(List)} commits each chunk in its own transaction, so it runs outside of the
+ * rolled back transaction used by {@code @MySQLGatewayTest}.
+ */
+@IntegrationTest
+class CategoryMySQLGatewayBatchTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private CatalogGeneration catalogGeneration;
+
+    @Autowired
+    private CategoryChangeLog categoryChangeLog;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private CategoryMySQLGateway categoryMySQLGateway;
+
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        categoryMySQLGateway = new CategoryMySQLGateway(categoryRepository, dataSource, catalogGeneration, categoryChangeLog, transactionManager, CHUNK_SIZE, 1, CHUNK_SIZE);
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getStatistics().clear();
+        sessionFactory.getStatistics().setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.getStatistics().setStatisticsEnabled(false);
+    }
+
+    @Test
+    void givenValidCategories_whenCallsCreateAll_shouldInsertThemInBatchesWithoutSelects() {
+        final var categories = IntStream.range(0, 5)
+                .mapToObj(i -> Category.newCategory("Categoria " + i, null, true))
+                .toList();
+        final var generationBefore = catalogGeneration.current();
+
+        final var actualCategories = categoryMySQLGateway.createAll(categories);
+
+        final var statistics = sessionFactory.getStatistics();
+        Assertions.assertEquals(5, statistics.getEntityInsertCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        // One transaction per chunk of CHUNK_SIZE rows
+        Assertions.assertEquals(3, statistics.getSuccessfulTransactionCount());
+
+        Assertions.assertEquals(categories, actualCategories.created());
+        Assertions.assertTrue(actualCategories.rejected().isEmpty());
+        Assertions.assertEquals(5, categoryRepository.count());
+        Assertions.assertTrue(catalogGeneration.current() > generationBefore);
+    }
+
+    @Test
+    void givenADuplicatedCategory_whenCallsCreateAll_shouldKeepTheRestOfItsChunk() {
+        final var first = Category.newCategory("Filmes", null, true);
+        final var duplicate = Category.with(first);
+        final var last = Category.newCategory("Series", null, true);
+
+        final var actualCategories = categoryMySQLGateway.createAll(List.of(first, duplicate, last));
+
+        Assertions.assertEquals(List.of(first, last), actualCategories.created());
+        Assertions.assertEquals(Set.of(duplicate.getId()), actualCategories.rejected().keySet());
+        Assertions.assertTrue(actualCategories.rejected().get(duplicate.getId()).message()
+                .startsWith("Category 'Filmes' could not be persisted: "));
+        Assertions.assertEquals(2, categoryRepository.count());
+        Assertions.assertTrue(categoryRepository.existsById(first.getId().getValue()));
+        Assertions.assertTrue(categoryRepository.existsById(last.getId().getValue()));
+    }
+
+    @Test
+    void givenTheDatabaseFailingOnAChunk_whenCallsCreateAll_shouldThrowWithoutRetryingRowByRow() {
+        final var failingChangeLog = mock(CategoryChangeLog.class);
+        final var expectedError = new DataAccessResourceFailureException("Communications link failure");
+        doThrow(expectedError).when(failingChangeLog).append(any(), anyCollection());
+        final var gateway = new CategoryMySQLGateway(categoryRepository, dataSource, catalogGeneration, failingChangeLog, transactionManager, CHUNK_SIZE, 1, CHUNK_SIZE);
+        final var categories = IntStream.range(0, 5)
+                .mapToObj(i -> Category.newCategory("Categoria " + i, null, true))
+                .toList();
+
+        final var actualException = Assertions.assertThrows(DataAccessResourceFailureException.class, () -> gateway.createAll(categories));
+
+        Assertions.assertSame(expectedError, actualException);
+        // The first chunk only, rolled back: no second try, row by row or for the chunks after it
+        verify(failingChangeLog, times(1)).append(any(), anyCollection());
+        Assertions.assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    void givenAnEmptyList_whenCallsCreateAll_shouldReturnEmpty() {
+        Assertions.assertTrue(categoryMySQLGateway.createAll(List.of()).isEmpty());
+        Assertions.assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    void givenMoreIdsThanAChunk_whenCallsFindAllByIds_shouldQueryOneInListPerChunk() {
+        final var categories = categoryMySQLGateway.createAll(IntStream.range(0, 5)
+                .mapToObj(i -> Category.newCategory("Categoria " + i, null, true))
+                .toList()).created();
+        final var ids = new ArrayList<>(categories.stream().map(Category::getId).toList());
+        ids.add(CategoryID.from("123"));
+        ids.add(categories.get(0).getId());
+
+        sessionFactory.getStatistics().clear();
+        final var actualCategories = categoryMySQLGateway.findAllByIds(ids);
+
+        Assertions.assertEquals(
+                categories.stream().map(Category::getId).collect(Collectors.toSet()),
+                actualCategories.stream().map(Category::getId).collect(Collectors.toSet())
+        );
+        Assertions.assertEquals(categories.size(), actualCategories.size());
+        // 6 distinct IDs in chunks of 2
+        Assertions.assertEquals(3, sessionFactory.getStatistics().getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@MySQLGatewayTest
+class CategoryMySQLGatewayContractTest extends CategoryGatewayContractTest {
+
+    @Autowired
+    private CategoryMySQLGateway categoryMySQLGateway;
+
+    @Override
+    protected CategoryGateway gateway() {
+        return categoryMySQLGateway;
+    }
+}
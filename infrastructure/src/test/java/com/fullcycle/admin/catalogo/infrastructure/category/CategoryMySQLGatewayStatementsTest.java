@@ -0,0 +1,162 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.StatementRecorder;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+/**
+ * Locks in how many SQL statements each write sends to the database, counted on the {@code DataSource} so the
+ * {@code category_change} row written through {@code JdbcTemplate} is counted too.
+ * <p>
+ * With {@code category.cluster.enabled}, the default, every write that changes a row is two statements: the write
+ * itself and its change row, in the same transaction. Without it, it is the write alone.
+ */
+@MySQLGatewayTest
+@Import(StatementRecorder.Config.class)
+class CategoryMySQLGatewayStatementsTest {
+
+    private static final String CHANGE_INSERT = "INSERT INTO category_change";
+
+    @Autowired
+    private CategoryMySQLGateway categoryMySQLGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    @BeforeEach
+    void setUp() {
+        // Sends the clean up deletes now, so they are not counted as part of the write under test
+        categoryRepository.flush();
+    }
+
+    @Test
+    void givenANewCategory_whenCallsCreate_shouldOnlyInsert() {
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        statementRecorder.clear();
+        categoryMySQLGateway.create(category);
+        categoryRepository.flush();
+
+        Assertions.assertEquals(List.of("insert", "insert"), verbs());
+        Assertions.assertEquals(1, statementRecorder.executionsStartingWith(CHANGE_INSERT).size());
+    }
+
+    @Test
+    void givenAPersistedCategory_whenCallsUpdate_shouldOnlyUpdate() {
+        final var category = Category.newCategory("Film", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category).asNew());
+
+        statementRecorder.clear();
+        categoryMySQLGateway.update(category.clone().update("Filmes", "A categoria mais assistida", false));
+
+        Assertions.assertEquals(List.of("update", "insert"), verbs());
+        Assertions.assertEquals(1, statementRecorder.executionsStartingWith(CHANGE_INSERT).size());
+
+        final var actualEntity = categoryRepository.findById(category.getId().getValue()).get();
+        Assertions.assertEquals("Filmes", actualEntity.getName());
+        Assertions.assertEquals("filmes", actualEntity.getNameSearch());
+        Assertions.assertEquals("A categoria mais assistida", actualEntity.getDescription());
+        Assertions.assertFalse(actualEntity.isActive());
+        Assertions.assertNotNull(actualEntity.getDeletedAt());
+    }
+
+    @Test
+    void givenAnUnchangedCategory_whenCallsUpdate_shouldSendNothing() {
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category).asNew());
+        final var storedCategory = categoryMySQLGateway.findById(category.getId()).get();
+        final var skippedBefore = categoryMySQLGateway.skippedUpdates();
+
+        statementRecorder.clear();
+        final var actualCategory = categoryMySQLGateway.update(
+                storedCategory.clone().update("Filmes", "A categoria mais assistida", true)
+        );
+
+        Assertions.assertEquals(List.of(), statementRecorder.executions());
+        Assertions.assertEquals(skippedBefore + 1, categoryMySQLGateway.skippedUpdates());
+        Assertions.assertEquals(storedCategory.getUpdatedAt(), actualCategory.getUpdatedAt());
+        Assertions.assertEquals(storedCategory.getVersion(), actualCategory.getVersion());
+    }
+
+    @Test
+    void givenOnlyANewName_whenCallsUpdate_shouldLeaveTheOtherColumnsAlone() {
+        final var category = Category.newCategory("Film", "A categoria mais assistida", true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category).asNew());
+        final var storedCategory = categoryMySQLGateway.findById(category.getId()).get();
+
+        // A column the update below has no business writing, changed behind the aggregate's back
+        final var entity = categoryRepository.findById(category.getId().getValue()).get();
+        entity.setDescription("Alterada por fora");
+        categoryRepository.saveAndFlush(entity);
+
+        statementRecorder.clear();
+        categoryMySQLGateway.update(storedCategory.clone().update("Filmes", "A categoria mais assistida", true));
+
+        Assertions.assertEquals(List.of("update", "insert"), verbs());
+        final var actualEntity = categoryRepository.findById(category.getId().getValue()).get();
+        Assertions.assertEquals("Filmes", actualEntity.getName());
+        Assertions.assertEquals("filmes", actualEntity.getNameSearch());
+        Assertions.assertEquals("Alterada por fora", actualEntity.getDescription());
+        Assertions.assertEquals(1, actualEntity.getVersion());
+    }
+
+    @Test
+    void givenANonExistentCategory_whenCallsUpdate_shouldReturnNotFoundAfterTwoStatements() {
+        final var category = Category.newCategory("Filmes", null, true);
+
+        statementRecorder.clear();
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> categoryMySQLGateway.update(category));
+
+        Assertions.assertEquals(
+                "Category with ID %s was not found".formatted(category.getId().getValue()),
+                actualException.getErrors().get(0).message()
+        );
+        // The UPDATE that matched nothing, then the lookup telling a missing row from a stale version; no change row
+        Assertions.assertEquals(List.of("update", "select"), verbs());
+        Assertions.assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    void givenAPersistedCategory_whenCallsDeleteById_shouldOnlyDelete() {
+        final var category = Category.newCategory("Filmes", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category).asNew());
+
+        statementRecorder.clear();
+        categoryMySQLGateway.deleteById(category.getId());
+
+        Assertions.assertEquals(List.of("delete", "insert"), verbs());
+        Assertions.assertEquals(1, statementRecorder.executionsStartingWith(CHANGE_INSERT).size());
+        Assertions.assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    void givenANonExistentId_whenCallsDeleteById_shouldOnlyTryToDelete() {
+        statementRecorder.clear();
+        categoryMySQLGateway.deleteById(CategoryID.from("invalid"));
+
+        Assertions.assertEquals(List.of("delete"), verbs());
+    }
+
+    /**
+     * First word of every statement executed, lower case, in the order they were sent.
+     */
+    private List<String> verbs() {
+        return statementRecorder.statements().stream()
+                .map(sql -> sql.stripLeading().split("\\s+", 2)[0].toLowerCase())
+                .toList();
+    }
+}
@@ -4,13 +4,29 @@ import com.fullcycle.admin.catalogo.MySQLGatewayTest;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.CountStrategy;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchMode;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChange;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeLog;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeType;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @MySQLGatewayTest
 class CategoryMySQLGatewayTest {
@@ -21,6 +37,15 @@ class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private CatalogGeneration catalogGeneration;
+
+    @Autowired
+    private CategoryChangeLog categoryChangeLog;
+
+    @Autowired
+    private DataSource dataSource;
+
     @Test
     void givenAValidCategory_whenCallsCreate_shouldReturnANewCategory() {
         final var expectedName = "Filmes";
@@ -95,13 +120,44 @@ class CategoryMySQLGatewayTest {
         Assertions.assertEquals(expectedName, actualEntity.getName());
         Assertions.assertEquals(expectedDescription, actualEntity.getDescription());
         Assertions.assertEquals(expectedIsActive, actualEntity.isActive());
-        Assertions.assertEquals(category.getCreatedAt(), actualEntity.getCreatedAt());
+        // Read back from the database, which rounds to microseconds
+        Assertions.assertTrue(Duration.between(category.getCreatedAt(), actualEntity.getCreatedAt()).abs().toNanos() < 1_000);
         Assertions.assertTrue(category.getUpdatedAt().isBefore(actualEntity.getUpdatedAt()));
         Assertions.assertEquals(category.getDeletedAt(), actualEntity.getDeletedAt());
         Assertions.assertNull(actualEntity.getDeletedAt());
 
     }
 
+    @Test
+    void givenAStaleVersion_whenCallsUpdate_shouldThrowConflictAndKeepTheNewerRow() {
+        // Given
+        final var category = Category.newCategory("Film", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category).asNew());
+
+        final var firstUpdate = categoryMySQLGateway.update(category.clone().update("Filmes", null, true));
+        Assertions.assertEquals(0, category.getVersion());
+        Assertions.assertEquals(1, firstUpdate.getVersion());
+
+        // When
+        final var staleUpdate = category.clone().update("Series", null, true);
+        final var actualException = Assertions.assertThrows(
+                ConflictException.class,
+                () -> categoryMySQLGateway.update(staleUpdate)
+        );
+
+        // Then
+        Assertions.assertEquals(
+                "Category with ID %s was changed concurrently, version 0 is stale".formatted(category.getId().getValue()),
+                actualException.getMessage()
+        );
+        final var actualEntity = categoryRepository.findById(category.getId().getValue()).get();
+        Assertions.assertEquals("Filmes", actualEntity.getName());
+        Assertions.assertEquals(1, actualEntity.getVersion());
+
+        final var secondUpdate = categoryMySQLGateway.update(firstUpdate.clone().update("Series", null, true));
+        Assertions.assertEquals(2, secondUpdate.getVersion());
+    }
+
     @Test
     void givenAPrePersistedCategoryAndValidCategoryId_whenTryToDeleteIt_shouldDeleteCategory() {
         // Given
@@ -349,4 +405,275 @@ class CategoryMySQLGatewayTest {
         Assertions.assertEquals(categoryMovie.getId(), actualCategories.items().get(0).getId());
     }
 
+    @Test
+    void givenFollowCursor_whenCallsFindAllAfterEachNextCursor_shouldWalkAllPagesInOrder() {
+        // Given
+        final var expectedPerPage = 1;
+        final var expectedTotal = 3;
+
+        final var categoryMovie = Category.newCategory("Filmes", null, true);
+        final var categorySeries = Category.newCategory("Série", null, true);
+        final var categoryDocumentary = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(categoryMovie),
+                CategoryJpaEntity.from(categorySeries),
+                CategoryJpaEntity.from(categoryDocumentary)
+        ));
+
+        // First page
+        final var query = new CategorySearchQuery(0, 1, "", "name", "asc");
+        var actualCategories = categoryMySQLGateway.findAll(query);
+
+        Assertions.assertEquals(expectedTotal, actualCategories.total());
+        Assertions.assertEquals(categoryDocumentary.getId(), actualCategories.items().get(0).getId());
+        Assertions.assertNotNull(actualCategories.nextCursor());
+
+        // After first page
+        actualCategories = categoryMySQLGateway.findAll(query.withAfter(actualCategories.nextCursor()));
+
+        Assertions.assertEquals(expectedPerPage, actualCategories.items().size());
+        Assertions.assertEquals(expectedTotal, actualCategories.total());
+        Assertions.assertEquals(categoryMovie.getId(), actualCategories.items().get(0).getId());
+        Assertions.assertNotNull(actualCategories.nextCursor());
+
+        // After second page
+        actualCategories = categoryMySQLGateway.findAll(query.withAfter(actualCategories.nextCursor()));
+
+        Assertions.assertEquals(expectedPerPage, actualCategories.items().size());
+        Assertions.assertEquals(categorySeries.getId(), actualCategories.items().get(0).getId());
+        Assertions.assertNull(actualCategories.nextCursor());
+    }
+
+    @Test
+    void givenCategoriesWithSameName_whenCallsFindAllByCursorDesc_shouldUseIdAsTieBreaker() {
+        // Given
+        final var first = Category.newCategory("Filmes", null, true);
+        final var second = Category.newCategory("Filmes", null, true);
+        final var third = Category.newCategory("Filmes", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(first),
+                CategoryJpaEntity.from(second),
+                CategoryJpaEntity.from(third)
+        ));
+
+        final var expectedIds = Stream.of(first, second, third)
+                .map(it -> it.getId().getValue())
+                .sorted(Comparator.reverseOrder())
+                .toList();
+
+        // When
+        final var query = new CategorySearchQuery(0, 2, "", "name", "desc");
+        final var firstPage = categoryMySQLGateway.findAll(query);
+        final var secondPage = categoryMySQLGateway.findAll(query.withAfter(firstPage.nextCursor()));
+
+        // Then
+        final var actualIds = Stream.concat(firstPage.items().stream(), secondPage.items().stream())
+                .map(it -> it.getId().getValue())
+                .toList();
+
+        Assertions.assertEquals(expectedIds, actualIds);
+        Assertions.assertNull(secondPage.nextCursor());
+    }
+
+    @Test
+    void givenAnInvalidCursor_whenCallsFindAll_shouldReturnDomainException() {
+        // Given
+        final var expectedErrorMessage = "'after' is not a valid cursor";
+        final var query = new CategorySearchQuery(0, 1, "", "name", "asc", "not-a-cursor");
+
+        // When
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> categoryMySQLGateway.findAll(query));
+
+        // Then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "EXACT,,0,3,true",
+            "WINDOW,,0,3,true",
+            "CACHED,,0,3,true",
+            "EXACT,fil,0,1,true",
+            "WINDOW,fil,0,1,true",
+            "CACHED,fil,0,1,true",
+            "NONE,,0,2,false",
+            "NONE,,2,3,false",
+            "NONE,fil,0,1,false",
+    })
+    void givenACountStrategy_whenCallsFindAll_shouldReturnTotalAccordingly(
+            final CountStrategy expectedStrategy,
+            final String expectedTerms,
+            final int expectedPage,
+            final long expectedTotal,
+            final boolean expectedTotalExact
+    ) {
+        // Given
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Série", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Documentários", null, true))
+        ));
+        // Written straight through the repository, so the gateway can't know the catalog changed
+        catalogGeneration.next();
+
+        // When
+        final var query = new CategorySearchQuery(expectedPage, 1, expectedTerms, "name", "asc")
+                .withCount(expectedStrategy);
+        final var actualCategories = categoryMySQLGateway.findAll(query);
+
+        // Then
+        Assertions.assertEquals(expectedPage, actualCategories.currentPage());
+        Assertions.assertEquals(1, actualCategories.items().size());
+        Assertions.assertEquals(expectedTotal, actualCategories.total());
+        Assertions.assertEquals(expectedTotalExact, actualCategories.totalExact());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"EXACT,,3", "WINDOW,,3", "WINDOW,fil,1", "CACHED,,3"})
+    void givenAPagePastTheEnd_whenCallsFindAll_shouldReturnNoItemsAndTheExactTotal(
+            final CountStrategy expectedStrategy,
+            final String expectedTerms,
+            final long expectedTotal
+    ) {
+        // Given
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Série", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Documentários", null, true))
+        ));
+        catalogGeneration.next();
+
+        // When
+        final var query = new CategorySearchQuery(5, 2, expectedTerms, "name", "asc").withCount(expectedStrategy);
+        final var actualCategories = categoryMySQLGateway.findAll(query);
+
+        // Then
+        Assertions.assertTrue(actualCategories.items().isEmpty());
+        Assertions.assertEquals(expectedTotal, actualCategories.total());
+        Assertions.assertTrue(actualCategories.totalExact());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void givenEstimatedCountStrategy_whenCallsFindAllWithoutTerms_shouldReturnTheDatabaseEstimate() {
+        // Given: committed, so the statistics see the rows, and more of them than the page can prove exist
+        categoryRepository.saveAll(Stream.of("Filmes", "Série", "Documentários", "Animes", "Novelas")
+                .map(name -> CategoryJpaEntity.from(Category.newCategory(name, null, true)))
+                .toList());
+        final var expectedEstimate = CategoryGatewaySupport.estimateRows(new JdbcTemplate(dataSource)).orElseThrow();
+        Assertions.assertTrue(expectedEstimate > 2, "the page alone proves 2 rows, the estimate must say more");
+
+        // When
+        final var query = new CategorySearchQuery(0, 1, "", "name", "asc").withCount(CountStrategy.ESTIMATED);
+        final var actualCategories = categoryMySQLGateway.findAll(query);
+
+        // Then
+        Assertions.assertEquals(1, actualCategories.items().size());
+        Assertions.assertFalse(actualCategories.totalExact());
+        Assertions.assertEquals(expectedEstimate, actualCategories.total());
+    }
+
+    @Test
+    void givenCachedCountStrategy_whenCategoryIsCreatedThroughGateway_shouldRecountTotal() {
+        // Given
+        categoryMySQLGateway.create(Category.newCategory("Filmes", null, true));
+
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc").withCount(CountStrategy.CACHED);
+        Assertions.assertEquals(1, categoryMySQLGateway.findAll(query).total());
+
+        // When
+        categoryMySQLGateway.create(Category.newCategory("Séries", null, true));
+
+        // Then
+        Assertions.assertEquals(2, categoryMySQLGateway.findAll(query).total());
+    }
+
+    @Test
+    void givenAnUnsupportedSort_whenCallsFindAll_shouldReturnDomainException() {
+        // Given
+        final var expectedErrorMessage = "Sort 'description' is not supported";
+        final var query = new CategorySearchQuery(0, 1, "", "description", "asc");
+
+        // When
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> categoryMySQLGateway.findAll(query));
+
+        // Then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "CONTAINS,documentarios,1",
+            "CONTAINS,SÉRIE,1",
+            "CONTAINS,assistida,2",
+            "CONTAINS,100%,1",
+            "PREFIX,DOC,1",
+            "PREFIX,fil,1",
+            "PREFIX,mes,0",
+            "PREFIX,assistida,0",
+            "PREFIX,_ilmes,0",
+    })
+    void givenASearchMode_whenCallsFindAll_shouldMatchIgnoringCaseAndAccents(
+            final SearchMode expectedMode,
+            final String expectedTerms,
+            final long expectedTotal
+    ) {
+        // Given
+        categoryMySQLGateway.create(Category.newCategory("Filmes", "A categoria mais assistida", true));
+        categoryMySQLGateway.create(Category.newCategory("Series", "Uma categoria assistida", true));
+        categoryMySQLGateway.create(Category.newCategory("Documentários", "100% real", true));
+
+        for (final var count : List.of(CountStrategy.EXACT, CountStrategy.WINDOW)) {
+            // When
+            final var query = new CategorySearchQuery(0, 10, expectedTerms, "name", "asc")
+                    .withMode(expectedMode)
+                    .withCount(count);
+            final var actualCategories = categoryMySQLGateway.findAll(query);
+
+            // Then
+            Assertions.assertEquals(expectedTotal, actualCategories.total());
+            Assertions.assertEquals(expectedTotal, actualCategories.items().size());
+        }
+    }
+
+    @Test
+    void givenAPrePersistedCategory_whenCallsUpdate_shouldRefreshSearchColumns() {
+        // Given
+        final var category = Category.newCategory("Film", null, true);
+        categoryMySQLGateway.create(category);
+
+        // When
+        categoryMySQLGateway.update(category.clone().update("Ação e Aventura", "Clássicos", true));
+        categoryRepository.flush();
+
+        // Then
+        final var actualEntity = categoryRepository.findById(category.getId().getValue()).get();
+        Assertions.assertEquals("acao e aventura", actualEntity.getNameSearch());
+        Assertions.assertEquals("classicos", actualEntity.getDescriptionSearch());
+    }
+
+    @Test
+    void givenWritesThroughTheGateway_whenReadsTheChangeLog_shouldFindOneChangePerWriteInOrder() {
+        // Given
+        final var first = Category.newCategory("Filmes", null, true);
+        final var second = Category.newCategory("Séries", null, true);
+        final var lastSequence = categoryChangeLog.lastSequence();
+
+        // When
+        categoryMySQLGateway.create(first);
+        categoryMySQLGateway.update(categoryMySQLGateway.findById(first.getId()).get().update("Filmes", "Longas", true));
+        categoryMySQLGateway.deleteById(first.getId());
+        categoryMySQLGateway.deleteById(second.getId());
+
+        // Then
+        final var changes = categoryChangeLog.readAfter(lastSequence, 10);
+        Assertions.assertEquals(
+                List.of(CategoryChangeType.CREATED, CategoryChangeType.UPDATED, CategoryChangeType.DELETED),
+                changes.stream().map(CategoryChange::type).toList()
+        );
+        Assertions.assertTrue(changes.stream().allMatch(change -> change.id().equals(first.getId())));
+        Assertions.assertTrue(changes.stream().allMatch(change -> change.nodeId().equals(categoryChangeLog.nodeId())));
+    }
 }
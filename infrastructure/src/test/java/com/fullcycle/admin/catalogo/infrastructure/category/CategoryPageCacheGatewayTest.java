@@ -0,0 +1,132 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryPageCacheGatewayTest {
+
+    private static final int HOT_AFTER = 2;
+
+    @Mock
+    private CategoryGateway delegate;
+
+    private final CatalogGeneration generation = new CatalogGeneration();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void givenEquivalentQueries_whenCallsFindAll_shouldLoadThePageOnceAndGiveEachCallerItsOwnCopy() {
+        final var gateway = gateway(Duration.ofMinutes(1));
+        final var page = page("Filmes");
+        when(delegate.findAll(any())).thenReturn(page);
+
+        final var first = gateway.findAll(new CategorySearchQuery(0, 10, "Ação ", "name", "asc"));
+        final var second = gateway.findAll(new CategorySearchQuery(0, 10, "acao", "name", "ASC"));
+
+        verify(delegate, times(1)).findAll(any());
+        Assertions.assertEquals(page.items(), second.items());
+        Assertions.assertNotSame(first.items().get(0), second.items().get(0));
+        Assertions.assertEquals(1, lookups("miss"));
+        Assertions.assertEquals(1, lookups("hit"));
+    }
+
+    @Test
+    void givenAWriteAfterTheLoad_whenCallsFindAllOnAColdPage_shouldLoadItAgain() {
+        final var gateway = gateway(Duration.ofMinutes(1));
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc");
+        when(delegate.findAll(query)).thenReturn(page("Filmes"), page("Séries"));
+
+        gateway.findAll(query);
+        generation.next();
+
+        Assertions.assertEquals("Séries", gateway.findAll(query).items().get(0).getName());
+        verify(delegate, times(2)).findAll(query);
+    }
+
+    @Test
+    void givenAWriteAfterTheLoad_whenCallsFindAllOnAHotPage_shouldServeItStaleAndReloadItInBackground() {
+        final var gateway = gateway(Duration.ofMinutes(1));
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc");
+        when(delegate.findAll(query)).thenReturn(page("Filmes"), page("Séries"));
+
+        gateway.findAll(query);
+        gateway.findAll(query);
+        generation.next();
+
+        Assertions.assertEquals("Filmes", gateway.findAll(query).items().get(0).getName());
+        verify(delegate, timeout(1_000).times(2)).findAll(query);
+        awaitRefreshes(1);
+
+        Assertions.assertEquals("Séries", gateway.findAll(query).items().get(0).getName());
+        verify(delegate, times(2)).findAll(query);
+        Assertions.assertEquals(1, lookups("stale"));
+    }
+
+    @Test
+    void givenAHotPageOlderThanTheStaleWindow_whenCallsFindAll_shouldWaitForTheReload() {
+        final var gateway = gateway(Duration.ZERO);
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc");
+        when(delegate.findAll(query)).thenReturn(page("Filmes"), page("Séries"));
+
+        gateway.findAll(query);
+        gateway.findAll(query);
+        generation.next();
+
+        Assertions.assertEquals("Séries", gateway.findAll(query).items().get(0).getName());
+        Assertions.assertEquals(0, lookups("stale"));
+    }
+
+    @Test
+    void givenAWriteWhileThePageIsLoading_whenCallsFindAllAgain_shouldNotTrustThatPage() {
+        final var gateway = gateway(Duration.ofMinutes(1));
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc");
+        when(delegate.findAll(query))
+                .thenAnswer(invocation -> {
+                    generation.next();
+                    return page("Filmes");
+                })
+                .thenReturn(page("Séries"));
+
+        gateway.findAll(query);
+
+        Assertions.assertEquals("Séries", gateway.findAll(query).items().get(0).getName());
+    }
+
+    private CategoryPageCacheGateway gateway(final Duration staleWhileRevalidate) {
+        final var gateway = new CategoryPageCacheGateway(
+                delegate, generation, 100, Duration.ofMinutes(10), staleWhileRevalidate, HOT_AFTER, 1);
+        gateway.bindTo(meterRegistry);
+        return gateway;
+    }
+
+    private void awaitRefreshes(final int expected) {
+        final var deadline = System.nanoTime() + Duration.ofSeconds(1).toNanos();
+        while (meterRegistry.get("category.page-cache.refreshes").functionCounter().count() < expected) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "page was not refreshed");
+            Thread.onSpinWait();
+        }
+    }
+
+    private double lookups(final String result) {
+        return meterRegistry.get("category.page-cache.lookups").tag("result", result).functionCounter().count();
+    }
+
+    private static Pagination<Category> page(final String name) {
+        return new Pagination<>(0, 10, 1, List.of(Category.newCategory(name, null, true)));
+    }
+}
@@ -0,0 +1,212 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.application.category.ReactiveCategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryBatchResult;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.CountStrategy;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchMode;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeLog;
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The gateway contract over R2DBC H2, on the same in-memory database the JPA gateway of the test context uses.
+ */
+// R2DBC has its own connections, so both sides must commit
+@MySQLGatewayTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CategoryR2dbcGatewayContractTest extends CategoryGatewayContractTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private CatalogGeneration catalogGeneration;
+
+    @Autowired
+    private CategoryChangeLog categoryChangeLog;
+
+    @Autowired
+    private CategoryMySQLGateway categoryMySQLGateway;
+
+    private CategoryR2dbcGateway categoryR2dbcGateway;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        final String url;
+        try (final var connection = dataSource.getConnection()) {
+            url = connection.getMetaData().getURL();
+        }
+        final var connectionFactory = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .url(url.substring("jdbc:h2:".length()))
+                .username("sa")
+                .build());
+        categoryR2dbcGateway = new CategoryR2dbcGateway(connectionFactory, catalogGeneration, categoryChangeLog, ZoneId.systemDefault(), 2);
+    }
+
+    @Override
+    protected CategoryGateway gateway() {
+        return new BlockingCategoryGateway(categoryR2dbcGateway);
+    }
+
+    @Test
+    void givenTheSameQuery_whenCallsFindAll_shouldReturnTheSamePagesAsTheJpaGateway() {
+        // Given
+        categoryMySQLGateway.createAll(List.of(
+                Category.newCategory("Filmes", "A categoria mais assistida", true),
+                Category.newCategory("Filmes", "Longas", true),
+                Category.newCategory("Séries", "Uma categoria assistida", false),
+                Category.newCategory("Documentários", "100% real", true),
+                Category.newCategory("Animações", null, true),
+                Category.newCategory("Esportes", null, true),
+                Category.newCategory("Filmes clássicos", null, true)
+        ));
+
+        // When / Then
+        for (final var sort : List.of("name", "createdAt", "updatedAt", "id")) {
+            for (final var direction : List.of("asc", "desc")) {
+                for (final var terms : new String[]{null, "fil", "ASSISTIDA", "serie", "100%", "_ilmes"}) {
+                    for (final var mode : List.of(SearchMode.CONTAINS, SearchMode.PREFIX)) {
+                        for (final var count : List.of(CountStrategy.EXACT, CountStrategy.WINDOW, CountStrategy.NONE)) {
+                            for (var page = 0; page < 5; page++) {
+                                final var query = new CategorySearchQuery(page, 2, terms, sort, direction).withMode(mode).withCount(count);
+                                assertSamePage(categoryMySQLGateway.findAll(query), categoryR2dbcGateway.findAll(query).block(), query);
+                            }
+                            assertSameWalk(new CategorySearchQuery(0, 2, terms, sort, direction).withMode(mode).withCount(count));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void givenAWrite_whenCommitted_shouldRecordItForTheChangePollerUnderAnotherNodeId() {
+        // Given
+        final var category = Category.newCategory("Filmes", null, true);
+
+        // When
+        categoryR2dbcGateway.create(category).block();
+
+        // Then
+        final var nodeIds = new JdbcTemplate(dataSource).queryForList(
+                "SELECT node_id FROM category_change WHERE category_id = ?", String.class, category.getId().getValue());
+        Assertions.assertEquals(List.of(categoryR2dbcGateway.nodeId()), nodeIds);
+        Assertions.assertNotEquals(categoryChangeLog.nodeId(), categoryR2dbcGateway.nodeId());
+        Assertions.assertEquals("Filmes", categoryMySQLGateway.findById(category.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void givenAQuery_whenNotSubscribed_shouldNotTouchTheDatabase() {
+        // Given
+        final var category = Category.newCategory("Filmes", null, true);
+
+        // When
+        categoryR2dbcGateway.create(category);
+
+        // Then
+        Assertions.assertTrue(categoryMySQLGateway.findById(category.getId()).isEmpty());
+    }
+
+    private void assertSameWalk(final CategorySearchQuery first) {
+        var query = first;
+        while (true) {
+            final var expected = categoryMySQLGateway.findAll(query);
+            final var actual = categoryR2dbcGateway.findAll(query).block();
+            assertSamePage(expected, actual, query);
+            if (!expected.hasNext()) {
+                return;
+            }
+            query = first.withAfter(expected.nextCursor());
+        }
+    }
+
+    private static void assertSamePage(
+            final Pagination<Category> expected,
+            final Pagination<Category> actual,
+            final CategorySearchQuery query
+    ) {
+        Assertions.assertEquals(ids(expected), ids(actual), query::toString);
+        Assertions.assertEquals(expected.total(), actual.total(), query::toString);
+        Assertions.assertEquals(expected.totalExact(), actual.totalExact(), query::toString);
+        Assertions.assertEquals(expected.nextCursor(), actual.nextCursor(), query::toString);
+    }
+
+    private static List<String> ids(final Pagination<Category> page) {
+        return page.items().stream().map(category -> category.getId().getValue()).toList();
+    }
+
+    /**
+     * Waits on every call, so the blocking contract runs as is.
+     */
+    private record BlockingCategoryGateway(ReactiveCategoryGateway gateway) implements CategoryGateway {
+
+        @Override
+        public Category create(final Category category) {
+            return gateway.create(category).block();
+        }
+
+        @Override
+        public CategoryBatchResult createAll(final List<Category> categories) {
+            // One by one, rejecting the rows the database refuses, as the batch gateways do
+            final var created = new ArrayList<Category>(categories.size());
+            final var rejected = new LinkedHashMap<CategoryID, Error>();
+            for (final var category : categories) {
+                try {
+                    created.add(gateway.create(category).block());
+                } catch (final DataIntegrityViolationException ex) {
+                    rejected.put(category.getId(), new Error(ex.getMostSpecificCause().getMessage()));
+                }
+            }
+            return new CategoryBatchResult(created, rejected);
+        }
+
+        @Override
+        public Category update(final Category category) {
+            return gateway.update(category).block();
+        }
+
+        @Override
+        public void deleteById(final CategoryID id) {
+            gateway.deleteById(id).block();
+        }
+
+        @Override
+        public Optional<Category> findById(final CategoryID id) {
+            return gateway.findById(id).blockOptional();
+        }
+
+        @Override
+        public List<Category> findAllByIds(final Collection<CategoryID> ids) {
+            return gateway.findAllByIds(ids).collectList().block();
+        }
+
+        @Override
+        public Pagination<Category> findAll(final CategorySearchQuery query) {
+            return gateway.findAll(query).block();
+        }
+    }
+}
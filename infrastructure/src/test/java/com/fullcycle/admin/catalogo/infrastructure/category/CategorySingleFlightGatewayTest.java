@@ -0,0 +1,199 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategorySingleFlightGatewayTest {
+
+    private static final int CALLERS = 8;
+
+    @Mock
+    private CategoryGateway delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CatalogGeneration generation = new CatalogGeneration();
+
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    private CategorySingleFlightGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        gateway = new CategorySingleFlightGateway(delegate, generation);
+        gateway.bindTo(meterRegistry);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void givenConcurrentCallsForTheSameId_whenCallsFindById_shouldHitTheDelegateOnceAndGiveEachCallerItsOwnCopy() throws Exception {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var release = new CountDownLatch(1);
+
+        when(delegate.findById(category.getId())).thenAnswer(invocation -> {
+            release.await();
+            return Optional.of(category);
+        });
+
+        final var calls = callConcurrently(() -> gateway.findById(category.getId()));
+        awaitJoined("findById", CALLERS - 1);
+        release.countDown();
+
+        final var results = IntStream.range(0, CALLERS).mapToObj(i -> get(calls.get(i)).get()).toList();
+        Assertions.assertTrue(results.stream().allMatch(result -> result.getId().equals(category.getId())));
+        Assertions.assertEquals(CALLERS, results.stream().map(System::identityHashCode).distinct().count());
+        verify(delegate, times(1)).findById(category.getId());
+        Assertions.assertEquals(
+                (double) (CALLERS - 1) / CALLERS,
+                meterRegistry.get("category.single-flight.coalesced.ratio").tag("operation", "findById").gauge().value()
+        );
+    }
+
+    @Test
+    void givenEquivalentQueriesInFlight_whenCallsFindAll_shouldShareOneCall() throws Exception {
+        final var release = new CountDownLatch(1);
+        final var expectedPage = new Pagination<>(0, 10, 1, List.of(Category.newCategory("Ação", null, true)));
+
+        when(delegate.findAll(any())).thenAnswer(invocation -> {
+            release.await();
+            return expectedPage;
+        });
+
+        final var first = CompletableFuture.supplyAsync(
+                () -> gateway.findAll(new CategorySearchQuery(0, 10, "Ação ", "name", "asc")), callers);
+        final var second = CompletableFuture.supplyAsync(
+                () -> gateway.findAll(new CategorySearchQuery(0, 10, "acao", "name", "ASC")), callers);
+        awaitJoined("findAll", 1);
+        release.countDown();
+
+        Assertions.assertEquals(1, first.get(5, TimeUnit.SECONDS).total());
+        Assertions.assertEquals(1, second.get(5, TimeUnit.SECONDS).total());
+        verify(delegate, times(1)).findAll(any());
+    }
+
+    @Test
+    void givenAFlightStartedBeforeACommittedWrite_whenThePageCacheLoadsAfterTheGenerationMoved_shouldNotCacheItsPage() throws Exception {
+        // The page cache sits above, as in CategoryGatewayConfig
+        final var pageCache = new CategoryPageCacheGateway(gateway, generation, 100, Duration.ofMinutes(5),
+                Duration.ofSeconds(30), 10, 1);
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final var stalePage = new Pagination<>(0, 10, 1, List.of(Category.newCategory("Filmes", null, true)));
+        final var freshPage = new Pagination<>(0, 10, 2, List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Séries", null, true)
+        ));
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var calls = new AtomicInteger();
+
+        when(delegate.findAll(any())).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() > 1) {
+                return freshPage;
+            }
+            started.countDown();
+            release.await();
+            return stalePage;
+        });
+
+        final var beforeWrite = CompletableFuture.supplyAsync(() -> pageCache.findAll(query), callers);
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        // The write commits: the generation hook runs first, the single flight's forget hasn't run yet
+        generation.next();
+        final var afterWrite = CompletableFuture.supplyAsync(() -> pageCache.findAll(query), callers);
+
+        Assertions.assertEquals(2, afterWrite.get(5, TimeUnit.SECONDS).total());
+        release.countDown();
+        Assertions.assertEquals(1, beforeWrite.get(5, TimeUnit.SECONDS).total());
+        Assertions.assertEquals(2, pageCache.findAll(query).total());
+        verify(delegate, times(2)).findAll(any());
+    }
+
+    @Test
+    void givenAFinishedCall_whenCallsFindByIdAgain_shouldNotReuseItsResult() {
+        final var category = Category.newCategory("Filmes", null, true);
+
+        when(delegate.findById(category.getId())).thenReturn(Optional.of(category));
+
+        gateway.findById(category.getId());
+        gateway.findById(category.getId());
+
+        verify(delegate, times(2)).findById(category.getId());
+    }
+
+    @Test
+    void givenAFailingCall_whenCallersShareIt_shouldThrowToEveryOne() throws Exception {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var release = new CountDownLatch(1);
+        final var expectedErrorMessage = "Gateway error";
+
+        when(delegate.findById(category.getId())).thenAnswer(invocation -> {
+            release.await();
+            throw new IllegalStateException(expectedErrorMessage);
+        });
+
+        final var calls = callConcurrently(() -> gateway.findById(category.getId()));
+        awaitJoined("findById", CALLERS - 1);
+        release.countDown();
+
+        for (final var call : calls) {
+            final var actualException = Assertions.assertThrows(ExecutionException.class, () -> call.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(expectedErrorMessage, actualException.getCause().getMessage());
+        }
+    }
+
+    private <T> List<CompletableFuture<T>> callConcurrently(final Supplier<T> call) {
+        return IntStream.range(0, CALLERS)
+                .mapToObj(i -> CompletableFuture.supplyAsync(call, callers))
+                .toList();
+    }
+
+    private void awaitJoined(final String operation, final int expected) throws InterruptedException {
+        final var counter = meterRegistry.get("category.single-flight.calls")
+                .tags("operation", operation, "result", "joined")
+                .functionCounter();
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (counter.count() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        Assertions.assertEquals(expected, counter.count());
+    }
+
+    private static <T> T get(final CompletableFuture<T> call) {
+        try {
+            return call.get(5, TimeUnit.SECONDS);
+        } catch (final Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
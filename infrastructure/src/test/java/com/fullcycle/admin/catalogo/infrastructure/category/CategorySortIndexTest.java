@@ -0,0 +1,159 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.StatementRecorder;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.CountStrategy;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchMode;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategorySortField;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * EXPLAINs the statements {@link CategoryMySQLGateway} really sends, captured at the {@code DataSource}, and checks
+ * each one reads through the {@code (column, id)} index of its sort instead of sorting the rows afterwards.
+ * <p>
+ * The plan is read the same way on H2 and MySQL: the expected index has to be named in it and no sort step may show
+ * up, which H2 spells {@code index sorted} being absent and MySQL {@code Using filesort} being present. H2 1.4 can't
+ * walk an index backwards, so descending sorts are skipped there and only checked when the suite runs against MySQL 8,
+ * which does a backward index scan.
+ */
+@MySQLGatewayTest
+@Import(StatementRecorder.Config.class)
+class CategorySortIndexTest {
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    static Stream<Arguments> sortFieldsAndDirections() {
+        return Arrays.stream(CategorySortField.values())
+                .flatMap(field -> Stream.of(Arguments.of(field, "asc"), Arguments.of(field, "desc")));
+    }
+
+    @BeforeEach
+    void setUp() {
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)).asNew(),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true)).asNew()
+        ));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sortFieldsAndDirections")
+    void givenASupportedSort_whenExplainPageQuery_shouldReadInIndexOrder(final CategorySortField field, final String direction) {
+        assumeIndexCanBeScanned(direction);
+
+        final var execution = pageQueryOf(new CategorySearchQuery(1, 1, "", field.property(), direction));
+
+        assertReadInIndexOrder(expectedIndex(field), explain(execution));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sortFieldsAndDirections")
+    void givenASupportedSort_whenExplainWindowCountPageQuery_shouldReadInIndexOrder(final CategorySortField field, final String direction) {
+        assumeIndexCanBeScanned(direction);
+
+        final var execution = pageQueryOf(new CategorySearchQuery(1, 1, "", field.property(), direction).withCount(CountStrategy.WINDOW));
+
+        assertReadInIndexOrder(expectedIndex(field), explain(execution));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sortFieldsAndDirections")
+    void givenASupportedSort_whenExplainSeekQuery_shouldReadInIndexOrder(final CategorySortField field, final String direction) {
+        assumeIndexCanBeScanned(direction);
+        final var firstPage = categoryGateway.findAll(new CategorySearchQuery(0, 1, "", field.property(), direction));
+
+        final var execution = pageQueryOf(new CategorySearchQuery(0, 1, "", field.property(), direction, firstPage.nextCursor()));
+
+        assertReadInIndexOrder(expectedIndex(field), explain(execution));
+    }
+
+    @Test
+    void givenPrefixTerms_whenExplainSearchQuery_shouldSeekOnNameSearchIndex() {
+        final var execution = pageQueryOf(new CategorySearchQuery(0, 1, "fil", "name", "asc").withMode(SearchMode.PREFIX));
+
+        final var plan = explain(execution);
+        Assertions.assertTrue(plan.contains("idx_category_name_search"), () -> "Expected a name_search index seek: " + plan);
+    }
+
+    private StatementRecorder.Execution pageQueryOf(final CategorySearchQuery query) {
+        statementRecorder.clear();
+        categoryGateway.findAll(query);
+
+        final var selects = statementRecorder.executionsStartingWith("select").stream()
+                .filter(it -> it.sql().toLowerCase(Locale.ROOT).contains("order by"))
+                .toList();
+        Assertions.assertEquals(1, selects.size(), () -> "Expected a single page query: " + selects);
+        return selects.get(0);
+    }
+
+    private void assertReadInIndexOrder(final String expectedIndex, final String plan) {
+        Assertions.assertTrue(plan.contains(expectedIndex), () -> "Expected %s in plan: %s".formatted(expectedIndex, plan));
+        if (isH2()) {
+            Assertions.assertTrue(plan.contains("index sorted"), () -> "Expected an index ordered read: " + plan);
+        } else {
+            Assertions.assertFalse(plan.contains("filesort"), () -> "Expected no filesort: " + plan);
+        }
+    }
+
+    private void assumeIndexCanBeScanned(final String direction) {
+        Assumptions.assumeFalse("desc".equals(direction) && isH2(), "H2 can't read an index backwards");
+    }
+
+    /**
+     * Every column of every plan row of {@code execution}, with the values the gateway bound to it.
+     */
+    private String explain(final StatementRecorder.Execution execution) {
+        return jdbcTemplate.query("EXPLAIN " + execution.sql(), statement -> {
+            for (var i = 0; i < execution.parameters().size(); i++) {
+                statement.setObject(i + 1, execution.parameters().get(i));
+            }
+        }, rs -> {
+            final var plan = new StringBuilder();
+            while (rs.next()) {
+                for (var column = 1; column <= rs.getMetaData().getColumnCount(); column++) {
+                    plan.append(rs.getString(column)).append(' ');
+                }
+            }
+            return plan.toString().toLowerCase(Locale.ROOT);
+        });
+    }
+
+    private boolean isH2() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "H2".equals(connection.getMetaData().getDatabaseProductName())));
+    }
+
+    private static String expectedIndex(final CategorySortField field) {
+        return field == CategorySortField.ID
+                ? "primary" // PRIMARY_KEY_n on H2, PRIMARY on MySQL
+                : "idx_category_%s_id".formatted(field.column());
+    }
+}
@@ -0,0 +1,137 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.cluster;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.category.CatalogGeneration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Two instances, each in its own JVM, sharing one database: each one has to apply the change written by the other
+ * within the poll interval. H2 in {@code AUTO_SERVER} mode lets the second JVM reach the database file opened by
+ * the first.
+ */
+class CategoryChangePollerMultiJvmTest {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+    private static final Duration BOUND = POLL_INTERVAL.multipliedBy(10);
+
+    @Test
+    void givenTwoInstancesOnTheSameDatabase_whenEachOneWrites_shouldApplyTheOtherOnesChangeWithinTheBound(
+            @TempDir final Path dir
+    ) throws Exception {
+        final var url = "jdbc:h2:file:" + dir.resolve("cluster") + ";MODE=MYSQL;DATABASE_TO_LOWER=TRUE;AUTO_SERVER=TRUE";
+        final var ownId = CategoryID.unique();
+        final var peerId = CategoryID.unique();
+
+        Flyway.configure().dataSource(url, "sa", "").load().migrate();
+
+        // Keeps this JVM the owner of the database file for the whole test
+        try (final var keepOpen = DriverManager.getConnection(url, "sa", "")) {
+            final var meterRegistry = new SimpleMeterRegistry();
+            final var changeLog = changeLog(url);
+            final var poller = new CategoryChangePoller(changeLog, new CatalogGeneration(), 100, Duration.ofSeconds(5), meterRegistry);
+            final var peerChangeApplied = new CountDownLatch(1);
+            poller.subscribe(change -> {
+                if (change.id().equals(peerId)) {
+                    peerChangeApplied.countDown();
+                }
+            });
+            poller.start(POLL_INTERVAL, Duration.ofHours(1), Duration.ofHours(1));
+
+            final var peer = new ProcessBuilder(
+                    Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-cp", System.getProperty("java.class.path"),
+                    Peer.class.getName(),
+                    url, peerId.getValue(), ownId.getValue(), String.valueOf(POLL_INTERVAL.toMillis())
+            ).redirectErrorStream(true).start();
+
+            try (poller; final var output = new BufferedReader(new InputStreamReader(peer.getInputStream(), StandardCharsets.UTF_8))) {
+                final var lines = new ArrayList<String>();
+                awaitLine(output, "READY", lines);
+
+                changeLog.append(CategoryChangeType.UPDATED, List.of(ownId));
+
+                Assertions.assertTrue(peerChangeApplied.await(10, TimeUnit.SECONDS), "peer change not applied here");
+                awaitLine(output, "APPLIED " + ownId.getValue(), lines);
+                Assertions.assertTrue(peer.waitFor(10, TimeUnit.SECONDS));
+                Assertions.assertEquals(0, peer.exitValue(), String.join("\n", lines));
+
+                final var lag = meterRegistry.get("category.cluster.apply.lag").timer();
+                Assertions.assertEquals(1, lag.count());
+                Assertions.assertTrue(lag.max(TimeUnit.MILLISECONDS) < BOUND.toMillis(), "lag was " + lag.max(TimeUnit.MILLISECONDS) + " ms");
+            } finally {
+                peer.destroyForcibly();
+            }
+        }
+    }
+
+    private static void awaitLine(final BufferedReader output, final String expected, final List<String> lines) throws Exception {
+        String line;
+        while ((line = output.readLine()) != null) {
+            lines.add(line);
+            if (line.equals(expected)) {
+                return;
+            }
+        }
+        Assertions.fail("peer exited before printing " + expected + ":\n" + String.join("\n", lines));
+    }
+
+    private static CategoryChangeLog changeLog(final String url) {
+        final var dataSource = new DriverManagerDataSource(url, "sa", "");
+        return new CategoryChangeLog(dataSource, new DataSourceTransactionManager(dataSource), true);
+    }
+
+    /**
+     * The other instance: writes its own change and waits for the one written by the test.
+     */
+    static final class Peer {
+
+        public static void main(final String[] args) throws Exception {
+            final var url = args[0];
+            final var ownId = CategoryID.from(args[1]);
+            final var expectedId = CategoryID.from(args[2]);
+            final var pollInterval = Long.parseLong(args[3]);
+
+            final var changeLog = changeLog(url);
+            final var poller = new CategoryChangePoller(changeLog, new CatalogGeneration(), 100, Duration.ofSeconds(5), new SimpleMeterRegistry());
+            final var applied = new CountDownLatch(1);
+            poller.subscribe(change -> {
+                if (change.id().equals(expectedId)) {
+                    applied.countDown();
+                }
+            });
+            poller.startFromLatest();
+            changeLog.append(CategoryChangeType.CREATED, List.of(ownId));
+            System.out.println("READY");
+            System.out.flush();
+
+            final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+            while (System.nanoTime() < deadline) {
+                poller.poll();
+                if (applied.getCount() == 0) {
+                    System.out.println("APPLIED " + expectedId.getValue());
+                    System.out.flush();
+                    System.exit(0);
+                }
+                Thread.sleep(pollInterval);
+            }
+            System.exit(1);
+        }
+    }
+}
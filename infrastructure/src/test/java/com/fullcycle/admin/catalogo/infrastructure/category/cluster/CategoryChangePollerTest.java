@@ -0,0 +1,153 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.cluster;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.category.CatalogGeneration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryChangePollerTest {
+
+    private static final String OWN_NODE = "own";
+    private static final String OTHER_NODE = "other";
+
+    @Mock
+    private CategoryChangeLog changeLog;
+
+    private final CatalogGeneration generation = new CatalogGeneration();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<CategoryChange> applied = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(changeLog.nodeId()).thenReturn(OWN_NODE);
+    }
+
+    @Test
+    void givenChangesFromEveryNode_whenCallsPoll_shouldApplyOnlyTheOtherNodesOnesAndMoveTheGeneration() {
+        final var poller = poller(Duration.ofMinutes(1));
+        final var remote = change(1, OTHER_NODE);
+        when(changeLog.readAfter(0, 10)).thenReturn(List.of(remote, change(2, OWN_NODE)));
+        when(changeLog.readAfter(2, 10)).thenReturn(List.of());
+
+        Assertions.assertEquals(1, poller.poll());
+        Assertions.assertEquals(0, poller.poll());
+
+        Assertions.assertEquals(List.of(remote), applied);
+        Assertions.assertEquals(1, generation.current());
+    }
+
+    @Test
+    void givenASequenceSkippedOver_whenItCommitsLater_shouldStillApplyIt() {
+        final var poller = poller(Duration.ofMinutes(1));
+        final var late = change(2, OTHER_NODE);
+        when(changeLog.readAfter(0, 10)).thenReturn(List.of(change(1, OTHER_NODE), change(3, OTHER_NODE)));
+        when(changeLog.readAfter(3, 10)).thenReturn(List.of());
+        when(changeLog.readSequences(List.of(2L))).thenReturn(List.of(), List.of(late));
+
+        poller.poll();
+        Assertions.assertEquals(1, pendingGaps());
+        poller.poll();
+        Assertions.assertEquals(1, pendingGaps());
+        poller.poll();
+
+        Assertions.assertEquals(List.of(1L, 3L, 2L), applied.stream().map(CategoryChange::sequence).toList());
+        Assertions.assertEquals(0, pendingGaps());
+    }
+
+    @Test
+    void givenASequenceSkippedOverForLongerThanTheTimeout_whenCallsPoll_shouldStopLookingForIt() {
+        final var poller = poller(Duration.ZERO);
+        when(changeLog.readAfter(0, 10)).thenReturn(List.of(change(1, OTHER_NODE), change(3, OTHER_NODE)));
+        when(changeLog.readAfter(3, 10)).thenReturn(List.of());
+
+        poller.poll();
+        poller.poll();
+
+        Assertions.assertEquals(0, pendingGaps());
+        Assertions.assertEquals(1, meterRegistry.get("category.cluster.gaps.abandoned").functionCounter().count());
+        verify(changeLog, never()).readSequences(any());
+    }
+
+    @Test
+    void givenAJumpWiderThanABatch_whenCallsPoll_shouldOnlyLookForTheLastBatchOfSequences() {
+        final var poller = poller(Duration.ofMinutes(1));
+        when(changeLog.readAfter(0, 10)).thenReturn(List.of(change(1_001, OTHER_NODE)));
+
+        poller.poll();
+
+        Assertions.assertEquals(10, pendingGaps());
+        Assertions.assertEquals(990, meterRegistry.get("category.cluster.gaps.abandoned").functionCounter().count());
+    }
+
+    @Test
+    void givenAFullBatch_whenCallsPoll_shouldKeepReadingUntilCaughtUp() {
+        final var poller = poller(Duration.ofMinutes(1));
+        final var firstBatch = new ArrayList<CategoryChange>();
+        for (var sequence = 1; sequence <= 10; sequence++) {
+            firstBatch.add(change(sequence, OTHER_NODE));
+        }
+        when(changeLog.readAfter(0, 10)).thenReturn(firstBatch);
+        when(changeLog.readAfter(10, 10)).thenReturn(List.of(change(11, OTHER_NODE)));
+
+        Assertions.assertEquals(11, poller.poll());
+        verify(changeLog, times(2)).readAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void givenASequenceSkippedOver_whenCallsPoll_shouldReportAppliedThroughRightBeforeIt() {
+        final var poller = poller(Duration.ofMinutes(1));
+        final var polled = new ArrayList<Long>();
+        poller.subscribe(new CategoryChangeListener() {
+            @Override
+            public void onRemoteChange(final CategoryChange change) {
+            }
+
+            @Override
+            public void onPolled(final long appliedThrough) {
+                polled.add(appliedThrough);
+            }
+        });
+        poller.startFrom(4);
+        when(changeLog.readAfter(4, 10)).thenReturn(List.of(change(5, OTHER_NODE), change(7, OTHER_NODE)));
+        when(changeLog.readAfter(7, 10)).thenReturn(List.of());
+        when(changeLog.readSequences(List.of(6L))).thenReturn(List.of(change(6, OTHER_NODE)));
+
+        poller.poll();
+        poller.poll();
+
+        Assertions.assertEquals(List.of(5L, 7L), polled);
+        Assertions.assertEquals(7, poller.appliedThrough());
+    }
+
+    private CategoryChangePoller poller(final Duration gapTimeout) {
+        final var poller = new CategoryChangePoller(changeLog, generation, 10, gapTimeout, meterRegistry);
+        poller.subscribe(applied::add);
+        return poller;
+    }
+
+    private double pendingGaps() {
+        return meterRegistry.get("category.cluster.gaps.pending").gauge().value();
+    }
+
+    private static CategoryChange change(final long sequence, final String nodeId) {
+        return new CategoryChange(sequence, CategoryID.unique(), CategoryChangeType.UPDATED, nodeId, Instant.now());
+    }
+}
@@ -0,0 +1,106 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.exporter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+@IntegrationTest
+class CategoryExporterTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Autowired
+    private CategoryExporter categoryExporter;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    void givenPersistedCategories_whenCallsExport_shouldWriteOneJsonLinePerCategoryInIdOrder() throws IOException {
+        final var deleted = Category.newCategory("Séries", "Com \"aspas\"\ne quebra de linha", false).deactivate();
+        final var categories = List.of(Category.newCategory("Filmes", null, true), deleted);
+        categoryRepository.saveAll(categories.stream().map(CategoryJpaEntity::from).toList());
+
+        final var output = new ByteArrayOutputStream();
+        final var report = categoryExporter.export(output, false);
+
+        final var lines = lines(new ByteArrayInputStream(output.toByteArray()));
+        Assertions.assertEquals(2, report.rows());
+        Assertions.assertEquals(output.size(), report.bytes());
+        Assertions.assertEquals(2, lines.size());
+
+        // Compared with what was stored, which has microsecond precision
+        final var expected = categoryRepository.findAll().stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .sorted(Comparator.comparing(it -> it.getId().getValue()))
+                .toList();
+        for (var i = 0; i < expected.size(); i++) {
+            final var category = expected.get(i);
+            final var json = lines.get(i);
+            Assertions.assertEquals(category.getId().getValue(), json.get("id").asText());
+            Assertions.assertEquals(category.getName(), json.get("name").asText());
+            Assertions.assertEquals(category.getDescription(), json.get("description").isNull() ? null : json.get("description").asText());
+            Assertions.assertEquals(category.isActive(), json.get("is_active").asBoolean());
+            Assertions.assertEquals(category.getCreatedAt().toString(), json.get("created_at").asText());
+            Assertions.assertEquals(category.getUpdatedAt().toString(), json.get("updated_at").asText());
+            Assertions.assertEquals(category.getDeletedAt() == null, json.get("deleted_at").isNull());
+        }
+    }
+
+    @Test
+    void givenManyCategories_whenCallsExportWithGzip_shouldWriteACompressedStream() throws IOException {
+        final var expectedRows = 2_500;
+        categoryRepository.saveAll(IntStream.range(0, expectedRows)
+                .mapToObj(i -> CategoryJpaEntity.from(Category.newCategory("Categoria " + i, "Exportada", true)))
+                .toList());
+
+        final var output = new ByteArrayOutputStream();
+        final var report = categoryExporter.export(output, true);
+
+        final var lines = lines(new GZIPInputStream(new ByteArrayInputStream(output.toByteArray())));
+        Assertions.assertEquals(expectedRows, report.rows());
+        Assertions.assertEquals(expectedRows, lines.size());
+        Assertions.assertEquals(output.size(), report.bytes());
+        Assertions.assertTrue(report.rowsPerSecond() > 0);
+    }
+
+    @Test
+    void givenAnEmptyTable_whenCallsExport_shouldWriteNothing() throws IOException {
+        final var output = new ByteArrayOutputStream();
+
+        final var report = categoryExporter.export(output, false);
+
+        Assertions.assertEquals(0, report.rows());
+        Assertions.assertEquals(0, output.size());
+    }
+
+    private static List<JsonNode> lines(final InputStream input) throws IOException {
+        final var lines = new ArrayList<JsonNode>();
+        try (final var reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(MAPPER.readTree(line));
+            }
+        }
+        return lines;
+    }
+}
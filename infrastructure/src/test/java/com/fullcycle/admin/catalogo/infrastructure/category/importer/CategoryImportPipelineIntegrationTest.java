@@ -0,0 +1,47 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importer;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@IntegrationTest
+class CategoryImportPipelineIntegrationTest {
+
+    @Autowired
+    private CategoryImportPipeline categoryImportPipeline;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    void givenANdjsonFile_whenCallsRun_shouldPersistEveryValidLine() throws Exception {
+        final var expectedImported = 1_200;
+        final var ndjson = IntStream.rangeClosed(1, expectedImported + 1)
+                .mapToObj(i -> i == 600
+                        ? "{\"name\": null}"
+                        : "{\"name\": \"Categoria %d\", \"description\": \"Importada\", \"is_active\": %b}".formatted(i, i % 2 == 0))
+                .collect(Collectors.joining("\n"));
+        final var errors = new CopyOnWriteArrayList<CategoryImportError>();
+
+        final var report = categoryImportPipeline.run(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)),
+                CategoryImportFormat.NDJSON,
+                errors::add
+        );
+
+        Assertions.assertEquals(expectedImported, report.imported());
+        Assertions.assertEquals(1, report.failed());
+        Assertions.assertEquals(expectedImported, categoryRepository.count());
+        Assertions.assertEquals(1, errors.size());
+        Assertions.assertEquals(600, errors.get(0).line());
+        Assertions.assertEquals("'name' should not be null", errors.get(0).errors().get(0).message());
+    }
+}
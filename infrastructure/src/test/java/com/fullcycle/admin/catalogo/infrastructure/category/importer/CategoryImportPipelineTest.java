@@ -0,0 +1,214 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importer;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryBatchResult;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryImportPipelineTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    void givenACsvFile_whenCallsRun_shouldImportValidRowsAndReportTheOthersByLine() throws Exception {
+        final var csv = """
+                \uFEFFname,description,is_active
+                Filmes,"A categoria, mais assistida",true
+                "Séries","Com ""aspas"" e
+                quebra de linha",false
+
+                ,sem nome,true
+                Documentários,,1
+                Kids,infantil,talvez
+                Curtas,demais,true,extra
+                """;
+        final var persisted = captureCreateAll();
+        final var errors = new CopyOnWriteArrayList<CategoryImportError>();
+
+        final var report = pipeline(2, 2, 4).run(input(csv), CategoryImportFormat.CSV, errors::add);
+
+        Assertions.assertEquals(6, report.read());
+        Assertions.assertEquals(3, report.imported());
+        Assertions.assertEquals(3, report.failed());
+
+        persisted.sort(Comparator.comparing(Category::getName));
+        Assertions.assertEquals(List.of("Documentários", "Filmes", "Séries"), persisted.stream().map(Category::getName).toList());
+        Assertions.assertEquals("A categoria, mais assistida", persisted.get(1).getDescription());
+        Assertions.assertEquals("Com \"aspas\" e\nquebra de linha", persisted.get(2).getDescription());
+        Assertions.assertFalse(persisted.get(2).isActive());
+        Assertions.assertNull(persisted.get(0).getDescription());
+
+        errors.sort(Comparator.comparingLong(CategoryImportError::line));
+        Assertions.assertEquals(List.of(
+                CategoryImportError.with(6, List.of(new Error("'name' should not be empty"))),
+                CategoryImportError.with(8, "'is_active' must be true or false"),
+                CategoryImportError.with(9, "Expected 3 columns but found 4")
+        ), errors);
+    }
+
+    @Test
+    void givenANdjsonFile_whenCallsRun_shouldImportValidLinesAndReportTheOthersByLine() throws Exception {
+        final var ndjson = """
+                {"name": "Filmes", "description": "A categoria mais assistida", "is_active": true}
+                {"name": "Fi"}
+
+                {"name": "Séries", "is_active": false
+                ["Documentários"]
+                {"name": "Documentários", "is_active": "false"}
+                """;
+        final var persisted = captureCreateAll();
+        final var errors = new CopyOnWriteArrayList<CategoryImportError>();
+
+        final var report = pipeline(2, 10, 10).run(input(ndjson), CategoryImportFormat.NDJSON, errors::add);
+
+        Assertions.assertEquals(5, report.read());
+        Assertions.assertEquals(2, report.imported());
+        Assertions.assertEquals(3, report.failed());
+        Assertions.assertTrue(persisted.stream().anyMatch(it -> it.getName().equals("Documentários") && !it.isActive()));
+
+        errors.sort(Comparator.comparingLong(CategoryImportError::line));
+        Assertions.assertEquals(List.of(2L, 4L, 5L), errors.stream().map(CategoryImportError::line).toList());
+        Assertions.assertEquals("'name' must be between 3 and 255 characters", errors.get(0).errors().get(0).message());
+        Assertions.assertTrue(errors.get(1).errors().get(0).message().startsWith("Invalid JSON"));
+        Assertions.assertEquals("Expected a JSON object", errors.get(2).errors().get(0).message());
+    }
+
+    @Test
+    void givenAFailingBatch_whenCallsRun_shouldReportItsRowsAndGoOn() throws Exception {
+        final var csv = "name\nFilmes\nSéries\nDocumentários\n";
+        when(categoryGateway.createAll(anyList()))
+                .thenThrow(new IllegalStateException("Database down"))
+                .thenAnswer(invocation -> CategoryBatchResult.allCreated(invocation.getArgument(0)));
+        final var errors = new CopyOnWriteArrayList<CategoryImportError>();
+
+        final var report = pipeline(1, 2, 10).run(input(csv), CategoryImportFormat.CSV, errors::add);
+
+        Assertions.assertEquals(1, report.imported());
+        Assertions.assertEquals(2, report.failed());
+        Assertions.assertEquals(List.of(2L, 3L), errors.stream().map(CategoryImportError::line).sorted().toList());
+        Assertions.assertEquals("Database down", errors.get(0).errors().get(0).message());
+    }
+
+    @Test
+    void givenARowRejectedByTheDatabase_whenCallsRun_shouldReportItWithItsCause() throws Exception {
+        final var csv = "name\nFilmes\nSéries\n";
+        final var expectedErrorMessage = "Category 'Filmes' could not be persisted: Duplicate entry for key 'PRIMARY'";
+        when(categoryGateway.createAll(anyList())).thenAnswer(invocation -> {
+            final List<Category> categories = invocation.getArgument(0);
+            return new CategoryBatchResult(
+                    categories.subList(1, 2),
+                    Map.of(categories.get(0).getId(), new Error(expectedErrorMessage))
+            );
+        });
+        final var errors = new CopyOnWriteArrayList<CategoryImportError>();
+
+        final var report = pipeline(1, 10, 10).run(input(csv), CategoryImportFormat.CSV, errors::add);
+
+        Assertions.assertEquals(1, report.imported());
+        Assertions.assertEquals(1, report.failed());
+        Assertions.assertEquals(2L, errors.get(0).line());
+        Assertions.assertEquals(expectedErrorMessage, errors.get(0).errors().get(0).message());
+    }
+
+    @Test
+    void givenACsvWithoutNameColumn_whenCallsRun_shouldFailBeforeImportingAnything() {
+        final var csv = "title,description\nFilmes,A categoria mais assistida\n";
+
+        final var actualException = Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> pipeline(1, 10, 10).run(input(csv), CategoryImportFormat.CSV, error -> {})
+        );
+
+        Assertions.assertEquals("CSV header must have a 'name' column", actualException.getMessage());
+        verifyNoInteractions(categoryGateway);
+    }
+
+    @Test
+    void givenASlowGateway_whenCallsRunWithAHugeFile_shouldOnlyReadAheadUpToTheQueues() throws Exception {
+        final var expectedRows = 50_000;
+        final var queueCapacity = 100;
+        final var batchSize = 50;
+        final var parallelism = 2;
+        final var generated = new AtomicLong();
+        final var written = new AtomicLong();
+        final var maxReadAhead = new AtomicLong();
+
+        when(categoryGateway.createAll(anyList())).thenAnswer(invocation -> {
+            final List<Category> categories = invocation.getArgument(0);
+            maxReadAhead.accumulateAndGet(generated.get() - written.get(), Math::max);
+            written.addAndGet(categories.size());
+            return CategoryBatchResult.allCreated(categories);
+        });
+
+        final var report = pipeline(parallelism, batchSize, queueCapacity)
+                .run(generatedCsv(expectedRows, generated), CategoryImportFormat.CSV, error -> {});
+
+        Assertions.assertEquals(expectedRows, report.read());
+        Assertions.assertEquals(expectedRows, report.imported());
+        Assertions.assertTrue(report.recordsPerSecond() > 0);
+        // Both queues, the batch being written, one record per validator and the reader's buffer
+        Assertions.assertTrue(maxReadAhead.get() < 2L * queueCapacity + batchSize + parallelism + 5_000,
+                "Read ahead " + maxReadAhead.get() + " rows");
+    }
+
+    private CategoryImportPipeline pipeline(final int parallelism, final int batchSize, final int queueCapacity) {
+        return new CategoryImportPipeline(categoryGateway, parallelism, batchSize, queueCapacity);
+    }
+
+    private List<Category> captureCreateAll() {
+        final var persisted = Collections.synchronizedList(new ArrayList<Category>());
+        when(categoryGateway.createAll(anyList())).thenAnswer(invocation -> {
+            final List<Category> categories = invocation.getArgument(0);
+            persisted.addAll(categories);
+            return CategoryBatchResult.allCreated(categories);
+        });
+        return persisted;
+    }
+
+    private static InputStream input(final String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * A CSV produced on demand, so the test itself never holds the whole file.
+     */
+    private static InputStream generatedCsv(final int rows, final AtomicLong generated) {
+        return new InputStream() {
+            private byte[] current = "name,is_active\n".getBytes(StandardCharsets.UTF_8);
+            private int position;
+
+            @Override
+            public int read() {
+                if (position == current.length) {
+                    if (generated.get() == rows) {
+                        return -1;
+                    }
+                    current = "Categoria %d,true\n".formatted(generated.incrementAndGet()).getBytes(StandardCharsets.UTF_8);
+                    position = 0;
+                }
+                return current[position++];
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.readmodel;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryReadModelGatewayTest {
+
+    @Mock
+    private CategoryGateway delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CategoryReadModel model;
+
+    private CategoryReadModelGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        model = new CategoryReadModel(Duration.ofMinutes(1), meterRegistry);
+        gateway = new CategoryReadModelGateway(delegate, model);
+        gateway.bindTo(meterRegistry);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void givenALoadedModel_whenCallsFindByIdAndFindAll_shouldNotCallTheDelegate() {
+        final var category = Category.newCategory("Filmes", null, true);
+        model.beginLoad();
+        model.load(List.of(CategoryRow.of(category)));
+
+        Assertions.assertTrue(gateway.findById(category.getId()).isPresent());
+        Assertions.assertEquals(1, gateway.findAll(new CategorySearchQuery(0, 10, "fil", "name", "asc")).total());
+
+        verifyNoInteractions(delegate);
+        Assertions.assertEquals(2, reads("memory"));
+    }
+
+    @Test
+    void givenAModelNotLoadedYet_whenCallsFindById_shouldAskTheDelegate() {
+        final var category = Category.newCategory("Filmes", null, true);
+        when(delegate.findById(category.getId())).thenReturn(Optional.of(category));
+
+        Assertions.assertTrue(gateway.findById(category.getId()).isPresent());
+
+        Assertions.assertEquals(1, reads("delegate"));
+    }
+
+    @Test
+    void givenATransactionOrARelevanceSearch_whenCallsFindAll_shouldAskTheDelegate() {
+        model.beginLoad();
+        model.load(List.of());
+        final var page = new Pagination<Category>(0, 10, 0, List.of());
+        final var relevance = new CategorySearchQuery(0, 10, "filmes", "name", "asc").withMode(SearchMode.RELEVANCE);
+        final var contains = new CategorySearchQuery(0, 10, "filmes", "name", "asc");
+        when(delegate.findAll(relevance)).thenReturn(page);
+        when(delegate.findAll(contains)).thenReturn(page);
+
+        gateway.findAll(relevance);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        gateway.findAll(contains);
+
+        verify(delegate).findAll(relevance);
+        verify(delegate).findAll(contains);
+        Assertions.assertEquals(2, reads("delegate"));
+    }
+
+    private double reads(final String source) {
+        return meterRegistry.get("category.read-model.reads").tag("source", source).functionCounter().count();
+    }
+}
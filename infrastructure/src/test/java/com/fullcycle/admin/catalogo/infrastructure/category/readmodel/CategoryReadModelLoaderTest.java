@@ -0,0 +1,170 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.readmodel;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchMode;
+import com.fullcycle.admin.catalogo.domain.utils.SearchNormalizer;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+// The load reads from several threads, each on its own connection, so the rows must be committed
+@MySQLGatewayTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CategoryReadModelLoaderTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryMySQLGateway categoryMySQLGateway;
+
+    private CategoryReadModel model;
+
+    private CategoryReadModelLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        model = new CategoryReadModel(Duration.ofMinutes(1), new SimpleMeterRegistry());
+        loader = new CategoryReadModelLoader(categoryRepository, model, 3, 2);
+    }
+
+    @Test
+    void givenStoredCategories_whenCallsLoad_shouldHoldEveryOneOfThemWhateverItsId() {
+        final var categories = new ArrayList<>(save(
+                Category.newCategory("Filmes", "A categoria mais assistida", true),
+                Category.newCategory("Séries", null, false),
+                Category.newCategory("Documentários", "100% real", true),
+                Category.newCategory("Animações", null, true),
+                Category.newCategory("Esportes", null, true)
+        ));
+        // Outside the UUID alphabet, falls in the open ended ranges
+        final var now = Instant.now();
+        categories.addAll(save(
+                Category.with(CategoryID.from("ZZZ"), "Novelas", null, true, now, now, null),
+                Category.with(CategoryID.from("-1"), "Shows", null, true, now, now, null)
+        ));
+
+        Assertions.assertFalse(model.isReady());
+        Assertions.assertEquals(categories.size(), loader.load());
+
+        Assertions.assertTrue(model.isReady());
+        Assertions.assertEquals(categories.size(), model.size());
+        for (final var category : categories) {
+            final var actual = model.findById(category.getId()).orElseThrow();
+            Assertions.assertEquals(category.getName(), actual.getName());
+            Assertions.assertEquals(category.getDescription(), actual.getDescription());
+            Assertions.assertEquals(category.isActive(), actual.isActive());
+        }
+    }
+
+    @Test
+    void givenTheSameQuery_whenCallsFindAll_shouldReturnTheSamePagesAsTheDatabase() {
+        save(
+                Category.newCategory("Filmes", "A categoria mais assistida", true),
+                Category.newCategory("Filmes", "Longas", true),
+                Category.newCategory("Séries", "Uma categoria assistida", false),
+                Category.newCategory("Documentários", "100% real", true),
+                Category.newCategory("Animações", null, true),
+                Category.newCategory("Esportes", null, true),
+                Category.newCategory("Filmes clássicos", null, true)
+        );
+        loader.load();
+
+        for (final var sort : List.of("name", "createdAt", "updatedAt", "id")) {
+            for (final var direction : List.of("asc", "desc")) {
+                for (final var terms : new String[]{null, "fil", "ASSISTIDA", "serie", "100%", "_ilmes"}) {
+                    for (final var mode : List.of(SearchMode.CONTAINS, SearchMode.PREFIX)) {
+                        for (var page = 0; page < 3; page++) {
+                            final var query = new CategorySearchQuery(page, 2, terms, sort, direction).withMode(mode);
+                            assertSamePage(categoryMySQLGateway.findAll(query), model.findAll(query), query);
+                        }
+                        assertSameWalk(new CategorySearchQuery(0, 2, terms, sort, direction).withMode(mode));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void givenNamesInMixedCaseAndAccents_whenWalksByNameSwitchingSources_shouldNeitherSkipNorRepeatAny() {
+        save(
+                Category.newCategory("Zeta", null, true),
+                Category.newCategory("abc", null, true),
+                Category.newCategory("Ácaro", null, true),
+                Category.newCategory("acaro", null, true),
+                Category.newCategory("Bravo", null, true)
+        );
+        loader.load();
+
+        for (final var direction : List.of("asc", "desc")) {
+            final var first = new CategorySearchQuery(0, 1, null, "name", direction);
+            final var walked = new ArrayList<Category>();
+            var query = first;
+            var fromModel = false;
+            while (true) {
+                // Each page from the other source, as the read model gateway does when the model goes stale
+                final var page = fromModel ? model.findAll(query) : categoryMySQLGateway.findAll(query);
+                walked.addAll(page.items());
+                if (!page.hasNext()) {
+                    break;
+                }
+                query = first.withAfter(page.nextCursor());
+                fromModel = !fromModel;
+            }
+
+            final var expected = "asc".equals(direction)
+                    ? List.of("abc", "acaro", "acaro", "bravo", "zeta")
+                    : List.of("zeta", "bravo", "acaro", "acaro", "abc");
+            Assertions.assertEquals(expected, walked.stream().map(it -> SearchNormalizer.normalize(it.getName())).toList());
+            Assertions.assertEquals(5, walked.stream().map(Category::getId).distinct().count());
+        }
+    }
+
+    private void assertSameWalk(final CategorySearchQuery first) {
+        var query = first;
+        while (true) {
+            final var expected = categoryMySQLGateway.findAll(query);
+            final var actual = model.findAll(query);
+            assertSamePage(expected, actual, query);
+            if (!expected.hasNext()) {
+                return;
+            }
+            query = first.withAfter(expected.nextCursor());
+        }
+    }
+
+    private static void assertSamePage(
+            final Pagination<Category> expected,
+            final Pagination<Category> actual,
+            final CategorySearchQuery query
+    ) {
+        Assertions.assertEquals(ids(expected), ids(actual), query::toString);
+        Assertions.assertEquals(expected.total(), actual.total(), query::toString);
+        Assertions.assertEquals(expected.nextCursor(), actual.nextCursor(), query::toString);
+    }
+
+    private static List<String> ids(final Pagination<Category> page) {
+        return page.items().stream().map(category -> category.getId().getValue()).toList();
+    }
+
+    private List<Category> save(final Category... categories) {
+        categoryRepository.saveAllAndFlush(List.of(categories).stream().map(CategoryJpaEntity::from).toList());
+        return List.of(categories);
+    }
+}
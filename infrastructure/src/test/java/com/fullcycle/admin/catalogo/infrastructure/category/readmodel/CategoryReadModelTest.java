@@ -0,0 +1,148 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.readmodel;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.CountStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+class CategoryReadModelTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CategoryReadModel model;
+
+    @BeforeEach
+    void setUp() {
+        model = new CategoryReadModel(Duration.ofMinutes(1), meterRegistry);
+    }
+
+    @Test
+    void givenALoadedModel_whenWritesArrive_shouldKeepEverySortOrderCurrent() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        load(filmes, series);
+
+        final var animacoes = Category.newCategory("Animações", null, true);
+        model.onSaved(animacoes);
+        model.onSaved(withVersion(series, "Acervo", 1));
+        model.onDeleted(filmes.getId());
+
+        Assertions.assertEquals(List.of("Acervo", "Animações"), names(new CategorySearchQuery(0, 10, null, "name", "asc")));
+        final var expectedIds = Stream.of(animacoes.getId().getValue(), series.getId().getValue())
+                .sorted(Comparator.reverseOrder())
+                .toList();
+        Assertions.assertEquals(expectedIds, model.findAll(new CategorySearchQuery(0, 10, null, "id", "desc")).items().stream()
+                .map(category -> category.getId().getValue())
+                .toList());
+        Assertions.assertTrue(model.findById(filmes.getId()).isEmpty());
+        Assertions.assertEquals(2, model.size());
+        Assertions.assertEquals(2, meterRegistry.get("category.read-model.apply.lag").tag("source", "local").timer().count());
+    }
+
+    @Test
+    void givenANewerVersionHeld_whenAnOlderOneArrives_shouldKeepTheNewer() {
+        final var category = Category.newCategory("Filmes", null, true);
+        load(withVersion(category, "Filmes e séries", 2));
+
+        model.onSaved(withVersion(category, "Filmes", 1));
+
+        Assertions.assertEquals("Filmes e séries", model.findById(category.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void givenWritesDuringALoad_whenTheLoadFinishes_shouldReplayThemOnTopOfIt() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var created = Category.newCategory("Animações", null, true);
+
+        model.beginLoad();
+        model.onSaved(created);
+        model.onDeleted(series.getId());
+        // Read by the load before the update below committed
+        model.onSaved(withVersion(filmes, "Longas", 1));
+        model.load(List.of(CategoryRow.of(filmes), CategoryRow.of(series)));
+
+        Assertions.assertEquals(List.of("Animações", "Longas"), names(new CategorySearchQuery(0, 10, null, "name", "asc")));
+    }
+
+    @Test
+    void givenAPageOfRows_whenCallsFindAllWithoutCount_shouldReturnALowerBound() {
+        load(
+                Category.newCategory("A", null, true),
+                Category.newCategory("B", null, true),
+                Category.newCategory("C", null, true)
+        );
+
+        final var page = model.findAll(new CategorySearchQuery(0, 2, null, "name", "asc").withCount(CountStrategy.NONE));
+
+        Assertions.assertEquals(3, page.total());
+        Assertions.assertFalse(page.totalExact());
+        Assertions.assertNotNull(page.nextCursor());
+    }
+
+    @Test
+    void givenACursorForAnotherSort_whenCallsFindAll_shouldReturnDomainException() {
+        load(Category.newCategory("A", null, true), Category.newCategory("B", null, true));
+        final var cursor = model.findAll(new CategorySearchQuery(0, 1, null, "name", "asc")).nextCursor();
+
+        final var query = new CategorySearchQuery(0, 1, null, "createdAt", "asc", cursor);
+
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> model.findAll(query));
+        Assertions.assertEquals("'after' cursor was issued for sort 'name'", actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenNoSyncForLongerThanMaxStaleness_whenCallsIsFresh_shouldReturnFalse() throws InterruptedException {
+        model = new CategoryReadModel(Duration.ofMillis(1), meterRegistry);
+        Assertions.assertFalse(model.isFresh());
+
+        load(Category.newCategory("A", null, true));
+        Thread.sleep(10);
+
+        Assertions.assertTrue(model.isReady());
+        Assertions.assertFalse(model.isFresh());
+    }
+
+    @Test
+    void givenRemoteChanges_whenCallsRefresh_shouldApplySavesAndDeletes() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        load(filmes, series);
+
+        model.refresh(List.of(withVersion(filmes, "Longas", 1)), Set.of(series.getId()));
+
+        Assertions.assertEquals(List.of("Longas"), names(new CategorySearchQuery(0, 10, null, "name", "asc")));
+    }
+
+    private void load(final Category... categories) {
+        model.beginLoad();
+        model.load(List.of(categories).stream().map(CategoryRow::of).toList());
+    }
+
+    private List<String> names(final CategorySearchQuery query) {
+        return model.findAll(query).items().stream().map(Category::getName).toList();
+    }
+
+    private static Category withVersion(final Category category, final String name, final long version) {
+        return Category.with(
+                category.getId(),
+                name,
+                category.getDescription(),
+                category.isActive(),
+                category.getCreatedAt(),
+                category.getUpdatedAt(),
+                category.getDeletedAt(),
+                version
+        );
+    }
+}
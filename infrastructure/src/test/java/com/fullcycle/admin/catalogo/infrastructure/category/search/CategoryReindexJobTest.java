@@ -0,0 +1,187 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.search;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChange;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeType;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+@MySQLGatewayTest
+class CategoryReindexJobTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private CategorySearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = CategorySearchIndex.inMemory();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void givenPersistedCategoriesAndAStaleDocument_whenCallsRun_shouldRebuildIndexFromTable() {
+        // Given
+        final var expectedCount = 25;
+        categoryRepository.saveAll(IntStream.range(0, expectedCount)
+                .mapToObj(i -> CategoryJpaEntity.from(Category.newCategory("Filmes " + i, "Categoria número " + i, true)))
+                .toList());
+        index.index(Category.newCategory("Categoria removida", null, true));
+
+        final var job = new CategoryReindexJob(categoryRepository, index, 2, 10, 0);
+
+        // When
+        final var actualIndexed = job.run();
+
+        // Then
+        Assertions.assertEquals(expectedCount, actualIndexed);
+        Assertions.assertEquals(expectedCount, index.size());
+        Assertions.assertTrue(index.isReady());
+        Assertions.assertEquals(expectedCount, index.search("numero", 0, 1).total());
+        Assertions.assertEquals(0, index.search("removida", 0, 1).total());
+        Assertions.assertFalse(job.isRunning());
+    }
+
+    @Test
+    void givenAThrottledJob_whenCallsRun_shouldNotIndexFasterThanTheLimit() {
+        // Given
+        categoryRepository.saveAll(IntStream.range(0, 30)
+                .mapToObj(i -> CategoryJpaEntity.from(Category.newCategory("Séries " + i, null, true)))
+                .toList());
+
+        final var job = new CategoryReindexJob(categoryRepository, index, 2, 10, 50);
+
+        // When
+        final var startedAt = System.nanoTime();
+        job.run();
+        final var elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // Then
+        Assertions.assertEquals(30, index.size());
+        // The first second worth of rows goes out right away, the last 10 wait for their share of the limit
+        Assertions.assertTrue(elapsedMillis >= 150, () -> "Reindex took only %d ms".formatted(elapsedMillis));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // Rows read back as stored, like the job sees them on startup
+    void givenAnIndexBehindTheTable_whenCallsReconcile_shouldOnlyRereadRowsUpdatedSinceAndDropDeletedOnes() {
+        // Given
+        final var lastIndexedAt = Instant.now().minus(1, ChronoUnit.HOURS);
+        final var unchanged = aged(Category.newCategory("Filmes", null, true), lastIndexedAt.minus(1, ChronoUnit.DAYS));
+        final var updated = aged(Category.newCategory("Documentarios", null, true), lastIndexedAt);
+        final var deleted = aged(Category.newCategory("Categoria removida", null, true), lastIndexedAt);
+        index.indexAll(List.of(unchanged, updated, deleted));
+
+        final var created = Category.newCategory("Séries", null, true);
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(unchanged),
+                CategoryJpaEntity.from(aged(updated.clone().update("Documentários reais", null, true), Instant.now())),
+                CategoryJpaEntity.from(created)
+        ));
+
+        final var job = new CategoryReindexJob(categoryRepository, index, 2, 2, 0);
+
+        // When
+        final var actualChanged = job.reconcile(lastIndexedAt);
+
+        // Then
+        Assertions.assertEquals(3, actualChanged);
+        Assertions.assertTrue(index.isReady());
+        Assertions.assertEquals(
+                Set.of(unchanged.getId().getValue(), updated.getId().getValue(), created.getId().getValue()),
+                index.ids()
+        );
+        Assertions.assertEquals(1, index.search("reais", 0, 1).total());
+        Assertions.assertEquals(1, index.search("series", 0, 1).total());
+        Assertions.assertEquals(0, index.search("removida", 0, 1).total());
+        Assertions.assertFalse(job.isRunning());
+    }
+
+    @Test
+    void givenARowDeletedWhileTheIndexWasClosed_whenReopenedAndReconciled_shouldDropIt(@TempDir final Path path) throws IOException {
+        // Given
+        final var kept = Category.newCategory("Filmes", null, true);
+        final var deleted = Category.newCategory("Categoria removida", null, true);
+        categoryRepository.saveAll(List.of(CategoryJpaEntity.from(kept), CategoryJpaEntity.from(deleted)));
+
+        final var closed = CategorySearchIndex.open(path, Duration.ofMinutes(1));
+        new CategoryReindexJob(categoryRepository, closed, 2, 10, 0).run();
+        closed.close();
+
+        categoryRepository.deleteById(deleted.getId().getValue());
+
+        final var reopened = CategorySearchIndex.open(path, Duration.ofMinutes(1));
+        final var job = new CategoryReindexJob(categoryRepository, reopened, 2, 10, 0);
+
+        // When
+        job.reconcile(reopened.resumableFrom().orElseThrow());
+
+        // Then
+        Assertions.assertTrue(reopened.isReady());
+        Assertions.assertEquals(Set.of(kept.getId().getValue()), reopened.ids());
+        Assertions.assertEquals(0, reopened.search("removida", 0, 1).total());
+        reopened.close();
+    }
+
+    @Test
+    void givenChangesMadeByOtherInstances_whenPolled_shouldReindexTheRowsAndDropTheDeletedOnes() {
+        // Given
+        final var updated = Category.newCategory("Documentarios", null, true);
+        final var deleted = Category.newCategory("Categoria removida", null, true);
+        index.indexAll(List.of(updated, deleted));
+        index.refresh();
+
+        final var created = Category.newCategory("Séries", null, true);
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(updated.clone().update("Documentários reais", null, true)),
+                CategoryJpaEntity.from(created)
+        ));
+
+        final var job = new CategoryReindexJob(categoryRepository, index, 2, 10, 0);
+
+        // When
+        job.onRemoteChange(remoteChange(1, updated.getId(), CategoryChangeType.UPDATED));
+        job.onRemoteChange(remoteChange(2, deleted.getId(), CategoryChangeType.DELETED));
+        job.onRemoteChange(remoteChange(3, created.getId(), CategoryChangeType.CREATED));
+        job.onPolled(3);
+
+        // Then
+        Assertions.assertEquals(Set.of(updated.getId().getValue(), created.getId().getValue()), index.ids());
+        Assertions.assertEquals(1, index.search("reais", 0, 1).total());
+        Assertions.assertEquals(1, index.search("series", 0, 1).total());
+        Assertions.assertEquals(0, index.search("removida", 0, 1).total());
+    }
+
+    private static CategoryChange remoteChange(final long sequence, final CategoryID id, final CategoryChangeType type) {
+        return new CategoryChange(sequence, id, type, "other-node", Instant.now());
+    }
+
+    private static Category aged(final Category category, final Instant updatedAt) {
+        return Category.with(category.getId(), category.getName(), category.getDescription(), category.isActive(),
+                category.getCreatedAt(), updatedAt, category.getDeletedAt());
+    }
+}
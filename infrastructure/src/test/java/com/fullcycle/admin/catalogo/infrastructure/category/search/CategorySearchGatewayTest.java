@@ -0,0 +1,112 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.search;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchMode;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategorySearchGatewayTest {
+
+    @Mock
+    private CategoryGateway delegate;
+
+    @Mock
+    private CategoryRepository repository;
+
+    private CategorySearchIndex index;
+
+    private CategorySearchGateway searchGateway;
+
+    @BeforeEach
+    void setUp() {
+        index = CategorySearchIndex.inMemory();
+        index.markReady();
+        searchGateway = new CategorySearchGateway(delegate, repository, index, new CategoryReindexJob(repository, index, 1, 10, 0));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void givenCategoriesCreatedThroughGateway_whenCallsFindAllByRelevance_shouldHydrateOnlyThePageInRelevanceOrder() {
+        // Given
+        final var inDescription = Category.newCategory("Filmes", "Os melhores documentários", true);
+        final var inName = Category.newCategory("Documentários", null, true);
+        when(delegate.create(any())).thenAnswer(returnsFirstArg());
+        searchGateway.create(inDescription);
+        searchGateway.create(inName);
+
+        when(repository.findAllById(List.of(inName.getId().getValue())))
+                .thenReturn(List.of(CategoryJpaEntity.from(inName)));
+
+        // When
+        final var query = new CategorySearchQuery(0, 1, "documentarios", "name", "asc").withMode(SearchMode.RELEVANCE);
+        final var actualCategories = searchGateway.findAll(query);
+
+        // Then
+        Assertions.assertEquals(2, actualCategories.total());
+        Assertions.assertEquals(1, actualCategories.items().size());
+        Assertions.assertEquals(inName.getId(), actualCategories.items().get(0).getId());
+        verify(delegate, never()).findAll(any());
+    }
+
+    @Test
+    void givenADeletedCategory_whenCallsFindAllByRelevance_shouldNotFindIt() {
+        // Given
+        final var category = Category.newCategory("Filmes", null, true);
+        when(delegate.create(any())).thenAnswer(returnsFirstArg());
+        searchGateway.create(category);
+
+        // When
+        searchGateway.deleteById(category.getId());
+        final var query = new CategorySearchQuery(0, 10, "filmes", "name", "asc").withMode(SearchMode.RELEVANCE);
+        final var actualCategories = searchGateway.findAll(query);
+
+        // Then
+        Assertions.assertEquals(0, actualCategories.total());
+        verify(delegate).deleteById(category.getId());
+    }
+
+    @Test
+    void givenAnotherSearchMode_whenCallsFindAll_shouldDelegate() {
+        final var query = new CategorySearchQuery(0, 10, "filmes", "name", "asc");
+        final var expected = new Pagination<Category>(0, 10, 0, List.of());
+        when(delegate.findAll(query)).thenReturn(expected);
+
+        Assertions.assertSame(expected, searchGateway.findAll(query));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void givenAnIndexStillBeingBuilt_whenCallsFindAllByRelevance_shouldDelegate() throws IOException {
+        index.close();
+        index = CategorySearchIndex.inMemory();
+        searchGateway = new CategorySearchGateway(delegate, repository, index, new CategoryReindexJob(repository, index, 1, 10, 0));
+
+        final var query = new CategorySearchQuery(0, 10, "filmes", "name", "asc").withMode(SearchMode.RELEVANCE);
+        final var expected = new Pagination<Category>(0, 10, 0, List.of());
+        when(delegate.findAll(query)).thenReturn(expected);
+
+        Assertions.assertSame(expected, searchGateway.findAll(query));
+    }
+}
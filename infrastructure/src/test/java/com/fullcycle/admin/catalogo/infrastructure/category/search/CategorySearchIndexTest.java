@@ -0,0 +1,187 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.search;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+class CategorySearchIndexTest {
+
+    private CategorySearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = CategorySearchIndex.inMemory();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void givenIndexedCategories_whenCallsSearch_shouldRankNameMatchesFirst() {
+        // Given
+        final var inDescription = Category.newCategory("Filmes", "Os melhores documentários", true);
+        final var inName = Category.newCategory("Documentários", "Histórias reais", true);
+        final var unrelated = Category.newCategory("Séries", null, true);
+        index.indexAll(List.of(inDescription, inName, unrelated));
+        index.refresh();
+
+        // When
+        final var actualHits = index.search("DOCUMENTARIOS", 0, 10);
+
+        // Then
+        Assertions.assertEquals(2, actualHits.total());
+        Assertions.assertEquals(List.of(inName.getId().getValue(), inDescription.getId().getValue()), actualHits.ids());
+    }
+
+    @Test
+    void givenIndexedCategories_whenCallsSearchWithManyWords_shouldMatchEveryWordAndLastAsPrefix() {
+        // Given
+        final var expected = Category.newCategory("Séries infantis", "Desenhos para crianças", true);
+        index.indexAll(List.of(
+                expected,
+                Category.newCategory("Séries", "Dramas e comédias", true),
+                Category.newCategory("Filmes infantis", null, true)
+        ));
+        index.refresh();
+
+        // When
+        final var actualHits = index.search("series infan", 0, 10);
+
+        // Then
+        Assertions.assertEquals(1, actualHits.total());
+        Assertions.assertEquals(List.of(expected.getId().getValue()), actualHits.ids());
+    }
+
+    @Test
+    void givenManyMatches_whenCallsSearchWithOffset_shouldReturnRequestedPageAndFullTotal() {
+        // Given
+        index.indexAll(List.of(
+                Category.newCategory("Filmes A", null, true),
+                Category.newCategory("Filmes B", null, true),
+                Category.newCategory("Filmes C", null, true)
+        ));
+        index.refresh();
+
+        // When
+        final var firstPage = index.search("filmes", 0, 2);
+        final var secondPage = index.search("filmes", 2, 2);
+
+        // Then
+        Assertions.assertEquals(3, firstPage.total());
+        Assertions.assertEquals(2, firstPage.ids().size());
+        Assertions.assertEquals(3, secondPage.total());
+        Assertions.assertEquals(1, secondPage.ids().size());
+        Assertions.assertFalse(firstPage.ids().contains(secondPage.ids().get(0)));
+    }
+
+    @Test
+    void givenAnIndexedCategory_whenUpdatedAndDeleted_shouldBeSearchableRightAway() {
+        // Given
+        final var category = Category.newCategory("Film", null, true);
+        index.index(category);
+
+        // When
+        index.index(category.clone().update("Filmes", null, true));
+
+        // Then
+        Assertions.assertEquals(1, index.search("filmes", 0, 10).total());
+        Assertions.assertEquals(1, index.size());
+
+        index.delete(category.getId());
+        Assertions.assertEquals(0, index.search("filmes", 0, 10).total());
+    }
+
+    @Test
+    void givenANewEpoch_whenCallsDeleteOlderThan_shouldOnlyKeepDocumentsRewrittenSinceThen() {
+        // Given
+        final var stale = Category.newCategory("Filmes", null, true);
+        final var kept = Category.newCategory("Séries", null, true);
+        index.indexAll(List.of(stale, kept));
+
+        // When
+        final var epoch = index.beginEpoch();
+        index.index(kept);
+        index.deleteOlderThan(epoch);
+
+        // Then
+        Assertions.assertEquals(1, index.size());
+        Assertions.assertEquals(List.of(kept.getId().getValue()), index.search("series", 0, 10).ids());
+    }
+
+    @Test
+    void givenBlankTerms_whenCallsSearch_shouldReturnNoHits() {
+        index.index(Category.newCategory("Filmes", null, true));
+
+        Assertions.assertEquals(CategorySearchIndex.Hits.EMPTY, index.search("  ", 0, 10));
+    }
+
+    @Test
+    void givenAnIndexClosedAfterAReindex_whenReopened_shouldBeResumableFromItsLatestUpdate(@TempDir final Path path) throws IOException {
+        // Given
+        final var first = CategorySearchIndex.open(path, Duration.ofMinutes(1));
+        Assertions.assertFalse(first.isReady());
+        final var older = Category.newCategory("Filmes", null, true);
+        final var latest = Category.newCategory("Séries", null, true);
+        first.indexAll(List.of(latest, older));
+        first.markReady();
+        first.close();
+
+        // When
+        final var reopened = CategorySearchIndex.open(path, Duration.ofMinutes(1));
+
+        // Then
+        Assertions.assertFalse(reopened.isReady());
+        Assertions.assertEquals(Optional.of(latest.getUpdatedAt().truncatedTo(ChronoUnit.MILLIS)), reopened.resumableFrom());
+        Assertions.assertEquals(1, reopened.search("filmes", 0, 10).total());
+        Assertions.assertEquals(Set.of(older.getId().getValue(), latest.getId().getValue()), reopened.ids());
+        reopened.close();
+    }
+
+    @Test
+    void givenLocalWritesAheadOfTheLastChangePoll_whenReopened_shouldBeResumableFromThePoll(@TempDir final Path path) throws IOException {
+        // Given
+        final var first = CategorySearchIndex.open(path, Duration.ofMinutes(1));
+        final var lastPolledAt = Instant.now().minus(10, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.MILLIS);
+        first.index(Category.newCategory("Filmes", null, true));
+        first.markSynced(lastPolledAt);
+        first.markReady();
+        first.close();
+
+        // When
+        final var reopened = CategorySearchIndex.open(path, Duration.ofMinutes(1));
+
+        // Then
+        Assertions.assertEquals(Optional.of(lastPolledAt), reopened.resumableFrom());
+        reopened.close();
+    }
+
+    @Test
+    void givenAnIndexClosedBeforeAnyReindex_whenReopened_shouldNotBeReady(@TempDir final Path path) throws IOException {
+        // Given
+        final var first = CategorySearchIndex.open(path, Duration.ofMinutes(1));
+        first.index(Category.newCategory("Filmes", null, true));
+        first.close();
+
+        // When
+        final var reopened = CategorySearchIndex.open(path, Duration.ofMinutes(1));
+
+        // Then
+        Assertions.assertFalse(reopened.isReady());
+        Assertions.assertTrue(reopened.resumableFrom().isEmpty());
+        reopened.close();
+    }
+}
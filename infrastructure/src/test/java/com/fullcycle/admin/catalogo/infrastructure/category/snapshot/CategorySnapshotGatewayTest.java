@@ -0,0 +1,114 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.snapshot;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategorySnapshotGatewayTest {
+
+    @Mock
+    private CategoryGateway delegate;
+
+    @Mock
+    private CategorySnapshotStore store;
+
+    private CategorySnapshotGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        gateway = new CategorySnapshotGateway(delegate, store);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void givenAStoredCategory_whenCallsFindById_shouldNotCallTheDelegate() {
+        final var category = Category.newCategory("Filmes", null, true);
+        when(store.get(category.getId())).thenReturn(Optional.of(category));
+
+        Assertions.assertEquals(category.getId(), gateway.findById(category.getId()).orElseThrow().getId());
+
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void givenACategoryNotStored_whenCallsFindById_shouldStoreWhatTheDelegateFound() {
+        final var category = Category.newCategory("Filmes", null, true);
+        when(store.get(category.getId())).thenReturn(Optional.empty());
+        when(delegate.findById(category.getId())).thenReturn(Optional.of(category));
+
+        final var before = System.nanoTime();
+        Assertions.assertTrue(gateway.findById(category.getId()).isPresent());
+
+        verify(store).put(eq(category), longThat(startedAt -> startedAt >= before));
+    }
+
+    @Test
+    void givenSomeCategoriesStored_whenCallsFindAllByIds_shouldOnlyAskTheDelegateForTheOthers() {
+        final var stored = Category.newCategory("Filmes", null, true);
+        final var missing = Category.newCategory("Séries", null, true);
+        when(store.get(stored.getId())).thenReturn(Optional.of(stored));
+        when(store.get(missing.getId())).thenReturn(Optional.empty());
+        when(delegate.findAllByIds(List.of(missing.getId()))).thenReturn(List.of(missing));
+
+        final var actual = gateway.findAllByIds(List.of(stored.getId(), missing.getId())).stream()
+                .map(Category::getId)
+                .collect(Collectors.toSet());
+
+        Assertions.assertEquals(Set.of(stored.getId(), missing.getId()), actual);
+        verify(store).put(eq(missing), anyLong());
+    }
+
+    @Test
+    void givenATransaction_whenCallsFindById_shouldGoStraightToTheDelegate() {
+        final var category = Category.newCategory("Filmes", null, true);
+        when(delegate.findById(category.getId())).thenReturn(Optional.of(category));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        Assertions.assertTrue(gateway.findById(category.getId()).isPresent());
+
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    void givenATransaction_whenCallsUpdateAndDelete_shouldOnlyTouchTheStoreAfterCommit() {
+        final var category = Category.newCategory("Filmes", null, true);
+        when(delegate.update(any())).then(returnsFirstArg());
+        TransactionSynchronizationManager.initSynchronization();
+
+        gateway.update(category);
+        gateway.deleteById(category.getId());
+
+        verifyNoInteractions(store);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(store).put(eq(category), anyLong());
+        verify(store).remove(category.getId());
+    }
+}
@@ -0,0 +1,257 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.snapshot;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChange;
+import com.fullcycle.admin.catalogo.infrastructure.category.cluster.CategoryChangeType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+
+class CategorySnapshotStoreTest {
+
+    private static final long MAX_BYTES = 64 * 1024;
+
+    @TempDir
+    Path dir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CategorySnapshotStore store;
+
+    @AfterEach
+    void tearDown() {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Test
+    void givenCategoriesStoredAndCheckpointed_whenReopens_shouldServeThemAndResumeFromTheCheckpoint() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, false);
+
+        store = open();
+        store.put(filmes, System.nanoTime());
+        store.put(series, System.nanoTime());
+        store.onPolled(42);
+
+        reopen();
+
+        Assertions.assertEquals(42, store.checkpoint().orElseThrow());
+        Assertions.assertEquals(2, store.size());
+        final var actual = store.get(filmes.getId()).orElseThrow();
+        Assertions.assertEquals(filmes.getName(), actual.getName());
+        Assertions.assertEquals(filmes.getDescription(), actual.getDescription());
+        Assertions.assertEquals(filmes.isActive(), actual.isActive());
+        Assertions.assertEquals(filmes.getCreatedAt(), actual.getCreatedAt());
+        Assertions.assertEquals(filmes.getUpdatedAt(), actual.getUpdatedAt());
+        Assertions.assertEquals(filmes.getVersion(), actual.getVersion());
+        Assertions.assertNull(store.get(series.getId()).orElseThrow().getDescription());
+        Assertions.assertNotNull(store.get(series.getId()).orElseThrow().getDeletedAt());
+    }
+
+    @Test
+    void givenARemovedCategory_whenReopens_shouldNotServeIt() {
+        final var category = Category.newCategory("Filmes", null, true);
+
+        store = open();
+        store.put(category, System.nanoTime());
+        store.remove(category.getId());
+
+        Assertions.assertTrue(store.get(category.getId()).isEmpty());
+
+        store.onPolled(1);
+        reopen();
+
+        Assertions.assertTrue(store.get(category.getId()).isEmpty());
+        Assertions.assertEquals(0, store.size());
+    }
+
+    @Test
+    void givenAChangeCommittedAfterTheCheckpoint_whenReopens_shouldNotServeAnythingUntilItIsReplayed() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        store = open();
+        store.put(filmes, System.nanoTime());
+        store.put(series, System.nanoTime());
+        store.onPolled(1);
+        store.close();
+
+        // Filmes changed on another instance at sequence 2 while this one was down
+        store = CategorySnapshotStore.open(file(), MAX_BYTES, Duration.ofHours(1), Duration.ZERO);
+        store.onPolled(0);
+
+        Assertions.assertFalse(store.isReady());
+        Assertions.assertTrue(store.get(filmes.getId()).isEmpty());
+        Assertions.assertTrue(store.get(series.getId()).isEmpty());
+
+        store.onRemoteChange(new CategoryChange(2, filmes.getId(), CategoryChangeType.UPDATED, "other-node", Instant.now()));
+        store.onPolled(2);
+        awaitLoaded();
+
+        Assertions.assertTrue(store.get(filmes.getId()).isEmpty());
+        Assertions.assertTrue(store.get(series.getId()).isPresent());
+    }
+
+    @Test
+    void givenAReadStartedBeforeARemove_whenPuts_shouldDropIt() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var readStartedAt = System.nanoTime();
+
+        store = open();
+        store.remove(category.getId());
+        store.put(category, readStartedAt);
+        store.onPolled(1);
+        reopen();
+
+        Assertions.assertTrue(store.get(category.getId()).isEmpty());
+    }
+
+    @Test
+    void givenANewerVersionStored_whenPutsAnOlderOne_shouldKeepTheNewer() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var newer = withVersion(category, "Filmes e documentários", 2);
+        final var older = withVersion(category, "Filmes", 1);
+
+        store = open();
+        store.put(newer, System.nanoTime());
+        store.put(older, System.nanoTime());
+        store.onPolled(1);
+        reopen();
+
+        Assertions.assertEquals("Filmes e documentários", store.get(category.getId()).orElseThrow().getName());
+        Assertions.assertEquals(1, writes("dropped"));
+    }
+
+    @Test
+    void givenARecordTornByACrash_whenReopens_shouldKeepOnlyTheRecordsBeforeIt() throws IOException {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        store = open();
+        store.put(filmes, System.nanoTime());
+        store.put(series, System.nanoTime());
+        store.onPolled(1);
+        store.close();
+        final var used = (long) meterRegistry.get("cache.category.disk.used").gauge().value();
+        store = null;
+
+        try (final var channel = FileChannel.open(file(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7f}), used - 1);
+        }
+        store = open();
+        awaitReady();
+
+        Assertions.assertTrue(store.get(filmes.getId()).isPresent());
+        Assertions.assertTrue(store.get(series.getId()).isEmpty());
+    }
+
+    @Test
+    void givenACheckpointOlderThanMaxAge_whenReopens_shouldStartOver() {
+        final var category = Category.newCategory("Filmes", null, true);
+
+        store = open();
+        store.put(category, System.nanoTime());
+        store.onPolled(1);
+        store.close();
+
+        store = CategorySnapshotStore.open(file(), MAX_BYTES, Duration.ZERO.minusMillis(1), Duration.ZERO);
+        awaitReady();
+
+        Assertions.assertTrue(store.checkpoint().isEmpty());
+        Assertions.assertTrue(store.get(category.getId()).isEmpty());
+    }
+
+    @Test
+    void givenAFileNeverCheckpointed_whenReopens_shouldStartOver() {
+        final var category = Category.newCategory("Filmes", null, true);
+
+        store = open();
+        store.put(category, System.nanoTime());
+        reopen();
+
+        Assertions.assertTrue(store.checkpoint().isEmpty());
+        Assertions.assertEquals(0, store.size());
+    }
+
+    @Test
+    void givenAFullFile_whenPuts_shouldCompactItKeepingTheLatestRecords() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var other = Category.newCategory("Séries", null, true);
+
+        store = CategorySnapshotStore.open(file(), 4 * 1024, Duration.ofHours(1), Duration.ZERO);
+        store.bindTo(meterRegistry);
+        store.put(other, System.nanoTime());
+        for (var version = 1; version <= 200; version++) {
+            store.put(withVersion(category, "Filmes " + version, version), System.nanoTime());
+        }
+        store.onPolled(1);
+        store.close();
+
+        Assertions.assertTrue(meterRegistry.get("cache.category.disk.compactions").functionCounter().count() > 0);
+
+        store = CategorySnapshotStore.open(file(), 4 * 1024, Duration.ofHours(1), Duration.ZERO);
+        awaitReady();
+
+        Assertions.assertEquals("Filmes 200", store.get(category.getId()).orElseThrow().getName());
+        Assertions.assertTrue(store.get(other.getId()).isPresent());
+    }
+
+    private CategorySnapshotStore open() {
+        final var store = CategorySnapshotStore.open(file(), MAX_BYTES, Duration.ofHours(1), Duration.ZERO);
+        store.bindTo(meterRegistry);
+        return store;
+    }
+
+    private void reopen() {
+        store.close();
+        store = CategorySnapshotStore.open(file(), MAX_BYTES, Duration.ofHours(1), Duration.ZERO);
+        awaitReady();
+    }
+
+    private void awaitReady() {
+        // As the change poller does after resuming from the checkpoint, with nothing changed meanwhile
+        store.checkpoint().ifPresent(store::onPolled);
+        awaitLoaded();
+    }
+
+    private void awaitLoaded() {
+        final var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!store.isReady()) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "Snapshot file not loaded in time");
+            Thread.onSpinWait();
+        }
+    }
+
+    private Path file() {
+        return dir.resolve("categories.snap");
+    }
+
+    private double writes(final String result) {
+        return meterRegistry.get("cache.category.disk.writes").tag("result", result).functionCounter().count();
+    }
+
+    private static Category withVersion(final Category category, final String name, final long version) {
+        return Category.with(
+                category.getId(),
+                name,
+                category.getDescription(),
+                category.isActive(),
+                category.getCreatedAt(),
+                category.getUpdatedAt(),
+                category.getDeletedAt(),
+                version
+        );
+    }
+}
@@ -0,0 +1,71 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.storage;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.category.CatalogGeneration;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryGatewayContractTest;
+import com.fullcycle.admin.catalogo.infrastructure.category.readmodel.CategoryReadModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class CategoryLogGatewayContractTest extends CategoryGatewayContractTest {
+
+    @TempDir
+    Path dir;
+
+    private CategoryLogStore store;
+
+    private CategoryLogGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        store = CategoryLogStore.open(dir, 64 * 1024, true, Duration.ofHours(1), 0.5);
+        gateway = new CategoryLogGateway(
+                store,
+                new CategoryReadModel(Duration.ZERO, new SimpleMeterRegistry()),
+                new CatalogGeneration()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void givenASyncThatFails_whenCallsCreate_shouldNotListTheCategory() {
+        // Given
+        final var failingStore = spy(store);
+        doThrow(new UncheckedIOException(new IOException("No space left on device"))).when(failingStore).sync(anyLong());
+        final var failingGateway = new CategoryLogGateway(
+                failingStore,
+                new CategoryReadModel(Duration.ZERO, new SimpleMeterRegistry()),
+                new CatalogGeneration()
+        );
+
+        // When
+        Assertions.assertThrows(UncheckedIOException.class,
+                () -> failingGateway.create(Category.newCategory("Filmes", null, true)));
+
+        // Then
+        Assertions.assertEquals(0, failingGateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc")).total());
+    }
+
+    @Override
+    protected CategoryGateway gateway() {
+        return gateway;
+    }
+}
@@ -0,0 +1,218 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.storage;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+class CategoryLogStoreTest {
+
+    private static final long SEGMENT_BYTES = 64 * 1024;
+
+    @TempDir
+    Path dir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CategoryLogStore store;
+
+    @AfterEach
+    void tearDown() {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Test
+    void givenPutsAndRemovals_whenReopens_shouldReplayTheLatestOfEachCategory() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, false);
+
+        store = open(SEGMENT_BYTES);
+        store.append(filmes);
+        store.append(series);
+        store.append(withVersion(filmes, "Longas", 1));
+        store.sync(store.appendRemoval(series.getId()));
+        store.close();
+
+        store = open(SEGMENT_BYTES);
+
+        final var actual = store.get(filmes.getId()).orElseThrow();
+        Assertions.assertEquals("Longas", actual.getName());
+        Assertions.assertEquals("A categoria mais assistida", actual.getDescription());
+        Assertions.assertEquals(filmes.getCreatedAt(), actual.getCreatedAt());
+        Assertions.assertEquals(1, actual.getVersion());
+        Assertions.assertTrue(store.get(series.getId()).isEmpty());
+        Assertions.assertEquals(1, store.size());
+    }
+
+    @Test
+    void givenARecordTornByACrash_whenReopens_shouldTruncateBeforeItAndKeepAppending() throws IOException {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        store = open(SEGMENT_BYTES);
+        store.append(filmes);
+        store.sync(store.append(series));
+        store.close();
+        store = null;
+        // Corrupts the last byte of the last record
+        final var segment = segments().get(0);
+        final var end = end(segment);
+        try (final var channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 0xFF}), end - 1);
+        }
+
+        store = open(SEGMENT_BYTES);
+        Assertions.assertTrue(store.get(filmes.getId()).isPresent());
+        Assertions.assertTrue(store.get(series.getId()).isEmpty());
+        store.sync(store.append(series));
+        store.close();
+
+        store = open(SEGMENT_BYTES);
+        Assertions.assertEquals(2, store.size());
+    }
+
+    @Test
+    void givenSealedSegmentsMostlyGarbage_whenCompacts_shouldKeepOnlyTheLiveCategories() throws IOException {
+        final var kept = Category.newCategory("Filmes", null, true);
+        final var removed = Category.newCategory("Séries", null, true);
+
+        store = open(1024);
+        store.append(removed);
+        for (var version = 0; version < 40; version++) {
+            store.append(withVersion(kept, "Filmes " + version, version));
+        }
+        store.sync(store.appendRemoval(removed.getId()));
+        final var before = segments().size();
+        Assertions.assertTrue(before > 2);
+
+        store.compact();
+
+        Assertions.assertTrue(segments().size() < before);
+        Assertions.assertEquals("Filmes 39", store.get(kept.getId()).orElseThrow().getName());
+        Assertions.assertEquals(1, meterRegistry.get("category.log.compactions").functionCounter().count());
+        store.close();
+
+        store = open(1024);
+        Assertions.assertEquals("Filmes 39", store.get(kept.getId()).orElseThrow().getName());
+        Assertions.assertTrue(store.get(removed.getId()).isEmpty());
+    }
+
+    @Test
+    void givenACrashRightAfterACompactionReplacedItsSegments_whenReopens_shouldDropTheOnesItCovers() throws IOException {
+        final var removed = Category.newCategory("Séries", null, true);
+
+        store = open(1024);
+        store.append(removed);
+        for (var i = 0; i < 20; i++) {
+            store.append(Category.newCategory("Filmes " + i, null, true));
+        }
+        store.sync(store.appendRemoval(removed.getId()));
+        final var first = segments().get(0);
+        final var copy = Files.copy(first, dir.resolveSibling(dir.getFileName() + ".first"));
+
+        store.compact();
+        store.close();
+        // The compacted segment made it, deleting the ones it covers didn't
+        Files.move(copy, first);
+
+        store = open(1024);
+        Assertions.assertFalse(Files.exists(first));
+        Assertions.assertTrue(store.get(removed.getId()).isEmpty());
+        Assertions.assertEquals(20, store.size());
+    }
+
+    @Test
+    void givenSeveralAppends_whenSyncsTheLast_shouldForceThemAllAtOnce() {
+        store = open(SEGMENT_BYTES);
+        final var first = store.append(Category.newCategory("Filmes", null, true));
+        store.append(Category.newCategory("Séries", null, true));
+        final var last = store.append(Category.newCategory("Documentários", null, true));
+
+        store.sync(last);
+        store.sync(first);
+
+        Assertions.assertEquals(3, meterRegistry.get("category.log.appends").functionCounter().count());
+        Assertions.assertEquals(1, meterRegistry.get("category.log.syncs").functionCounter().count());
+    }
+
+    @Test
+    void givenConcurrentWriters_whenEachOneSyncs_shouldShareTheForcesAndKeepEveryRecord() {
+        store = open(SEGMENT_BYTES);
+        final var writers = Executors.newFixedThreadPool(8);
+        try {
+            final var writes = new ArrayList<CompletableFuture<Void>>();
+            for (var i = 0; i < 400; i++) {
+                final var category = Category.newCategory("Categoria " + i, null, true);
+                writes.add(CompletableFuture.runAsync(() -> store.sync(store.append(category)), writers));
+            }
+            writes.forEach(CompletableFuture::join);
+        } finally {
+            writers.shutdown();
+        }
+
+        Assertions.assertEquals(400, store.size());
+        Assertions.assertTrue(meterRegistry.get("category.log.syncs").functionCounter().count() <= 400);
+        store.close();
+
+        store = open(SEGMENT_BYTES);
+        Assertions.assertEquals(400, store.size());
+    }
+
+    private CategoryLogStore open(final long segmentBytes) {
+        final var opened = CategoryLogStore.open(dir, segmentBytes, true, Duration.ofHours(1), 0.5);
+        opened.bindTo(meterRegistry);
+        return opened;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (final var files = Files.list(dir)) {
+            return files.filter(file -> file.toString().endsWith(".log")).sorted().toList();
+        }
+    }
+
+    private static long end(final Path segment) throws IOException {
+        // Walks the records: header of 16 bytes, then length, CRC and payload each
+        try (final var channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            final var length = ByteBuffer.allocate(4);
+            var position = 16L;
+            while (true) {
+                length.clear();
+                channel.read(length, position);
+                final var size = length.getInt(0);
+                if (size <= 0) {
+                    return position;
+                }
+                position += 8 + size;
+            }
+        }
+    }
+
+    private static Category withVersion(final Category category, final String name, final long version) {
+        return Category.with(
+                category.getId(),
+                name,
+                category.getDescription(),
+                category.isActive(),
+                category.getCreatedAt(),
+                category.getUpdatedAt(),
+                category.getDeletedAt(),
+                version
+        );
+    }
+}
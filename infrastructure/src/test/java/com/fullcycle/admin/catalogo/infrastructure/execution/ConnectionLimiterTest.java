@@ -0,0 +1,175 @@
+package com.fullcycle.admin.catalogo.infrastructure.execution;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+class ConnectionLimiterTest {
+
+    private final DataSource h2 = new DriverManagerDataSource("jdbc:h2:mem:connection_limiter_test;DB_CLOSE_DELAY=-1");
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void givenAllPermitsTaken_whenGetsAConnection_shouldWaitForOneToBeClosed() throws Exception {
+        final var limiter = limiter(h2, 1, Duration.ofSeconds(5), 10);
+        final var first = limiter.getConnection();
+
+        final var second = CompletableFuture.supplyAsync(() -> {
+            try {
+                return limiter.getConnection();
+            } catch (final SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        awaitWaiting(limiter, 1);
+        Assertions.assertFalse(second.isDone());
+
+        first.close();
+        try (final var connection = second.get(5, TimeUnit.SECONDS)) {
+            Assertions.assertTrue(connection.isValid(1));
+            Assertions.assertEquals(0, limiter.availablePermits());
+        }
+        Assertions.assertEquals(1, limiter.availablePermits());
+    }
+
+    @Test
+    void givenAllPermitsTaken_whenNoneIsReturnedInTime_shouldFailAsATransientError() throws SQLException {
+        final var limiter = limiter(h2, 1, Duration.ofMillis(50), 10);
+
+        try (final var ignored = limiter.getConnection()) {
+            Assertions.assertThrows(SQLTransientConnectionException.class, limiter::getConnection);
+        }
+
+        Assertions.assertEquals(1, meterRegistry.get("jdbc.limiter.timeouts").functionCounter().count());
+        Assertions.assertEquals(1, limiter.availablePermits());
+    }
+
+    @Test
+    void givenTheQueueFull_whenGetsAConnection_shouldFailRightAway() throws Exception {
+        final var limiter = limiter(h2, 1, Duration.ofSeconds(5), 1);
+        final var first = limiter.getConnection();
+        final var waiter = CompletableFuture.runAsync(() -> {
+            try (final var ignored = limiter.getConnection()) {
+                // Only waits for its turn
+            } catch (final SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        awaitWaiting(limiter, 1);
+
+        final var start = System.nanoTime();
+        Assertions.assertThrows(SQLTransientConnectionException.class, limiter::getConnection);
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        Assertions.assertEquals(1, meterRegistry.get("jdbc.limiter.rejections").functionCounter().count());
+
+        first.close();
+        waiter.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void givenAConnectionClosedTwice_whenCloses_shouldReturnItsPermitOnce() throws SQLException {
+        final var limiter = limiter(h2, 2, Duration.ofSeconds(1), 10);
+
+        final var connection = limiter.getConnection();
+        connection.close();
+        connection.close();
+
+        Assertions.assertTrue(connection.isClosed());
+        Assertions.assertEquals(2, limiter.availablePermits());
+    }
+
+    @Test
+    void givenTheTargetFails_whenGetsAConnection_shouldReturnThePermit() {
+        final var limiter = limiter(new FailingDataSource(), 1, Duration.ofSeconds(1), 10);
+
+        Assertions.assertThrows(SQLException.class, limiter::getConnection);
+        Assertions.assertThrows(SQLException.class, limiter::getConnection);
+
+        Assertions.assertEquals(1, limiter.availablePermits());
+    }
+
+    @Test
+    void givenALimitedConnection_whenSpringReleasesIt_shouldSeeTheTargetBehind() throws SQLException {
+        final var limiter = limiter(h2, 1, Duration.ofSeconds(1), 10);
+
+        final var connection = DataSourceUtils.getConnection(limiter);
+        Assertions.assertFalse(DataSourceUtils.getTargetConnection(connection) instanceof ConnectionProxy);
+        DataSourceUtils.releaseConnection(connection, limiter);
+
+        Assertions.assertEquals(1, limiter.availablePermits());
+    }
+
+    private ConnectionLimiter limiter(final DataSource target, final int permits, final Duration timeout, final int maxWaiting) {
+        final var limiter = new ConnectionLimiter(target, permits, timeout, maxWaiting);
+        limiter.bindTo(meterRegistry);
+        return limiter;
+    }
+
+    private static void awaitWaiting(final ConnectionLimiter limiter, final int waiting) throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (limiter.waiting() < waiting) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "nobody started waiting");
+            Thread.sleep(5);
+        }
+    }
+
+    private static class FailingDataSource implements DataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            throw new SQLException("Database is down");
+        }
+
+        @Override
+        public Connection getConnection(final String username, final String password) throws SQLException {
+            return getConnection();
+        }
+
+        @Override
+        public PrintWriter getLogWriter() {
+            return null;
+        }
+
+        @Override
+        public void setLogWriter(final PrintWriter out) {
+        }
+
+        @Override
+        public void setLoginTimeout(final int seconds) {
+        }
+
+        @Override
+        public int getLoginTimeout() {
+            return 0;
+        }
+
+        @Override
+        public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+            throw new SQLFeatureNotSupportedException();
+        }
+
+        @Override
+        public <T> T unwrap(final Class<T> iface) throws SQLException {
+            throw new SQLException("Not a wrapper");
+        }
+
+        @Override
+        public boolean isWrapperFor(final Class<?> iface) {
+            return false;
+        }
+    }
+}
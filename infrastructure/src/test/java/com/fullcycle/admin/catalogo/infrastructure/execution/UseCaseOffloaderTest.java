@@ -0,0 +1,96 @@
+package com.fullcycle.admin.catalogo.infrastructure.execution;
+
+import com.fullcycle.admin.catalogo.application.UnitUseCase;
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+class UseCaseOffloaderTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool(task -> new Thread(task, "offloaded"));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void givenAUseCase_whenExecutes_shouldRunOnTheExecutorAndReturnItsResult() {
+        final var useCase = new UseCaseOffloader(executor).offloading(new ThreadName());
+
+        Assertions.assertTrue(useCase instanceof ThreadName);
+        Assertions.assertEquals("offloaded: Filmes", useCase.execute("Filmes"));
+    }
+
+    @Test
+    void givenAUseCaseThatThrows_whenExecutes_shouldRethrowTheSameException() {
+        final var useCase = new UseCaseOffloader(executor).offloading(new Failing());
+
+        final var actual = Assertions.assertThrows(DomainException.class, () -> useCase.execute("Filmes"));
+
+        Assertions.assertEquals("'name' should not be Filmes", actual.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenAUnitUseCase_whenExecutes_shouldRunOnTheExecutor() {
+        final var recording = new RecordingThread();
+        final var useCase = new UseCaseOffloader(executor).offloading(recording);
+
+        useCase.execute("Filmes");
+
+        Assertions.assertEquals("offloaded", recording.thread.get());
+    }
+
+    @Test
+    void givenACallInsideATransaction_whenExecutes_shouldStayOnTheCallingThread() {
+        final var useCase = new UseCaseOffloader(executor).offloading(new ThreadName());
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            Assertions.assertEquals(Thread.currentThread().getName() + ": Filmes", useCase.execute("Filmes"));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    @Test
+    void givenSomethingElse_whenOffloads_shouldRefuseIt() {
+        final var offloader = new UseCaseOffloader(executor);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> offloader.offloading(new Object()));
+    }
+
+    static class ThreadName extends UseCase<String, String> {
+
+        @Override
+        public String execute(final String in) {
+            return Thread.currentThread().getName() + ": " + in;
+        }
+    }
+
+    static class RecordingThread extends UnitUseCase<String> {
+
+        private final AtomicReference<String> thread = new AtomicReference<>();
+
+        @Override
+        public void execute(final String in) {
+            thread.set(Thread.currentThread().getName());
+        }
+    }
+
+    static class Failing extends UseCase<String, String> {
+
+        @Override
+        public String execute(final String in) {
+            throw DomainException.with(new Error("'name' should not be %s".formatted(in)));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+class BloomFilterTest {
+
+    @Test
+    void givenAddedValues_whenCallsMightContain_shouldNeverMissOne() {
+        final var filter = BloomFilter.create(10_000, 0.01);
+        final var ids = IntStream.range(0, 10_000).mapToObj(i -> CategoryID.unique().getValue()).toList();
+
+        ids.forEach(filter::add);
+
+        Assertions.assertTrue(ids.stream().allMatch(filter::mightContain));
+    }
+
+    @Test
+    void givenAFullFilter_whenCallsMightContainWithUnknownValues_shouldStayCloseToTheConfiguredRate() {
+        final var expectedRate = 0.01;
+        final var filter = BloomFilter.create(10_000, expectedRate);
+        IntStream.range(0, 10_000).forEach(i -> filter.add(CategoryID.unique().getValue()));
+
+        final var falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain(CategoryID.unique().getValue()))
+                .count();
+
+        final var actualRate = falsePositives / 100_000.0;
+        Assertions.assertTrue(actualRate < expectedRate * 2, "false-positive rate was " + actualRate);
+        Assertions.assertEquals(expectedRate, filter.expectedFalsePositiveRate(), expectedRate / 2);
+    }
+
+    @Test
+    void givenARate_whenCallsCreate_shouldSizeTheFilterForIt() {
+        final var filter = BloomFilter.create(1_000_000, 0.01);
+
+        // ~9.6 bits and 7 hash functions per value at 1%
+        Assertions.assertEquals(7, filter.hashFunctions());
+        Assertions.assertEquals(1_198_160, filter.sizeInBytes(), 64);
+        Assertions.assertEquals(0, filter.expectedFalsePositiveRate());
+    }
+
+    @Test
+    void givenAnInvalidRate_whenCallsCreate_shouldThrow() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(0, 0.01));
+    }
+}
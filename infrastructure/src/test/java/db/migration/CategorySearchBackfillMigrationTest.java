@@ -0,0 +1,32 @@
+package db.migration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class CategorySearchBackfillMigrationTest {
+
+    @Test
+    void givenRowsWrittenBeforeTheSearchColumns_whenMigrates_shouldFoldThemLikeTheApplication() {
+        // Given
+        final var dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:category_search_backfill;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        final var jdbcTemplate = new JdbcTemplate(dataSource);
+        Flyway.configure().dataSource(dataSource).target("2").load().migrate();
+        jdbcTemplate.update("INSERT INTO category (id, name, description, active, created_at, updated_at)"
+                + " VALUES ('1', '  Documentários  Clássicos', 'Ação É real', TRUE, NOW(), NOW()),"
+                + " ('2', 'Séries', NULL, TRUE, NOW(), NOW())");
+
+        // When
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        // Then
+        final var folded = jdbcTemplate.queryForMap("SELECT name_search, description_search FROM category WHERE id = '1'");
+        Assertions.assertEquals("documentarios classicos", folded.get("name_search"));
+        Assertions.assertEquals("acao e real", folded.get("description_search"));
+        Assertions.assertEquals("series", jdbcTemplate.queryForObject("SELECT name_search FROM category WHERE id = '2'", String.class));
+        Assertions.assertNull(jdbcTemplate.queryForObject("SELECT description_search FROM category WHERE id = '2'", String.class));
+    }
+}